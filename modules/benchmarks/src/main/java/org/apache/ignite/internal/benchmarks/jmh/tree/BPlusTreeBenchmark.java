@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.benchmarks.jmh.tree;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
@@ -39,6 +41,8 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseBag;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.IgniteTree;
+import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.logger.java.JavaLogger;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
@@ -46,6 +50,9 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READS;
+import static org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner.createProperty;
+
 /**
  *
  */
@@ -75,6 +82,12 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
     /** */
     private static final int KEYS = 1_000_000;
 
+    /** Number of sorted keys updated by a single batch operation. */
+    private static final int BATCH = 100;
+
+    /** Number of keys read by a single range scan. */
+    private static final int RANGE = 10;
+
     /** */
     private TestTree tree;
 
@@ -156,6 +169,24 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
         return tree.findOne(key);
     }
 
+    /**
+     * @throws Exception If failed.
+     * @return Number of found rows.
+     */
+    @Benchmark
+    public int find() throws Exception {
+        long lower = ThreadLocalRandom.current().nextLong(KEYS - RANGE);
+
+        GridCursor<Long> cur = tree.find(lower, lower + RANGE - 1);
+
+        int cnt = 0;
+
+        while (cur.next())
+            cnt++;
+
+        return cnt;
+    }
+
     /**
      * @throws Exception If failed.
      * @return Value.
@@ -167,6 +198,69 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
         return tree.put(key);
     }
 
+    /**
+     * Updates a batch of sorted keys one by one, each update descends from the tree root.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public void invokeBatch() throws Exception {
+        long start = ThreadLocalRandom.current().nextLong(KEYS - BATCH);
+
+        for (long key = start; key < start + BATCH; key++)
+            tree.invoke(key, null, new PutClosure(key));
+    }
+
+    /**
+     * Updates a batch of sorted keys with {@link BPlusTree#invokeAll}.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public void invokeAllBatch() throws Exception {
+        long start = ThreadLocalRandom.current().nextLong(KEYS - BATCH);
+
+        List<Long> keys = new ArrayList<>(BATCH);
+        List<PutClosure> clos = new ArrayList<>(BATCH);
+
+        for (long key = start; key < start + BATCH; key++) {
+            keys.add(key);
+            clos.add(new PutClosure(key));
+        }
+
+        tree.invokeAll(keys, null, clos);
+    }
+
+    /**
+     * Invoke closure which puts the given row.
+     */
+    private static class PutClosure implements IgniteTree.InvokeClosure<Long> {
+        /** */
+        private final Long row;
+
+        /**
+         * @param row Row.
+         */
+        PutClosure(Long row) {
+            this.row = row;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void call(Long oldRow) {
+            // No-op.
+        }
+
+        /** {@inheritDoc} */
+        @Override public Long newRow() {
+            return row;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteTree.OperationType operationType() {
+            return IgniteTree.OperationType.PUT;
+        }
+    }
+
     /**
      * Test tree.
      */
@@ -251,6 +345,12 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
      */
     public static void main(String[] args) throws Exception {
         run(8);
+
+        // Lookups at high thread counts with and without optimistic reads of inner pages.
+        for (int threads : new int[] {1, 16, 32, 64}) {
+            runReads(threads, true);
+            runReads(threads, false);
+        }
     }
 
     /**
@@ -270,6 +370,31 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
             .run();
     }
 
+    /**
+     * Run lookup benchmarks.
+     *
+     * @param threads Amount of threads.
+     * @param optimistic Whether optimistic reads of inner pages are enabled.
+     * @throws Exception If failed.
+     */
+    private static void runReads(int threads, boolean optimistic) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .forks(1)
+            .threads(threads)
+            .warmupIterations(10)
+            .measurementIterations(10)
+            .output(BPlusTreeBenchmark.class.getSimpleName() + "-reads-" + threads +
+                (optimistic ? "-optimistic" : "-locking") + ".jmh.log")
+            .benchmarks(BPlusTreeBenchmark.class.getSimpleName() + ".get",
+                BPlusTreeBenchmark.class.getSimpleName() + ".find")
+            .jvmArguments(
+                "-Xms4g",
+                "-Xmx4g",
+                createProperty(IGNITE_BPLUS_TREE_OPTIMISTIC_READS, optimistic)
+            )
+            .run();
+    }
+
     /**
      * Long inner.
      */
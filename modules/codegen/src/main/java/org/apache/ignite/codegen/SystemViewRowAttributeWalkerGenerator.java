@@ -50,6 +50,7 @@ import org.apache.ignite.spi.systemview.view.PagesListView;
 import org.apache.ignite.spi.systemview.view.PartitionStateView;
 import org.apache.ignite.spi.systemview.view.ScanQueryView;
 import org.apache.ignite.spi.systemview.view.ServiceView;
+import org.apache.ignite.spi.systemview.view.SqlIndexInlineSizeView;
 import org.apache.ignite.spi.systemview.view.SqlIndexView;
 import org.apache.ignite.spi.systemview.view.SqlQueryHistoryView;
 import org.apache.ignite.spi.systemview.view.SqlQueryView;
@@ -113,6 +114,7 @@ public class SystemViewRowAttributeWalkerGenerator {
         gen.generateAndWrite(SqlTableView.class, INDEXING_SRC_DIR);
         gen.generateAndWrite(SqlViewView.class, INDEXING_SRC_DIR);
         gen.generateAndWrite(SqlIndexView.class, INDEXING_SRC_DIR);
+        gen.generateAndWrite(SqlIndexInlineSizeView.class, INDEXING_SRC_DIR);
         gen.generateAndWrite(SqlTableColumnView.class, INDEXING_SRC_DIR);
         gen.generateAndWrite(SqlViewColumnView.class, INDEXING_SRC_DIR);
     }
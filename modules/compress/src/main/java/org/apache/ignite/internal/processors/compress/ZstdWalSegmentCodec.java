@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.IOException;
+import com.github.luben.zstd.Zstd;
+
+/**
+ * Zstd codec of WAL archive segments.
+ */
+public final class ZstdWalSegmentCodec implements WalSegmentCodec {
+    /** {@inheritDoc} */
+    @Override public int maxCompressedLength(int len) {
+        return (int)Zstd.compressBound(len);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int level)
+        throws IOException {
+        long res = Zstd.compressByteArray(dst, dstOff, dst.length - dstOff, src, srcOff, srcLen, level);
+
+        if (Zstd.isError(res))
+            throw new IOException("Failed to compress WAL segment block: " + Zstd.getErrorName(res));
+
+        return (int)res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int dstLen)
+        throws IOException {
+        long res = Zstd.decompressByteArray(dst, dstOff, dstLen, src, srcOff, srcLen);
+
+        if (Zstd.isError(res))
+            throw new IOException("Failed to decompress WAL segment block: " + Zstd.getErrorName(res));
+
+        if (res != dstLen) {
+            throw new IOException("Failed to decompress WAL segment block [expected=" + dstLen +
+                ", actual=" + res + ']');
+        }
+    }
+}
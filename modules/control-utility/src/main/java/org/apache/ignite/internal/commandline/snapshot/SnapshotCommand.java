@@ -17,6 +17,9 @@
 
 package org.apache.ignite.internal.commandline.snapshot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 import org.apache.ignite.internal.client.GridClient;
 import org.apache.ignite.internal.client.GridClientConfiguration;
@@ -27,13 +30,17 @@ import org.apache.ignite.internal.commandline.CommandLogger;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager;
 import org.apache.ignite.internal.visor.snapshot.VisorSnapshotCancelTask;
 import org.apache.ignite.internal.visor.snapshot.VisorSnapshotCreateTask;
+import org.apache.ignite.internal.visor.snapshot.VisorSnapshotRestoreTask;
+import org.apache.ignite.internal.visor.snapshot.VisorSnapshotRestoreTaskArg;
 import org.apache.ignite.mxbean.SnapshotMXBean;
 
 import static java.util.Collections.singletonMap;
 import static org.apache.ignite.internal.commandline.CommandList.SNAPSHOT;
+import static org.apache.ignite.internal.commandline.CommandLogger.optional;
 import static org.apache.ignite.internal.commandline.TaskExecutor.executeTaskByNameOnNode;
 import static org.apache.ignite.internal.commandline.snapshot.SnapshotSubcommand.CANCEL;
 import static org.apache.ignite.internal.commandline.snapshot.SnapshotSubcommand.CREATE;
+import static org.apache.ignite.internal.commandline.snapshot.SnapshotSubcommand.RESTORE;
 import static org.apache.ignite.internal.commandline.snapshot.SnapshotSubcommand.of;
 
 /**
@@ -43,6 +50,9 @@ import static org.apache.ignite.internal.commandline.snapshot.SnapshotSubcommand
  * @see IgniteSnapshotManager
  */
 public class SnapshotCommand extends AbstractCommand<Object> {
+    /** Option to specify cache groups to restore. */
+    public static final String GROUPS = "--groups";
+
     /** Command argument. */
     private Object taskArgs;
 
@@ -93,11 +103,40 @@ public class SnapshotCommand extends AbstractCommand<Object> {
 
                 break;
 
+            case RESTORE:
+                taskName = VisorSnapshotRestoreTask.class.getName();
+                taskArgs = parseRestoreArguments(argIter);
+
+                break;
+
             default:
                 throw new IllegalArgumentException("Unknown snapshot sub-command: " + cmd);
         }
     }
 
+    /**
+     * @param argIter Argument iterator.
+     * @return Restore task argument.
+     */
+    private VisorSnapshotRestoreTaskArg parseRestoreArguments(CommandArgIterator argIter) {
+        String snpName = argIter.nextArg("Expected snapshot name.");
+        Set<String> grpNames = null;
+
+        while (argIter.hasNextSubArg()) {
+            String arg = argIter.nextArg("");
+
+            if (!GROUPS.equalsIgnoreCase(arg))
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+
+            grpNames = argIter.nextStringSet("cache group names");
+
+            if (grpNames.isEmpty())
+                throw new IllegalArgumentException("Expected cache group names.");
+        }
+
+        return new VisorSnapshotRestoreTaskArg(snpName, grpNames);
+    }
+
     /** {@inheritDoc} */
     @Override public void printUsage(Logger log) {
         Command.usage(log, "Create cluster snapshot:", SNAPSHOT, singletonMap("snapshot_name", "Snapshot name."),
@@ -105,6 +144,15 @@ public class SnapshotCommand extends AbstractCommand<Object> {
 
         Command.usage(log, "Cancel running snapshot:", SNAPSHOT, singletonMap("snapshot_name", "Snapshot name."),
             CANCEL.toString(), "snapshot_name");
+
+        Map<String, String> restoreParams = new LinkedHashMap<>();
+
+        restoreParams.put("snapshot_name", "Snapshot name.");
+        restoreParams.put("group1,...groupN", "Cache group names. All cache groups of the snapshot are restored " +
+            "if not specified.");
+
+        Command.usage(log, "Restore cache groups from the snapshot:", SNAPSHOT, restoreParams, RESTORE.toString(),
+            "snapshot_name", optional(GROUPS, "group1,...groupN"));
     }
 
     /** {@inheritDoc} */
@@ -29,7 +29,10 @@ public enum SnapshotSubcommand {
     CREATE("create"),
 
     /** Sub-command to cancel running snapshot. */
-    CANCEL("cancel");
+    CANCEL("cancel"),
+
+    /** Sub-command to restore cache groups from the snapshot. */
+    RESTORE("restore");
 
     /** Sub-command name. */
     private final String name;
@@ -2720,6 +2720,36 @@ public class GridCommandHandlerTest extends GridCommandHandlerClusterPerMethodAb
         assertTrue("Snapshot must contains cache data [left=" + range + ']', range.isEmpty());
     }
 
+    /** @throws Exception If failed. */
+    @Test
+    public void testClusterSnapshotRestore() throws Exception {
+        int keysCnt = 100;
+        String snpName = "snapshot_restore_02052020";
+
+        IgniteEx ig = startGrid(0);
+        ig.cluster().state(ACTIVE);
+
+        createCacheAndPreload(ig, keysCnt);
+
+        ig.snapshot().createSnapshot(snpName).get(getTestTimeout());
+
+        ig.cache(DEFAULT_CACHE_NAME).destroy();
+
+        CommandHandler h = new CommandHandler();
+
+        assertEquals(EXIT_CODE_OK, execute(h, "--snapshot", "restore", snpName, "--groups", DEFAULT_CACHE_NAME));
+
+        assertContains(log, (String)h.getLastOperationResult(), snpName);
+
+        assertTrue("Waiting for cache group restore failed.",
+            waitForCondition(() -> ig.cache(DEFAULT_CACHE_NAME) != null, getTestTimeout()));
+
+        List<Integer> range = IntStream.range(0, keysCnt).boxed().collect(Collectors.toList());
+
+        ig.cache(DEFAULT_CACHE_NAME).forEach(e -> range.remove((Integer)e.getKey()));
+        assertTrue("Restored cache must contain snapshot data [left=" + range + ']', range.isEmpty());
+    }
+
     /** @throws Exception If failed. */
     @Test
     public void testClusterSnapshotOnInactive() throws Exception {
@@ -17,18 +17,24 @@
 
 package org.apache.ignite;
 
+import java.util.Collection;
 import org.apache.ignite.lang.IgniteFuture;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * This interface provides functionality for creating cluster-wide cache data snapshots.
+ * This interface provides functionality for creating and restoring cluster-wide cache data snapshots.
  * <p>
  * Current limitations:
  * <ul>
  * <li>Snapshot will trigger PME (partition map exchange) to run itself.</li>
  * <li>Snapshot will be taken from all registered persistence caches to
  * grantee data consistency between them.</li>
- * <li>Snapshot must be resorted manually on the switched off cluster by copying data
- * to the working directory on each cluster node.</li>
+ * <li>Snapshot can be restored only on the same cluster topology it has been taken on. Each baseline node
+ * restores the partition files of the snapshot saved under its own consistent id.</li>
+ * <li>Cache groups being restored must not exist in the cluster at the moment of restore.</li>
+ * <li>Incremental snapshots require the WAL archive to be enabled and the WAL compaction to be disabled. All WAL
+ * segments written since the previous snapshot of the chain must be kept in the WAL archive until the next increment
+ * is created. Partition distribution must not change since the full snapshot creation.</li>
  * </ul>
  */
 public interface IgniteSnapshot {
@@ -40,6 +46,16 @@ public interface IgniteSnapshot {
      */
     public IgniteFuture<Void> createSnapshot(String name);
 
+    /**
+     * Create the next incremental snapshot on top of the existing full snapshot and its previous increments.
+     * An increment is consistent over the whole cluster the same way as the full snapshot and holds the archived
+     * WAL segments with changes of the persistence cache groups made since the previous snapshot of the chain.
+     *
+     * @param name Name of the full snapshot to create the increment of.
+     * @return Future which will be completed when a process ends.
+     */
+    public IgniteFuture<Void> createIncrementalSnapshot(String name);
+
     /**
      * Cancel running snapshot operation. All intermediate results of cancelled snapshot operation will be deleted.
      * If snapshot already created this command will have no effect.
@@ -48,4 +64,27 @@ public interface IgniteSnapshot {
      * @return Future which will be completed when cancel operation finished.
      */
     public IgniteFuture<Void> cancelSnapshot(String name);
+
+    /**
+     * Restore cache groups from the snapshot on the active cluster. Partition files of the snapshot are copied to
+     * the cache working directories on each baseline node and the cache groups are started over them, so the
+     * cached entries are not replayed one by one.
+     *
+     * @param name Snapshot name.
+     * @param cacheGroupNames Cache groups to be restored or {@code null} to restore all cache groups from the snapshot.
+     * @return Future which will be completed when restore operation finished.
+     */
+    public IgniteFuture<Void> restoreSnapshot(String name, @Nullable Collection<String> cacheGroupNames);
+
+    /**
+     * Restore cache groups from the snapshot and its increments on the active cluster. Partition files of the full
+     * snapshot are copied to the cache working directories on each baseline node, then the changes of all increments
+     * up to the given one are applied to them before the cache groups are started.
+     *
+     * @param name Snapshot name.
+     * @param cacheGroupNames Cache groups to be restored or {@code null} to restore all cache groups from the snapshot.
+     * @param incIdx Index of the last increment to restore or {@code 0} to restore the full snapshot only.
+     * @return Future which will be completed when restore operation finished.
+     */
+    public IgniteFuture<Void> restoreSnapshot(String name, @Nullable Collection<String> cacheGroupNames, int incIdx);
 }
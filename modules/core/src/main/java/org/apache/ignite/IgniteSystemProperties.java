@@ -68,6 +68,7 @@ import static org.apache.ignite.internal.processors.cache.GridCachePartitionExch
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_MERGE_DELAY;
 import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.DFLT_ALLOW_START_CACHES_IN_PARALLEL;
+import static org.apache.ignite.internal.processors.cache.GridCacheSharedTtlCleanupManager.DFLT_TTL_CLEANUP_WORKERS;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.DFLT_TTL_EXPIRE_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.WalStateManager.DFLT_DISABLE_WAL_DURING_REBALANCING;
@@ -82,6 +83,7 @@ import static org.apache.ignite.internal.processors.cache.distributed.dht.topolo
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition.DFLT_CACHE_REMOVE_ENTRIES_TTL;
 import static org.apache.ignite.internal.processors.cache.mvcc.MvccCachingManager.DFLT_MVCC_TX_SIZE_CACHING_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_PDS_WAL_REBALANCE_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_RECOVERY_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointHistory.DFLT_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointWorkflow.DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.LockTrackerFactory.DFLT_PAGE_LOCK_TRACKER_CAPACITY;
@@ -92,6 +94,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Pa
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteThrottlePolicy.DFLT_THROTTLE_LOG_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT;
+import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.IGNITE_BPLUS_TREE_OPTIMISTIC_READS_DEFAULT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_THRESHOLD_WAL_ARCHIVE_SIZE_PERCENTAGE;
@@ -1400,6 +1403,14 @@ public final class IgniteSystemProperties {
         defaults = "" + IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT)
     public static final String IGNITE_BPLUS_TREE_LOCK_RETRIES = "IGNITE_BPLUS_TREE_LOCK_RETRIES";
 
+    /**
+     * Enables optimistic reads of the B+Tree inner pages by lookups: an inner page is read without the lock
+     * and the read is repeated under the read lock only if the page was modified concurrently.
+     */
+    @SystemProperty(value = "Enables optimistic reads of the B+Tree inner pages by lookups, so that concurrent " +
+        "lookups do not contend on the page locks", defaults = "" + IGNITE_BPLUS_TREE_OPTIMISTIC_READS_DEFAULT)
+    public static final String IGNITE_BPLUS_TREE_OPTIMISTIC_READS = "IGNITE_BPLUS_TREE_OPTIMISTIC_READS";
+
     /**
      * Amount of memory reserved in the heap at node start, which can be dropped to increase the chances of success when
      * handling OutOfMemoryError.
@@ -1494,6 +1505,16 @@ public final class IgniteSystemProperties {
         type = Long.class, defaults = "" + DFLT_UNWIND_THROTTLING_TIMEOUT)
     public static final String IGNITE_UNWIND_THROTTLING_TIMEOUT = "IGNITE_UNWIND_THROTTLING_TIMEOUT";
 
+    /**
+     * Number of threads removing expired entries from caches with eager TTL. The partitions are distributed among
+     * the threads, so the entries of different partitions expire concurrently.
+     *
+     * Default is 4.
+     */
+    @SystemProperty(value = "Number of threads removing expired entries from caches with eager TTL",
+        type = Integer.class, defaults = "" + DFLT_TTL_CLEANUP_WORKERS)
+    public static final String IGNITE_TTL_CLEANUP_WORKERS = "IGNITE_TTL_CLEANUP_WORKERS";
+
     /**
      * Threshold for throttling operations logging.
      */
@@ -1703,6 +1724,21 @@ public final class IgniteSystemProperties {
         type = Integer.class)
     public static final String IGNITE_RECOVERY_SEMAPHORE_PERMITS = "IGNITE_RECOVERY_SEMAPHORE_PERMITS";
 
+    /**
+     * Number of logical updates of a stripe applied by a single task during the recovery procedure.
+     */
+    @SystemProperty(value = "Number of logical updates of a stripe applied by a single task during the recovery " +
+        "procedure", type = Integer.class, defaults = "" + DFLT_RECOVERY_BATCH_SIZE)
+    public static final String IGNITE_RECOVERY_BATCH_SIZE = "IGNITE_RECOVERY_BATCH_SIZE";
+
+    /**
+     * Number of threads restoring the partition states of the local cache groups on node start. By default all
+     * the threads of the striped pool are used.
+     */
+    @SystemProperty(value = "Number of threads restoring the partition states of the local cache groups on node " +
+        "start. By default all the threads of the striped pool are used", type = Integer.class)
+    public static final String IGNITE_PARTITION_STATE_RESTORE_THREADS = "IGNITE_PARTITION_STATE_RESTORE_THREADS";
+
     /**
      * Maximum size of history of server nodes (server node IDs) that ever joined to current topology.
      */
@@ -56,6 +56,10 @@ public class QueryIndex implements Serializable {
     /** */
     private int inlineSize = DFLT_INLINE_SIZE;
 
+    /** */
+    @GridToStringInclude
+    private Collection<String> includedFields;
+
     /**
      * Creates an empty index. Should be populated via setters.
      */
@@ -296,6 +300,35 @@ public class QueryIndex implements Serializable {
         return this;
     }
 
+    /**
+     * Gets names of the fields which values are stored in the index in addition to the indexed fields.
+     * <p>
+     * Included fields are not used for the search and ordering, but the queries which reference only indexed
+     * and included fields of the table can be answered by the {@link QueryIndexType#SORTED sorted} index alone,
+     * without reading the rows from the data pages. Values of the variable length types are stored up to a fixed
+     * size, longer values are read from the row. The indexed fields, including the primary key fields appended
+     * to the secondary index, must be inlined completely as well, so the {@link #getInlineSize() inline size}
+     * should be big enough to fit them.
+     *
+     * @return Collection of the included field names or {@code null} if there are no included fields.
+     */
+    public Collection<String> getIncludedFields() {
+        return includedFields;
+    }
+
+    /**
+     * Sets names of the fields which values are stored in the index in addition to the indexed fields.
+     * See {@link #getIncludedFields()} for details.
+     *
+     * @param includedFields Collection of the included field names.
+     * @return {@code this} for chaining.
+     */
+    public QueryIndex setIncludedFields(Collection<String> includedFields) {
+        this.includedFields = includedFields;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
@@ -309,12 +342,13 @@ public class QueryIndex implements Serializable {
         return inlineSize == index.inlineSize &&
             F.eq(name, index.name) &&
             F.eq(fields, index.fields) &&
+            F.eq(includedFields, index.includedFields) &&
             type == index.type;
     }
 
     /** {@inheritDoc} */
     @Override public int hashCode() {
-        return Objects.hash(name, fields, type, inlineSize);
+        return Objects.hash(name, fields, type, inlineSize, includedFields);
     }
 
     /** {@inheritDoc} */
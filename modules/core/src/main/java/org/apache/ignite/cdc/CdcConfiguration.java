@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteExperimental;
+
+/**
+ * Configuration of {@link CdcMain}.
+ */
+@IgniteExperimental
+public class CdcConfiguration {
+    /** Default frequency of the checks for new WAL segments, in milliseconds. */
+    public static final long DFLT_CHECK_FREQ = 1000;
+
+    /** Default binary mode flag. */
+    public static final boolean DFLT_KEEP_BINARY = true;
+
+    /** Consumer of the changes. */
+    private CdcConsumer consumer;
+
+    /** Frequency of the checks for new WAL segments, in milliseconds. */
+    private long checkFreq = DFLT_CHECK_FREQ;
+
+    /** Binary mode flag. */
+    private boolean keepBinary = DFLT_KEEP_BINARY;
+
+    /**
+     * @return Consumer of the changes.
+     */
+    public CdcConsumer getConsumer() {
+        return consumer;
+    }
+
+    /**
+     * @param consumer Consumer of the changes.
+     * @return {@code this} for chaining.
+     */
+    public CdcConfiguration setConsumer(CdcConsumer consumer) {
+        this.consumer = consumer;
+
+        return this;
+    }
+
+    /**
+     * @return Frequency of the checks for new WAL segments, in milliseconds.
+     */
+    public long getCheckFrequency() {
+        return checkFreq;
+    }
+
+    /**
+     * Sets frequency of the checks for new WAL segments in the change data capture directory.
+     * Default value is {@link #DFLT_CHECK_FREQ}.
+     *
+     * @param checkFreq Frequency of the checks for new WAL segments, in milliseconds.
+     * @return {@code this} for chaining.
+     */
+    public CdcConfiguration setCheckFrequency(long checkFreq) {
+        A.ensure(checkFreq > 0, "Check frequency must be greater than 0.");
+
+        this.checkFreq = checkFreq;
+
+        return this;
+    }
+
+    /**
+     * @return Binary mode flag.
+     */
+    public boolean isKeepBinary() {
+        return keepBinary;
+    }
+
+    /**
+     * Sets flag to deliver the keys and the values which are not of primitive types as binary objects instead of
+     * deserializing them, so the consumer does not need the classes of the cache entries.
+     * Default value is {@link #DFLT_KEEP_BINARY}.
+     *
+     * @param keepBinary Binary mode flag.
+     * @return {@code this} for chaining.
+     */
+    public CdcConfiguration setKeepBinary(boolean keepBinary) {
+        this.keepBinary = keepBinary;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CdcConfiguration.class, this);
+    }
+}
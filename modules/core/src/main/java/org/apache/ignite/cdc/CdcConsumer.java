@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import java.util.Iterator;
+import org.apache.ignite.lang.IgniteExperimental;
+
+/**
+ * Consumer of the cache entry changes captured from the WAL by {@link CdcMain}. Changes are delivered in the order
+ * they are logged on the node, a segment of the WAL at a time.
+ * <p>
+ * Delivery is at least once: the changes of the segments which are not committed by the consumer are delivered
+ * again after {@link CdcMain} restart.
+ */
+@IgniteExperimental
+public interface CdcConsumer {
+    /**
+     * Starts the consumer.
+     */
+    public void start();
+
+    /**
+     * Handles the changes of a WAL segment. Changes are read from the segment lazily while iterated.
+     *
+     * @param events Changes.
+     * @return {@code True} to commit the position of the consumer after this and all the previous segments,
+     * the committed segments are removed from the change data capture directory.
+     */
+    public boolean onEvents(Iterator<CdcEvent> events);
+
+    /**
+     * Stops the consumer.
+     */
+    public void stop();
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import org.apache.ignite.lang.IgniteExperimental;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Change of a cache entry captured from the WAL.
+ *
+ * @see CdcConsumer
+ */
+@IgniteExperimental
+public interface CdcEvent {
+    /**
+     * @return Key. Binary object if the key is not of a primitive type and the binary mode is enabled
+     * by {@link CdcConfiguration#setKeepBinary(boolean)}.
+     */
+    public Object key();
+
+    /**
+     * @return Value or {@code null} if the entry is removed. Binary object if the value is not of a primitive type
+     * and the binary mode is enabled by {@link CdcConfiguration#setKeepBinary(boolean)}.
+     */
+    @Nullable public Object value();
+
+    /**
+     * @return Cache id, hash code of the cache name.
+     */
+    public int cacheId();
+
+    /**
+     * @return Partition.
+     */
+    public int partition();
+
+    /**
+     * @return Update counter of the partition assigned to the change.
+     */
+    public long updateCounter();
+
+    /**
+     * @return Expire time of the entry or {@code 0} if it never expires.
+     */
+    public long expireTime();
+}
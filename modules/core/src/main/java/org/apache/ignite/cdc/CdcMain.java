@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.cdc.CdcEventImpl;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.UnwrappedDataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheOperation;
+import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.lang.IgniteExperimental;
+import org.apache.ignite.logger.java.JavaLogger;
+
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_MARSHALLER_PATH;
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_PAGE_SIZE;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD;
+import static org.apache.ignite.internal.processors.cache.GridCacheOperation.CREATE;
+import static org.apache.ignite.internal.processors.cache.GridCacheOperation.DELETE;
+import static org.apache.ignite.internal.processors.cache.GridCacheOperation.UPDATE;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.WAL_SEGMENT_FILE_FILTER;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.scan;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory.IteratorParametersBuilder.withIteratorParameters;
+
+/**
+ * Change data capture application. Reads the WAL segments the node with
+ * {@link DataStorageConfiguration#setCdcEnabled(boolean) change data capture enabled} links to the change data
+ * capture directory on archiving and passes the cache entry changes to the {@link CdcConsumer}.
+ * <p>
+ * Runs separately from the node, in a dedicated thread or process, with the configuration of the node to capture
+ * the changes from. The index of the last segment committed by the consumer is saved in the change data capture
+ * directory, so the capture continues after the last committed segment on restart.
+ * <p>
+ * Changes become available after the segment is archived, so the capture latency is bound by
+ * {@link DataStorageConfiguration#setWalAutoArchiveAfterInactivity(long)} on the nodes with low load.
+ */
+@IgniteExperimental
+public class CdcMain implements Runnable {
+    /** Name of the file of the committed state. */
+    public static final String STATE_FILE_NAME = "cdc-state.bin";
+
+    /** Node configuration. */
+    private final IgniteConfiguration cfg;
+
+    /** Change data capture configuration. */
+    private final CdcConfiguration cdcCfg;
+
+    /** Consumer. */
+    private final CdcConsumer consumer;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Index of the last segment committed by the consumer. */
+    private long committedIdx = -1;
+
+    /** Index of the last segment passed to the consumer. */
+    private long consumedIdx = -1;
+
+    /** Stopped flag. */
+    private volatile boolean stopped;
+
+    /**
+     * @param cfg Configuration of the node to capture the changes from.
+     * @param cdcCfg Change data capture configuration.
+     */
+    public CdcMain(IgniteConfiguration cfg, CdcConfiguration cdcCfg) {
+        A.notNull(cfg, "cfg");
+        A.notNull(cdcCfg, "cdcCfg");
+        A.notNull(cdcCfg.getConsumer(), "cdcCfg.getConsumer()");
+
+        this.cfg = cfg;
+        this.cdcCfg = cdcCfg;
+
+        consumer = cdcCfg.getConsumer();
+        log = cfg.getGridLogger() != null ? cfg.getGridLogger().getLogger(CdcMain.class) :
+            new JavaLogger().getLogger(CdcMain.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void run() {
+        try {
+            runX();
+        }
+        catch (IgniteCheckedException | IOException e) {
+            throw new IgniteException("Change data capture failed", e);
+        }
+    }
+
+    /**
+     * Stops the capture. The segment which is being consumed is processed to the end.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     * @throws IOException If failed.
+     */
+    private void runX() throws IgniteCheckedException, IOException {
+        DataStorageConfiguration dsCfg = cfg.getDataStorageConfiguration();
+
+        if (dsCfg == null || !dsCfg.isCdcEnabled())
+            throw new IgniteCheckedException("Change data capture is disabled in the node configuration.");
+
+        String workDir = U.workDirectory(cfg.getWorkDirectory(), cfg.getIgniteHome());
+
+        File cdcRoot = new File(dsCfg.getCdcWalPath());
+
+        if (!cdcRoot.isAbsolute())
+            cdcRoot = U.resolveWorkDirectory(workDir, dsCfg.getCdcWalPath(), false);
+
+        String folderName = folderName(cdcRoot);
+
+        File cdcDir = new File(cdcRoot, folderName);
+
+        if (!cdcDir.isDirectory())
+            throw new IgniteCheckedException("Change data capture directory does not exist: " + cdcDir);
+
+        IgniteWalIteratorFactory.IteratorParametersBuilder params = withIteratorParameters()
+            .log(log)
+            .pageSize(dsCfg.getPageSize() == 0 ? DFLT_PAGE_SIZE : dsCfg.getPageSize())
+            .keepBinary(cdcCfg.isKeepBinary())
+            .binaryMetadataFileStoreDir(CacheObjectBinaryProcessorImpl.binaryWorkDir(workDir, folderName))
+            .marshallerMappingFileStoreDir(new File(workDir, DFLT_MARSHALLER_PATH))
+            .filter((type, ptr) -> type == DATA_RECORD);
+
+        IgniteWalIteratorFactory factory = new IgniteWalIteratorFactory(log);
+
+        Path stateFile = new File(cdcDir, STATE_FILE_NAME).toPath();
+
+        committedIdx = readState(stateFile);
+        consumedIdx = committedIdx;
+
+        if (log.isInfoEnabled())
+            log.info("Change data capture started [dir=" + cdcDir + ", committedIdx=" + committedIdx + ']');
+
+        consumer.start();
+
+        try {
+            while (!stopped) {
+                boolean consumed = false;
+
+                for (FileDescriptor desc : scan(cdcDir.listFiles(WAL_SEGMENT_FILE_FILTER))) {
+                    if (stopped)
+                        break;
+
+                    if (desc.idx() <= committedIdx) {
+                        Files.deleteIfExists(desc.file().toPath());
+
+                        continue;
+                    }
+
+                    if (desc.idx() <= consumedIdx)
+                        continue;
+
+                    consumed = true;
+
+                    if (consume(factory, params, desc)) {
+                        writeState(stateFile, desc.idx());
+
+                        committedIdx = desc.idx();
+
+                        for (FileDescriptor committed : scan(cdcDir.listFiles(WAL_SEGMENT_FILE_FILTER))) {
+                            if (committed.idx() <= committedIdx)
+                                Files.deleteIfExists(committed.file().toPath());
+                        }
+                    }
+
+                    consumedIdx = desc.idx();
+                }
+
+                if (!consumed && !stopped)
+                    U.sleep(cdcCfg.getCheckFrequency());
+            }
+        }
+        catch (IgniteInterruptedCheckedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            consumer.stop();
+
+            if (log.isInfoEnabled())
+                log.info("Change data capture stopped [committedIdx=" + committedIdx + ']');
+        }
+    }
+
+    /**
+     * @param factory WAL iterator factory.
+     * @param params WAL iterator parameters.
+     * @param desc Segment.
+     * @return {@code True} if the consumer committed the segment.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean consume(
+        IgniteWalIteratorFactory factory,
+        IgniteWalIteratorFactory.IteratorParametersBuilder params,
+        FileDescriptor desc
+    ) throws IgniteCheckedException {
+        if (log.isDebugEnabled())
+            log.debug("Consuming WAL segment [segment=" + desc.file() + ']');
+
+        try (WALIterator it = factory.iterator(params.copy().filesOrDirs(desc.file()))) {
+            return consumer.onEvents(new EventIterator(it));
+        }
+    }
+
+    /**
+     * @param cdcRoot Change data capture root directory.
+     * @return Name of the node directory.
+     * @throws IgniteCheckedException If the directory can't be resolved.
+     */
+    private String folderName(File cdcRoot) throws IgniteCheckedException {
+        if (cfg.getConsistentId() != null)
+            return U.maskForFileName(cfg.getConsistentId().toString());
+
+        File[] dirs = cdcRoot.listFiles(File::isDirectory);
+
+        if (dirs == null || dirs.length != 1) {
+            throw new IgniteCheckedException("Unable to resolve the node directory, consistent id must be set " +
+                "in the node configuration [cdcRoot=" + cdcRoot + ']');
+        }
+
+        return dirs[0].getName();
+    }
+
+    /**
+     * @param stateFile State file.
+     * @return Index of the last committed segment.
+     * @throws IOException If failed.
+     */
+    private static long readState(Path stateFile) throws IOException {
+        if (!Files.exists(stateFile))
+            return -1;
+
+        return ByteBuffer.wrap(Files.readAllBytes(stateFile)).getLong();
+    }
+
+    /**
+     * Writes the state to a temporary file and atomically moves it in place of the previous one.
+     *
+     * @param stateFile State file.
+     * @param idx Index of the last committed segment.
+     * @throws IOException If failed.
+     */
+    private static void writeState(Path stateFile, long idx) throws IOException {
+        Path tmp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+
+        Files.write(tmp, ByteBuffer.allocate(Long.BYTES).putLong(idx).array(),
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE,
+            StandardOpenOption.SYNC);
+
+        Files.move(tmp, stateFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Lazy iterator over the cache entry changes of a segment.
+     */
+    private static class EventIterator implements Iterator<CdcEvent> {
+        /** WAL iterator. */
+        private final WALIterator it;
+
+        /** Entries of the current record. */
+        private Iterator<DataEntry> entries;
+
+        /** Next event. */
+        private CdcEvent next;
+
+        /**
+         * @param it WAL iterator.
+         */
+        EventIterator(WALIterator it) {
+            this.it = it;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNext() {
+            if (next != null)
+                return true;
+
+            while (true) {
+                while (entries != null && entries.hasNext()) {
+                    DataEntry e = entries.next();
+
+                    GridCacheOperation op = e.op();
+
+                    if (op != CREATE && op != UPDATE && op != DELETE)
+                        continue;
+
+                    Object key;
+                    Object val;
+
+                    if (e instanceof UnwrappedDataEntry) {
+                        key = ((UnwrappedDataEntry)e).unwrappedKey();
+                        val = op == DELETE ? null : ((UnwrappedDataEntry)e).unwrappedValue();
+                    }
+                    else {
+                        key = e.key();
+                        val = op == DELETE ? null : e.value();
+                    }
+
+                    next = new CdcEventImpl(key, val, e.cacheId(), e.partitionId(), e.partitionCounter(),
+                        e.expireTime());
+
+                    return true;
+                }
+
+                if (!it.hasNext())
+                    return false;
+
+                IgniteBiTuple<WALPointer, WALRecord> tup = it.next();
+
+                entries = tup.get2() instanceof DataRecord ? ((DataRecord)tup.get2()).writeEntries().iterator() : null;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public CdcEvent next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            CdcEvent res = next;
+
+            next = null;
+
+            return res;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.configuration;
 import java.io.Serializable;
 import org.apache.ignite.DataRegionMetrics;
 import org.apache.ignite.internal.mem.IgniteOutOfMemoryException;
+import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.mxbean.DataRegionMetricsMXBean;
 import org.apache.ignite.mxbean.MetricsMxBean;
@@ -80,6 +81,12 @@ public final class DataRegionConfiguration implements Serializable {
     /** Default length of interval over which {@link DataRegionMetrics#getAllocationRate()} metric is calculated. */
     public static final int DFLT_RATE_TIME_INTERVAL_MILLIS = 60_000;
 
+    /** Default page replacement mode. */
+    public static final PageReplacementMode DFLT_PAGE_REPLACEMENT_MODE = PageReplacementMode.RANDOM_LRU;
+
+    /** Default number of pages to read ahead, read-ahead is disabled by default. */
+    public static final int DFLT_READ_AHEAD_PAGES = 0;
+
     /** Data region name. */
     private String name = DFLT_DATA_REG_DEFAULT_NAME;
 
@@ -96,6 +103,15 @@ public final class DataRegionConfiguration implements Serializable {
     /** An algorithm for memory pages eviction. */
     private DataPageEvictionMode pageEvictionMode = DataPageEvictionMode.DISABLED;
 
+    /** An algorithm for memory pages replacement for persistent data regions. */
+    private PageReplacementMode pageReplacementMode = DFLT_PAGE_REPLACEMENT_MODE;
+
+    /** Number of pages to read ahead on sequential reads of partition files for persistent data regions. */
+    private int readAheadPages = DFLT_READ_AHEAD_PAGES;
+
+    /** Flag to maintain Bloom filters of the partition keys for persistent data regions. */
+    private boolean partitionBloomFilterEnabled;
+
     /**
      * A threshold for memory pages eviction initiation. For instance, if the threshold is 0.9 it means that the page
      * memory will start the eviction only after 90% data region is occupied.
@@ -261,6 +277,78 @@ public final class DataRegionConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets memory pages replacement mode. Page replacement is used by persistent data regions only, when a page has
+     * to be loaded from the disk and the region is full.
+     *
+     * @return Memory pages replacement algorithm. {@link PageReplacementMode#RANDOM_LRU} used by default.
+     */
+    public PageReplacementMode getPageReplacementMode() {
+        return pageReplacementMode;
+    }
+
+    /**
+     * Sets memory pages replacement mode.
+     *
+     * @param replacementMode Replacement mode.
+     * @return {@code this} for chaining.
+     */
+    public DataRegionConfiguration setPageReplacementMode(PageReplacementMode replacementMode) {
+        pageReplacementMode = replacementMode;
+
+        return this;
+    }
+
+    /**
+     * Gets number of pages to read ahead. Read-ahead is used by persistent data regions only: once pages of a
+     * partition are read from the disk sequentially, e.g. by a scan, the next pages of the partition are loaded
+     * to memory in background, so the scan does not wait for each page to be read.
+     *
+     * @return Number of pages to read ahead, {@code 0} if read-ahead is disabled.
+     */
+    public int getReadAheadPages() {
+        return readAheadPages;
+    }
+
+    /**
+     * Sets number of pages to read ahead on sequential reads of partition files. Default value is
+     * {@link #DFLT_READ_AHEAD_PAGES} which disables read-ahead.
+     *
+     * @param readAheadPages Number of pages to read ahead, {@code 0} disables read-ahead.
+     * @return {@code this} for chaining.
+     */
+    public DataRegionConfiguration setReadAheadPages(int readAheadPages) {
+        A.ensure(readAheadPages >= 0, "Number of pages to read ahead must be non-negative.");
+
+        this.readAheadPages = readAheadPages;
+
+        return this;
+    }
+
+    /**
+     * Gets flag indicating whether Bloom filters of the partition keys are maintained. Filters are used by
+     * persistent data regions only: a lookup of a key absent in the partition is answered by the filter without
+     * descending the partition data tree, which may require reading its pages from the disk.
+     *
+     * @return {@code True} if Bloom filters of the partition keys are enabled.
+     */
+    public boolean isPartitionBloomFilterEnabled() {
+        return partitionBloomFilterEnabled;
+    }
+
+    /**
+     * Sets flag indicating whether Bloom filters of the partition keys are maintained. A filter takes about
+     * 10 bits per key of the partition in heap memory. Disabled by default.
+     *
+     * @param partitionBloomFilterEnabled {@code True} to enable Bloom filters of the partition keys.
+     * @return {@code this} for chaining.
+     */
+    public DataRegionConfiguration setPartitionBloomFilterEnabled(boolean partitionBloomFilterEnabled) {
+        this.partitionBloomFilterEnabled = partitionBloomFilterEnabled;
+
+        return this;
+    }
+
     /**
      * Gets a threshold for memory pages eviction initiation. For instance, if the threshold is 0.9 it means that the
      * page memory will start the eviction only after 90% of the data region is occupied.
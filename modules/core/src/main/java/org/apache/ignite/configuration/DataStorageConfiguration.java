@@ -122,6 +122,12 @@ public class DataStorageConfiguration implements Serializable {
     /** Default checkpoint write order. */
     public static final CheckpointWriteOrder DFLT_CHECKPOINT_WRITE_ORDER = CheckpointWriteOrder.SEQUENTIAL;
 
+    /** Default max number of adjacent pages written to disk by one write operation during checkpoint. */
+    public static final int DFLT_CHECKPOINT_WRITE_BATCH_SIZE = 16;
+
+    /** Default max number of open page store files, unlimited. */
+    public static final int DFLT_MAX_OPEN_PAGE_STORE_FILES = 0;
+
     /** Default number of checkpoints to be kept in WAL after checkpoint is finished */
     public static final int DFLT_WAL_HISTORY_SIZE = 20;
 
@@ -149,18 +155,33 @@ public class DataStorageConfiguration implements Serializable {
     /** Default wal fsync delay. */
     public static final int DFLT_WAL_FSYNC_DELAY = 1000;
 
+    /** Default max delay of the WAL group commit (disabled). */
+    public static final long DFLT_WAL_GROUP_COMMIT_MAX_DELAY = 0;
+
+    /** Default max number of the threads served by a single fsync of the WAL group commit. */
+    public static final int DFLT_WAL_GROUP_COMMIT_MAX_BATCH_SIZE = 64;
+
+    /** Default number of threads writing WAL buffer to the segment file. */
+    public static final int DFLT_WAL_WRITE_THREAD_CNT = 1;
+
     /** Default wal record iterator buffer size. */
     public static final int DFLT_WAL_RECORD_ITERATOR_BUFFER_SIZE = 64 * 1024 * 1024;
 
     /** Default wal always write full pages. */
     public static final boolean DFLT_WAL_ALWAYS_WRITE_FULL_PAGES = false;
 
+    /** Default flag of logging the diffs of the pages against their checkpointed images instead of full pages. */
+    public static final boolean DFLT_WAL_PAGE_SNAPSHOT_DIFF_ENABLED = false;
+
     /** Default wal directory. */
     public static final String DFLT_WAL_PATH = "db/wal";
 
     /** Default wal archive directory. */
     public static final String DFLT_WAL_ARCHIVE_PATH = "db/wal/archive";
 
+    /** Default change data capture directory. */
+    public static final String DFLT_WAL_CDC_PATH = "db/wal/cdc";
+
     /** Default path (relative to working directory) of binary metadata folder */
     public static final String DFLT_BINARY_METADATA_PATH = "db/binary_meta";
 
@@ -176,6 +197,9 @@ public class DataStorageConfiguration implements Serializable {
     /** Default wal compaction level. */
     public static final int DFLT_WAL_COMPACTION_LEVEL = Deflater.BEST_SPEED;
 
+    /** Default wal compaction codec. */
+    public static final WalCompactionCodec DFLT_WAL_COMPACTION_CODEC = WalCompactionCodec.ZIP;
+
     /** Default compression algorithm for WAL page snapshot records. */
     public static final DiskPageCompression DFLT_WAL_PAGE_COMPRESSION = DiskPageCompression.DISABLED;
 
@@ -217,6 +241,9 @@ public class DataStorageConfiguration implements Serializable {
     /** Checkpoint write order. */
     private CheckpointWriteOrder checkpointWriteOrder = DFLT_CHECKPOINT_WRITE_ORDER;
 
+    /** Max number of adjacent pages written to disk by one write operation during checkpoint. */
+    private int checkpointWriteBatchSize = DFLT_CHECKPOINT_WRITE_BATCH_SIZE;
+
     /** Number of checkpoints to keep */
     private int walHistSize = DFLT_WAL_HISTORY_SIZE;
 
@@ -235,6 +262,12 @@ public class DataStorageConfiguration implements Serializable {
     /** WAL archive path. */
     private String walArchivePath = DFLT_WAL_ARCHIVE_PATH;
 
+    /** Flag to expose archived WAL segments to change data capture. */
+    private boolean cdcEnabled;
+
+    /** Change data capture directory. */
+    private String cdcWalPath = DFLT_WAL_CDC_PATH;
+
     /** Metrics enabled flag. */
     private boolean metricsEnabled = DFLT_METRICS_ENABLED;
 
@@ -247,23 +280,38 @@ public class DataStorageConfiguration implements Serializable {
     /** WAl buffer size. */
     private int walBuffSize;
 
+    /** Number of threads writing WAL buffer to the segment file. */
+    private int walWriteThreadCnt = DFLT_WAL_WRITE_THREAD_CNT;
+
     /** Wal flush frequency in milliseconds. */
     private long walFlushFreq = DFLT_WAL_FLUSH_FREQ;
 
     /** Wal fsync delay. */
     private long walFsyncDelay = DFLT_WAL_FSYNC_DELAY;
 
+    /** Max delay of the WAL group commit in nanoseconds. */
+    private long walGrpCommitMaxDelay = DFLT_WAL_GROUP_COMMIT_MAX_DELAY;
+
+    /** Max number of the threads served by a single fsync of the WAL group commit. */
+    private int walGrpCommitMaxBatchSize = DFLT_WAL_GROUP_COMMIT_MAX_BATCH_SIZE;
+
     /** Wal record iterator buffer size. */
     private int walRecordIterBuffSize = DFLT_WAL_RECORD_ITERATOR_BUFFER_SIZE;
 
     /** Always write full pages. */
     private boolean alwaysWriteFullPages = DFLT_WAL_ALWAYS_WRITE_FULL_PAGES;
 
+    /** Log the diffs of the pages against their checkpointed images instead of full pages. */
+    private boolean walPageSnapshotDiffEnabled = DFLT_WAL_PAGE_SNAPSHOT_DIFF_ENABLED;
+
     /** Factory to provide I/O interface for data storage files */
     private FileIOFactory fileIOFactory =
         IgniteSystemProperties.getBoolean(IGNITE_USE_ASYNC_FILE_IO_FACTORY, DFLT_USE_ASYNC_FILE_IO_FACTORY) ?
             new AsyncFileIOFactory() : new RandomAccessFileIOFactory();
 
+    /** Max number of open page store files. */
+    private int maxOpenPageStoreFiles = DFLT_MAX_OPEN_PAGE_STORE_FILES;
+
     /**
      * Number of sub-intervals the whole {@link #setMetricsRateTimeInterval(long)} will be split into to calculate
      * rate-based metrics.
@@ -294,7 +342,7 @@ public class DataStorageConfiguration implements Serializable {
     private boolean walCompactionEnabled = DFLT_WAL_COMPACTION_ENABLED;
 
     /**
-     * ZIP level to WAL compaction.
+     * Codec specific level to WAL compaction.
      *
      * @see java.util.zip.ZipOutputStream#setLevel(int)
      * @see java.util.zip.Deflater#BEST_SPEED
@@ -302,6 +350,9 @@ public class DataStorageConfiguration implements Serializable {
      */
     private int walCompactionLevel = DFLT_WAL_COMPACTION_LEVEL;
 
+    /** Codec to WAL compaction. */
+    private WalCompactionCodec walCompactionCodec = DFLT_WAL_COMPACTION_CODEC;
+
     /** Timeout for checkpoint read lock acquisition. */
     private Long checkpointReadLockTimeout;
 
@@ -708,6 +759,53 @@ public class DataStorageConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets flag to expose archived WAL segments to change data capture.
+     *
+     * @return Change data capture enabled flag.
+     */
+    public boolean isCdcEnabled() {
+        return cdcEnabled;
+    }
+
+    /**
+     * Sets flag to expose archived WAL segments to change data capture. If enabled, every archived WAL segment is
+     * hard linked to the {@link #setCdcWalPath(String) change data capture directory}, where it is read by
+     * {@link org.apache.ignite.cdc.CdcMain} and removed once consumed. The segments are kept on disk until then
+     * regardless of the WAL archive size limits. Requires WAL archive to be enabled and located on the same
+     * file system as the change data capture directory.
+     *
+     * @param cdcEnabled Change data capture enabled flag.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setCdcEnabled(boolean cdcEnabled) {
+        this.cdcEnabled = cdcEnabled;
+
+        return this;
+    }
+
+    /**
+     * Gets a path to the change data capture directory.
+     *
+     * @return Change data capture directory.
+     */
+    public String getCdcWalPath() {
+        return cdcWalPath;
+    }
+
+    /**
+     * Sets a path to the change data capture directory. If this path is relative, it will be resolved relatively
+     * to Ignite work directory. Default value is {@link #DFLT_WAL_CDC_PATH}.
+     *
+     * @param cdcWalPath Change data capture directory.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setCdcWalPath(String cdcWalPath) {
+        this.cdcWalPath = cdcWalPath;
+
+        return this;
+    }
+
     /**
      * Gets flag indicating whether persistence metrics collection is enabled.
      * Default value is {@link #DFLT_METRICS_ENABLED}.
@@ -867,6 +965,35 @@ public class DataStorageConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets number of threads writing WAL buffer to the current segment file.
+     *
+     * @return Number of threads writing WAL buffer to the segment file.
+     */
+    public int getWalWriteThreadCount() {
+        return walWriteThreadCnt;
+    }
+
+    /**
+     * Sets number of threads writing WAL buffer to the current segment file. If greater than {@code 1}, large
+     * chunks of the buffer are split into stripes written to the segment file in parallel, which allows to keep
+     * several write requests in flight on the devices that scale with the queue depth (NVMe). The layout of the
+     * segment files is not affected. Applies if the buffer is written by the WAL writer thread, that is if memory
+     * mapped WAL segments are disabled by {@link IgniteSystemProperties#IGNITE_WAL_MMAP} and the WAL mode is
+     * {@link WALMode#LOG_ONLY LOG_ONLY} or {@link WALMode#BACKGROUND BACKGROUND}.
+     * Default value is {@link #DFLT_WAL_WRITE_THREAD_CNT}.
+     *
+     * @param walWriteThreadCnt Number of threads writing WAL buffer to the segment file.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalWriteThreadCount(int walWriteThreadCnt) {
+        A.ensure(walWriteThreadCnt > 0, "Number of WAL write threads must be greater than 0.");
+
+        this.walWriteThreadCnt = walWriteThreadCnt;
+
+        return this;
+    }
+
     /**
      * This property define how often WAL will be fsync-ed in {@code BACKGROUND} mode. Ignored for
      * all other WAL modes.
@@ -913,6 +1040,60 @@ public class DataStorageConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets max delay of the WAL group commit in {@link WALMode#FSYNC} mode.
+     *
+     * @return Max delay of the WAL group commit, in nanoseconds, {@code 0} if the group commit is disabled.
+     */
+    public long getWalGroupCommitMaxDelayNanos() {
+        return walGrpCommitMaxDelay;
+    }
+
+    /**
+     * Enables WAL group commit in {@link WALMode#FSYNC} mode and sets its max delay. Threads committing updates
+     * register the WAL pointers they need to be synced and wait, while a dedicated worker syncs the WAL once for all
+     * of them. The fsync is issued when either the oldest waiting thread has waited for this number of nanoseconds
+     * or {@link #setWalGroupCommitMaxBatchSize(int) max batch size} threads are waiting, so the commit latency is
+     * bounded while the number of fsyncs under concurrent load goes down. Replaces the
+     * {@link #setWalFsyncDelayNanos(long) fsync delay} if enabled.
+     * Default value is {@link #DFLT_WAL_GROUP_COMMIT_MAX_DELAY}, the group commit is disabled.
+     *
+     * @param walGrpCommitMaxDelayNanos Max delay of the WAL group commit, in nanoseconds, {@code 0} to disable.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalGroupCommitMaxDelayNanos(long walGrpCommitMaxDelayNanos) {
+        A.ensure(walGrpCommitMaxDelayNanos >= 0, "WAL group commit max delay must not be negative.");
+
+        walGrpCommitMaxDelay = walGrpCommitMaxDelayNanos;
+
+        return this;
+    }
+
+    /**
+     * Gets max number of the threads served by a single fsync of the WAL group commit.
+     *
+     * @return Max number of the threads served by a single fsync of the WAL group commit.
+     */
+    public int getWalGroupCommitMaxBatchSize() {
+        return walGrpCommitMaxBatchSize;
+    }
+
+    /**
+     * Sets max number of the threads served by a single fsync of the WAL group commit. Once this number of threads
+     * is waiting, the fsync is issued without waiting for the {@link #setWalGroupCommitMaxDelayNanos(long) max delay}.
+     * Default value is {@link #DFLT_WAL_GROUP_COMMIT_MAX_BATCH_SIZE}.
+     *
+     * @param walGrpCommitMaxBatchSize Max number of the threads served by a single fsync of the WAL group commit.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalGroupCommitMaxBatchSize(int walGrpCommitMaxBatchSize) {
+        A.ensure(walGrpCommitMaxBatchSize > 0, "WAL group commit max batch size must be greater than 0.");
+
+        this.walGrpCommitMaxBatchSize = walGrpCommitMaxBatchSize;
+
+        return this;
+    }
+
     /**
      * Property define how many bytes iterator read from
      * disk (for one reading), during go ahead wal.
@@ -957,6 +1138,36 @@ public class DataStorageConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets flag of logging the first change of a page after a checkpoint as a diff against the checkpointed image of
+     * the page instead of the full page.
+     *
+     * @return {@code True} if page snapshot diffs are enabled.
+     * @see #setWalPageSnapshotDiffEnabled(boolean)
+     */
+    public boolean isWalPageSnapshotDiffEnabled() {
+        return walPageSnapshotDiffEnabled;
+    }
+
+    /**
+     * Sets flag of logging the first change of a page after a checkpoint as a diff against the checkpointed image of
+     * the page instead of the full page. Reduces the WAL volume after every checkpoint when the rows are small
+     * comparing to the page size.
+     * <p>
+     * The node keeps a copy of each clean page while it is write locked to build the diff. The full page is logged
+     * if the diff exceeds a half of the page, for the cache groups with disk page compression or encryption, and
+     * in the {@link #setAlwaysWriteFullPages(boolean) always write full pages} mode. Recovery relies on the pages
+     * being written to disk atomically, since a torn page can't be restored from a diff.
+     *
+     * @param walPageSnapshotDiffEnabled Page snapshot diffs flag.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalPageSnapshotDiffEnabled(boolean walPageSnapshotDiffEnabled) {
+        this.walPageSnapshotDiffEnabled = walPageSnapshotDiffEnabled;
+
+        return this;
+    }
+
     /**
      * Factory to provide implementation of FileIO interface
      * which is used for data storage files read/write operations
@@ -979,6 +1190,35 @@ public class DataStorageConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets max number of partition and index files kept open by the node.
+     *
+     * @return Max number of open page store files, {@code 0} if unlimited.
+     */
+    public int getMaxOpenPageStoreFiles() {
+        return maxOpenPageStoreFiles;
+    }
+
+    /**
+     * Sets max number of partition and index files kept open by the node. Each partition file is opened on the first
+     * access and by default stays open until the partition is evicted or the node is stopped, which may exceed
+     * the limit of open files of the process if there are a lot of caches and partitions.
+     * <p>
+     * If the limit is reached, the least recently used files are synced and closed and they are transparently
+     * reopened on the next access. The limit may be exceeded for a short time if all the open files are in use.
+     * Default value is {@link #DFLT_MAX_OPEN_PAGE_STORE_FILES}, the number of open files is unlimited.
+     *
+     * @param maxOpenPageStoreFiles Max number of open page store files, {@code 0} for unlimited.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setMaxOpenPageStoreFiles(int maxOpenPageStoreFiles) {
+        A.ensure(maxOpenPageStoreFiles >= 0, "Max number of open page store files must be non-negative.");
+
+        this.maxOpenPageStoreFiles = maxOpenPageStoreFiles;
+
+        return this;
+    }
+
     /**
      * <b>Note:</b> setting this value with {@link WALMode#FSYNC} may generate file size overhead for WAL segments in case
      * grid is used rarely.
@@ -1021,6 +1261,33 @@ public class DataStorageConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets max number of pages with adjacent indexes in the same partition file which are written to disk
+     * by a single gathering write during checkpoint. Runs of adjacent pages are mostly formed
+     * with {@link CheckpointWriteOrder#SEQUENTIAL} checkpoint write order.
+     *
+     * @return Max number of pages written by one write operation.
+     */
+    public int getCheckpointWriteBatchSize() {
+        return checkpointWriteBatchSize;
+    }
+
+    /**
+     * Sets max number of pages with adjacent indexes in the same partition file which are written to disk
+     * by a single gathering write during checkpoint. Value {@code 1} disables coalescing of page writes.
+     * Default value is {@link #DFLT_CHECKPOINT_WRITE_BATCH_SIZE}.
+     *
+     * @param checkpointWriteBatchSize Max number of pages written by one write operation.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setCheckpointWriteBatchSize(int checkpointWriteBatchSize) {
+        A.ensure(checkpointWriteBatchSize > 0, "Checkpoint write batch size must be positive.");
+
+        this.checkpointWriteBatchSize = checkpointWriteBatchSize;
+
+        return this;
+    }
+
     /**
      * @return Flag indicating whether WAL compaction is enabled.
      */
@@ -1040,19 +1307,50 @@ public class DataStorageConfiguration implements Serializable {
     }
 
     /**
-     * @return ZIP level to WAL compaction.
+     * @return {@link #getWalCompactionCodec() Codec} specific level to WAL compaction.
      */
     public int getWalCompactionLevel() {
         return walCompactionLevel;
     }
 
     /**
-     * @param walCompactionLevel New ZIP level to WAL compaction.
+     * Sets {@link #setWalCompactionCodec codec} specific level to WAL compaction. If the level is left default
+     * for the codecs other than {@link WalCompactionCodec#ZIP ZIP}, the default level of the codec is used.
+     *
+     * @param walCompactionLevel New level to WAL compaction.
+     *      {@link WalCompactionCodec#ZIP ZIP}: from {@code 0} to {@code 9} (default {@code 1}).
+     *      {@link WalCompactionCodec#ZSTD Zstd}: from {@code -131072} to {@code 22} (default {@code 3}).
+     *      {@link WalCompactionCodec#LZ4 LZ4}: from {@code 0} to {@code 17} (default {@code 0}).
      */
     public void setWalCompactionLevel(int walCompactionLevel) {
         this.walCompactionLevel = walCompactionLevel;
     }
 
+    /**
+     * Gets codec to compress WAL archive segments with if {@link #isWalCompactionEnabled() WAL compaction}
+     * is enabled.
+     *
+     * @return Codec to WAL compaction.
+     */
+    public WalCompactionCodec getWalCompactionCodec() {
+        return walCompactionCodec == null ? DFLT_WAL_COMPACTION_CODEC : walCompactionCodec;
+    }
+
+    /**
+     * Sets codec to compress WAL archive segments with if {@link #setWalCompactionEnabled WAL compaction}
+     * is enabled. {@link WalCompactionCodec#LZ4 LZ4} and {@link WalCompactionCodec#ZSTD Zstd} are much faster
+     * than {@link WalCompactionCodec#ZIP ZIP} on both compression and decompression, but require ignite-compress
+     * module in classpath.
+     *
+     * @param walCompactionCodec Codec to WAL compaction.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalCompactionCodec(WalCompactionCodec walCompactionCodec) {
+        this.walCompactionCodec = walCompactionCodec;
+
+        return this;
+    }
+
     /**
      * Returns timeout for checkpoint read lock acquisition.
      *
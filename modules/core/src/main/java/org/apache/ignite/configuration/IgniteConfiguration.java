@@ -226,6 +226,9 @@ public class IgniteConfiguration {
     /** Default relative working directory path for snapshot operation result. */
     public static final String DFLT_SNAPSHOT_DIRECTORY = "snapshots";
 
+    /** Default number of threads to perform snapshot operations. */
+    public static final int DFLT_SNAPSHOT_THREAD_POOL_SIZE = 4;
+
     /** Default value for late affinity assignment flag. */
     @Deprecated
     public static final boolean DFLT_LATE_AFF_ASSIGNMENT = true;
@@ -562,6 +565,9 @@ public class IgniteConfiguration {
      */
     private String snapshotPath = DFLT_SNAPSHOT_DIRECTORY;
 
+    /** Total number of threads to perform snapshot operations, e.g. to copy partition files. */
+    private int snapshotThreadPoolSize = DFLT_SNAPSHOT_THREAD_POOL_SIZE;
+
     /** Active on start flag. */
     @Deprecated
     private boolean activeOnStart = DFLT_ACTIVE_ON_START;
@@ -718,6 +724,7 @@ public class IgniteConfiguration {
         segResolveAttempts = cfg.getSegmentationResolveAttempts();
         segResolvers = cfg.getSegmentationResolvers();
         snapshotPath = cfg.getSnapshotPath();
+        snapshotThreadPoolSize = cfg.getSnapshotThreadPoolSize();
         sndRetryCnt = cfg.getNetworkSendRetryCount();
         sndRetryDelay = cfg.getNetworkSendRetryDelay();
         sqlConnCfg = cfg.getSqlConnectorConfiguration();
@@ -3168,6 +3175,29 @@ public class IgniteConfiguration {
         return this;
     }
 
+    /**
+     * Gets the number of threads used to perform snapshot operations: copy cache partition files to the snapshot
+     * directory on snapshot creation and back to the cache working directories on snapshot restore.
+     *
+     * @return Number of threads to perform snapshot operations.
+     */
+    public int getSnapshotThreadPoolSize() {
+        return snapshotThreadPoolSize;
+    }
+
+    /**
+     * Sets the number of threads used to perform snapshot operations. Default value is
+     * {@link #DFLT_SNAPSHOT_THREAD_POOL_SIZE}.
+     *
+     * @param snapshotThreadPoolSize Number of threads to perform snapshot operations.
+     * @return {@code this} for chaining.
+     */
+    public IgniteConfiguration setSnapshotThreadPoolSize(int snapshotThreadPoolSize) {
+        this.snapshotThreadPoolSize = snapshotThreadPoolSize;
+
+        return this;
+    }
+
     /**
      * Gets grid warmup closure. This closure will be executed before actual grid instance start. Configuration of
      * a starting instance will be passed to the closure so it can decide what operations to warm up.
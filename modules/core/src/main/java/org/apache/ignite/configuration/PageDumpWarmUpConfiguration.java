@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration;
+
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * "Page dump" warm-up configuration that loads the pages which were in the persistent data region before the node
+ * restart. IDs of the pages loaded to the data region are dumped to disk periodically and on graceful node stop,
+ * on node start the dumped pages are loaded back in parallel in order of their offsets in partition files.
+ * <p>
+ * The pages are loaded until the data region reaches {@link DataRegionConfiguration#getMaxSize}. If there is no dump
+ * (e.g. the node is started for the first time), nothing is loaded.
+ */
+public class PageDumpWarmUpConfiguration implements WarmUpConfiguration {
+    /** Serial version uid. */
+    private static final long serialVersionUID = 0L;
+
+    /** Default frequency of the dumps of the loaded pages in milliseconds. */
+    public static final long DFLT_DUMP_FREQ = 5 * 60 * 1000L;
+
+    /** Default number of threads loading the dumped pages. */
+    public static final int DFLT_LOAD_THREADS = Math.min(8, IgniteConfiguration.AVAILABLE_PROC_CNT);
+
+    /** Frequency of the dumps of the loaded pages in milliseconds. */
+    private long dumpFreq = DFLT_DUMP_FREQ;
+
+    /** Number of threads loading the dumped pages. */
+    private int loadThreads = DFLT_LOAD_THREADS;
+
+    /**
+     * Gets frequency of the dumps of the loaded pages.
+     *
+     * @return Dump frequency in milliseconds, {@code 0} if the pages are dumped only on node stop.
+     */
+    public long getDumpFrequency() {
+        return dumpFreq;
+    }
+
+    /**
+     * Sets frequency of the dumps of the loaded pages. The pages are dumped on graceful node stop as well,
+     * periodic dumps keep the dump actual if the node fails.
+     *
+     * @param dumpFreq Dump frequency in milliseconds, {@code 0} to dump the pages only on node stop.
+     * @return {@code this} for chaining.
+     */
+    public PageDumpWarmUpConfiguration setDumpFrequency(long dumpFreq) {
+        A.ensure(dumpFreq >= 0, "dumpFreq must be non-negative.");
+
+        this.dumpFreq = dumpFreq;
+
+        return this;
+    }
+
+    /**
+     * Gets number of threads loading the dumped pages on node start.
+     *
+     * @return Number of threads.
+     */
+    public int getLoadThreads() {
+        return loadThreads;
+    }
+
+    /**
+     * Sets number of threads loading the dumped pages on node start.
+     *
+     * @param loadThreads Number of threads.
+     * @return {@code this} for chaining.
+     */
+    public PageDumpWarmUpConfiguration setLoadThreads(int loadThreads) {
+        A.ensure(loadThreads > 0, "loadThreads must be positive.");
+
+        this.loadThreads = loadThreads;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(PageDumpWarmUpConfiguration.class, this);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+* Licensed to the Apache Software Foundation (ASF) under one or more
+* contributor license agreements.  See the NOTICE file distributed with
+* this work for additional information regarding copyright ownership.
+* The ASF licenses this file to You under the Apache License, Version 2.0
+* (the "License"); you may not use this file except in compliance with
+* the License.  You may obtain a copy of the License at
+*
+*      http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.apache.ignite.configuration;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines memory page replacement algorithm. A mode is set for a specific persistent
+ * {@link DataRegionConfiguration}. Page replacement takes place when a page should be loaded from the disk
+ * and there is no free space in the data region, so one of the loaded pages has to be rotated with the disk.
+ */
+public enum PageReplacementMode {
+    /**
+     * Random-LRU algorithm.
+     * <p>
+     * Every time a page is accessed, its timestamp gets updated. When a page replacement is required, the algorithm
+     * randomly chooses 5 loaded pages and replaces the page with the oldest timestamp. Clean pages are preferred
+     * over dirty ones.
+     */
+    RANDOM_LRU,
+
+    /**
+     * CLOCK algorithm: scan-resistant replacement with constant cost of page access.
+     * <p>
+     * Every loaded page has a small saturating access counter which gets incremented every time a page is accessed.
+     * When a page replacement is required, a clock hand sweeps over the loaded pages decrementing their counters and
+     * replaces the first page with exhausted counter. Pages accessed only once (e.g. during a full scan) leave the
+     * memory after a single sweep, while frequently accessed pages survive several sweeps, so this mode behaves
+     * like segmented LRU without any additional bookkeeping on the page access path.
+     */
+    CLOCK;
+
+    /** Enumerated values. */
+    private static final PageReplacementMode[] VALS = values();
+
+    /**
+     * Efficiently gets enumerated value from its ordinal.
+     *
+     * @param ord Ordinal value.
+     * @return Enumerated value or {@code null} if ordinal out of range.
+     */
+    @Nullable public static PageReplacementMode fromOrdinal(int ord) {
+        return ord >= 0 && ord < VALS.length ? VALS[ord] : null;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression codec of the WAL archive segments compacted in background.
+ * <p>
+ * Segments compressed with any codec can be read regardless of the currently configured one,
+ * so the codec can be changed on node restart.
+ *
+ * @see DataStorageConfiguration#setWalCompactionEnabled
+ * @see DataStorageConfiguration#setWalCompactionCodec
+ * @see DataStorageConfiguration#setWalCompactionLevel
+ */
+public enum WalCompactionCodec {
+    /** ZIP (Deflate) compression. */
+    ZIP,
+
+    /** LZ4 compression. Requires ignite-compress module in classpath. */
+    LZ4,
+
+    /** Zstd compression. Requires ignite-compress module in classpath. */
+    ZSTD;
+
+    /** Enumerated values. */
+    private static final WalCompactionCodec[] VALS = values();
+
+    /**
+     * Efficiently gets enumerated value from its ordinal.
+     *
+     * @param ord Ordinal value.
+     * @return Enumerated value or {@code null} if ordinal out of range.
+     */
+    @Nullable public static WalCompactionCodec fromOrdinal(int ord) {
+        return ord >= 0 && ord < VALS.length ? VALS[ord] : null;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.ignite.internal;
 import java.util.BitSet;
 import java.util.Collection;
 import org.apache.ignite.IgniteEncryption;
+import org.apache.ignite.IgniteSnapshot;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.cluster.ClusterState;
 import org.apache.ignite.internal.managers.discovery.IgniteDiscoverySpi;
@@ -136,7 +137,16 @@ public enum IgniteFeatures {
     SPLITTED_CACHE_CONFIGURATIONS_V2(46),
 
     /** Cache encryption key change. See {@link IgniteEncryption#changeCacheGroupKey(Collection)}. */
-    CACHE_GROUP_KEY_CHANGE(47);
+    CACHE_GROUP_KEY_CHANGE(47),
+
+    /** Cache partition files can be transferred between nodes. */
+    PARTITION_FILES_TRANSFER(48),
+
+    /** Cache groups can be restored from a cluster snapshot. See {@link IgniteSnapshot#restoreSnapshot}. */
+    SNAPSHOT_RESTORE_CACHE_GROUP(49),
+
+    /** Incremental snapshots can be created on top of a cluster snapshot. See {@link IgniteSnapshot#createIncrementalSnapshot}. */
+    INCREMENTAL_SNAPSHOT(50);
 
     /**
      * Unique feature identifier.
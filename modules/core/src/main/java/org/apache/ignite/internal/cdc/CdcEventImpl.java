@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cdc;
+
+import org.apache.ignite.cdc.CdcEvent;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Change of a cache entry captured from the WAL.
+ */
+public class CdcEventImpl implements CdcEvent {
+    /** Key. */
+    @GridToStringInclude(sensitive = true)
+    private final Object key;
+
+    /** Value. */
+    @GridToStringInclude(sensitive = true)
+    private final Object val;
+
+    /** Cache id. */
+    private final int cacheId;
+
+    /** Partition. */
+    private final int part;
+
+    /** Update counter. */
+    private final long updCntr;
+
+    /** Expire time. */
+    private final long expireTime;
+
+    /**
+     * @param key Key.
+     * @param val Value or {@code null} if the entry is removed.
+     * @param cacheId Cache id.
+     * @param part Partition.
+     * @param updCntr Update counter.
+     * @param expireTime Expire time.
+     */
+    public CdcEventImpl(Object key, @Nullable Object val, int cacheId, int part, long updCntr, long expireTime) {
+        this.key = key;
+        this.val = val;
+        this.cacheId = cacheId;
+        this.part = part;
+        this.updCntr = updCntr;
+        this.expireTime = expireTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Object key() {
+        return key;
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable Object value() {
+        return val;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int cacheId() {
+        return cacheId;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int partition() {
+        return part;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long updateCounter() {
+        return updCntr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long expireTime() {
+        return expireTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CdcEventImpl.class, this);
+    }
+}
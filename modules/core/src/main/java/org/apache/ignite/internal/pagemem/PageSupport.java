@@ -85,6 +85,29 @@ public interface PageSupport {
      */
     public void readUnlock(int grpId, long pageId, long page);
 
+    /**
+     * Copies the page contents to the given buffer without taking the read lock. The copy is consistent
+     * if the returned stamp is not {@code 0}, but any data derived from the copy that refers to other pages
+     * (e.g. links) may be used only if {@link #validateOptimisticRead(int, long, long, long)} succeeds afterwards.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param bufAddr Address of a buffer of the page size to copy the page to.
+     * @return Stamp of the optimistic read or {@code 0} if the page is write locked, has been modified
+     *      during the copy or its tag does not match, in this case the read lock must be taken.
+     */
+    public long readOptimistic(int grpId, long pageId, long page, long bufAddr);
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param stamp Stamp returned by {@link #readOptimistic(int, long, long, long)}.
+     * @return {@code True} if the page has not been modified since the stamp was obtained.
+     */
+    public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp);
+
     /**
      *
      * @param grpId Cache group ID.
@@ -63,11 +63,11 @@ import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
  * <p/>
  * When page is allocated and is in use:
  * <pre>
- * +--------+--------+--------+--------+---------------------------+
- * |8 bytes |8 bytes |8 bytes |8 bytes |        PAGE_SIZE          |
- * +--------+--------+--------+--------+---------------------------+
- * | Marker |Page ID |Pin CNT |  Lock  |        Page data          |
- * +--------+--------+--------+--------+---------------------------+
+ * +--------+--------+--------+-----------------+---------------------------+
+ * |8 bytes |8 bytes |8 bytes |    16 bytes     |        PAGE_SIZE          |
+ * +--------+--------+--------+-----------------+---------------------------+
+ * | Marker |Page ID |Pin CNT |      Lock       |        Page data          |
+ * +--------+--------+--------+-----------------+---------------------------+
  * </pre>
  *
  * Note that first 8 bytes of page header are used either for page marker or for next relative pointer depending
@@ -521,6 +521,29 @@ public class PageMemoryNoStoreImpl implements PageMemory {
         rwLock.readUnlock(page + LOCK_OFFSET);
     }
 
+    /** {@inheritDoc} */
+    @Override public long readOptimistic(int cacheId, long pageId, long page, long bufAddr) {
+        assert started;
+
+        int tag = PageIdUtils.tag(pageId);
+
+        long stamp = rwLock.tryOptimisticRead(page + LOCK_OFFSET, tag);
+
+        if (stamp == 0L)
+            return 0L;
+
+        GridUnsafe.copyMemory(page + PAGE_OVERHEAD, bufAddr, pageSize());
+
+        return rwLock.validate(page + LOCK_OFFSET, tag, stamp) ? stamp : 0L;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int cacheId, long pageId, long page, long stamp) {
+        assert started;
+
+        return rwLock.validate(page + LOCK_OFFSET, PageIdUtils.tag(pageId), stamp);
+    }
+
     /** {@inheritDoc} */
     @Override public long writeLock(int cacheId, long pageId, long page) {
         assert started;
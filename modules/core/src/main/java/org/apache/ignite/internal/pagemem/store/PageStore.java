@@ -95,6 +95,29 @@ public interface PageStore extends Closeable {
      */
     public void write(long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes a run of pages with contiguous indexes. Implementations may write all the pages with
+     * a single gathering write.
+     *
+     * @param pageIds Page IDs sorted by page index, indexes must be contiguous.
+     * @param pageBufs Page buffers to write.
+     * @param cnt Number of pages to write.
+     * @param tag Partition file version, 1-based incrementing counter. For outdated pages {@code tag} has lower value,
+     * and write does nothing.
+     * @param calculateCrc if {@code False} crc calculation will be forcibly skipped.
+     * @throws IgniteCheckedException If page writing failed (IO error occurred).
+     */
+    public default void write(
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int cnt,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        for (int i = 0; i < cnt; i++)
+            write(pageIds[i], pageBufs[i], tag, calculateCrc);
+    }
+
     /**
      * Gets page offset within the store file.
      *
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record.delta;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Page snapshot logged as a binary diff of the page against its image at the moment the page became dirty, that is
+ * the image saved by the last checkpoint. The diff consists of runs of changed bytes, each prefixed with the offset
+ * and the length of the run.
+ * <p>
+ * The record carries the checksum of the base image, so on recovery it is applied only if the page read from disk
+ * is exactly the base image. Otherwise the page on disk is ahead of the base, which happens if a dirty page is
+ * replaced or if the node stops in the middle of a checkpoint, and the record must be skipped together with the
+ * following deltas of the page up to the next snapshot of the page which base matches.
+ */
+public class PageSnapshotDiffRecord extends PageDeltaRecord {
+    /** Size of the header of a run: offset and length. */
+    private static final int RUN_HDR_SIZE = 4;
+
+    /** Checksum of the base image. */
+    private final int baseCrc;
+
+    /** Runs of the changed bytes. */
+    @GridToStringExclude
+    private final byte[] diff;
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param baseCrc Checksum of the base image.
+     * @param diff Runs of the changed bytes.
+     */
+    public PageSnapshotDiffRecord(int grpId, long pageId, int baseCrc, byte[] diff) {
+        super(grpId, pageId);
+
+        this.baseCrc = baseCrc;
+        this.diff = diff;
+    }
+
+    /**
+     * @param in Input.
+     * @throws IOException If failed.
+     */
+    public PageSnapshotDiffRecord(DataInput in) throws IOException {
+        super(in.readInt(), in.readLong());
+
+        baseCrc = in.readInt();
+        diff = new byte[in.readInt()];
+
+        in.readFully(diff);
+    }
+
+    /**
+     * Creates the diff of the page against its base image.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param baseAddr Address of the base image.
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @param maxDiffSize Max size of the diff.
+     * @return Record or {@code null} if the diff is larger than {@code maxDiffSize}.
+     */
+    @Nullable public static PageSnapshotDiffRecord create(
+        int grpId,
+        long pageId,
+        long baseAddr,
+        long pageAddr,
+        int pageSize,
+        int maxDiffSize
+    ) {
+        assert pageSize % 8 == 0 : pageSize;
+
+        ByteBuffer buf = ByteBuffer.allocate(maxDiffSize);
+
+        int off = 0;
+
+        while (off < pageSize) {
+            if (GridUnsafe.getLong(baseAddr + off) == GridUnsafe.getLong(pageAddr + off)) {
+                off += 8;
+
+                continue;
+            }
+
+            int end = off + 8;
+
+            while (end < pageSize && GridUnsafe.getLong(baseAddr + end) != GridUnsafe.getLong(pageAddr + end))
+                end += 8;
+
+            // Trim the unchanged bytes of the first and the last words of the run.
+            int from = off;
+
+            while (GridUnsafe.getByte(baseAddr + from) == GridUnsafe.getByte(pageAddr + from))
+                from++;
+
+            int to = end;
+
+            while (GridUnsafe.getByte(baseAddr + to - 1) == GridUnsafe.getByte(pageAddr + to - 1))
+                to--;
+
+            int len = to - from;
+
+            if (buf.remaining() < RUN_HDR_SIZE + len)
+                return null;
+
+            buf.putShort((short)from);
+            buf.putShort((short)len);
+
+            GridUnsafe.copyMemory(null, pageAddr + from, buf.array(), GridUnsafe.BYTE_ARR_OFF + buf.position(), len);
+
+            buf.position(buf.position() + len);
+
+            off = end;
+        }
+
+        byte[] diff = new byte[buf.position()];
+
+        System.arraycopy(buf.array(), 0, diff, 0, diff.length);
+
+        return new PageSnapshotDiffRecord(grpId, pageId, crc(baseAddr, pageSize), diff);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @return Checksum of the page.
+     */
+    public static int crc(long pageAddr, int pageSize) {
+        return FastCrc.calcCrc(GridUnsafe.wrapPointer(pageAddr, pageSize), pageSize);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @return {@code True} if the page is the base image of the diff.
+     */
+    public boolean matchesBase(long pageAddr, int pageSize) {
+        return crc(pageAddr, pageSize) == baseCrc;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void applyDelta(PageMemory pageMem, long pageAddr) {
+        ByteBuffer buf = ByteBuffer.wrap(diff);
+
+        while (buf.hasRemaining()) {
+            int off = buf.getShort() & 0xFFFF;
+            int len = buf.getShort() & 0xFFFF;
+
+            GridUnsafe.copyMemory(diff, GridUnsafe.BYTE_ARR_OFF + buf.position(), null, pageAddr + off, len);
+
+            buf.position(buf.position() + len);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordType type() {
+        return RecordType.PAGE_SNAPSHOT_DIFF_RECORD;
+    }
+
+    /**
+     * @return Size of the serialized record data.
+     */
+    public int dataSize() {
+        return /*cache ID*/4 + /*page ID*/8 + /*base CRC*/4 + /*diff size*/4 + diff.length;
+    }
+
+    /**
+     * @param buf Buffer.
+     */
+    public void toBytes(ByteBuffer buf) {
+        buf.putInt(groupId());
+        buf.putLong(pageId());
+
+        buf.putInt(baseCrc);
+        buf.putInt(diff.length);
+        buf.put(diff);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(PageSnapshotDiffRecord.class, this, "partId", PageIdUtils.partId(pageId()),
+            "diffSize", diff.length, "super", super.toString());
+    }
+}
@@ -82,6 +82,13 @@ public class CacheCompressionManager extends GridCacheManagerAdapter {
         }
     }
 
+    /**
+     * @return {@code True} if pages are compressed before they are written to disk.
+     */
+    public boolean isDiskPageCompressionEnabled() {
+        return diskPageCompression != DiskPageCompression.DISABLED;
+    }
+
     /**
      * @param page Page buffer.
      * @param store Page store.
@@ -35,6 +35,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -104,6 +105,7 @@ import org.apache.ignite.internal.processors.cache.local.atomic.GridLocalAtomicC
 import org.apache.ignite.internal.processors.cache.mvcc.DeadlockDetectionManager;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccCachingManager;
 import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
 import org.apache.ignite.internal.processors.cache.persistence.DatabaseLifecycleListener;
 import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.GridCacheOffheapManager;
@@ -194,6 +196,7 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ALLOW_START_CACHES_IN_PARALLEL;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_REMOVED_ENTRIES_TTL;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PARTITION_STATE_RESTORE_THREADS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SKIP_CONFIGURATION_CONSISTENCY_CHECK;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
@@ -254,6 +257,9 @@ public class GridCacheProcessor extends GridProcessorAdapter {
     /** MBean group for cache group metrics */
     private static final String CACHE_GRP_METRICS_MBEAN_GRP = "Cache groups";
 
+    /** Number of partitions of a group which states are restored by a single task on node start. */
+    private static final int PART_STATE_RESTORE_BATCH_SIZE = 16;
+
     /** Shared cache context. */
     private GridCacheSharedContext<?, ?> sharedCtx;
 
@@ -5439,7 +5445,10 @@ public class GridCacheProcessor extends GridProcessorAdapter {
         ) throws IgniteCheckedException {
             Collection<CacheGroupContext> cacheGrps = cacheGroups();
 
-            restorePartitionStates(cacheGrps, restoreState.partitionRecoveryStates());
+            DataStorageMetricsImpl metrics = mgr instanceof GridCacheDatabaseSharedManager ?
+                ((GridCacheDatabaseSharedManager)mgr).persistentStoreMetricsImpl() : null;
+
+            restorePartitionStates(cacheGrps, restoreState.partitionRecoveryStates(), metrics);
 
             // Start warm-up only after restoring memory storage, but before starting GridDiscoveryManager.
             if (!cacheGrps.isEmpty())
@@ -5447,48 +5456,101 @@ public class GridCacheProcessor extends GridProcessorAdapter {
         }
 
         /**
+         * Restores the partition states of the groups. The partitions are split into batches restored in parallel,
+         * so the partitions of a single large group are restored as concurrently as the partitions of many groups.
+         *
          * @param forGroups Cache groups.
          * @param partitionStates Partition states.
+         * @param metrics Data storage metrics.
          * @throws IgniteCheckedException If failed.
          */
         private void restorePartitionStates(
             Collection<CacheGroupContext> forGroups,
-            Map<GroupPartitionId, Integer> partitionStates
+            Map<GroupPartitionId, Integer> partitionStates,
+            @Nullable DataStorageMetricsImpl metrics
         ) throws IgniteCheckedException {
             long startRestorePart = U.currentTimeMillis();
 
             if (log.isInfoEnabled())
                 log.info("Restoring partition state for local groups.");
 
+            List<CacheGroupContext> grps = forGroups.stream()
+                .filter(grp -> grp.offheap().partitionStatesRestoreNeeded())
+                .collect(Collectors.toList());
+
             AtomicLong totalProcessed = new AtomicLong();
 
+            AtomicInteger grpsRestored = new AtomicInteger();
+
             AtomicReference<IgniteCheckedException> restoreStateError = new AtomicReference<>();
 
             StripedExecutor stripedExec = ctx.getStripedExecutorService();
 
+            int threads = IgniteSystemProperties.getInteger(IGNITE_PARTITION_STATE_RESTORE_THREADS,
+                stripedExec.stripesCount());
+
+            threads = Math.max(1, Math.min(threads, stripedExec.stripesCount()));
+
             int roundRobin = 0;
 
-            for (CacheGroupContext grp : forGroups) {
-                stripedExec.execute(roundRobin % stripedExec.stripesCount(), () -> {
-                    try {
-                        long processed = grp.offheap().restorePartitionStates(partitionStates);
+            for (CacheGroupContext grp : grps) {
+                int parts = grp.affinity().partitions();
 
-                        totalProcessed.addAndGet(processed);
-                    }
-                    catch (IgniteCheckedException | RuntimeException | Error e) {
-                        U.error(log, "Failed to restore partition state for " +
-                            "groupName=" + grp.name() + " groupId=" + grp.groupId(), e);
-
-                        restoreStateError.compareAndSet(
-                            null,
-                            e instanceof IgniteCheckedException
-                                ? ((IgniteCheckedException)e)
-                                : new IgniteCheckedException(e)
-                        );
-                    }
-                });
+                AtomicInteger batchesLeft = new AtomicInteger((parts + PART_STATE_RESTORE_BATCH_SIZE - 1) /
+                    PART_STATE_RESTORE_BATCH_SIZE);
+
+                AtomicLong grpProcessed = new AtomicLong();
+
+                for (int from = 0; from < parts; from += PART_STATE_RESTORE_BATCH_SIZE) {
+                    int from0 = from;
+                    int to = Math.min(from + PART_STATE_RESTORE_BATCH_SIZE, parts);
+
+                    stripedExec.execute(roundRobin++ % threads, () -> {
+                        // Fail fast, the node won't start anyway.
+                        if (restoreStateError.get() != null)
+                            return;
+
+                        try {
+                            long processed = 0;
 
-                roundRobin++;
+                            for (int p = from0; p < to; p++) {
+                                if (grp.offheap().restorePartitionState(p, partitionStates))
+                                    processed++;
+                            }
+
+                            grpProcessed.addAndGet(processed);
+
+                            long total = totalProcessed.addAndGet(processed);
+
+                            if (metrics != null)
+                                metrics.onPartitionStatesRestoreProgress(total, U.currentTimeMillis() - startRestorePart);
+
+                            if (batchesLeft.decrementAndGet() == 0) {
+                                grp.offheap().onPartitionStatesRestored();
+
+                                int restored = grpsRestored.incrementAndGet();
+
+                                if (log.isInfoEnabled()) {
+                                    log.info("Restored partition states of the group [grp=" + grp.cacheOrGroupName() +
+                                        ", partitionsProcessed=" + grpProcessed.get() +
+                                        ", groupsRestored=" + restored + '/' + grps.size() +
+                                        ", time=" + (U.currentTimeMillis() - startRestorePart) + "ms]");
+                                }
+                            }
+                        }
+                        catch (IgniteCheckedException | RuntimeException | Error e) {
+                            U.error(log, "Failed to restore partition state for " +
+                                "groupName=" + grp.name() + " groupId=" + grp.groupId(), e);
+
+                            restoreStateError.compareAndSet(
+                                null,
+                                e instanceof IgniteCheckedException
+                                    ? ((IgniteCheckedException)e)
+                                    : new IgniteCheckedException(e)
+                            );
+                        }
+                    });
+                }
             }
 
             try {
@@ -5503,11 +5565,17 @@ public class GridCacheProcessor extends GridProcessorAdapter {
             if (restoreStateError.get() != null)
                 throw restoreStateError.get();
 
+            long time = U.currentTimeMillis() - startRestorePart;
+
+            if (metrics != null)
+                metrics.onPartitionStatesRestoreProgress(totalProcessed.get(), time);
+
             if (log.isInfoEnabled())
                 log.info("Finished restoring partition state for local groups [" +
                     "groupsProcessed=" + forGroups.size() +
                     ", partitionsProcessed=" + totalProcessed.get() +
-                    ", time=" + (U.currentTimeMillis() - startRestorePart) + "ms]");
+                    ", threads=" + threads +
+                    ", time=" + time + "ms]");
         }
 
         /**
@@ -14,50 +14,105 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.ignite.internal.processors.cache;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.NodeStoppingException;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
 import org.apache.ignite.thread.IgniteThread;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.TTL_METRICS;
 
 /**
  * Periodically removes expired entities from caches with {@link CacheConfiguration#isEagerTtl()} flag set.
+ * <p>
+ * Expired entries are removed by a pool of cleanup workers. The partitions of the caches are distributed among
+ * the workers, so each pending entries tree is processed by a single worker and the workers do not contend with
+ * each other. A worker which has not caught up with the expired entries of its partitions processes more entries
+ * per pass and does not sleep between the passes until the backlog is cleared.
  */
 public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdapter {
+    /** @see IgniteSystemProperties#IGNITE_TTL_CLEANUP_WORKERS */
+    public static final int DFLT_TTL_CLEANUP_WORKERS = 4;
+
     /** Ttl cleanup worker thread sleep interval, ms. */
     private static final long CLEANUP_WORKER_SLEEP_INTERVAL = 500;
 
     /** Limit of expired entries processed by worker for certain cache in one pass. */
     private static final int CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT = 1000;
 
-    /** Cleanup worker. */
-    private CleanupWorker cleanupWorker;
+    /** Max limit of expired entries processed by worker for certain cache in one pass while expired entries remain. */
+    private static final int CLEANUP_WORKER_MAX_ENTRIES_PROCESS_LIMIT = 16_000;
+
+    /** Time interval of the removal rate metric, ms. */
+    private static final long REMOVAL_RATE_TIME_INTERVAL = 60_000;
+
+    /** Number of cleanup workers. */
+    private final int workersCnt = Math.max(1,
+        IgniteSystemProperties.getInteger(IGNITE_TTL_CLEANUP_WORKERS, DFLT_TTL_CLEANUP_WORKERS));
+
+    /** Cleanup workers. */
+    private List<CleanupWorker> cleanupWorkers;
 
     /** Lock on worker thread creation. */
     private final ReentrantLock lock = new ReentrantLock();
 
+    /**
+     * Guards the registered ttl managers from being unregistered, and their caches stopped, while the expiration
+     * is in progress. The read lock is held by the workers processing the caches concurrently.
+     */
+    private final ReadWriteLock expireLock = new ReentrantReadWriteLock();
+
     /** Map of registered ttl managers, where the cache id is used as the key. */
     private final Map<Integer, GridCacheTtlManager> mgrs = new ConcurrentHashMap<>();
 
+    /** Number of removed expired entries. */
+    private LongAdderMetric removedCnt;
+
+    /** Rate of removing expired entries. */
+    private HitRateMetric removalRate;
+
+    /** {@inheritDoc} */
+    @Override protected void start0() throws IgniteCheckedException {
+        MetricRegistry mreg = cctx.kernalContext().metric().registry(TTL_METRICS);
+
+        removedCnt = mreg.longAdderMetric("ExpiredEntriesRemoved",
+            "Number of expired entries removed by the TTL cleanup workers.");
+
+        removalRate = mreg.hitRateMetric("ExpiredEntriesRemovalRate",
+            "Number of expired entries removed by the TTL cleanup workers during the last minute.",
+            REMOVAL_RATE_TIME_INTERVAL,
+            HitRateMetric.DFLT_SIZE);
+
+        mreg.register("ExpiryLag", this::expiryLag,
+            "Time in milliseconds passed since the expire time of the oldest entry pending expire, " +
+                "0 if there are no entries which have expired yet.");
+    }
+
     /** {@inheritDoc} */
     @Override protected void onKernalStop0(boolean cancel) {
-        stopCleanupWorker();
+        stopCleanupWorkers();
     }
 
     /**
@@ -67,7 +122,7 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * */
     public void register(GridCacheTtlManager mgr) {
         if (mgrs.isEmpty())
-            startCleanupWorker();
+            startCleanupWorkers();
 
         mgrs.put(mgr.context().cacheId(), mgr);
     }
@@ -78,10 +133,17 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * @param mgr ttl manager of cache.
      * */
     public void unregister(GridCacheTtlManager mgr) {
-        mgrs.remove(mgr.context().cacheId());
+        expireLock.writeLock().lock();
+
+        try {
+            mgrs.remove(mgr.context().cacheId());
+        }
+        finally {
+            expireLock.writeLock().unlock();
+        }
 
         if (mgrs.isEmpty())
-            stopCleanupWorker();
+            stopCleanupWorkers();
     }
 
     /**
@@ -93,26 +155,71 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            return cleanupWorker != null;
+            return cleanupWorkers != null;
         }
         finally {
             lock.unlock();
         }
     }
 
+    /**
+     * @return Number of cleanup workers.
+     */
+    public int cleanupWorkers() {
+        return workersCnt;
+    }
+
+    /**
+     * @return Time passed since the expire time of the oldest entry pending expire, in milliseconds.
+     */
+    private long expiryLag() {
+        if (cctx.kernalContext().isStopping())
+            return 0;
+
+        long oldest = 0;
+
+        expireLock.readLock().lock();
+
+        try {
+            for (GridCacheTtlManager mgr : mgrs.values()) {
+                long expireTime = mgr.oldestExpireTime();
+
+                if (expireTime != 0 && (oldest == 0 || expireTime < oldest))
+                    oldest = expireTime;
+            }
+        }
+        catch (IgniteCheckedException | IgniteException e) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to get the expire time of the oldest pending entry: " + e);
+
+            return 0;
+        }
+        finally {
+            expireLock.readLock().unlock();
+        }
+
+        return oldest == 0 ? 0 : Math.max(0, U.currentTimeMillis() - oldest);
+    }
+
     /**
      *
      */
-    private void startCleanupWorker() {
+    private void startCleanupWorkers() {
         lock.lock();
 
         try {
-            if (cleanupWorker != null)
+            if (cleanupWorkers != null)
                 return;
 
-            cleanupWorker = new CleanupWorker();
+            cleanupWorkers = new ArrayList<>(workersCnt);
+
+            for (int i = 0; i < workersCnt; i++) {
+                CleanupWorker worker = new CleanupWorker(i);
+
+                cleanupWorkers.add(worker);
 
-            new IgniteThread(cleanupWorker).start();
+                new IgniteThread(worker).start();
+            }
         }
         finally {
             lock.unlock();
@@ -122,15 +229,15 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
     /**
      *
      */
-    private void stopCleanupWorker() {
+    private void stopCleanupWorkers() {
         lock.lock();
 
         try {
-            if (null != cleanupWorker) {
-                U.cancel(cleanupWorker);
-                U.join(cleanupWorker, log);
+            if (null != cleanupWorkers) {
+                U.cancel(cleanupWorkers);
+                U.join(cleanupWorkers, log);
 
-                cleanupWorker = null;
+                cleanupWorkers = null;
             }
         }
         finally {
@@ -142,12 +249,19 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * Entry cleanup worker.
      */
     private class CleanupWorker extends GridWorker {
+        /** Index of the worker. */
+        private final int idx;
+
         /**
          * Creates cleanup worker.
+         *
+         * @param idx Index of the worker.
          */
-        CleanupWorker() {
-            super(cctx.igniteInstanceName(), "ttl-cleanup-worker", cctx.logger(GridCacheSharedTtlCleanupManager.class),
-                cctx.kernalContext().workersRegistry());
+        CleanupWorker(int idx) {
+            super(cctx.igniteInstanceName(), "ttl-cleanup-worker-" + idx,
+                cctx.logger(GridCacheSharedTtlCleanupManager.class), cctx.kernalContext().workersRegistry());
+
+            this.idx = idx;
         }
 
         /** {@inheritDoc} */
@@ -174,24 +288,36 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                 assert !cctx.kernalContext().recoveryMode();
 
-                final AtomicBoolean expiredRemains = new AtomicBoolean();
+                int limit = CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT;
 
                 while (!isCancelled()) {
-                    expiredRemains.set(false);
+                    boolean expiredRemains = false;
 
-                    for (Map.Entry<Integer, GridCacheTtlManager> mgr : mgrs.entrySet()) {
+                    for (Integer cacheId : mgrs.keySet()) {
                         updateHeartbeat();
 
-                        Integer processedCacheID = mgr.getKey();
+                        int cleared;
 
                         // Need to be sure that the cache to be processed will not be unregistered and,
                         // therefore, stopped during the process of expiration is in progress.
-                        mgrs.computeIfPresent(processedCacheID, (id, m) -> {
-                            if (m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT))
-                                expiredRemains.set(true);
+                        expireLock.readLock().lock();
 
-                            return m;
-                        });
+                        try {
+                            GridCacheTtlManager mgr = mgrs.get(cacheId);
+
+                            cleared = mgr == null ? 0 : mgr.expire(idx, workersCnt, limit);
+                        }
+                        finally {
+                            expireLock.readLock().unlock();
+                        }
+
+                        if (cleared > 0) {
+                            removedCnt.add(cleared);
+                            removalRate.add(cleared);
+                        }
+
+                        if (cleared >= limit)
+                            expiredRemains = true;
 
                         if (isCancelled())
                             return;
@@ -199,8 +325,15 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                     updateHeartbeat();
 
-                    if (!expiredRemains.get())
+                    if (expiredRemains) {
+                        // Expiration falls behind, process more entries per pass until the backlog is cleared.
+                        limit = Math.min(limit * 2, CLEANUP_WORKER_MAX_ENTRIES_PROCESS_LIMIT);
+                    }
+                    else {
+                        limit = CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT;
+
                         U.sleep(CLEANUP_WORKER_SLEEP_INTERVAL);
+                    }
 
                     onIdle();
                 }
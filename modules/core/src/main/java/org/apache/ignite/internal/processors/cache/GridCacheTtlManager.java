@@ -212,30 +212,8 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         long now = U.currentTimeMillis();
 
         try {
-            if (pendingEntries != null) {
-                GridNearCacheAdapter nearCache = cctx.near();
-
-                GridCacheVersion obsoleteVer = null;
-
-                int limit = (-1 != amount) ? amount : pendingEntries.sizex();
-
-                for (int cnt = limit; cnt > 0; cnt--) {
-                    EntryWrapper e = pendingEntries.firstx();
-
-                    if (e == null || e.expireTime > now)
-                        break; // All expired entries are processed.
-
-                    if (pendingEntries.remove(e)) {
-                        if (obsoleteVer == null)
-                            obsoleteVer = cctx.cache().nextVersion();
-
-                        GridNearCacheEntry nearEntry = nearCache.peekExx(e.key);
-
-                        if (nearEntry != null)
-                            expireC.apply(nearEntry, obsoleteVer);
-                    }
-                }
-            }
+            if (pendingEntries != null)
+                expireNear(now, amount);
 
             if (!cctx.affinityNode())
                 return false;  /* Pending tree never contains entries for that cache */
@@ -278,6 +256,112 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         return false;
     }
 
+    /**
+     * Processes expired entries of the partitions assigned to one of the TTL cleanup workers. Unlike
+     * {@link #expire(int)}, the cleanup is not postponed for the whole cache when there is nothing to clean
+     * in the partitions of the worker, since the partitions of other workers may still have expired entries.
+     *
+     * @param worker Index of the worker.
+     * @param workers Number of the workers.
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @return Number of processed expired entries.
+     */
+    public int expire(int worker, int workers, int amount) {
+        // TTL manager is not initialized or eagerTtl disabled for cache.
+        if (!eagerTtlEnabled)
+            return 0;
+
+        assert cctx != null;
+
+        try {
+            int cleared = 0;
+
+            // Near entries are tracked on heap, so they are processed by the first worker only.
+            if (pendingEntries != null && worker == 0)
+                cleared += expireNear(U.currentTimeMillis(), amount);
+
+            if (!cctx.affinityNode() || !hasPendingEntries)
+                return cleared;
+
+            return cleared + cctx.offheap().expire(dhtCtx, expireC, worker, workers, amount);
+        }
+        catch (GridDhtInvalidPartitionException e) {
+            if (log.isDebugEnabled())
+                log.debug("Partition became invalid during rebalancing (will ignore): " + e.partition());
+        }
+        catch (IgniteCheckedException e) {
+            U.error(log, "Failed to process entry expiration: " + e, e);
+        }
+        catch (IgniteException e) {
+            if (e.hasCause(NodeStoppingException.class)) {
+                if (log.isDebugEnabled())
+                    log.debug("Failed to expire because node is stopped: " + e);
+            }
+            else
+                throw e;
+        }
+
+        return 0;
+    }
+
+    /**
+     * @param now Current time.
+     * @param amount Limit of processed entries, {@code -1} for no limit.
+     * @return Number of processed expired near entries.
+     */
+    private int expireNear(long now, int amount) {
+        GridNearCacheAdapter nearCache = cctx.near();
+
+        GridCacheVersion obsoleteVer = null;
+
+        int limit = (-1 != amount) ? amount : pendingEntries.sizex();
+
+        int cleared = 0;
+
+        for (int cnt = limit; cnt > 0; cnt--) {
+            EntryWrapper e = pendingEntries.firstx();
+
+            if (e == null || e.expireTime > now)
+                break; // All expired entries are processed.
+
+            if (pendingEntries.remove(e)) {
+                if (obsoleteVer == null)
+                    obsoleteVer = cctx.cache().nextVersion();
+
+                GridNearCacheEntry nearEntry = nearCache.peekExx(e.key);
+
+                if (nearEntry != null)
+                    expireC.apply(nearEntry, obsoleteVer);
+
+                cleared++;
+            }
+        }
+
+        return cleared;
+    }
+
+    /**
+     * @return Expire time of the oldest entry pending expire or {@code 0} if there are no such entries.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long oldestExpireTime() throws IgniteCheckedException {
+        long oldest = 0;
+
+        if (pendingEntries != null) {
+            EntryWrapper e = pendingEntries.firstx();
+
+            if (e != null)
+                oldest = e.expireTime;
+        }
+
+        if (!eagerTtlEnabled || !cctx.affinityNode() || !hasPendingEntries)
+            return oldest;
+
+        long expireTime = cctx.offheap().oldestExpireTime(dhtCtx);
+
+        return expireTime != 0 && (oldest == 0 || expireTime < oldest) ? expireTime : oldest;
+    }
+
     /**
      * @param cctx1 First cache context.
      * @param key1 Left key to compare.
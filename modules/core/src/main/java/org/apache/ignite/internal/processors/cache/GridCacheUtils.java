@@ -81,6 +81,7 @@ import org.apache.ignite.internal.processors.cache.transactions.IgniteTxEntry;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.cache.warmup.LoadAllWarmUpStrategy;
 import org.apache.ignite.internal.processors.cache.warmup.NoOpWarmUpStrategy;
+import org.apache.ignite.internal.processors.cache.warmup.PageDumpWarmUpStrategy;
 import org.apache.ignite.internal.processors.cache.warmup.WarmUpStrategy;
 import org.apache.ignite.internal.processors.cache.warmup.WarmUpStrategySupplier;
 import org.apache.ignite.internal.processors.cluster.DiscoveryDataClusterState;
@@ -2130,7 +2131,8 @@ public class GridCacheUtils {
             new LoadAllWarmUpStrategy(
                 kernalCtx.log(LoadAllWarmUpStrategy.class),
                 () -> kernalCtx.cache().cacheGroups()
-            )
+            ),
+            new PageDumpWarmUpStrategy(kernalCtx)
         };
 
         for (WarmUpStrategy<?> strategy : defStrats)
@@ -98,6 +98,29 @@ public interface IgniteCacheOffheapManager {
      */
     long restorePartitionStates(Map<GroupPartitionId, Integer> partitionRecoveryStates) throws IgniteCheckedException;
 
+    /**
+     * @return {@code True} if the partition states of the group are not restored yet.
+     */
+    boolean partitionStatesRestoreNeeded();
+
+    /**
+     * Pre-creates the partition if it resides in page memory or WAL and restores its state. Unlike
+     * {@link #restorePartitionStates(Map)} the partitions of the group may be restored concurrently,
+     * {@link #onPartitionStatesRestored()} is called after all of them.
+     *
+     * @param p Partition.
+     * @param partitionRecoveryStates Partition recovery states.
+     * @return {@code True} if the partition is processed.
+     * @throws IgniteCheckedException If failed.
+     */
+    boolean restorePartitionState(int p, Map<GroupPartitionId, Integer> partitionRecoveryStates)
+        throws IgniteCheckedException;
+
+    /**
+     * Marks the partition states of the group as restored.
+     */
+    void onPartitionStatesRestored();
+
     /**
      * Partition counter update callback. May be overridden by plugin-provided subclasses.
      *
@@ -177,6 +200,33 @@ public interface IgniteCacheOffheapManager {
     public boolean expire(GridCacheContext cctx, IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c, int amount)
         throws IgniteCheckedException;
 
+    /**
+     * Processes expired entries of the partitions assigned to one of the TTL cleanup workers. Each pending entries
+     * tree is assigned to a single worker, so the workers expire entries of different partitions concurrently.
+     *
+     * @param cctx Cache context.
+     * @param c Closure.
+     * @param worker Index of the worker.
+     * @param workers Number of the workers.
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @return Number of processed expired entries.
+     * @throws IgniteCheckedException If failed.
+     */
+    public int expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int worker,
+        int workers,
+        int amount
+    ) throws IgniteCheckedException;
+
+    /**
+     * @param cctx Cache context.
+     * @return Expire time of the oldest entry pending expire or {@code 0} if there are no such entries.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long oldestExpireTime(GridCacheContext cctx) throws IgniteCheckedException;
+
     /**
      * Gets the number of entries pending expire.
      *
@@ -195,6 +245,21 @@ public interface IgniteCacheOffheapManager {
     public void invoke(GridCacheContext cctx, KeyCacheObject key, GridDhtLocalPartition part, OffheapInvokeClosure c)
         throws IgniteCheckedException;
 
+    /**
+     * @param cctx Cache context.
+     * @param keys Keys sorted in the data tree order, i.e. by hash code.
+     * @param part Partition.
+     * @param clos Tree update closures, one for each key.
+     * @throws IgniteCheckedException If failed.
+     * @see CacheDataStore#invokeAll(GridCacheContext, List, List)
+     */
+    public void invokeAll(
+        GridCacheContext cctx,
+        List<? extends KeyCacheObject> keys,
+        GridDhtLocalPartition part,
+        List<? extends OffheapInvokeClosure> clos
+    ) throws IgniteCheckedException;
+
     /**
      * @param cctx Cache context.
      * @param key Key.
@@ -910,6 +975,21 @@ public interface IgniteCacheOffheapManager {
          */
         public void invoke(GridCacheContext cctx, KeyCacheObject key, OffheapInvokeClosure c) throws IgniteCheckedException;
 
+        /**
+         * Batched version of {@link #invoke(GridCacheContext, KeyCacheObject, OffheapInvokeClosure)}. Consecutive keys
+         * which fall into the same leaf page of the data tree are processed without descending from the tree root.
+         *
+         * @param cctx Cache context.
+         * @param keys Distinct keys sorted in the data tree order, i.e. by hash code.
+         * @param clos Closures, one for each key.
+         * @throws IgniteCheckedException If failed.
+         */
+        public void invokeAll(
+            GridCacheContext cctx,
+            List<? extends KeyCacheObject> keys,
+            List<? extends OffheapInvokeClosure> clos
+        ) throws IgniteCheckedException;
+
         /**
          *
          * @param cctx Cache context.
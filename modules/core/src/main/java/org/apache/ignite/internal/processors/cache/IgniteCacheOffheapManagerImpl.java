@@ -158,6 +158,9 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
     /** Batch size for cache removals during destroy. */
     private static final int BATCH_SIZE = 1000;
 
+    /** Number of expired rows removed from the pending tree by a single batch under checkpoint read lock. */
+    private static final int EXPIRE_BATCH_SIZE = 128;
+
     /** */
     protected GridCacheSharedContext ctx;
 
@@ -275,6 +278,24 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         return 0; // No-op.
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean partitionStatesRestoreNeeded() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean restorePartitionState(
+        int p,
+        Map<GroupPartitionId, Integer> partitionRecoveryStates
+    ) throws IgniteCheckedException {
+        return false; // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onPartitionStatesRestored() {
+        // No-op.
+    }
+
     /** {@inheritDoc} */
     @Override public void onKernalStop() {
         busyLock.block();
@@ -439,6 +460,16 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         dataStore(part).invoke(cctx, key, c);
     }
 
+    /** {@inheritDoc} */
+    @Override public void invokeAll(
+        GridCacheContext cctx,
+        List<? extends KeyCacheObject> keys,
+        GridDhtLocalPartition part,
+        List<? extends OffheapInvokeClosure> clos
+    ) throws IgniteCheckedException {
+        dataStore(part).invokeAll(cctx, keys, clos);
+    }
+
     /** {@inheritDoc} */
     @Override public void update(
         GridCacheContext cctx,
@@ -1364,6 +1395,25 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         return amount != -1 && cleared >= amount;
     }
 
+    /** {@inheritDoc} */
+    @Override public int expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int worker,
+        int workers,
+        int amount
+    ) throws IgniteCheckedException {
+        assert !cctx.isNear() : cctx.name();
+
+        assert pendingEntries != null;
+
+        // The pending tree is shared by all the partitions of the group, so it is processed by a single worker.
+        if (U.safeAbs(grp.groupId()) % workers != worker)
+            return 0;
+
+        return expireInternal(cctx, c, amount);
+    }
+
     /**
      * @param cctx Cache context.
      * @param c Closure.
@@ -1375,64 +1425,125 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
         int amount
+    ) throws IgniteCheckedException {
+        if (!busyLock.enterBusy())
+            return 0;
+
+        try {
+            return purgeExpired(cctx, pendingEntries, -1, c, amount);
+        }
+        finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /**
+     * Removes the expired rows from the pending tree and applies the expiry closure to their entries. The rows are
+     * removed from the tree by batches of leaf page operations, each batch under a separate checkpoint read lock,
+     * so a large amount does not delay checkpoints.
+     *
+     * @param cctx Cache context.
+     * @param pendingTree Pending entries tree.
+     * @param partId Partition of the pending rows or {@code -1} if the tree holds the rows of all the partitions.
+     * @param c Closure.
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @return cleared entries count.
+     * @throws IgniteCheckedException If failed.
+     */
+    protected static int purgeExpired(
+        GridCacheContext cctx,
+        PendingEntriesTree pendingTree,
+        int partId,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int amount
     ) throws IgniteCheckedException {
         long now = U.currentTimeMillis();
 
-        GridCacheVersion obsoleteVer = null;
+        PendingRow lower;
+        PendingRow upper;
 
-        GridCursor<PendingRow> cur;
+        if (cctx.group().sharedGroup()) {
+            lower = new PendingRow(cctx.cacheId());
+            upper = new PendingRow(cctx.cacheId(), now, 0);
+        }
+        else {
+            lower = null;
+            upper = new PendingRow(CU.UNDEFINED_CACHE_ID, now, 0);
+        }
 
-        cctx.shared().database().checkpointReadLock();
+        GridCacheVersion obsoleteVer = null;
 
-        try {
-            if (grp.sharedGroup())
-                cur = pendingEntries.find(new PendingRow(cctx.cacheId()), new PendingRow(cctx.cacheId(), now, 0));
-            else
-                cur = pendingEntries.find(null, new PendingRow(CU.UNDEFINED_CACHE_ID, now, 0));
+        int cleared = 0;
 
-            if (!cur.next())
-                return 0;
+        while (amount == -1 || cleared < amount) {
+            int batchSize = amount == -1 ? EXPIRE_BATCH_SIZE : Math.min(EXPIRE_BATCH_SIZE, amount - cleared);
 
-            if (!busyLock.enterBusy())
-                return 0;
+            List<PendingRow> rows = new ArrayList<>(batchSize);
 
-            try {
-                int cleared = 0;
+            cctx.shared().database().checkpointReadLock();
 
-                do {
-                    if (amount != -1 && cleared > amount)
-                        return cleared;
+            try {
+                GridCursor<PendingRow> cur = pendingTree.find(lower, upper);
 
+                while (rows.size() < batchSize && cur.next()) {
                     PendingRow row = cur.get();
 
-                    if (row.key.partition() == -1)
+                    assert row.key != null && row.link != 0 && row.expireTime != 0 : row;
+
+                    if (partId != -1)
+                        row.key.partition(partId);
+                    else if (row.key.partition() == -1)
                         row.key.partition(cctx.affinity().partition(row.key));
 
-                    assert row.key != null && row.link != 0 && row.expireTime != 0 : row;
+                    rows.add(row);
+                }
 
-                    if (pendingEntries.removex(row)) {
-                        if (obsoleteVer == null)
-                            obsoleteVer = cctx.cache().nextVersion();
+                if (rows.isEmpty())
+                    break;
 
-                        GridCacheEntryEx entry = cctx.cache().entryEx(row.key);
+                List<PendingRow> removed = pendingTree.removeAll(rows);
 
-                        if (entry != null)
-                            c.apply(entry, obsoleteVer);
-                    }
+                if (!removed.isEmpty() && obsoleteVer == null)
+                    obsoleteVer = cctx.cache().nextVersion();
 
-                    cleared++;
-                }
-                while (cur.next());
+                for (PendingRow row : removed) {
+                    GridCacheEntryEx entry = cctx.cache().entryEx(row.key);
 
-                return cleared;
+                    if (entry != null)
+                        c.apply(entry, obsoleteVer);
+                }
             }
             finally {
-                busyLock.leaveBusy();
+                cctx.shared().database().checkpointReadUnlock();
             }
+
+            cleared += rows.size();
+
+            if (rows.size() < batchSize)
+                break;
         }
-        finally {
-            cctx.shared().database().checkpointReadUnlock();
-        }
+
+        return cleared;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long oldestExpireTime(GridCacheContext cctx) throws IgniteCheckedException {
+        return pendingEntries != null ? oldestExpireTime(cctx, pendingEntries) : 0;
+    }
+
+    /**
+     * @param cctx Cache context.
+     * @param pendingTree Pending entries tree.
+     * @return Expire time of the first pending row of the cache or {@code 0} if there are no pending rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    protected static long oldestExpireTime(GridCacheContext cctx, PendingEntriesTree pendingTree)
+        throws IgniteCheckedException {
+        PendingRow bound = cctx.group().sharedGroup() ? new PendingRow(cctx.cacheId()) : null;
+
+        GridCursor<PendingRow> cur = pendingTree.find(bound, bound, PendingEntriesTree.WITHOUT_KEY);
+
+        return cur.next() ? cur.get().expireTime : 0;
     }
 
     /** {@inheritDoc} */
@@ -1746,6 +1857,47 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             dataTree.invoke(row, CacheDataRowAdapter.RowData.NO_KEY, c);
 
+            finishInvoke(cctx, row.key(), c);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void invokeAll(
+            GridCacheContext cctx,
+            List<? extends KeyCacheObject> keys,
+            List<? extends OffheapInvokeClosure> clos
+        ) throws IgniteCheckedException {
+            assert keys.size() == clos.size() : "keys=" + keys.size() + ", clos=" + clos.size();
+            assert cctx.shared().database().checkpointLockIsHeldByThread();
+
+            if (!busyLock.enterBusy())
+                throw new NodeStoppingException("Operation has been cancelled (node is stopping).");
+
+            int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
+
+            try {
+                List<CacheSearchRow> rows = new ArrayList<>(keys.size());
+
+                for (KeyCacheObject key : keys)
+                    rows.add(new SearchRow(cacheId, key));
+
+                dataTree.invokeAll(rows, CacheDataRowAdapter.RowData.NO_KEY, clos);
+
+                for (int i = 0; i < keys.size(); i++)
+                    finishInvoke(cctx, keys.get(i), clos.get(i));
+            }
+            finally {
+                busyLock.leaveBusy();
+            }
+        }
+
+        /**
+         * @param cctx Cache context.
+         * @param key Key.
+         * @param c Closure which has been invoked on the data tree.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void finishInvoke(GridCacheContext cctx, KeyCacheObject key, OffheapInvokeClosure c)
+            throws IgniteCheckedException {
             switch (c.operationType()) {
                 case PUT: {
                     assert c.newRow() != null : c;
@@ -1760,7 +1912,7 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 case REMOVE: {
                     CacheDataRow oldRow = c.oldRow();
 
-                    finishRemove(cctx, row.key(), oldRow);
+                    finishRemove(cctx, key, oldRow);
 
                     break;
                 }
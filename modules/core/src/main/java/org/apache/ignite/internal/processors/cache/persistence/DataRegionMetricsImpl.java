@@ -65,6 +65,15 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
     /** */
     private final LongAdderMetric readPages;
 
+    /** Number of page acquisitions served from memory. */
+    private final LongAdderMetric hitPages;
+
+    /** Number of pages loaded to memory by read-ahead. */
+    private final LongAdderMetric readAheadPages;
+
+    /** Number of lookups of absent keys answered by the partition Bloom filters. */
+    private final LongAdderMetric bloomFilterNegatives;
+
     /** */
     private final LongAdderMetric writtenPages;
 
@@ -168,6 +177,26 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         readPages = mreg.longAdderMetric("PagesRead",
             "Number of pages read from last restart.");
 
+        hitPages = mreg.longAdderMetric("PagesHit",
+            "Number of page acquisitions served from memory without reading from persistent storage from last restart.");
+
+        readAheadPages = mreg.longAdderMetric("PagesReadAhead",
+            "Number of pages loaded to memory in advance on sequential reads of partition files from last restart.");
+
+        bloomFilterNegatives = mreg.longAdderMetric("BloomFilterNegatives",
+            "Number of lookups of absent keys answered by the partition Bloom filters without reading the partition " +
+                "data trees from last restart.");
+
+        mreg.register("PagesHitRatio",
+            this::getPagesHitRatio,
+            "Ratio of page acquisitions served from memory to all page acquisitions which required a page read " +
+                "or found the page in memory.");
+
+        mreg.register("PageReplacementMode",
+            () -> String.valueOf(memPlcCfg.getPageReplacementMode()),
+            String.class,
+            "Page replacement algorithm used to rotate pages with persistent storage.");
+
         writtenPages = mreg.longAdderMetric("PagesWritten",
             "Number of pages written from last restart.");
 
@@ -395,6 +424,40 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
             readPages.increment();
     }
 
+    /**
+     * Updates number of pages loaded to memory by read-ahead.
+     */
+    public void onPageReadAhead() {
+        if (metricsEnabled)
+            readAheadPages.increment();
+    }
+
+    /**
+     * Updates number of lookups of absent keys answered by the partition Bloom filters.
+     */
+    public void onBloomFilterNegative() {
+        if (metricsEnabled)
+            bloomFilterNegatives.increment();
+    }
+
+    /**
+     * Updates page hits, i.e. page acquisitions which found the page in memory.
+     */
+    public void onPageHit() {
+        if (metricsEnabled)
+            hitPages.increment();
+    }
+
+    /**
+     * @return Ratio of page acquisitions served from memory, {@code 0} if there were no page acquisitions.
+     */
+    public double getPagesHitRatio() {
+        long hits = hitPages.value();
+        long total = hits + readPages.value();
+
+        return total == 0 ? 0 : (double)hits / total;
+    }
+
     /**
      * Updates page written.
      */
@@ -569,6 +632,9 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         largeEntriesPages.reset();
         dirtyPages.reset();
         readPages.reset();
+        hitPages.reset();
+        readAheadPages.reset();
+        bloomFilterNegatives.reset();
         writtenPages.reset();
         replacedPages.reset();
         offHeapSize.reset();
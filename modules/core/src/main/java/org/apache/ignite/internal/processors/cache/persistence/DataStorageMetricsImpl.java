@@ -17,17 +17,23 @@
 package org.apache.ignite.internal.processors.cache.persistence;
 
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import org.apache.ignite.DataRegionMetrics;
+import org.apache.ignite.configuration.WalCompactionCodec;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.processors.metric.GridMetricManager;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteOutClosure;
 import org.apache.ignite.mxbean.DataStorageMetricsMXBean;
 
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
 /**
  *
  */
@@ -74,6 +80,12 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
     /** */
     private final AtomicLongMetric lastCpCowPages;
 
+    /** Number of write operations issued to the page stores during the last checkpoint. */
+    private final AtomicLongMetric lastCpPageStoreWrites;
+
+    /** Average size of a write operation issued to the page stores during the last checkpoint. */
+    private final AtomicLongMetric lastCpAvgWriteSize;
+
     /** */
     private volatile long rateTimeInterval;
 
@@ -104,6 +116,31 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
     /** */
     private final AtomicLongMetric sparseStorageSize;
 
+    /** */
+    private final AtomicLongMetric recoveryUpdatesApplied;
+
+    /** */
+    private final AtomicLongMetric recoveryDuration;
+
+    /** */
+    private final AtomicLongMetric binaryRecoveryDuration;
+
+    /** */
+    private final AtomicLongMetric partStatesRestoreDuration;
+
+    /** */
+    private final AtomicLongMetric partStatesRestored;
+
+    /** Number of threads served by a single fsync of the WAL group commit. */
+    private final HistogramMetricImpl walGrpCommitBatchSize;
+
+    /** Time the threads wait for the fsync of the WAL group commit. */
+    private final HistogramMetricImpl walGrpCommitWaitTime;
+
+    /** WAL compaction metrics per codec. */
+    private final Map<WalCompactionCodec, WalCompactionMetrics> walCompactionMetrics =
+        new EnumMap<>(WalCompactionCodec.class);
+
     /**
      * @param mmgr Metrics manager.
      * @param metricsEnabled Metrics enabled flag.
@@ -175,6 +212,12 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
         lastCpCowPages = mreg.longMetric("LastCheckpointCopiedOnWritePagesNumber",
             "Number of pages copied to a temporary checkpoint buffer during the last checkpoint.");
 
+        lastCpPageStoreWrites = mreg.longMetric("LastCheckpointPageStoreWrites",
+            "Number of write operations issued to the page stores during the last checkpoint.");
+
+        lastCpAvgWriteSize = mreg.longMetric("LastCheckpointAvgWriteSize",
+            "Average size in bytes of a write operation issued to the page stores during the last checkpoint.");
+
         lastWalSegmentRollOverTime = mreg.longMetric("WalLastRollOverTime",
             "Time of the last WAL segment rollover.");
 
@@ -194,6 +237,36 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
         mreg.register("WalTotalSize",
             this::getWalTotalSize,
             "Total size in bytes for storage wal files.");
+
+        recoveryUpdatesApplied = mreg.longMetric("RecoveryUpdatesApplied",
+            "Number of logical updates applied from WAL during the last crash recovery.");
+
+        recoveryDuration = mreg.longMetric("RecoveryDuration",
+            "Duration of applying logical updates from WAL during the last crash recovery in milliseconds.");
+
+        mreg.register("RecoveryThroughput",
+            () -> recoveryDuration.value() == 0 ? 0 : recoveryUpdatesApplied.value() * 1000 / recoveryDuration.value(),
+            "Average number of logical updates per second applied from WAL during the last crash recovery.");
+
+        binaryRecoveryDuration = mreg.longMetric("BinaryRecoveryDuration",
+            "Duration of restoring the binary memory state on node start in milliseconds.");
+
+        partStatesRestoreDuration = mreg.longMetric("PartitionStatesRestoreDuration",
+            "Duration of restoring the partition states of the local cache groups on node start in milliseconds.");
+
+        partStatesRestored = mreg.longMetric("PartitionStatesRestored",
+            "Number of partitions which states are restored on node start.");
+
+        walGrpCommitBatchSize = mreg.histogram("WalGroupCommitBatchSize",
+            new long[] {1, 2, 4, 8, 16, 32, 64, 128, 256},
+            "Histogram of the number of threads served by a single fsync of the WAL group commit.");
+
+        walGrpCommitWaitTime = mreg.histogram("WalGroupCommitWaitTime",
+            new long[] {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 50_000, 100_000},
+            "Histogram of the time the threads wait for the fsync of the WAL group commit in microseconds.");
+
+        for (WalCompactionCodec codec : WalCompactionCodec.values())
+            walCompactionMetrics.put(codec, new WalCompactionMetrics(mmgr, codec));
     }
 
     /** {@inheritDoc} */
@@ -590,6 +663,8 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
      * @param totalPages Total number of all pages in checkpoint.
      * @param dataPages Total number of data pages in checkpoint.
      * @param cowPages Total number of COW-ed pages in checkpoint.
+     * @param pageStoreWrites Number of write operations issued to the page stores.
+     * @param avgWriteSize Average size of a write operation issued to the page stores in bytes.
      */
     public void onCheckpoint(
         long lockWaitDuration,
@@ -599,7 +674,9 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
         long duration,
         long totalPages,
         long dataPages,
-        long cowPages
+        long cowPages,
+        long pageStoreWrites,
+        long avgWriteSize
     ) {
         if (metricsEnabled) {
             lastCpLockWaitDuration.value(lockWaitDuration);
@@ -610,6 +687,8 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
             lastCpTotalPages.value(totalPages);
             lastCpDataPages.value(dataPages);
             lastCpCowPages.value(cowPages);
+            lastCpPageStoreWrites.value(pageStoreWrites);
+            lastCpAvgWriteSize.value(avgWriteSize);
 
             totalCheckpointTime.add(duration);
         }
@@ -653,6 +732,20 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
         walFsyncTimeNum.increment();
     }
 
+    /**
+     * @param batchSize Number of threads served by a single fsync of the WAL group commit.
+     */
+    public void onWalGroupCommit(int batchSize) {
+        walGrpCommitBatchSize.value(batchSize);
+    }
+
+    /**
+     * @param nanoTime Time a thread waited for the fsync of the WAL group commit, in nanoseconds.
+     */
+    public void onWalGroupCommitWait(long nanoTime) {
+        walGrpCommitWaitTime.value(nanoTime / 1_000);
+    }
+
     /**
      * @param num Number.
      */
@@ -660,6 +753,52 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
         walBuffPollSpinsNum.add(num);
     }
 
+    /**
+     * @param applied Number of logical updates applied from WAL so far.
+     * @param duration Duration of applying, in milliseconds.
+     */
+    public void onLogicalRecoveryProgress(long applied, long duration) {
+        recoveryUpdatesApplied.value(applied);
+        recoveryDuration.value(duration);
+    }
+
+    /**
+     * @param duration Duration of restoring the binary memory state, in milliseconds.
+     */
+    public void onBinaryRecoveryFinished(long duration) {
+        binaryRecoveryDuration.value(duration);
+    }
+
+    /**
+     * @param restored Number of partitions which states are restored so far.
+     * @param duration Duration of restoring, in milliseconds.
+     */
+    public void onPartitionStatesRestoreProgress(long restored, long duration) {
+        partStatesRestored.value(restored);
+        partStatesRestoreDuration.value(duration);
+    }
+
+    /**
+     * @param codec Codec.
+     * @param rawSize Size of the raw segment.
+     * @param compressedSize Size of the compressed segment.
+     * @param nanoTime Compression nano time.
+     */
+    public void onWalSegmentCompressed(WalCompactionCodec codec, long rawSize, long compressedSize, long nanoTime) {
+        if (metricsEnabled)
+            walCompactionMetrics.get(codec).onCompressed(rawSize, compressedSize, nanoTime);
+    }
+
+    /**
+     * @param codec Codec.
+     * @param rawSize Size of the decompressed segment.
+     * @param nanoTime Decompression nano time.
+     */
+    public void onWalSegmentDecompressed(WalCompactionCodec codec, long rawSize, long nanoTime) {
+        if (metricsEnabled)
+            walCompactionMetrics.get(codec).onDecompressed(rawSize, nanoTime);
+    }
+
     /**
      *
      */
@@ -671,4 +810,103 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
         walFsyncTimeDuration.reset(rateTimeInterval, subInts);
         walFsyncTimeNum.reset(rateTimeInterval, subInts);
     }
+
+    /**
+     * WAL archive compaction metrics of a codec.
+     */
+    private static class WalCompactionMetrics {
+        /** */
+        private final AtomicLongMetric compressedSegments;
+
+        /** */
+        private final AtomicLongMetric compressRawBytes;
+
+        /** */
+        private final AtomicLongMetric compressBytes;
+
+        /** */
+        private final AtomicLongMetric compressTime;
+
+        /** */
+        private final AtomicLongMetric decompressedSegments;
+
+        /** */
+        private final AtomicLongMetric decompressRawBytes;
+
+        /** */
+        private final AtomicLongMetric decompressTime;
+
+        /**
+         * @param mmgr Metrics manager.
+         * @param codec Codec.
+         */
+        WalCompactionMetrics(GridMetricManager mmgr, WalCompactionCodec codec) {
+            MetricRegistry mreg = mmgr.registry(
+                metricName(DATASTORAGE_METRIC_PREFIX, "walCompaction", codec.name().toLowerCase()));
+
+            compressedSegments = mreg.longMetric("CompressedSegments",
+                "Number of WAL archive segments compressed.");
+
+            compressRawBytes = mreg.longMetric("CompressedRawBytes",
+                "Total size of the raw WAL archive segments compressed, in bytes.");
+
+            compressBytes = mreg.longMetric("CompressedBytes",
+                "Total size of the WAL archive segments after compression, in bytes.");
+
+            compressTime = mreg.longMetric("CompressionTime",
+                "Total duration of WAL archive segments compression in microseconds.");
+
+            decompressedSegments = mreg.longMetric("DecompressedSegments",
+                "Number of WAL archive segments decompressed.");
+
+            decompressRawBytes = mreg.longMetric("DecompressedRawBytes",
+                "Total size of the WAL archive segments after decompression, in bytes.");
+
+            decompressTime = mreg.longMetric("DecompressionTime",
+                "Total duration of WAL archive segments decompression in microseconds.");
+
+            mreg.register("CompressionRatio",
+                () -> compressBytes.value() == 0 ? 0 : (double)compressRawBytes.value() / compressBytes.value(),
+                "Ratio of the raw to the compressed size of the WAL archive segments.");
+
+            mreg.register("CompressionThroughput",
+                () -> throughput(compressRawBytes.value(), compressTime.value()),
+                "Average number of raw bytes per second compressed.");
+
+            mreg.register("DecompressionThroughput",
+                () -> throughput(decompressRawBytes.value(), decompressTime.value()),
+                "Average number of raw bytes per second decompressed.");
+        }
+
+        /**
+         * @param rawSize Size of the raw segment.
+         * @param compressedSize Size of the compressed segment.
+         * @param nanoTime Compression nano time.
+         */
+        void onCompressed(long rawSize, long compressedSize, long nanoTime) {
+            compressedSegments.increment();
+            compressRawBytes.add(rawSize);
+            compressBytes.add(compressedSize);
+            compressTime.add(nanoTime / 1_000);
+        }
+
+        /**
+         * @param rawSize Size of the decompressed segment.
+         * @param nanoTime Decompression nano time.
+         */
+        void onDecompressed(long rawSize, long nanoTime) {
+            decompressedSegments.increment();
+            decompressRawBytes.add(rawSize);
+            decompressTime.add(nanoTime / 1_000);
+        }
+
+        /**
+         * @param bytes Bytes.
+         * @param micros Duration in microseconds.
+         * @return Bytes per second.
+         */
+        private static long throughput(long bytes, long micros) {
+            return micros == 0 ? 0 : (long)(bytes * 1_000_000d / micros);
+        }
+    }
 }
@@ -393,6 +393,30 @@ public abstract class DataStructure {
             arg, intArg, lockFailed, statHolder, pageIoRslvr);
     }
 
+    /**
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param h Handler.
+     * @param arg Argument.
+     * @param intArg Argument of type {@code int}.
+     * @param bufAddr Address of a buffer of the page size to copy the page to.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return Handler result or {@code null} if the page must be read under the read lock.
+     * @throws IgniteCheckedException If failed.
+     * @see PageHandler#readPageOptimistic
+     */
+    protected final <X, R> R readOptimistic(
+        long pageId,
+        long page,
+        PageHandler<X, R> h,
+        X arg,
+        int intArg,
+        long bufAddr,
+        IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        return PageHandler.readPageOptimistic(pageMem, grpId, pageId, page, h,
+            arg, intArg, bufAddr, statHolder, pageIoRslvr);
+    }
+
     /**
      * @param pageId Page ID.
      * @param init IO for new page initialization.
@@ -96,6 +96,7 @@ import org.apache.ignite.internal.pagemem.wal.record.RollbackRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WalRecordCacheGroupAware;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageDeltaRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageSnapshotDiffRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PartitionDestroyRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PartitionMetaStateRecord;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
@@ -118,6 +119,7 @@ import org.apache.ignite.internal.processors.cache.persistence.checkpoint.Checkp
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointStatus;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.Checkpointer;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.ReservationReason;
+import org.apache.ignite.internal.processors.cache.persistence.defragmentation.DefragmentationWorkflowCallback;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStore;
@@ -133,6 +135,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PagePartitionMetaIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
+import org.apache.ignite.internal.processors.cache.warmup.PageDumper;
 import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.processors.port.GridPortRecord;
 import org.apache.ignite.internal.processors.query.GridQueryProcessor;
@@ -178,6 +181,7 @@ import static org.apache.ignite.internal.processors.cache.distributed.dht.topolo
 import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.FINISHED;
 import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.LOCK_RELEASED;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointReadWriteLock.CHECKPOINT_LOCK_HOLD_COUNT;
+import static org.apache.ignite.internal.processors.cache.persistence.defragmentation.CachePartitionDefragmentationManager.DEFRAGMENTATION_MNTC_TASK_NAME;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.CORRUPTED_DATA_FILES_MNTC_TASK_NAME;
 import static org.apache.ignite.internal.util.IgniteUtils.checkpointBufferSize;
 
@@ -223,6 +227,12 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** @see IgniteSystemProperties#IGNITE_PDS_WAL_REBALANCE_THRESHOLD */
     public static final int DFLT_PDS_WAL_REBALANCE_THRESHOLD = 500;
 
+    /** @see IgniteSystemProperties#IGNITE_RECOVERY_BATCH_SIZE */
+    public static final int DFLT_RECOVERY_BATCH_SIZE = 64;
+
+    /** Interval of logging the progress of applying logical updates, in milliseconds. */
+    private static final long RECOVERY_PROGRESS_LOG_INTERVAL = 10_000;
+
     /** */
     private final int walRebalanceThreshold =
         getInteger(IGNITE_PDS_WAL_REBALANCE_THRESHOLD, DFLT_PDS_WAL_REBALANCE_THRESHOLD);
@@ -258,6 +268,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** */
     CheckpointManager checkpointManager;
 
+    /** Dumper of the pages loaded to the data regions warmed up with page dumps. */
+    @Nullable private volatile PageDumper pageDumper;
+
     /** Database configuration. */
     private final DataStorageConfiguration persistenceCfg;
 
@@ -312,6 +325,10 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     private final boolean recoveryVerboseLogging =
         getBoolean(IgniteSystemProperties.IGNITE_RECOVERY_VERBOSE_LOGGING, false);
 
+    /** Number of logical updates of a stripe applied by a single task during recovery. */
+    private final int recoveryBatchSize =
+        Math.max(1, getInteger(IgniteSystemProperties.IGNITE_RECOVERY_BATCH_SIZE, DFLT_RECOVERY_BATCH_SIZE));
+
     /** Page list cache limits per data region. */
     private final Map<String, AtomicLong> pageListCacheLimits = new ConcurrentHashMap<>();
 
@@ -670,8 +687,15 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         super.onActivate(ctx);
 
-        if (!cctx.kernalContext().clientNode())
+        if (!cctx.kernalContext().clientNode()) {
             finishRecovery();
+
+            PageDumper pageDumper0 = new PageDumper(cctx, storeMgr.workDir());
+
+            pageDumper0.start();
+
+            pageDumper = pageDumper0;
+        }
     }
 
     /** {@inheritDoc} */
@@ -887,8 +911,12 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             for (DatabaseLifecycleListener lsnr : getDatabaseListeners(cctx.kernalContext()))
                 lsnr.afterBinaryMemoryRestore(this, binaryState);
 
+            long duration = System.currentTimeMillis() - time;
+
+            persStoreMetrics.onBinaryRecoveryFinished(duration);
+
             if (log.isInfoEnabled())
-                log.info("Binary recovery performed in " + (System.currentTimeMillis() - time) + " ms.");
+                log.info("Binary recovery performed in " + duration + " ms.");
 
             return binaryState;
         }
@@ -902,6 +930,14 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
     /** {@inheritDoc} */
     @Override protected void onKernalStop0(boolean cancel) {
+        PageDumper pageDumper0 = pageDumper;
+
+        if (pageDumper0 != null) {
+            pageDumper0.stop(!cancel);
+
+            pageDumper = null;
+        }
+
         checkpointManager.stop(cancel);
 
         super.onKernalStop0(cancel);
@@ -1009,6 +1045,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             changeTracker,
             this,
             memMetrics,
+            plcCfg.getPageReplacementMode(),
             resolveThrottlingPolicy(),
             new IgniteOutClosure<CheckpointProgress>() {
                 @Override public CheckpointProgress apply() {
@@ -1017,6 +1054,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             }
         );
 
+        pageMem.readAheadPages(plcCfg.getReadAheadPages());
+
         memMetrics.pageMemory(pageMem);
 
         return pageMem;
@@ -1685,6 +1724,13 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         walTail = tailPointer(logicalState);
 
         cctx.wal().onDeActivate(kctx);
+
+        MaintenanceTask defragmentationTask = mntcRegistry.activeMaintenanceTask(DEFRAGMENTATION_MNTC_TASK_NAME);
+
+        if (defragmentationTask != null) {
+            mntcRegistry.registerWorkflowCallback(DEFRAGMENTATION_MNTC_TASK_NAME,
+                new DefragmentationWorkflowCallback(cctx, defragmentationTask));
+        }
     }
 
     /** */
@@ -1692,6 +1738,38 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         cctx.wal().resumeLogging(walTail);
     }
 
+    /**
+     * Writes the state restored on node start to the page stores without activation of the node, so that the page
+     * stores can be processed directly, e.g. by the maintenance actions. Logging is resumed only for the checkpoint,
+     * the checkpointer is stopped after it.
+     *
+     * @param reason Checkpoint reason.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void checkpointRestoredState(String reason) throws IgniteCheckedException {
+        checkpointManager.init();
+
+        resumeWalLogging();
+
+        walTail = null;
+
+        try {
+            checkpointManager.start();
+
+            CheckpointProgress chp = checkpointManager.forceCheckpoint(reason, null);
+
+            if (chp != null)
+                chp.futureFor(FINISHED).get();
+        }
+        finally {
+            checkpointManager.stop(false);
+
+            checkpointManager.unblockCheckpointLock();
+
+            cctx.wal().onDeActivate(cctx.kernalContext());
+        }
+    }
+
     /**
      * @param grpId Cache group id.
      * @param partId Partition ID.
@@ -1858,6 +1936,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         AtomicLong applied = new AtomicLong();
 
+        // Pages which images on disk are ahead of the bases of their logged diffs.
+        Set<FullPageId> skippedPages = ConcurrentHashMap.newKeySet();
+
         try {
             while (it.hasNextX()) {
                 if (applyError.get() != null)
@@ -1885,6 +1966,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                                     try {
                                         applyPageSnapshot(pageMem, pageSnapshot);
 
+                                        if (!skippedPages.isEmpty())
+                                            skippedPages.remove(pageSnapshot.fullPageId());
+
                                         applied.incrementAndGet();
                                     }
                                     catch (Throwable t) {
@@ -1961,7 +2045,10 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
                             stripedApplyPage((pageMem) -> {
                                 try {
-                                    applyPageDelta(pageMem, pageDelta, true);
+                                    if (pageDelta instanceof PageSnapshotDiffRecord)
+                                        applyPageSnapshotDiff(pageMem, (PageSnapshotDiffRecord)pageDelta, skippedPages);
+                                    else if (skippedPages.isEmpty() || !skippedPages.contains(pageDelta.fullPageId()))
+                                        applyPageDelta(pageMem, pageDelta, true);
 
                                     applied.incrementAndGet();
                                 }
@@ -2101,6 +2188,16 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         assert stripe >= 0 && stripe <= stripes : "idx=" + stripe + ", stripes=" + stripes;
 
+        stripedApply(run, stripe, exec, semaphore);
+    }
+
+    /**
+     * @param run Runnable task.
+     * @param stripe Stripe index.
+     * @param exec Striped executor.
+     * @param semaphore Semaphore limiting the number of concurrent tasks.
+     */
+    private void stripedApply(Runnable run, int stripe, StripedExecutor exec, Semaphore semaphore) {
         try {
             semaphore.acquire();
         }
@@ -2157,6 +2254,55 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         }
     }
 
+    /**
+     * Applies the diff if the page is the base image of the diff. Otherwise the page on disk is ahead of the base,
+     * which happens if the page is replaced or written by an unfinished checkpoint, and already contains the changes
+     * of the diff and of the following deltas of the page up to a snapshot or a diff which base matches the page.
+     *
+     * @param pageMem Page memory.
+     * @param diff Page snapshot diff.
+     * @param skippedPages Pages which images are ahead of the bases of their diffs.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void applyPageSnapshotDiff(
+        PageMemoryEx pageMem,
+        PageSnapshotDiffRecord diff,
+        Set<FullPageId> skippedPages
+    ) throws IgniteCheckedException {
+        int grpId = diff.groupId();
+        long pageId = diff.pageId();
+
+        // Unlike the other deltas the diff is applied to the image of the page on disk, so it has to be read.
+        long page = pageMem.acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false);
+
+        try {
+            long pageAddr = pageMem.writeLock(grpId, pageId, page, true);
+
+            boolean match = diff.matchesBase(pageAddr, pageMem.pageSize());
+
+            try {
+                if (match) {
+                    diff.applyDelta(pageMem, pageAddr);
+
+                    if (!skippedPages.isEmpty())
+                        skippedPages.remove(diff.fullPageId());
+                }
+                else {
+                    skippedPages.add(diff.fullPageId());
+
+                    if (log.isDebugEnabled())
+                        log.debug("Page is ahead of the base of the diff, skipping the diff [rec=" + diff + ']');
+                }
+            }
+            finally {
+                pageMem.writeUnlock(grpId, pageId, page, null, match, true);
+            }
+        }
+        finally {
+            pageMem.releasePage(grpId, pageId, page);
+        }
+    }
+
     /**
      * @param pageMem Page memory.
      * @param pageDeltaRecord Page delta record.
@@ -2338,6 +2484,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         Semaphore semaphore = new Semaphore(semaphorePertmits(exec));
 
+        StripedBatcher batcher = new StripedBatcher(exec, semaphore, recoveryBatchSize);
+
         Map<GroupPartitionId, Integer> partitionRecoveryStates = new HashMap<>();
 
         WALIterator it = cctx.wal().replay(status.startPtr, recordTypePredicate);
@@ -2345,6 +2493,10 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         RestoreLogicalState restoreLogicalState =
             new RestoreLogicalState(status, it, lastArchivedSegment, cacheGroupsPredicate, partitionRecoveryStates);
 
+        long records = 0;
+
+        long lastProgressLog = start;
+
         try {
             while (it.hasNextX()) {
                 WALRecord rec = restoreLogicalState.next();
@@ -2352,6 +2504,16 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                 if (rec == null)
                     break;
 
+                records++;
+
+                long now = U.currentTimeMillis();
+
+                if (now - lastProgressLog >= RECOVERY_PROGRESS_LOG_INTERVAL) {
+                    lastProgressLog = now;
+
+                    onLogicalUpdatesProgress(restoreLogicalState, records, applied.get(), now - start);
+                }
+
                 switch (rec.type()) {
                     case CHECKPOINT_RECORD: // Calculate initial partition states
                         CheckpointRecord cpRec = (CheckpointRecord)rec;
@@ -2402,7 +2564,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                             if (cacheDesc == null)
                                 continue;
 
-                            stripedApply(() -> {
+                            batcher.add(() -> {
                                 GridCacheContext cacheCtx = cctx.cacheContext(cacheId);
 
                                 if (skipRemovedIndexUpdates(cacheCtx.groupId(), PageIdAllocator.INDEX_PARTITION))
@@ -2419,7 +2581,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                                 }
 
                                 applied.incrementAndGet();
-                            }, cacheDesc.groupId(), dataEntry.partitionId(), exec, semaphore);
+                            }, cacheDesc.groupId(), dataEntry.partitionId());
                         }
 
                         break;
@@ -2457,6 +2619,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                     case META_PAGE_UPDATE_LAST_ALLOCATED_INDEX:
                         PageDeltaRecord pageDelta = (PageDeltaRecord)rec;
 
+                        // Keep the order of the page delta and the pending updates of the partition.
+                        batcher.flush();
+
                         stripedApplyPage((pageMem) -> {
                             try {
                                 applyPageDelta(pageMem, pageDelta, false);
@@ -2485,6 +2650,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                         // Skip other records.
                 }
             }
+
+            batcher.flush();
         }
         finally {
             it.close();
@@ -2495,9 +2662,13 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         awaitApplyComplete(exec, applyError);
 
+        long time = U.currentTimeMillis() - start;
+
+        persStoreMetrics.onLogicalRecoveryProgress(applied.get(), time);
+
         if (log.isInfoEnabled())
             log.info("Finished applying WAL changes [updatesApplied=" + applied +
-                ", time=" + (U.currentTimeMillis() - start) + " ms]");
+                ", time=" + time + " ms, throughput=" + throughput(applied.get(), time) + " updates/s]");
 
         for (DatabaseLifecycleListener lsnr : getDatabaseListeners(cctx.kernalContext()))
             lsnr.afterLogicalUpdatesApplied(this, restoreLogicalState);
@@ -2505,6 +2676,31 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         return restoreLogicalState;
     }
 
+    /**
+     * @param state Logical state.
+     * @param records Number of WAL records read.
+     * @param applied Number of updates applied.
+     * @param time Time since the start of applying, in milliseconds.
+     */
+    private void onLogicalUpdatesProgress(RestoreLogicalState state, long records, long applied, long time) {
+        persStoreMetrics.onLogicalRecoveryProgress(applied, time);
+
+        if (log.isInfoEnabled()) {
+            log.info("Applying lost cache updates in progress [records=" + records + ", updatesApplied=" + applied +
+                ", time=" + time + " ms, throughput=" + throughput(applied, time) + " updates/s" +
+                ", lastRead=" + state.lastReadRecordPointer() + ']');
+        }
+    }
+
+    /**
+     * @param cnt Count.
+     * @param time Time in milliseconds.
+     * @return Count per second.
+     */
+    private static long throughput(long cnt, long time) {
+        return time == 0 ? cnt : cnt * 1000 / time;
+    }
+
     /**
      * Convert {@link TransactionState} to Mvcc {@link TxState}.
      *
@@ -3425,4 +3621,81 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             return Collections.unmodifiableMap(partitionRecoveryStates);
         }
     }
+
+    /**
+     * Groups logical updates by stripes of the striped executor and submits them in batches: a task and a permit
+     * of the semaphore per batch rather than per update. Updates of a partition are mapped to the same stripe,
+     * so they are applied in the order they are added.
+     */
+    private class StripedBatcher {
+        /** Striped executor. */
+        private final StripedExecutor exec;
+
+        /** Semaphore limiting the number of concurrent tasks. */
+        private final Semaphore semaphore;
+
+        /** Batch size. */
+        private final int batchSize;
+
+        /** Pending batches by stripe. */
+        private final List<Runnable>[] batches;
+
+        /**
+         * @param exec Striped executor.
+         * @param semaphore Semaphore limiting the number of concurrent tasks.
+         * @param batchSize Batch size.
+         */
+        @SuppressWarnings("unchecked")
+        StripedBatcher(StripedExecutor exec, Semaphore semaphore, int batchSize) {
+            this.exec = exec;
+            this.semaphore = semaphore;
+            this.batchSize = batchSize;
+
+            batches = new List[exec.stripesCount()];
+        }
+
+        /**
+         * @param run Update to apply.
+         * @param grpId Group id.
+         * @param partId Partition id.
+         */
+        void add(Runnable run, int grpId, int partId) {
+            int stripe = U.stripeIdx(batches.length, grpId, partId);
+
+            List<Runnable> batch = batches[stripe];
+
+            if (batch == null)
+                batches[stripe] = batch = new ArrayList<>(batchSize);
+
+            batch.add(run);
+
+            if (batch.size() >= batchSize)
+                flush(stripe);
+        }
+
+        /**
+         * Submits all pending batches.
+         */
+        void flush() {
+            for (int i = 0; i < batches.length; i++)
+                flush(i);
+        }
+
+        /**
+         * @param stripe Stripe index.
+         */
+        private void flush(int stripe) {
+            List<Runnable> batch = batches[stripe];
+
+            if (F.isEmpty(batch))
+                return;
+
+            batches[stripe] = null;
+
+            stripedApply(() -> {
+                for (Runnable run : batch)
+                    run.run();
+            }, stripe, exec, semaphore);
+        }
+    }
 }
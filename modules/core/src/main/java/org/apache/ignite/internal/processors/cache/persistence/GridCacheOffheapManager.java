@@ -118,7 +118,6 @@ import org.apache.ignite.internal.util.lang.IgniteInClosure2X;
 import org.apache.ignite.internal.util.lang.IgnitePredicateX;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.X;
-import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiTuple;
@@ -606,118 +605,139 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
     /** {@inheritDoc} */
     @Override public long restorePartitionStates(Map<GroupPartitionId, Integer> partitionRecoveryStates) throws IgniteCheckedException {
-        if (grp.isLocal() || !grp.affinityNode() || !grp.dataRegion().config().isPersistenceEnabled())
-            return 0;
-
-        if (partitionStatesRestored)
+        if (!partitionStatesRestoreNeeded())
             return 0;
 
         long processed = 0;
 
-        PageMemoryEx pageMem = (PageMemoryEx)grp.dataRegion().pageMemory();
-
         for (int p = 0; p < grp.affinity().partitions(); p++) {
-            Integer recoverState = partitionRecoveryStates.get(new GroupPartitionId(grp.groupId(), p));
+            if (restorePartitionState(p, partitionRecoveryStates))
+                processed++;
+        }
 
-            long startTime = U.currentTimeMillis();
+        onPartitionStatesRestored();
 
-            if (ctx.pageStore().exists(grp.groupId(), p)) {
-                ctx.pageStore().ensure(grp.groupId(), p);
+        return processed;
+    }
 
-                if (ctx.pageStore().pages(grp.groupId(), p) <= 1) {
-                    if (log.isDebugEnabled())
-                        log.debug("Skipping partition on recovery (pages less than 1) " +
-                            "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ']');
+    /** {@inheritDoc} */
+    @Override public boolean partitionStatesRestoreNeeded() {
+        return !grp.isLocal() && grp.affinityNode() && grp.dataRegion().config().isPersistenceEnabled() &&
+            !partitionStatesRestored;
+    }
 
-                    continue;
-                }
+    /** {@inheritDoc} */
+    @Override public void onPartitionStatesRestored() {
+        partitionStatesRestored = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean restorePartitionState(
+        int p,
+        Map<GroupPartitionId, Integer> partitionRecoveryStates
+    ) throws IgniteCheckedException {
+        PageMemoryEx pageMem = (PageMemoryEx)grp.dataRegion().pageMemory();
+
+        Integer recoverState = partitionRecoveryStates.get(new GroupPartitionId(grp.groupId(), p));
+
+        long startTime = U.currentTimeMillis();
+
+        boolean processed = false;
 
+        if (ctx.pageStore().exists(grp.groupId(), p)) {
+            ctx.pageStore().ensure(grp.groupId(), p);
+
+            if (ctx.pageStore().pages(grp.groupId(), p) <= 1) {
                 if (log.isDebugEnabled())
-                    log.debug("Creating partition on recovery (exists in page store) " +
+                    log.debug("Skipping partition on recovery (pages less than 1) " +
                         "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ']');
 
-                processed++;
+                return false;
+            }
 
-                GridDhtLocalPartition part = grp.topology().forceCreatePartition(p);
+            if (log.isDebugEnabled())
+                log.debug("Creating partition on recovery (exists in page store) " +
+                    "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ']');
 
-                // Triggers initialization of existing(having datafile) partition before acquiring cp read lock.
-                part.dataStore().init();
+            processed = true;
 
-                ctx.database().checkpointReadLock();
+            GridDhtLocalPartition part = grp.topology().forceCreatePartition(p);
 
-                try {
-                    long partMetaId = pageMem.partitionMetaPageId(grp.groupId(), p);
-                    long partMetaPage = pageMem.acquirePage(grp.groupId(), partMetaId);
+            // Triggers initialization of existing(having datafile) partition before acquiring cp read lock.
+            part.dataStore().init();
 
-                    try {
-                        long pageAddr = pageMem.writeLock(grp.groupId(), partMetaId, partMetaPage);
+            ctx.database().checkpointReadLock();
 
-                        boolean changed = false;
+            try {
+                long partMetaId = pageMem.partitionMetaPageId(grp.groupId(), p);
+                long partMetaPage = pageMem.acquirePage(grp.groupId(), partMetaId);
 
-                        try {
-                            PagePartitionMetaIO io = PagePartitionMetaIO.VERSIONS.forPage(pageAddr);
+                try {
+                    long pageAddr = pageMem.writeLock(grp.groupId(), partMetaId, partMetaPage);
 
-                            if (recoverState != null) {
-                                changed = io.setPartitionState(pageAddr, (byte)recoverState.intValue());
+                    boolean changed = false;
 
-                                updateState(part, recoverState);
+                    try {
+                        PagePartitionMetaIO io = PagePartitionMetaIO.VERSIONS.forPage(pageAddr);
 
-                                if (log.isDebugEnabled())
-                                    log.debug("Restored partition state (from WAL) " +
-                                        "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ", state=" + part.state() +
-                                        ", updCntr=" + part.initialUpdateCounter() +
-                                        ", size=" + part.fullSize() + ']');
-                            }
-                            else {
-                                int stateId = io.getPartitionState(pageAddr);
+                        if (recoverState != null) {
+                            changed = io.setPartitionState(pageAddr, (byte)recoverState.intValue());
 
-                                updateState(part, stateId);
+                            updateState(part, recoverState);
 
-                                if (log.isDebugEnabled())
-                                    log.debug("Restored partition state (from page memory) " +
-                                        "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ", state=" + part.state() +
-                                        ", updCntr=" + part.initialUpdateCounter() + ", stateId=" + stateId +
-                                        ", size=" + part.fullSize() + ']');
-                            }
+                            if (log.isDebugEnabled())
+                                log.debug("Restored partition state (from WAL) " +
+                                    "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ", state=" + part.state() +
+                                    ", updCntr=" + part.initialUpdateCounter() +
+                                    ", size=" + part.fullSize() + ']');
                         }
-                        finally {
-                            pageMem.writeUnlock(grp.groupId(), partMetaId, partMetaPage, null, changed);
+                        else {
+                            int stateId = io.getPartitionState(pageAddr);
+
+                            updateState(part, stateId);
+
+                            if (log.isDebugEnabled())
+                                log.debug("Restored partition state (from page memory) " +
+                                    "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ", state=" + part.state() +
+                                    ", updCntr=" + part.initialUpdateCounter() + ", stateId=" + stateId +
+                                    ", size=" + part.fullSize() + ']');
                         }
                     }
                     finally {
-                        pageMem.releasePage(grp.groupId(), partMetaId, partMetaPage);
+                        pageMem.writeUnlock(grp.groupId(), partMetaId, partMetaPage, null, changed);
                     }
                 }
                 finally {
-                    ctx.database().checkpointReadUnlock();
+                    pageMem.releasePage(grp.groupId(), partMetaId, partMetaPage);
                 }
             }
-            else if (recoverState != null) { // Pre-create partition if having valid state.
-                GridDhtLocalPartition part = grp.topology().forceCreatePartition(p);
-
-                updateState(part, recoverState);
+            finally {
+                ctx.database().checkpointReadUnlock();
+            }
+        }
+        else if (recoverState != null) { // Pre-create partition if having valid state.
+            GridDhtLocalPartition part = grp.topology().forceCreatePartition(p);
 
-                processed++;
+            updateState(part, recoverState);
 
-                if (log.isDebugEnabled())
-                    log.debug("Restored partition state (from WAL) " +
-                        "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ", state=" + part.state() +
-                        ", updCntr=" + part.initialUpdateCounter() +
-                        ", size=" + part.fullSize() + ']');
-            }
-            else {
-                if (log.isDebugEnabled())
-                    log.debug("Skipping partition on recovery (no page store OR wal state) " +
-                        "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ']');
-            }
+            processed = true;
 
             if (log.isDebugEnabled())
-                log.debug("Finished restoring partition state " +
-                    "[grp=" + grp.cacheOrGroupName() + ", p=" + p +
-                    ", time=" + (U.currentTimeMillis() - startTime) + " ms]");
+                log.debug("Restored partition state (from WAL) " +
+                    "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ", state=" + part.state() +
+                    ", updCntr=" + part.initialUpdateCounter() +
+                    ", size=" + part.fullSize() + ']');
+        }
+        else {
+            if (log.isDebugEnabled())
+                log.debug("Skipping partition on recovery (no page store OR wal state) " +
+                    "[grp=" + grp.cacheOrGroupName() + ", p=" + p + ']');
         }
 
-        partitionStatesRestored = true;
+        if (log.isDebugEnabled())
+            log.debug("Finished restoring partition state " +
+                "[grp=" + grp.cacheOrGroupName() + ", p=" + p +
+                ", time=" + (U.currentTimeMillis() - startTime) + " ms]");
 
         return processed;
     }
@@ -1208,6 +1228,56 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         return false;
     }
 
+    /** {@inheritDoc} */
+    @Override public int expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int worker,
+        int workers,
+        int amount
+    ) throws IgniteCheckedException {
+        assert !cctx.isNear() : cctx.name();
+
+        // Prevent manager being stopped in the middle of pds operation.
+        if (!busyLock.enterBusy())
+            return 0;
+
+        try {
+            int cleared = 0;
+
+            for (CacheDataStore store : cacheDataStores()) {
+                // Each partition is processed by a single worker.
+                if (store.partId() % workers != worker)
+                    continue;
+
+                cleared += ((GridCacheDataStore)store).purgeExpired(cctx, c, unwindThrottlingTimeout,
+                    amount == -1 ? -1 : amount - cleared);
+
+                if (amount != -1 && cleared >= amount)
+                    break;
+            }
+
+            return cleared;
+        }
+        finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public long oldestExpireTime(GridCacheContext cctx) throws IgniteCheckedException {
+        long oldest = 0;
+
+        for (CacheDataStore store : cacheDataStores()) {
+            long expireTime = ((GridCacheDataStore)store).oldestExpireTime(cctx);
+
+            if (expireTime != 0 && (oldest == 0 || expireTime < oldest))
+                oldest = expireTime;
+        }
+
+        return oldest;
+    }
+
     /** {@inheritDoc} */
     @Override public long expiredSize() throws IgniteCheckedException {
         long size = 0;
@@ -1858,6 +1928,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         /** */
         private CacheDataTree dataTree;
 
+        /** Bloom filter of the partition keys, {@code null} if disabled. */
+        private volatile PartitionBloomFilter keyFilter;
+
         /**
          * @param partId Partition.
          * @param exists {@code True} if store exists.
@@ -2130,6 +2203,13 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                         pageMem.releasePage(grpId, partMetaId, partMetaPage);
                     }
 
+                    if (grp.dataRegion().config().isPartitionBloomFilterEnabled()) {
+                        // All the keys of a new partition are added on insertion, there is nothing to build.
+                        keyFilter = new PartitionBloomFilter(delegate0.fullSize(), treeRoot.isAllocated());
+
+                        rowStore.keyFilter(keyFilter);
+                    }
+
                     delegate = delegate0;
                 }
                 catch (Throwable ex) {
@@ -2721,6 +2801,19 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             delegate.invoke(cctx, key, c);
         }
 
+        /** {@inheritDoc} */
+        @Override public void invokeAll(
+            GridCacheContext cctx,
+            List<? extends KeyCacheObject> keys,
+            List<? extends OffheapInvokeClosure> clos
+        ) throws IgniteCheckedException {
+            assert grp.shared().database().checkpointLockIsHeldByThread();
+
+            CacheDataStore delegate = init0(false);
+
+            delegate.invokeAll(cctx, keys, clos);
+        }
+
         /** {@inheritDoc} */
         @Override public void remove(GridCacheContext cctx, KeyCacheObject key, int partId)
             throws IgniteCheckedException {
@@ -2735,12 +2828,81 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         @Override public CacheDataRow find(GridCacheContext cctx, KeyCacheObject key) throws IgniteCheckedException {
             CacheDataStore delegate = init0(true);
 
-            if (delegate != null)
+            if (delegate != null && mightContain(key))
                 return delegate.find(cctx, key);
 
             return null;
         }
 
+        /**
+         * @param key Key.
+         * @return {@code False} if the key is definitely absent in the partition.
+         */
+        private boolean mightContain(KeyCacheObject key) {
+            PartitionBloomFilter keyFilter0 = keyFilter;
+
+            if (keyFilter0 == null)
+                return true;
+
+            if (!keyFilter0.built()) {
+                if (keyFilter0.startBuild())
+                    grp.shared().kernalContext().getSystemExecutorService().execute(() -> buildKeyFilter(keyFilter0));
+
+                return true;
+            }
+
+            if (keyFilter0.mightContain(key.hashCode()))
+                return true;
+
+            grp.dataRegion().memoryMetrics().onBloomFilterNegative();
+
+            return false;
+        }
+
+        /**
+         * Adds the keys stored in the partition to the filter. Only the hashes stored in the data tree pages
+         * are read, the data pages are not touched.
+         *
+         * @param keyFilter0 Bloom filter of the partition keys.
+         */
+        private void buildKeyFilter(PartitionBloomFilter keyFilter0) {
+            boolean built = false;
+
+            if (busyLock.enterBusy()) {
+                try {
+                    GridDhtLocalPartition part = grp.topology().localPartition(partId);
+
+                    // Reservation prevents the partition eviction, its data tree can't be destroyed while scanned.
+                    if (part != null && part.reserve()) {
+                        try {
+                            GridCursor<? extends CacheDataRow> cur = dataTree.find(null, null,
+                                CacheDataRowAdapter.RowData.LINK_ONLY);
+
+                            while (cur.next())
+                                keyFilter0.add(cur.get().hash());
+
+                            built = true;
+                        }
+                        finally {
+                            part.release();
+                        }
+                    }
+                }
+                catch (IgniteCheckedException e) {
+                    U.warn(log, "Failed to build Bloom filter of the partition keys, the filter is disabled [grp=" +
+                        grp.cacheOrGroupName() + ", part=" + partId + ']', e);
+                }
+                finally {
+                    busyLock.leaveBusy();
+                }
+            }
+
+            if (built)
+                keyFilter0.onBuilt();
+            else
+                keyFilter0.onBuildFailed();
+        }
+
         /** {@inheritDoc} */
         @Override public CacheDataRow mvccFind(GridCacheContext cctx, KeyCacheObject key, MvccSnapshot snapshot)
             throws IgniteCheckedException {
@@ -2983,68 +3145,32 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                     return 0;
             }
 
-            cctx.shared().database().checkpointReadLock();
+            if (part != null && !part.reserve())
+                return 0;
 
             try {
-                if (part != null && !part.reserve())
+                if (part != null && part.state() != OWNING)
                     return 0;
 
-                try {
-                    if (part != null && part.state() != OWNING)
-                        return 0;
-
-                    long now = U.currentTimeMillis();
-
-                    GridCursor<PendingRow> cur;
-
-                    if (grp.sharedGroup())
-                        cur = pendingTree.find(new PendingRow(cctx.cacheId()), new PendingRow(cctx.cacheId(), now, 0));
-                    else
-                        cur = pendingTree.find(null, new PendingRow(CU.UNDEFINED_CACHE_ID, now, 0));
-
-                    if (!cur.next())
-                        return 0;
-
-                    GridCacheVersion obsoleteVer = null;
-
-                    int cleared = 0;
-
-                    do {
-                        PendingRow row = cur.get();
-
-                        if (amount != -1 && cleared > amount)
-                            return cleared;
-
-                        assert row.key != null && row.link != 0 && row.expireTime != 0 : row;
-
-                        row.key.partition(partId);
-
-                        if (pendingTree.removex(row)) {
-                            if (obsoleteVer == null)
-                                obsoleteVer = cctx.cache().nextVersion();
-
-                            GridCacheEntryEx e1 = cctx.cache().entryEx(row.key);
-
-                            if (e1 != null)
-                                c.apply(e1, obsoleteVer);
-                        }
-
-                        cleared++;
-                    }
-                    while (cur.next());
-
-                    return cleared;
-                }
-                finally {
-                    if (part != null)
-                        part.release();
-                }
+                return IgniteCacheOffheapManagerImpl.purgeExpired(cctx, pendingTree, partId, c, amount);
             }
             finally {
-                cctx.shared().database().checkpointReadUnlock();
+                if (part != null)
+                    part.release();
             }
         }
 
+        /**
+         * @param cctx Cache context.
+         * @return Expire time of the oldest entry pending expire or {@code 0} if there are no such entries.
+         * @throws IgniteCheckedException If failed.
+         */
+        public long oldestExpireTime(GridCacheContext cctx) throws IgniteCheckedException {
+            CacheDataStore delegate0 = init0(true);
+
+            return delegate0 == null ? 0 : IgniteCacheOffheapManagerImpl.oldestExpireTime(cctx, pendingTree);
+        }
+
         /** {@inheritDoc} */
         @Override public PendingEntriesTree pendingTree() {
             try {
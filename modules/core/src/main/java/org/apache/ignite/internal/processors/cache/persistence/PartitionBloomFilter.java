@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Bloom filter of the key hashes of a partition. Answers whether a key may be present in the partition, so lookups
+ * of absent keys do not descend the partition data tree.
+ * <p>
+ * Keys are added on every row insertion and are never removed, so removed keys are reported as possibly present.
+ * The filter grows by chaining a new bit set of the doubled capacity once the last one is half full, so the false
+ * positive rate stays bounded while the partition grows. Negative answers are given only after the filter is built,
+ * i.e. after the keys which had been stored in the partition before the filter was created are added.
+ */
+public class PartitionBloomFilter {
+    /** Bits per key. */
+    private static final int BITS_PER_KEY = 10;
+
+    /** Number of hash functions, optimal for {@link #BITS_PER_KEY}. */
+    private static final int HASHES = 7;
+
+    /** Minimal capacity. */
+    private static final long MIN_CAPACITY = 1024;
+
+    /** Max number of bits of a single bit set, {@code 2^31} bits take 256 MB. */
+    private static final long MAX_BITS = 1L << 31;
+
+    /** Filter is not built. */
+    private static final int NOT_BUILT = 0;
+
+    /** Filter is being built. */
+    private static final int BUILDING = 1;
+
+    /** Filter is built. */
+    private static final int BUILT = 2;
+
+    /** Filter build failed, the filter is not used. */
+    private static final int FAILED = 3;
+
+    /** Bit sets, keys are added to the last one. */
+    private volatile BitSet[] bitSets;
+
+    /** Build state. */
+    private final AtomicInteger state = new AtomicInteger(NOT_BUILT);
+
+    /**
+     * @param expectedKeys Expected number of keys.
+     * @param built {@code True} if the filter is created for an empty partition and doesn't need to be built.
+     */
+    public PartitionBloomFilter(long expectedKeys, boolean built) {
+        bitSets = new BitSet[] {new BitSet(Math.max(expectedKeys * 2, MIN_CAPACITY))};
+
+        if (built)
+            state.set(BUILT);
+    }
+
+    /**
+     * @param hash Key hash.
+     */
+    public void add(int hash) {
+        BitSet[] bitSets0 = bitSets;
+
+        BitSet bitSet = bitSets0[bitSets0.length - 1];
+
+        bitSet.add(hash);
+
+        if (bitSet.full())
+            grow(bitSet);
+    }
+
+    /**
+     * @param hash Key hash.
+     * @return {@code False} if the key is definitely absent in the partition, {@code true} if it may be present
+     * or the filter is not built yet.
+     */
+    public boolean mightContain(int hash) {
+        if (state.get() != BUILT)
+            return true;
+
+        for (BitSet bitSet : bitSets) {
+            if (bitSet.mightContain(hash))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return {@code True} if the filter can answer lookups.
+     */
+    public boolean built() {
+        return state.get() == BUILT;
+    }
+
+    /**
+     * Marks the filter as being built, the caller must add the keys stored in the partition and then
+     * call {@link #onBuilt()} or {@link #onBuildFailed()}.
+     *
+     * @return {@code True} if the build is started by the caller, {@code false} if the filter is built or
+     * is being built by another thread.
+     */
+    public boolean startBuild() {
+        return state.compareAndSet(NOT_BUILT, BUILDING);
+    }
+
+    /**
+     * Completes the build.
+     */
+    public void onBuilt() {
+        boolean res = state.compareAndSet(BUILDING, BUILT);
+
+        assert res;
+    }
+
+    /**
+     * Disables the filter if it could not be built.
+     */
+    public void onBuildFailed() {
+        state.compareAndSet(BUILDING, FAILED);
+    }
+
+    /**
+     * @param full Full bit set.
+     */
+    private synchronized void grow(BitSet full) {
+        BitSet[] bitSets0 = bitSets;
+
+        if (bitSets0[bitSets0.length - 1] != full)
+            return;
+
+        BitSet[] newBitSets = new BitSet[bitSets0.length + 1];
+
+        System.arraycopy(bitSets0, 0, newBitSets, 0, bitSets0.length);
+
+        newBitSets[bitSets0.length] = new BitSet(full.capacity * 2);
+
+        bitSets = newBitSets;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(PartitionBloomFilter.class, this, "bitSets", bitSets.length, "built", built());
+    }
+
+    /**
+     * Bit set of a fixed size.
+     */
+    private static class BitSet {
+        /** Capacity in keys. */
+        private final long capacity;
+
+        /** Bits. */
+        private final AtomicLongArray words;
+
+        /** Mask of the bit index. */
+        private final long mask;
+
+        /** Number of set bits. */
+        private final AtomicLong setBits = new AtomicLong();
+
+        /**
+         * @param capacity Capacity in keys.
+         */
+        private BitSet(long capacity) {
+            long bits = Math.min(Long.highestOneBit(Math.max(capacity * BITS_PER_KEY, Long.SIZE) - 1) << 1, MAX_BITS);
+
+            this.capacity = capacity;
+
+            words = new AtomicLongArray((int)(bits / Long.SIZE));
+            mask = bits - 1;
+        }
+
+        /**
+         * @param hash Key hash.
+         */
+        private void add(int hash) {
+            long h = mix(hash);
+
+            int h1 = (int)h;
+            int h2 = (int)(h >>> 32) | 1;
+
+            for (int i = 0; i < HASHES; i++) {
+                long bit = (h1 + (long)i * h2) & mask;
+
+                int wordIdx = (int)(bit >>> 6);
+                long bitMask = 1L << bit;
+
+                for (;;) {
+                    long word = words.get(wordIdx);
+
+                    if ((word & bitMask) != 0)
+                        break;
+
+                    if (words.compareAndSet(wordIdx, word, word | bitMask)) {
+                        setBits.incrementAndGet();
+
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param hash Key hash.
+         * @return {@code False} if the key was definitely not added.
+         */
+        private boolean mightContain(int hash) {
+            long h = mix(hash);
+
+            int h1 = (int)h;
+            int h2 = (int)(h >>> 32) | 1;
+
+            for (int i = 0; i < HASHES; i++) {
+                long bit = (h1 + (long)i * h2) & mask;
+
+                if ((words.get((int)(bit >>> 6)) & (1L << bit)) == 0)
+                    return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * @return {@code True} if half of the bits is set, the false positive rate grows fast after that.
+         */
+        private boolean full() {
+            return setBits.get() > (mask + 1) / 2;
+        }
+
+        /**
+         * @param hash Key hash.
+         * @return 64-bit mix of the hash (finalizer of the MurmurHash3).
+         */
+        private static long mix(int hash) {
+            long h = hash;
+
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+
+            return h;
+        }
+    }
+}
@@ -60,15 +60,24 @@ public class RowStore {
      * @param freeList Free list.
      */
     public RowStore(CacheGroupContext grp, FreeList freeList) {
+        this(grp, freeList, grp.dataRegion().pageMemory());
+    }
+
+    /**
+     * @param grp Cache group.
+     * @param freeList Free list.
+     * @param pageMem Page memory the rows are stored in.
+     */
+    public RowStore(CacheGroupContext grp, FreeList freeList, PageMemory pageMem) {
         assert grp != null;
         assert freeList != null;
 
         this.grp = grp;
         this.freeList = freeList;
+        this.pageMem = pageMem;
 
         ctx = grp.shared();
         coctx = grp.cacheObjectContext();
-        pageMem = grp.dataRegion().pageMemory();
 
         persistenceEnabled = grp.dataRegion().config().isPersistenceEnabled();
     }
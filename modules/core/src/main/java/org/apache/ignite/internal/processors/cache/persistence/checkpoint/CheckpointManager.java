@@ -170,9 +170,10 @@ public class CheckpointManager {
 
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
             logger, snapshotMgr,
-            (pageMemEx, fullPage, buf, tag) -> pageStoreManager.write(fullPage.groupId(), fullPage.pageId(), buf, tag, true),
+            new PageStoreCheckpointPageWriter(pageStoreManager),
             persStoreMetrics,
             throttlingPolicy, threadBuf,
+            persistenceCfg.getCheckpointWriteBatchSize(),
             pageMemoryGroupResolver
         );
 
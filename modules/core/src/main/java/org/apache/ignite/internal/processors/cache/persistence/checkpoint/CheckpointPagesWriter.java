@@ -26,6 +26,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
@@ -39,8 +40,11 @@ import org.apache.ignite.internal.util.GridConcurrentMultiPairQueue;
 import org.apache.ignite.internal.util.future.CountDownFuture;
 import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
 import org.apache.ignite.internal.util.typedef.internal.LT;
+import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.internal.pagemem.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.pagemem.PageIdUtils.partId;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getType;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getVersion;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
@@ -76,6 +80,12 @@ public class CheckpointPagesWriter implements Runnable {
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
     private final ThreadLocal<ByteBuffer> threadBuf;
 
+    /**
+     * Thread local with buffers for the batches of adjacent pages written by one write operation
+     * or {@code null} if page writes are not coalesced.
+     */
+    @Nullable private final ThreadLocal<ByteBuffer[]> threadBatchBufs;
+
     /** Throttling policy according to the settings. */
     private final PageMemoryImpl.ThrottlingPolicy throttlingPolicy;
 
@@ -103,6 +113,8 @@ public class CheckpointPagesWriter implements Runnable {
      * @param log Logger.
      * @param dsMetrics Data storage metrics.
      * @param buf Thread local byte buffer.
+     * @param batchBufs Thread local buffers for the batches of adjacent pages or {@code null} if page writes
+     * are not coalesced.
      * @param throttlingPolicy Throttling policy.
      * @param pageMemoryGroupResolver Resolver of page memory by group id.
      * @param progress Checkpoint progress.
@@ -119,6 +131,7 @@ public class CheckpointPagesWriter implements Runnable {
         IgniteLogger log,
         DataStorageMetricsImpl dsMetrics,
         ThreadLocal<ByteBuffer> buf,
+        @Nullable ThreadLocal<ByteBuffer[]> batchBufs,
         PageMemoryImpl.ThrottlingPolicy throttlingPolicy,
         IgniteThrowableFunction<Integer, PageMemoryEx> pageMemoryGroupResolver,
         CheckpointProgressImpl progress,
@@ -134,6 +147,7 @@ public class CheckpointPagesWriter implements Runnable {
         this.log = log;
         this.persStoreMetrics = dsMetrics;
         this.threadBuf = buf;
+        this.threadBatchBufs = batchBufs;
         this.throttlingPolicy = throttlingPolicy;
         this.pageMemoryGroupResolver = pageMemoryGroupResolver;
         this.curCpProgress = progress;
@@ -180,45 +194,61 @@ public class CheckpointPagesWriter implements Runnable {
 
         Map<PageMemoryEx, PageStoreWriter> pageStoreWriters = new HashMap<>();
 
-        ByteBuffer tmpWriteBuf = threadBuf.get();
+        PageWriteBatch batch = threadBatchBufs == null ? null : new PageWriteBatch(threadBatchBufs.get());
+
+        ByteBuffer tmpWriteBuf = batch == null ? threadBuf.get() : null;
 
         boolean throttlingEnabled = throttlingPolicy != PageMemoryImpl.ThrottlingPolicy.DISABLED;
 
         GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
             new GridConcurrentMultiPairQueue.Result<>();
 
-        while (writePageIds.next(res)) {
-            if (shutdownNow.getAsBoolean())
-                break;
+        try {
+            while (writePageIds.next(res)) {
+                if (shutdownNow.getAsBoolean())
+                    break;
+
+                beforePageWrite.run();
+
+                FullPageId fullId = res.getValue();
 
-            beforePageWrite.run();
+                PageMemoryEx pageMem = res.getKey();
 
-            FullPageId fullId = res.getValue();
+                snapshotMgr.beforePageWrite(fullId);
 
-            PageMemoryEx pageMem = res.getKey();
+                ByteBuffer writeBuf = batch == null ? tmpWriteBuf : batch.freeBuffer();
 
-            snapshotMgr.beforePageWrite(fullId);
+                writeBuf.rewind();
 
-            tmpWriteBuf.rewind();
+                PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMem,
+                    pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry, batch));
 
-            PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMem, pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry));
+                pageMem.checkpointWritePage(fullId, writeBuf, pageStoreWriter, tracker);
 
-            pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
+                if (throttlingEnabled) {
+                    while (pageMem.shouldThrottle()) {
+                        FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
 
-            if (throttlingEnabled) {
-                while (pageMem.shouldThrottle()) {
-                    FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
+                        if (cpPageId.equals(FullPageId.NULL_PAGE))
+                            break;
 
-                    if (cpPageId.equals(FullPageId.NULL_PAGE))
-                        break;
+                        snapshotMgr.beforePageWrite(cpPageId);
 
-                    snapshotMgr.beforePageWrite(cpPageId);
+                        writeBuf = batch == null ? tmpWriteBuf : batch.freeBuffer();
 
-                    tmpWriteBuf.rewind();
+                        writeBuf.rewind();
 
-                    pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker);
+                        pageMem.checkpointWritePage(cpPageId, writeBuf, pageStoreWriter, tracker);
+                    }
                 }
             }
+
+            if (batch != null)
+                batch.flush();
+        }
+        finally {
+            if (batch != null)
+                batch.reset();
         }
 
         return pagesToRetry.isEmpty() ?
@@ -229,13 +259,15 @@ public class CheckpointPagesWriter implements Runnable {
     /**
      * Factory method for create {@link PageStoreWriter}.
      *
-     * @param pageMemEx
+     * @param pageMemEx Page memory.
      * @param pagesToRetry List pages for retry.
+     * @param batch Batch of adjacent pages to add the copied pages to or {@code null} if pages are written one by one.
      * @return Checkpoint page write context.
      */
     private PageStoreWriter createPageStoreWriter(
         PageMemoryEx pageMemEx,
-        Map<PageMemoryEx, List<FullPageId>> pagesToRetry
+        Map<PageMemoryEx, List<FullPageId>> pagesToRetry,
+        @Nullable PageWriteBatch batch
     ) {
         return new PageStoreWriter() {
             /** {@inheritDoc} */
@@ -262,14 +294,162 @@ public class CheckpointPagesWriter implements Runnable {
 
                 curCpProgress.updateWrittenPages(1);
 
+                if (batch != null) {
+                    batch.add(pageMemEx, fullPageId, buf, tag);
+
+                    return;
+                }
+
+                int size = buf.remaining();
+
                 PageStore store = pageWriter.write(pageMemEx, fullPageId, buf, tag);
 
+                tracker.onPageStoreWrite(size);
+
                 updStores.computeIfAbsent(store, k -> new LongAdder()).increment();
             }
         };
     }
 
-    /** Interface which allows to write one page to page store. */
+    /**
+     * Batch of pages with adjacent indexes in the same partition which are written to the page store at once.
+     * The pages stay pinned in page memory until the batch is written, otherwise a clean page could be replaced
+     * and read back from disk before its content reaches the page store.
+     */
+    private class PageWriteBatch {
+        /** Page buffers, the buffer following the last page of the batch is used to copy the next page. */
+        private final ByteBuffer[] bufs;
+
+        /** Page IDs. */
+        private final long[] pageIds;
+
+        /** Pointers to the pinned pages. */
+        private final long[] pagePtrs;
+
+        /** Page memory of the pages. */
+        private PageMemoryEx pageMem;
+
+        /** Cache group ID. */
+        private int grpId;
+
+        /** Partition file version. */
+        private int tag;
+
+        /** Number of pages in the batch. */
+        private int cnt;
+
+        /**
+         * @param bufs Page buffers.
+         */
+        PageWriteBatch(ByteBuffer[] bufs) {
+            this.bufs = bufs;
+
+            pageIds = new long[bufs.length];
+            pagePtrs = new long[bufs.length];
+        }
+
+        /**
+         * @return Buffer to copy the next page to.
+         */
+        ByteBuffer freeBuffer() {
+            return bufs[cnt];
+        }
+
+        /**
+         * Adds the page copied to the {@link #freeBuffer()}. The batch is written if the page is not adjacent
+         * to the last page of the batch or the batch is full.
+         *
+         * @param pageMem Page memory.
+         * @param fullId Full page ID.
+         * @param buf Buffer with the page content.
+         * @param tag Partition file version.
+         * @throws IgniteCheckedException If failed.
+         */
+        void add(PageMemoryEx pageMem, FullPageId fullId, ByteBuffer buf, int tag) throws IgniteCheckedException {
+            assert buf == bufs[cnt] : "Page is not copied to the free buffer of the batch [pageId=" +
+                hexLong(fullId.pageId()) + ']';
+
+            long pageId = fullId.pageId();
+
+            if (cnt > 0 && !adjacent(pageMem, fullId.groupId(), pageId, tag)) {
+                int slot = cnt;
+
+                flush();
+
+                // Move the copied page to the head of the batch.
+                bufs[slot] = bufs[0];
+                bufs[0] = buf;
+            }
+
+            if (cnt == 0) {
+                this.pageMem = pageMem;
+                this.grpId = fullId.groupId();
+                this.tag = tag;
+            }
+
+            // The page is still pinned by the copy, so it can't be replaced in between.
+            pagePtrs[cnt] = pageMem.acquirePage(fullId.groupId(), pageId, IoStatisticsHolderNoOp.INSTANCE);
+            pageIds[cnt] = pageId;
+
+            cnt++;
+
+            if (cnt == bufs.length)
+                flush();
+        }
+
+        /**
+         * @param pageMem Page memory.
+         * @param grpId Cache group ID.
+         * @param pageId Page ID.
+         * @param tag Partition file version.
+         * @return {@code True} if the page directly follows the last page of the batch in the same partition file.
+         */
+        private boolean adjacent(PageMemoryEx pageMem, int grpId, long pageId, int tag) {
+            long lastPageId = pageIds[cnt - 1];
+
+            return this.pageMem == pageMem && this.grpId == grpId && this.tag == tag &&
+                partId(lastPageId) == partId(pageId) && pageIndex(lastPageId) + 1 == pageIndex(pageId);
+        }
+
+        /**
+         * Writes the pages of the batch to the page store.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        void flush() throws IgniteCheckedException {
+            if (cnt == 0)
+                return;
+
+            try {
+                long size = 0;
+
+                for (int i = 0; i < cnt; i++)
+                    size += bufs[i].remaining();
+
+                PageStore store = pageWriter.write(pageMem, grpId, pageIds, bufs, cnt, tag);
+
+                tracker.onPageStoreWrite(size);
+
+                updStores.computeIfAbsent(store, k -> new LongAdder()).add(cnt);
+            }
+            finally {
+                reset();
+            }
+        }
+
+        /**
+         * Releases the pages of the batch without writing them.
+         */
+        void reset() {
+            for (int i = 0; i < cnt; i++)
+                pageMem.releasePage(grpId, pageIds[i], pagePtrs[i]);
+
+            cnt = 0;
+            pageMem = null;
+        }
+    }
+
+    /** Interface which allows to write pages to page store. */
     public interface CheckpointPageWriter {
         /**
          *
@@ -282,5 +462,33 @@ public class CheckpointPagesWriter implements Runnable {
          */
         PageStore write(PageMemoryEx pageMemEx, FullPageId fullPageId, ByteBuffer buf, int tag)
             throws IgniteCheckedException;
+
+        /**
+         * Writes a run of pages with adjacent indexes of the same partition.
+         *
+         * @param pageMemEx Page memory from which pages should be written.
+         * @param grpId Cache group ID.
+         * @param pageIds Page IDs sorted by page index.
+         * @param bufs Page buffers.
+         * @param cnt Number of pages to write.
+         * @param tag Page tag.
+         * @return {@link PageStore} which was used to write.
+         * @throws IgniteCheckedException if fail.
+         */
+        default PageStore write(
+            PageMemoryEx pageMemEx,
+            int grpId,
+            long[] pageIds,
+            ByteBuffer[] bufs,
+            int cnt,
+            int tag
+        ) throws IgniteCheckedException {
+            PageStore store = null;
+
+            for (int i = 0; i < cnt; i++)
+                store = write(pageMemEx, new FullPageId(pageIds[i], grpId), bufs[i], tag);
+
+            return store;
+        }
     }
 }
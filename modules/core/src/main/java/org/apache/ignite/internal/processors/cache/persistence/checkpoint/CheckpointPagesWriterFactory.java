@@ -39,6 +39,7 @@ import org.apache.ignite.internal.util.GridConcurrentMultiPairQueue;
 import org.apache.ignite.internal.util.future.CountDownFuture;
 import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
 /**
@@ -59,6 +60,15 @@ public class CheckpointPagesWriterFactory {
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
     private volatile ThreadLocal<ByteBuffer> threadBuf;
 
+    /** Max number of adjacent pages written by one write operation. */
+    private final int writeBatchSize;
+
+    /**
+     * Thread local with buffers for the batches of adjacent pages written by one write operation
+     * or {@code null} if page writes are not coalesced.
+     */
+    @Nullable private volatile ThreadLocal<ByteBuffer[]> threadBatchBufs;
+
     /** Throttling policy according to the settings. */
     private final PageMemoryImpl.ThrottlingPolicy throttlingPolicy;
 
@@ -75,6 +85,7 @@ public class CheckpointPagesWriterFactory {
      * @param persStoreMetrics Persistence metrics.
      * @param throttlingPolicy Throttling policy.
      * @param threadBuf Thread write buffer.
+     * @param writeBatchSize Max number of adjacent pages written by one write operation.
      * @param pageMemoryGroupResolver Page memory resolver.
      */
     CheckpointPagesWriterFactory(
@@ -84,12 +95,15 @@ public class CheckpointPagesWriterFactory {
         DataStorageMetricsImpl persStoreMetrics,
         PageMemoryImpl.ThrottlingPolicy throttlingPolicy,
         ThreadLocal<ByteBuffer> threadBuf,
+        int writeBatchSize,
         IgniteThrowableFunction<Integer, PageMemoryEx> pageMemoryGroupResolver
     ) {
         this.snapshotMgr = snapshotMgr;
         this.log = logger.apply(getClass());
         this.persStoreMetrics = persStoreMetrics;
         this.threadBuf = threadBuf;
+        this.writeBatchSize = writeBatchSize;
+        this.threadBatchBufs = batchBuffers(threadBuf);
         this.throttlingPolicy = throttlingPolicy;
         this.pageMemoryGroupResolver = pageMemoryGroupResolver;
         this.checkpointPageWriter = checkpointPageWriter;
@@ -124,6 +138,7 @@ public class CheckpointPagesWriterFactory {
             log,
             persStoreMetrics,
             threadBuf,
+            threadBatchBufs,
             throttlingPolicy,
             pageMemoryGroupResolver,
             curCpProgress,
@@ -200,5 +215,30 @@ public class CheckpointPagesWriterFactory {
      */
     public void threadBuf(ThreadLocal<ByteBuffer> threadBuf) {
         this.threadBuf = threadBuf;
+        this.threadBatchBufs = batchBuffers(threadBuf);
+    }
+
+    /**
+     * @param threadBuf Thread local byte buffer.
+     * @return Thread local with buffers for the batches of adjacent pages similar to the buffers of the given
+     * thread local or {@code null} if page writes are not coalesced.
+     */
+    @Nullable private ThreadLocal<ByteBuffer[]> batchBuffers(ThreadLocal<ByteBuffer> threadBuf) {
+        if (writeBatchSize <= 1)
+            return null;
+
+        return ThreadLocal.withInitial(() -> {
+            ByteBuffer buf = threadBuf.get();
+
+            ByteBuffer[] bufs = new ByteBuffer[writeBatchSize];
+
+            for (int i = 0; i < bufs.length; i++) {
+                bufs[i] = buf.isDirect() ? ByteBuffer.allocateDirect(buf.capacity()) : ByteBuffer.allocate(buf.capacity());
+
+                bufs[i].order(buf.order());
+            }
+
+            return bufs;
+        });
     }
 }
@@ -460,7 +460,7 @@ public class Checkpointer extends GridWorker {
 
                     log.info(String.format("Checkpoint finished [cpId=%s, pages=%d, markPos=%s, " +
                             "walSegmentsCleared=%d, walSegmentsCovered=%s, markDuration=%dms, pagesWrite=%dms, fsync=%dms, " +
-                            "total=%dms]",
+                            "total=%dms, pageStoreWrites=%d, avgWriteSize=%d]",
                         chp.cpEntry != null ? chp.cpEntry.checkpointId() : "",
                         chp.pagesSize,
                         chp.cpEntry != null ? chp.cpEntry.checkpointMark() : "",
@@ -469,7 +469,9 @@ public class Checkpointer extends GridWorker {
                         tracker.markDuration(),
                         tracker.pagesWriteDuration(),
                         tracker.fsyncDuration(),
-                        tracker.totalDuration()));
+                        tracker.totalDuration(),
+                        tracker.pageStoreWrites(),
+                        tracker.avgPageStoreWriteSize()));
                 }
             }
 
@@ -584,7 +586,9 @@ public class Checkpointer extends GridWorker {
                 tracker.totalDuration(),
                 chp.pagesSize,
                 tracker.dataPagesWritten(),
-                tracker.cowPagesWritten()
+                tracker.cowPagesWritten(),
+                tracker.pageStoreWrites(),
+                tracker.avgPageStoreWriteSize()
             );
         }
     }
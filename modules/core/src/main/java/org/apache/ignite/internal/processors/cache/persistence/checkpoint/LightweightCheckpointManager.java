@@ -138,11 +138,11 @@ public class LightweightCheckpointManager {
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
             logger,
             snapshotMgr,
-            (pageMemEx, fullPage, buf, tag) ->
-                pageStoreManager.write(fullPage.groupId(), fullPage.pageId(), buf, tag, true),
+            new PageStoreCheckpointPageWriter(pageStoreManager),
             persStoreMetrics,
             throttlingPolicy,
             threadBuf,
+            persistenceCfg.getCheckpointWriteBatchSize(),
             pageMemoryGroupResolver
         );
 
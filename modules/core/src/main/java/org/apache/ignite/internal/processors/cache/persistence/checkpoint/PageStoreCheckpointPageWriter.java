@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadWriteManager;
+
+/**
+ * Checkpoint page writer which writes pages to the page stores with CRC calculation. Runs of adjacent pages
+ * are passed to the page stores at once, so they can be written by a single gathering write.
+ */
+class PageStoreCheckpointPageWriter implements CheckpointPagesWriter.CheckpointPageWriter {
+    /** Page store manager. */
+    private final PageReadWriteManager pageStoreMgr;
+
+    /**
+     * @param pageStoreMgr Page store manager.
+     */
+    PageStoreCheckpointPageWriter(PageReadWriteManager pageStoreMgr) {
+        this.pageStoreMgr = pageStoreMgr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        PageMemoryEx pageMemEx,
+        FullPageId fullPageId,
+        ByteBuffer buf,
+        int tag
+    ) throws IgniteCheckedException {
+        return pageStoreMgr.write(fullPageId.groupId(), fullPageId.pageId(), buf, tag, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        PageMemoryEx pageMemEx,
+        int grpId,
+        long[] pageIds,
+        ByteBuffer[] bufs,
+        int cnt,
+        int tag
+    ) throws IgniteCheckedException {
+        return pageStoreMgr.write(grpId, pageIds, bufs, cnt, tag, true);
+    }
+}
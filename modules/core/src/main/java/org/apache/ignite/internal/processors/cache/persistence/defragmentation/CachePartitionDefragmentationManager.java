@@ -0,0 +1,651 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.defragmentation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.ignite.DataRegionMetricsProvider;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.internal.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.pagemem.store.PageStoreCollection;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager.CacheDataStore;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.evict.NoOpPageEvictionTracker;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.freelist.CacheFreeList;
+import org.apache.ignite.internal.processors.cache.persistence.freelist.SimpleDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadWriteManagerImpl;
+import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.internal.processors.cache.persistence.partstorage.PartitionMetaStorageImpl;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PagePartitionMetaIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PagePartitionMetaIOV3;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataRowStore;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
+import org.apache.ignite.internal.processors.cache.tree.DataRow;
+import org.apache.ignite.internal.processors.cache.tree.PendingEntriesTree;
+import org.apache.ignite.internal.processors.cache.tree.PendingRow;
+import org.apache.ignite.internal.util.GridMultiCollectionWrapper;
+import org.apache.ignite.internal.util.future.GridFinishedFuture;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.maintenance.MaintenanceTask;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.GridCacheOffheapManager.writeSharedGroupCacheSizes;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.PART_FILE_TEMPLATE;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.TMP_SUFFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Defragmentation of the partition files of persistent cache groups.
+ * <p>
+ * Partition files never shrink: pages released by removals stay in the free lists of a partition. Defragmentation
+ * copies the live rows of every partition of a group into a fresh partition file, building a new data tree and
+ * a new pending entries tree, and swaps the file in. It is executed in the maintenance mode after the memory is
+ * restored, so nothing else modifies the partitions:
+ * <ol>
+ *     <li>The restored state is checkpointed, so nothing is applied to the partition files from WAL on the next
+ *     start except for the logical records which are idempotent.</li>
+ *     <li>Partitions are copied one by one through a separate page memory which does not write WAL records and
+ *     writes pages to the temporary files next to the partition files.</li>
+ *     <li>The index partition of the group is removed, since row links change and SQL indexes have to be rebuilt
+ *     on the next start, then the temporary files replace the partition files.</li>
+ * </ol>
+ * Every step keeps the partition files valid, so a failed defragmentation is simply repeated on the next start.
+ * The node has to be restarted after defragmentation to start working with the new partition files.
+ *
+ * @see #schedule(GridKernalContext, Collection)
+ */
+public class CachePartitionDefragmentationManager {
+    /** Name of the defragmentation maintenance task. */
+    public static final String DEFRAGMENTATION_MNTC_TASK_NAME = "defragmentationMaintenanceTask";
+
+    /** Separator of the cache group names in the parameters of the maintenance task. */
+    private static final String GROUP_NAMES_SEPARATOR = ",";
+
+    /** Name of the data region used to build the new partition files. */
+    private static final String REGION_NAME = "defragmentationRegion";
+
+    /** Size of the data region used to build the new partition files. */
+    private static final long REGION_SIZE = 256L * 1024 * 1024;
+
+    /** Size of the checkpoint buffer of the data region used to build the new partition files. */
+    private static final long REGION_CP_BUF_SIZE = 32L * 1024 * 1024;
+
+    /** Number of segments of the data region used to build the new partition files. */
+    private static final int REGION_SEGMENTS = 4;
+
+    /** Shared context. */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** Names of the cache groups to defragment. */
+    private final Set<String> grpNames;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Temporary page stores of the partitions being built. */
+    private final PartitionStores stores = new PartitionStores();
+
+    /**
+     * @param cctx Shared context.
+     * @param grpNames Names of the cache groups to defragment.
+     */
+    public CachePartitionDefragmentationManager(GridCacheSharedContext<?, ?> cctx, Set<String> grpNames) {
+        this.cctx = cctx;
+        this.grpNames = grpNames;
+
+        log = cctx.logger(getClass());
+    }
+
+    /**
+     * Schedules defragmentation of the cache groups on the next start of the local node.
+     *
+     * @param ctx Kernal context.
+     * @param grpNames Names of the cache groups to defragment.
+     * @throws IgniteCheckedException If failed to register the maintenance task.
+     */
+    public static void schedule(GridKernalContext ctx, Collection<String> grpNames) throws IgniteCheckedException {
+        A.ensure(!F.isEmpty(grpNames), "Cache groups to defragment must be specified.");
+
+        ctx.maintenanceRegistry().registerMaintenanceTask(maintenanceTask(grpNames));
+    }
+
+    /**
+     * @param grpNames Names of the cache groups to defragment.
+     * @return Defragmentation maintenance task.
+     */
+    public static MaintenanceTask maintenanceTask(Collection<String> grpNames) {
+        return new MaintenanceTask(
+            DEFRAGMENTATION_MNTC_TASK_NAME,
+            "Cache groups defragmentation",
+            String.join(GROUP_NAMES_SEPARATOR, grpNames)
+        );
+    }
+
+    /**
+     * @param task Defragmentation maintenance task.
+     * @return Names of the cache groups to defragment.
+     */
+    public static Set<String> cacheGroupNames(MaintenanceTask task) {
+        String params = task.parameters();
+
+        if (F.isEmpty(params))
+            return Collections.emptySet();
+
+        Set<String> res = new LinkedHashSet<>();
+
+        for (String name : params.split(GROUP_NAMES_SEPARATOR)) {
+            if (!name.trim().isEmpty())
+                res.add(name.trim());
+        }
+
+        return res;
+    }
+
+    /**
+     * Defragments the partitions of the cache groups.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void executeDefragmentation() throws IgniteCheckedException {
+        List<CacheGroupContext> grps = new ArrayList<>();
+
+        for (String grpName : grpNames) {
+            CacheGroupContext grp = F.find(cctx.cache().cacheGroups(), null,
+                (CacheGroupContext g) -> grpName.equals(g.cacheOrGroupName()));
+
+            if (grp == null || !grp.persistenceEnabled())
+                U.warn(log, "Persistent cache group is not found, skipping defragmentation [grp=" + grpName + ']');
+            else if (grp.isLocal() || grp.mvccEnabled() || grp.config().isEncryptionEnabled()) {
+                U.warn(log, "Defragmentation of local, MVCC and encrypted cache groups is not supported, skipping " +
+                    "[grp=" + grpName + ']');
+            }
+            else
+                grps.add(grp);
+        }
+
+        if (grps.isEmpty())
+            return;
+
+        ((GridCacheDatabaseSharedManager)cctx.database()).checkpointRestoredState("before defragmentation");
+
+        DataRegion region = createDataRegion();
+
+        try {
+            for (CacheGroupContext grp : grps)
+                defragment(grp, region);
+        }
+        finally {
+            region.pageMemory().stop(true);
+
+            cctx.kernalContext().metric().remove(metricName(DATAREGION_METRICS_PREFIX, REGION_NAME));
+        }
+    }
+
+    /**
+     * @param grp Cache group.
+     * @param region Data region to build the new partition files.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void defragment(CacheGroupContext grp, DataRegion region) throws IgniteCheckedException {
+        long start = U.currentTimeMillis();
+
+        int grpId = grp.groupId();
+
+        FilePageStoreManager storeMgr = (FilePageStoreManager)cctx.pageStore();
+
+        File grpDir = storeMgr.cacheWorkDir(grp.sharedGroup(), grp.cacheOrGroupName());
+
+        Map<Integer, File> tmpFiles = new TreeMap<>();
+
+        long oldSize = 0;
+        long newSize = 0;
+
+        for (GridDhtLocalPartition part : grp.topology().currentLocalPartitions()) {
+            if (!storeMgr.exists(grpId, part.id()))
+                continue;
+
+            File partFile = new File(grpDir, format(PART_FILE_TEMPLATE, part.id()));
+            File tmpFile = new File(grpDir, partFile.getName() + TMP_SUFFIX);
+
+            defragmentPartition(grp, part, tmpFile, region);
+
+            oldSize += partFile.length();
+            newSize += tmpFile.length();
+
+            tmpFiles.put(part.id(), tmpFile);
+        }
+
+        PageMemoryEx grpPageMem = (PageMemoryEx)grp.dataRegion().pageMemory();
+
+        // Row links change, so SQL indexes are rebuilt from scratch on the next start.
+        storeMgr.getStore(grpId, INDEX_PARTITION).stop(true);
+
+        grpPageMem.invalidate(grpId, INDEX_PARTITION);
+
+        for (Map.Entry<Integer, File> e : tmpFiles.entrySet()) {
+            int partId = e.getKey();
+
+            storeMgr.getStore(grpId, partId).stop(false);
+
+            grpPageMem.invalidate(grpId, partId);
+
+            try {
+                Files.move(e.getValue().toPath(), new File(grpDir, format(PART_FILE_TEMPLATE, partId)).toPath(),
+                    REPLACE_EXISTING, ATOMIC_MOVE);
+            }
+            catch (IOException ex) {
+                throw new IgniteCheckedException("Failed to replace the partition file with the defragmented one " +
+                    "[grp=" + grp.cacheOrGroupName() + ", partId=" + partId + ']', ex);
+            }
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Cache group defragmented [grp=" + grp.cacheOrGroupName() + ", partitions=" + tmpFiles.size() +
+                ", oldSize=" + U.readableSize(oldSize, false) + ", newSize=" + U.readableSize(newSize, false) +
+                ", time=" + (U.currentTimeMillis() - start) + " ms]");
+        }
+    }
+
+    /**
+     * Copies the live rows of the partition to the temporary partition file.
+     *
+     * @param grp Cache group.
+     * @param part Partition.
+     * @param tmpFile Temporary partition file.
+     * @param region Data region to build the new partition file.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void defragmentPartition(
+        CacheGroupContext grp,
+        GridDhtLocalPartition part,
+        File tmpFile,
+        DataRegion region
+    ) throws IgniteCheckedException {
+        int grpId = grp.groupId();
+        int partId = part.id();
+
+        PageMemoryEx pageMem = (PageMemoryEx)region.pageMemory();
+
+        IoStatisticsHolder statHolder = grp.statisticsHolderData();
+
+        try {
+            Files.deleteIfExists(tmpFile.toPath());
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to delete the temporary partition file: " + tmpFile, e);
+        }
+
+        PageStore store = ((FilePageStoreManager)cctx.pageStore()).getPageStoreFactory(grpId, false)
+            .createPageStore(PageStore.TYPE_DATA, tmpFile::toPath, val -> {});
+
+        store.ensure();
+
+        stores.put(grpId, partId, store);
+
+        try {
+            long treeRoot = pageMem.allocatePage(grpId, partId, FLAG_AUX);
+            long reuseListRoot = pageMem.allocatePage(grpId, partId, FLAG_AUX);
+            long pendingTreeRoot = pageMem.allocatePage(grpId, partId, FLAG_AUX);
+            long partMetaStoreReuseListRoot = pageMem.allocatePage(grpId, partId, FLAG_AUX);
+
+            String name = grp.cacheOrGroupName() + "-defragmentation-" + partId;
+
+            CacheFreeList freeList = new CacheFreeList(
+                grpId,
+                name + "-freelist",
+                region.memoryMetrics(),
+                region,
+                null,
+                reuseListRoot,
+                true,
+                cctx.diagnostic().pageLockTracker().createPageLockTracker(name + "-freelist"),
+                cctx.kernalContext(),
+                null,
+                FLAG_AUX
+            ) {
+                /** {@inheritDoc} */
+                @Override protected long allocatePageNoReuse() throws IgniteCheckedException {
+                    return pageMem.allocatePage(grpId, partId, FLAG_AUX);
+                }
+            };
+
+            PartitionMetaStorageImpl<SimpleDataRow> partStorage = new PartitionMetaStorageImpl<SimpleDataRow>(
+                grpId,
+                name + "-partstore",
+                region.memoryMetrics(),
+                region,
+                freeList,
+                null,
+                partMetaStoreReuseListRoot,
+                true,
+                cctx.diagnostic().pageLockTracker().createPageLockTracker(name + "-partstore"),
+                cctx.kernalContext(),
+                null,
+                FLAG_AUX
+            ) {
+                /** {@inheritDoc} */
+                @Override protected long allocatePageNoReuse() throws IgniteCheckedException {
+                    return pageMem.allocatePage(grpId, partId, FLAG_AUX);
+                }
+            };
+
+            CacheDataTree dataTree = new CacheDataTree(
+                grp,
+                name + "-tree",
+                pageMem,
+                null,
+                freeList,
+                new CacheDataRowStore(grp, freeList, partId, pageMem),
+                treeRoot,
+                true,
+                cctx.diagnostic().pageLockTracker().createPageLockTracker(name + "-tree"),
+                FLAG_AUX
+            ) {
+                /** {@inheritDoc} */
+                @Override protected long allocatePageNoReuse() throws IgniteCheckedException {
+                    return pageMem.allocatePage(grpId, partId, FLAG_AUX);
+                }
+            };
+
+            PendingEntriesTree pendingTree = new PendingEntriesTree(
+                grp,
+                name + "-pending",
+                pageMem,
+                null,
+                pendingTreeRoot,
+                freeList,
+                true,
+                cctx.diagnostic().pageLockTracker().createPageLockTracker(name + "-pending"),
+                FLAG_AUX
+            ) {
+                /** {@inheritDoc} */
+                @Override protected long allocatePageNoReuse() throws IgniteCheckedException {
+                    return pageMem.allocatePage(grpId, partId, FLAG_AUX);
+                }
+            };
+
+            CacheDataStore oldStore = part.dataStore();
+
+            GridCursor<? extends CacheDataRow> cur = oldStore.cursor();
+
+            // Rows of the old tree are already sorted, so the new tree is built bottom-up with completely filled pages.
+            dataTree.bulkLoad(new GridCursor<CacheDataRow>() {
+                /** Current row. */
+                private DataRow row;
+
+                /** {@inheritDoc} */
+                @Override public boolean next() throws IgniteCheckedException {
+                    if (!pageMem.safeToUpdate())
+                        flush(pageMem);
+
+                    if (!cur.next())
+                        return false;
+
+                    CacheDataRow oldRow = cur.get();
+
+                    row = new DataRow(oldRow.key(), oldRow.value(), oldRow.version(), partId,
+                        oldRow.expireTime(), grp.storeCacheIdInDataPage() ? oldRow.cacheId() : CU.UNDEFINED_CACHE_ID);
+
+                    freeList.insertDataRow(row, statHolder);
+
+                    // Cache id is kept in the tree of a shared group even if it is not stored in the data page.
+                    row.cacheId(oldRow.cacheId());
+
+                    if (row.expireTime() != 0)
+                        pendingTree.putx(new PendingRow(row.cacheId(), row.expireTime(), row.link()));
+
+                    return true;
+                }
+
+                /** {@inheritDoc} */
+                @Override public CacheDataRow get() {
+                    return row;
+                }
+            });
+
+            byte[] gaps = oldStore.partUpdateCounter().getBytes();
+
+            long gapsLink = 0;
+
+            if (gaps != null) {
+                SimpleDataRow gapsRow = new SimpleDataRow(partId, gaps);
+
+                partStorage.insertDataRow(gapsRow, statHolder);
+
+                gapsLink = gapsRow.link();
+            }
+
+            long cntrsPageId = grp.sharedGroup() ?
+                writeSharedGroupCacheSizes(pageMem, grpId, 0, partId, oldStore.cacheSizes()) : 0;
+
+            freeList.saveMetadata(statHolder);
+            partStorage.saveMetadata(statHolder);
+
+            long partMetaId = pageMem.partitionMetaPageId(grpId, partId);
+            long partMetaPage = pageMem.acquirePage(grpId, partMetaId);
+
+            try {
+                long pageAddr = pageMem.writeLock(grpId, partMetaId, partMetaPage);
+
+                try {
+                    PagePartitionMetaIOV3 io = (PagePartitionMetaIOV3)PagePartitionMetaIO.VERSIONS.latest();
+
+                    io.initNewPage(pageAddr, partMetaId, pageMem.realPageSize(grpId));
+
+                    io.setTreeRoot(pageAddr, treeRoot);
+                    io.setReuseListRoot(pageAddr, reuseListRoot);
+                    io.setPendingTreeRoot(pageAddr, pendingTreeRoot);
+                    io.setPartitionMetaStoreReuseListRoot(pageAddr, partMetaStoreReuseListRoot);
+                    io.setSize(pageAddr, oldStore.fullSize());
+                    io.setUpdateCounter(pageAddr, oldStore.updateCounter());
+                    io.setGlobalRemoveId(pageAddr, grp.offheap().globalRemoveId().get());
+                    io.setPartitionState(pageAddr, (byte)part.state().ordinal());
+                    io.setCountersPageId(pageAddr, cntrsPageId);
+                    io.setGapsLink(pageAddr, gapsLink);
+                }
+                finally {
+                    pageMem.writeUnlock(grpId, partMetaId, partMetaPage, null, true);
+                }
+            }
+            finally {
+                pageMem.releasePage(grpId, partMetaId, partMetaPage);
+            }
+
+            flush(pageMem);
+
+            store.sync();
+        }
+        finally {
+            stores.remove(grpId, partId);
+
+            pageMem.invalidate(grpId, partId);
+
+            store.stop(false);
+        }
+    }
+
+    /**
+     * Writes all dirty pages of the page memory to the page stores.
+     *
+     * @param pageMem Page memory.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void flush(PageMemoryEx pageMem) throws IgniteCheckedException {
+        GridMultiCollectionWrapper<FullPageId> pages = pageMem.beginCheckpoint(new GridFinishedFuture<>());
+
+        ByteBuffer buf = ByteBuffer.allocateDirect(pageMem.pageSize()).order(ByteOrder.nativeOrder());
+
+        try {
+            for (int i = 0; i < pages.collectionsSize(); i++) {
+                for (FullPageId fullId : pages.innerCollection(i)) {
+                    buf.clear();
+
+                    pageMem.checkpointWritePage(fullId, buf, this::writePage, null);
+                }
+            }
+        }
+        finally {
+            pageMem.finishCheckpoint();
+        }
+    }
+
+    /**
+     * @param fullId Full page id.
+     * @param buf Page buffer.
+     * @param tag Partition generation.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void writePage(FullPageId fullId, ByteBuffer buf, int tag) throws IgniteCheckedException {
+        stores.getStore(fullId.groupId(), PageIdUtils.partId(fullId.pageId())).write(fullId.pageId(), buf, tag, true);
+    }
+
+    /**
+     * @return Data region to build the new partition files.
+     */
+    private DataRegion createDataRegion() {
+        DataRegionConfiguration cfg = new DataRegionConfiguration()
+            .setName(REGION_NAME)
+            .setInitialSize(REGION_SIZE)
+            .setMaxSize(REGION_SIZE)
+            .setCheckpointPageBufferSize(REGION_CP_BUF_SIZE)
+            .setPersistenceEnabled(true);
+
+        DataRegionMetricsImpl metrics = new DataRegionMetricsImpl(cfg, cctx.kernalContext().metric(),
+            new DataRegionMetricsProvider() {
+                /** {@inheritDoc} */
+                @Override public long partiallyFilledPagesFreeSpace() {
+                    return 0;
+                }
+
+                /** {@inheritDoc} */
+                @Override public long emptyDataPages() {
+                    return 0;
+                }
+            });
+
+        long[] sizes = new long[REGION_SEGMENTS + 1];
+
+        Arrays.fill(sizes, REGION_SIZE / REGION_SEGMENTS);
+
+        sizes[REGION_SEGMENTS] = REGION_CP_BUF_SIZE;
+
+        PageMemoryImpl pageMem = new PageMemoryImpl(
+            new UnsafeMemoryProvider(log),
+            sizes,
+            cctx,
+            new PageReadWriteManagerImpl(cctx.kernalContext(), stores, REGION_NAME),
+            cctx.gridConfig().getDataStorageConfiguration().getPageSize(),
+            this::writePage,
+            null,
+            () -> true,
+            metrics,
+            DataRegionConfiguration.DFLT_PAGE_REPLACEMENT_MODE,
+            PageMemoryImpl.ThrottlingPolicy.DISABLED,
+            null
+        );
+
+        metrics.pageMemory(pageMem);
+
+        pageMem.start();
+
+        return new DataRegion(pageMem, cfg, metrics, new NoOpPageEvictionTracker());
+    }
+
+    /**
+     * Page stores of the partitions being built.
+     */
+    private static class PartitionStores implements PageStoreCollection {
+        /** Page stores. */
+        private final Map<GroupPartitionId, PageStore> stores = new ConcurrentHashMap<>();
+
+        /**
+         * @param grpId Cache group id.
+         * @param partId Partition id.
+         * @param store Page store.
+         */
+        void put(int grpId, int partId, PageStore store) {
+            stores.put(new GroupPartitionId(grpId, partId), store);
+        }
+
+        /**
+         * @param grpId Cache group id.
+         * @param partId Partition id.
+         */
+        void remove(int grpId, int partId) {
+            stores.remove(new GroupPartitionId(grpId, partId));
+        }
+
+        /** {@inheritDoc} */
+        @Override public PageStore getStore(int grpId, int partId) throws IgniteCheckedException {
+            PageStore store = stores.get(new GroupPartitionId(grpId, partId));
+
+            if (store == null) {
+                throw new IgniteCheckedException("Partition is not being defragmented [grpId=" + grpId +
+                    ", partId=" + partId + ']');
+            }
+
+            return store;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Collection<PageStore> getStores(int grpId) {
+            return stores.entrySet().stream()
+                .filter(e -> e.getKey().getGroupId() == grpId)
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.defragmentation;
+
+import java.util.Collections;
+import java.util.List;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.maintenance.MaintenanceAction;
+import org.apache.ignite.maintenance.MaintenanceTask;
+import org.apache.ignite.maintenance.MaintenanceWorkflowCallback;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defragmentation maintenance workflow. Defragmentation is executed automatically on node start.
+ */
+public class DefragmentationWorkflowCallback implements MaintenanceWorkflowCallback {
+    /** */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** */
+    private final MaintenanceTask task;
+
+    /**
+     * @param cctx Shared context.
+     * @param task Defragmentation maintenance task.
+     */
+    public DefragmentationWorkflowCallback(@NotNull GridCacheSharedContext<?, ?> cctx, @NotNull MaintenanceTask task) {
+        this.cctx = cctx;
+        this.task = task;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean shouldProceedWithMaintenance() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<MaintenanceAction<?>> allActions() {
+        return Collections.singletonList(automaticAction());
+    }
+
+    /** {@inheritDoc} */
+    @Override public MaintenanceAction<?> automaticAction() {
+        return new ExecuteDefragmentationAction(cctx, CachePartitionDefragmentationManager.cacheGroupNames(task));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.defragmentation;
+
+import java.util.Set;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.maintenance.MaintenanceAction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.cache.persistence.defragmentation.CachePartitionDefragmentationManager.DEFRAGMENTATION_MNTC_TASK_NAME;
+
+/**
+ * Defragments the partitions of the cache groups and completes the defragmentation maintenance task.
+ */
+public class ExecuteDefragmentationAction implements MaintenanceAction<Boolean> {
+    /** */
+    public static final String ACTION_NAME = "execute_defragmentation";
+
+    /** */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** */
+    private final Set<String> grpNames;
+
+    /**
+     * @param cctx Shared context.
+     * @param grpNames Names of the cache groups to defragment.
+     */
+    public ExecuteDefragmentationAction(GridCacheSharedContext<?, ?> cctx, Set<String> grpNames) {
+        this.cctx = cctx;
+        this.grpNames = grpNames;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Boolean execute() {
+        try {
+            new CachePartitionDefragmentationManager(cctx, grpNames).executeDefragmentation();
+
+            cctx.kernalContext().maintenanceRegistry().unregisterMaintenanceTask(DEFRAGMENTATION_MNTC_TASK_NAME);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to defragment cache groups: " + grpNames, e);
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public @NotNull String name() {
+        return ACTION_NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable String description() {
+        return "Defragments partition files of cache groups";
+    }
+}
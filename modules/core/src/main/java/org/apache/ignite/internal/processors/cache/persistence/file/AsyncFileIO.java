@@ -54,6 +54,9 @@ public class AsyncFileIO extends AbstractFileIO {
     /** */
     private final ThreadLocal<ChannelOpFuture> holder;
 
+    /** Buffer to gather the data of multiple buffers written at once, asynchronous channel can't gather writes. */
+    private static final ThreadLocal<ByteBuffer> gatherBuf = new ThreadLocal<>();
+
     /** */
     private GridConcurrentHashSet<ChannelOpFuture> asyncFuts = new GridConcurrentHashSet<>();
 
@@ -187,6 +190,34 @@ public class AsyncFileIO extends AbstractFileIO {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public long writeFully(ByteBuffer[] srcBufs, int off, int len, long position) throws IOException {
+        if (len == 1)
+            return writeFully(srcBufs[off], position);
+
+        int total = 0;
+
+        for (int i = off; i < off + len; i++)
+            total += srcBufs[i].remaining();
+
+        ByteBuffer buf = gatherBuf.get();
+
+        if (buf == null || buf.capacity() < total) {
+            buf = ByteBuffer.allocateDirect(total);
+
+            gatherBuf.set(buf);
+        }
+
+        buf.clear();
+
+        for (int i = off; i < off + len; i++)
+            buf.put(srcBufs[i]);
+
+        buf.flip();
+
+        return writeFully(buf, position);
+    }
+
     /** {@inheritDoc} */
     @Override public int write(byte[] buf, int off, int len) throws IOException {
         ChannelOpFuture fut = holder.get();
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Bounds the number of open files of the page stores. If the limit is exceeded, the file of the least recently used
+ * store is synced and closed and the store transparently reopens it on the next access.
+ * <p>
+ * The least recently used store is approximated with the CLOCK algorithm: an access only marks the store as
+ * referenced and the referenced stores get a second chance when the pool looks for a file to close, so reads and
+ * writes of the stores don't contend on the pool.
+ */
+public class FileHandlePool {
+    /** Max number of open files. */
+    private final int maxOpenFiles;
+
+    /** Stores with open files. */
+    private final Set<FilePageStore> open = ConcurrentHashMap.newKeySet();
+
+    /** Clock of the stores with open files. */
+    private final Queue<FilePageStore> clock = new ConcurrentLinkedQueue<>();
+
+    /** Number of open files. */
+    private final AtomicInteger openCnt = new AtomicInteger();
+
+    /** Number of files closed by the pool. */
+    private final LongAdder closedCnt = new LongAdder();
+
+    /**
+     * @param maxOpenFiles Max number of open files.
+     */
+    public FileHandlePool(int maxOpenFiles) {
+        A.ensure(maxOpenFiles > 0, "maxOpenFiles > 0");
+
+        this.maxOpenFiles = maxOpenFiles;
+    }
+
+    /**
+     * Registers the opened file of the store and closes the files of other stores if the limit is exceeded.
+     *
+     * @param store Store which file is opened.
+     * @throws IOException If failed to close a file.
+     */
+    void onOpen(FilePageStore store) throws IOException {
+        if (!open.add(store))
+            return;
+
+        clock.add(store);
+
+        if (openCnt.incrementAndGet() > maxOpenFiles)
+            closeOverLimit(store);
+    }
+
+    /**
+     * @param store Store which file is closed on stop or truncation.
+     */
+    void onClose(FilePageStore store) {
+        if (open.remove(store)) {
+            openCnt.decrementAndGet();
+
+            clock.remove(store);
+        }
+    }
+
+    /**
+     * @param store Store which file is closed by the pool, it is already removed from the clock.
+     */
+    void onIdleClose(FilePageStore store) {
+        if (open.remove(store))
+            openCnt.decrementAndGet();
+    }
+
+    /**
+     * @param opened Store which file is just opened.
+     * @throws IOException If failed to close a file.
+     */
+    private void closeOverLimit(FilePageStore opened) throws IOException {
+        // Every open store is looked at most twice, the first look clears its reference mark. If all the stores
+        // are in use the limit is exceeded until the next file is opened.
+        int attempts = 2 * openCnt.get() + 1;
+
+        while (openCnt.get() > maxOpenFiles && attempts-- > 0) {
+            FilePageStore store = clock.poll();
+
+            if (store == null)
+                return;
+
+            // The file is closed concurrently.
+            if (!open.contains(store))
+                continue;
+
+            if (store == opened || store.checkReferenced() || !store.closeIdleFile()) {
+                clock.add(store);
+
+                continue;
+            }
+
+            closedCnt.increment();
+        }
+    }
+
+    /**
+     * @return Number of open files.
+     */
+    public int openFiles() {
+        return openCnt.get();
+    }
+
+    /**
+     * @return Number of files closed by the pool to stay within the limit.
+     */
+    public long closedFiles() {
+        return closedCnt.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(FileHandlePool.class, this);
+    }
+}
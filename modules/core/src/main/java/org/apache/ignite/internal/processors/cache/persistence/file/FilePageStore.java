@@ -45,6 +45,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteOutClosure;
+import org.jetbrains.annotations.Nullable;
 
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
@@ -124,6 +125,12 @@ public class FilePageStore implements PageStore {
     /** */
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
+    /** Pool of open files which may close the file of this store, {@code null} if the number of files is unlimited. */
+    @Nullable private final FileHandlePool fileHandles;
+
+    /** Accessed since the last check of the pool of open files. */
+    private volatile boolean referenced;
+
     /** */
     public FilePageStore(
         byte type,
@@ -131,6 +138,25 @@ public class FilePageStore implements PageStore {
         FileIOFactory factory,
         DataStorageConfiguration cfg,
         LongConsumer allocatedTracker
+    ) {
+        this(type, pathProvider, factory, cfg, allocatedTracker, null);
+    }
+
+    /**
+     * @param type Type.
+     * @param pathProvider File path provider.
+     * @param factory Factory.
+     * @param cfg Config.
+     * @param allocatedTracker Allocated tracker.
+     * @param fileHandles Pool of open files, {@code null} if the number of open files is unlimited.
+     */
+    public FilePageStore(
+        byte type,
+        IgniteOutClosure<Path> pathProvider,
+        FileIOFactory factory,
+        DataStorageConfiguration cfg,
+        LongConsumer allocatedTracker,
+        @Nullable FileHandlePool fileHandles
     ) {
         this.type = type;
         this.pathProvider = pathProvider;
@@ -139,6 +165,7 @@ public class FilePageStore implements PageStore {
         this.allocated = new AtomicLong();
         this.pageSize = dbCfg.getPageSize();
         this.allocatedTracker = allocatedTracker;
+        this.fileHandles = fileHandles;
     }
 
     /** {@inheritDoc} */
@@ -163,13 +190,23 @@ public class FilePageStore implements PageStore {
 
     /** {@inheritDoc} */
     @Override public long size() {
-        try {
+        while (true) {
             FileIO io = fileIO;
 
-            return io == null ? 0 : io.size();
-        }
-        catch (IOException e) {
-            throw new IgniteException(e);
+            try {
+                // The file may be closed by the pool of open files, there is no need to reopen it to get the size.
+                if (io == null)
+                    return inited ? pathProvider.apply().toFile().length() : 0;
+
+                return io.size();
+            }
+            catch (ClosedChannelException e) {
+                if (io == fileIO)
+                    throw new IgniteException(e);
+            }
+            catch (IOException e) {
+                throw new IgniteException(e);
+            }
         }
     }
 
@@ -344,11 +381,14 @@ public class FilePageStore implements PageStore {
                 return;
             }
 
-            fileIO.force();
+            // The file may be already synced and closed by the pool of open files.
+            if (fileIO != null) {
+                fileIO.force();
 
-            fileIO.close();
+                fileIO.close();
 
-            fileIO = null;
+                fileIO = null;
+            }
 
             if (delete) {
                 Files.delete(pathProvider.apply());
@@ -361,6 +401,9 @@ public class FilePageStore implements PageStore {
 
             inited = false;
 
+            if (fileHandles != null)
+                fileHandles.onClose(this);
+
             lock.writeLock().unlock();
         }
     }
@@ -392,11 +435,13 @@ public class FilePageStore implements PageStore {
         try {
             this.tag = tag;
 
-            fileIO.clear();
+            if (fileIO != null) {
+                fileIO.clear();
 
-            fileIO.close();
+                fileIO.close();
 
-            fileIO = null;
+                fileIO = null;
+            }
 
             Files.delete(filePath);
 
@@ -410,6 +455,9 @@ public class FilePageStore implements PageStore {
 
             inited = false;
 
+            if (fileHandles != null)
+                fileHandles.onClose(this);
+
             lock.writeLock().unlock();
         }
     }
@@ -433,7 +481,7 @@ public class FilePageStore implements PageStore {
         try {
             // Since we always have a meta-page in the store, never revert allocated counter to a value smaller than page.
             if (inited) {
-                long newSize = Math.max(pageSize, fileIO.size() - headerSize());
+                long newSize = Math.max(pageSize, fileIO().size() - headerSize());
 
                 // In the case of compressed pages we can miss the tail of the page.
                 if (newSize % pageSize != 0)
@@ -469,7 +517,7 @@ public class FilePageStore implements PageStore {
 
         if (compressedSize < 0 || compressedSize > pageSize) {
             throw new IgniteDataIntegrityViolationException("Failed to read page (CRC validation failed) " +
-                "[id=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath() + ", fileSize=" + fileIO.size() +
+                "[id=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath() + ", fileSize=" + size() +
                 ", page=" + U.toHexString(pageBuf) + "]");
         }
 
@@ -512,7 +560,7 @@ public class FilePageStore implements PageStore {
                 if ((savedCrc32 ^ curCrc32) != 0)
                     throw new IgniteDataIntegrityViolationException("Failed to read page (CRC validation failed) " +
                         "[id=" + U.hexLong(pageId) + ", off=" + (off - pageSize) +
-                        ", file=" + getFileAbsolutePath() + ", fileSize=" + fileIO.size() +
+                        ", file=" + getFileAbsolutePath() + ", fileSize=" + size() +
                         ", savedCrc=" + U.hexInt(savedCrc32) + ", curCrc=" + U.hexInt(curCrc32) +
                         ", page=" + U.toHexString(pageBuf) +
                         "]");
@@ -609,6 +657,16 @@ public class FilePageStore implements PageStore {
                                 err.addSuppressed(e);
                             }
                     }
+
+                    if (fileHandles != null) {
+                        try {
+                            fileHandles.onOpen(this);
+                        }
+                        catch (IOException e) {
+                            throw new StorageException("Failed to close page store files over the limit of open " +
+                                "files: " + getFileAbsolutePath(), e);
+                        }
+                    }
                 }
             }
             finally {
@@ -618,21 +676,23 @@ public class FilePageStore implements PageStore {
     }
 
     /**
-     * Reinit page store after file channel was closed by thread interruption.
+     * Reinit page store after file channel was closed by thread interruption or by the pool of open files.
      *
-     * @param fileIO Old fileIO.
+     * @param fileIO Old fileIO, {@code null} if the file was closed by the pool of open files.
      */
-    private void reinit(FileIO fileIO) throws IOException {
+    private void reinit(@Nullable FileIO fileIO) throws IOException {
         if (!inited)
             return;
 
         if (fileIO != this.fileIO)
             return;
 
+        boolean reopened = fileIO == null;
+
         lock.writeLock().lock();
 
         try {
-            if (fileIO != this.fileIO)
+            if (!inited || fileIO != this.fileIO)
                 return;
 
             try {
@@ -675,6 +735,77 @@ public class FilePageStore implements PageStore {
 
                 throw e;
             }
+
+            if (reopened && fileHandles != null)
+                fileHandles.onOpen(this);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return I/O interface of the file, reopened if it was closed by the pool of open files.
+     * @throws IOException If failed to reopen the file or the store is stopped.
+     */
+    protected FileIO fileIO() throws IOException {
+        FileIO io = fileIO;
+
+        if (io == null) {
+            reinit(null);
+
+            io = fileIO;
+
+            if (io == null)
+                throw new IOException("FileIO has stopped");
+        }
+
+        if (fileHandles != null && !referenced)
+            referenced = true;
+
+        return io;
+    }
+
+    /**
+     * Gives the store a second chance before its file is closed by the pool of open files.
+     *
+     * @return {@code True} if the store was accessed since the previous check.
+     */
+    boolean checkReferenced() {
+        if (!referenced)
+            return false;
+
+        referenced = false;
+
+        return true;
+    }
+
+    /**
+     * Syncs and closes the file if it is not being written at the moment, it is reopened on the next access.
+     * Concurrent readers retry on the closed channel the same way as if it was closed by interruption.
+     *
+     * @return {@code False} if the file is in use.
+     * @throws IOException If failed.
+     */
+    boolean closeIdleFile() throws IOException {
+        if (!lock.writeLock().tryLock())
+            return false;
+
+        try {
+            FileIO io = fileIO;
+
+            if (!inited || io == null)
+                return true;
+
+            io.force();
+
+            fileIO = null;
+
+            io.close();
+
+            fileHandles.onIdleClose(this);
+
+            return true;
         }
         finally {
             lock.writeLock().unlock();
@@ -688,9 +819,11 @@ public class FilePageStore implements PageStore {
         boolean interrupted = false;
 
         while (true) {
-            FileIO fileIO = this.fileIO;
+            FileIO fileIO = null;
 
             try {
+                fileIO = fileIO();
+
                 lock.readLock().lock();
 
                 try {
@@ -699,37 +832,95 @@ public class FilePageStore implements PageStore {
 
                     long off = pageOffset(pageId);
 
-                    assert (off >= 0 && off <= allocated.get()) || recover :
-                        "off=" + U.hexLong(off) + ", allocated=" + U.hexLong(allocated.get()) +
-                            ", pageId=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath();
+                    prepareWrite(pageId, pageBuf, off, calculateCrc);
+
+                    fileIO.writeFully(pageBuf, off);
+
+                    PageIO.setCrc(pageBuf, 0);
+
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+
+                    return;
+                }
+                finally {
+                    lock.readLock().unlock();
+                }
+            }
+            catch (IOException e) {
+                if (e instanceof ClosedChannelException) {
+                    try {
+                        if (e instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
+
+                        reinit(fileIO);
 
-                    assert pageBuf.position() == 0;
-                    assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
-                        + " should be same with " + ByteOrder.nativeOrder();
-                    assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
-                    assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+                        pageBuf.position(0);
 
-                    if (calculateCrc && !skipCrc) {
-                        assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+                        PageIO.setCrc(pageBuf, 0);
+
+                        continue;
+                    }
+                    catch (IOException e0) {
+                        e0.addSuppressed(e);
 
-                        PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+                        e = e0;
                     }
+                }
+
+                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
+                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void write(
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int cnt,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        if (cnt == 1) {
+            write(pageIds[0], pageBufs[0], tag, calculateCrc);
+
+            return;
+        }
+
+        init();
+
+        boolean interrupted = false;
+
+        while (true) {
+            FileIO fileIO = null;
+
+            try {
+                fileIO = fileIO();
+
+                lock.readLock().lock();
 
-                    // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
-                    assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcCrc32(pageBuf, pageSize) == 0 :
-                        "CRC hasn't been calculated, crc=0";
+                try {
+                    if (tag < this.tag)
+                        return;
 
-                    assert pageBuf.position() == 0 : pageBuf.position();
+                    long off = pageOffset(pageIds[0]);
 
-                    for (PageWriteListener lsnr : lsnrs) {
-                        lsnr.accept(pageId, pageBuf);
+                    for (int i = 0; i < cnt; i++) {
+                        assert pageOffset(pageIds[i]) == off + (long)i * pageSize :
+                            "Pages are not contiguous [first=" + U.hexLong(pageIds[0]) +
+                                ", pageId=" + U.hexLong(pageIds[i]) + ", idx=" + i + ']';
 
-                        pageBuf.rewind();
+                        prepareWrite(pageIds[i], pageBufs[i], off + (long)i * pageSize, calculateCrc);
                     }
 
-                    fileIO.writeFully(pageBuf, off);
+                    fileIO.writeFully(pageBufs, 0, cnt, off);
 
-                    PageIO.setCrc(pageBuf, 0);
+                    for (int i = 0; i < cnt; i++)
+                        PageIO.setCrc(pageBufs[i], 0);
 
                     if (interrupted)
                         Thread.currentThread().interrupt();
@@ -751,9 +942,11 @@ public class FilePageStore implements PageStore {
 
                         reinit(fileIO);
 
-                        pageBuf.position(0);
+                        for (int i = 0; i < cnt; i++) {
+                            pageBufs[i].position(0);
 
-                        PageIO.setCrc(pageBuf, 0);
+                            PageIO.setCrc(pageBufs[i], 0);
+                        }
 
                         continue;
                     }
@@ -764,12 +957,51 @@ public class FilePageStore implements PageStore {
                     }
                 }
 
-                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
-                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+                throw new StorageException("Failed to write pages [file=" + getFileAbsolutePath()
+                    + ", firstPageId=" + pageIds[0] + ", cnt=" + cnt + ", tag=" + tag + "]", e);
             }
         }
     }
 
+    /**
+     * Calculates CRC of the page and notifies the page write listeners before the page is written to the file.
+     *
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer.
+     * @param off Page offset within the file.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @throws IOException If failed.
+     */
+    private void prepareWrite(long pageId, ByteBuffer pageBuf, long off, boolean calculateCrc) throws IOException {
+        assert (off >= 0 && off <= allocated.get()) || recover :
+            "off=" + U.hexLong(off) + ", allocated=" + U.hexLong(allocated.get()) +
+                ", pageId=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath();
+
+        assert pageBuf.position() == 0;
+        assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
+            + " should be same with " + ByteOrder.nativeOrder();
+        assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
+        assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+
+        if (calculateCrc && !skipCrc) {
+            assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+
+            PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+        }
+
+        // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+        assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcCrc32(pageBuf, pageSize) == 0 :
+            "CRC hasn't been calculated, crc=0";
+
+        assert pageBuf.position() == 0 : pageBuf.position();
+
+        for (PageWriteListener lsnr : lsnrs) {
+            lsnr.accept(pageId, pageBuf);
+
+            pageBuf.rewind();
+        }
+    }
+
     /**
      * @param pageBuf Page buffer.
      * @param pageSize Page size.
@@ -868,10 +1100,7 @@ public class FilePageStore implements PageStore {
         int bufPos = destBuf.position();
 
         while (true) {
-            FileIO fileIO = this.fileIO;
-
-            if (fileIO == null)
-                throw new IOException("FileIO has stopped");
+            FileIO fileIO = fileIO();
 
             try {
                 assert destBuf.remaining() > 0;
@@ -201,6 +201,9 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
     private final GridStripedReadWriteLock initDirLock =
         new GridStripedReadWriteLock(Math.max(Runtime.getRuntime().availableProcessors(), 8));
 
+    /** Pool of open files of the page stores, {@code null} if the number of open files is unlimited. */
+    @Nullable private final FileHandlePool fileHandles;
+
     /**
      * @param ctx Kernal context.
      */
@@ -220,6 +223,8 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
 
         pageStoreV1FileIoFactory = pageStoreFileIoFactory = dsCfg.getFileIOFactory();
 
+        fileHandles = dsCfg.getMaxOpenPageStoreFiles() > 0 ? new FileHandlePool(dsCfg.getMaxOpenPageStoreFiles()) : null;
+
         marshaller = MarshallerUtils.jdkMarshaller(ctx.igniteInstanceName());
 
         pmPageMgr = new PageReadWriteManagerImpl(ctx, this, FilePageStoreManager.class.getSimpleName());
@@ -632,6 +637,18 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         return pmPageMgr.write(grpId, pageId, pageBuf, tag, calculateCrc);
     }
 
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        int grpId,
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int cnt,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        return pmPageMgr.write(grpId, pageIds, pageBufs, cnt, tag, calculateCrc);
+    }
+
     /** {@inheritDoc} */
     @Override public long pageOffset(int grpId, long pageId) throws IgniteCheckedException {
         PageStore store = getStore(grpId, PageIdUtils.partId(pageId));
@@ -673,6 +690,13 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         );
     }
 
+    /**
+     * @return Pool of open files of the page stores, {@code null} if the number of open files is unlimited.
+     */
+    @Nullable public FileHandlePool fileHandlePool() {
+        return fileHandles;
+    }
+
     /**
      * @param grpId Cache group id.
      * @param encrypted {@code true} if cache group encryption enabled.
@@ -701,7 +725,8 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         FileVersionCheckingFactory pageStoreFactory = new FileVersionCheckingFactory(
             pageStoreFileIoFactory,
             pageStoreV1FileIoFactory,
-            igniteCfg.getDataStorageConfiguration()
+            igniteCfg.getDataStorageConfiguration(),
+            fileHandles
         );
 
         if (encrypted) {
@@ -983,7 +1008,7 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
                     }
                 }
                 else if (file.getName().startsWith(CACHE_GRP_DIR_PREFIX))
-                    readCacheGroupCaches(file, ccfgs);
+                    readCacheConfigurations(file, ccfgs);
             }
         }
 
@@ -991,11 +1016,14 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
     }
 
     /**
-     * @param grpDir Group directory.
+     * Reads cache configurations stored in the given cache or cache group directory. The directory may be located
+     * outside of the node working directory, e.g. in a snapshot.
+     *
+     * @param grpDir Cache or cache group directory.
      * @param ccfgs Cache configurations.
      * @throws IgniteCheckedException If failed.
      */
-    private void readCacheGroupCaches(File grpDir, Map<String, StoredCacheData> ccfgs) throws IgniteCheckedException {
+    public void readCacheConfigurations(File grpDir, Map<String, StoredCacheData> ccfgs) throws IgniteCheckedException {
         File[] files = grpDir.listFiles();
 
         if (files == null)
@@ -16,10 +16,13 @@
 */
 package org.apache.ignite.internal.processors.cache.persistence.file;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.function.LongConsumer;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.lang.IgniteOutClosure;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -46,7 +49,25 @@ public class FilePageStoreV2 extends FilePageStore {
         FileIOFactory factory,
         DataStorageConfiguration cfg,
         LongConsumer allocatedTracker) {
-        super(type, pathProvider, factory, cfg, allocatedTracker);
+        this(type, pathProvider, factory, cfg, allocatedTracker, null);
+    }
+
+    /**
+     * @param type Type.
+     * @param pathProvider file path provider.
+     * @param factory Factory.
+     * @param cfg Config.
+     * @param allocatedTracker Allocated tracker.
+     * @param fileHandles Pool of open files, {@code null} if the number of open files is unlimited.
+     */
+    public FilePageStoreV2(
+        byte type,
+        IgniteOutClosure<Path> pathProvider,
+        FileIOFactory factory,
+        DataStorageConfiguration cfg,
+        LongConsumer allocatedTracker,
+        @Nullable FileHandlePool fileHandles) {
+        super(type, pathProvider, factory, cfg, allocatedTracker, fileHandles);
 
         hdrSize = cfg.getPageSize();
     }
@@ -63,7 +84,12 @@ public class FilePageStoreV2 extends FilePageStore {
 
     /** {@inheritDoc} */
     @Override public int getBlockSize() {
-        return fileIO.getFileSystemBlockSize();
+        try {
+            return fileIO().getFileSystemBlockSize();
+        }
+        catch (IOException e) {
+            throw new IgniteException(e);
+        }
     }
 
     /** {@inheritDoc} */
@@ -79,6 +105,11 @@ public class FilePageStoreV2 extends FilePageStore {
 
         long off = pageOffset(pageId);
 
-        fileIO.punchHole(off + usefulBytes, pageSize - usefulBytes);
+        try {
+            fileIO().punchHole(off + usefulBytes, pageSize - usefulBytes);
+        }
+        catch (IOException e) {
+            throw new IgniteException(e);
+        }
     }
 }
@@ -27,6 +27,7 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.lang.IgniteOutClosure;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Checks version in files if it's present on the disk, creates store with latest version otherwise.
@@ -50,6 +51,9 @@ public class FileVersionCheckingFactory implements FilePageStoreFactory {
     /** Memory configuration. */
     private final DataStorageConfiguration memCfg;
 
+    /** Pool of open files of the created stores, {@code null} if the number of open files is unlimited. */
+    @Nullable private final FileHandlePool fileHandles;
+
     /**
      * @param fileIOFactory File IO factory.
      * @param fileIOFactoryStoreV1 File IO factory for V1 page store and for version checking.
@@ -59,10 +63,27 @@ public class FileVersionCheckingFactory implements FilePageStoreFactory {
         FileIOFactory fileIOFactory,
         FileIOFactory fileIOFactoryStoreV1,
         DataStorageConfiguration memCfg
+    ) {
+        this(fileIOFactory, fileIOFactoryStoreV1, memCfg, null);
+    }
+
+    /**
+     * @param fileIOFactory File IO factory.
+     * @param fileIOFactoryStoreV1 File IO factory for V1 page store and for version checking.
+     * @param memCfg Memory configuration.
+     * @param fileHandles Pool of open files of the created stores, {@code null} if the number of open files is
+     *      unlimited.
+     */
+    public FileVersionCheckingFactory(
+        FileIOFactory fileIOFactory,
+        FileIOFactory fileIOFactoryStoreV1,
+        DataStorageConfiguration memCfg,
+        @Nullable FileHandlePool fileHandles
     ) {
         this.fileIOFactory = fileIOFactory;
         this.fileIOFactoryStoreV1 = fileIOFactoryStoreV1;
         this.memCfg = memCfg;
+        this.fileHandles = fileHandles;
     }
 
     /** {@inheritDoc} */
@@ -128,10 +149,11 @@ public class FileVersionCheckingFactory implements FilePageStoreFactory {
 
         switch (ver) {
             case FilePageStore.VERSION:
-                return new FilePageStore(type, pathProvider, fileIOFactoryStoreV1, memCfg, allocatedTracker);
+                return new FilePageStore(type, pathProvider, fileIOFactoryStoreV1, memCfg, allocatedTracker,
+                    fileHandles);
 
             case FilePageStoreV2.VERSION:
-                return new FilePageStoreV2(type, pathProvider, fileIOFactory, memCfg, allocatedTracker);
+                return new FilePageStoreV2(type, pathProvider, fileIOFactory, memCfg, allocatedTracker, fileHandles);
 
             default:
                 throw new IllegalArgumentException("Unknown version of file page store: " + ver + " for file [" + pathProvider.apply().toAbsolutePath() + "]");
@@ -44,6 +44,9 @@ public class RandomAccessFileIO extends AbstractFileIO {
     /** */
     private final int fsBlockSize;
 
+    /** Lock of the channel position used by gathering writes. */
+    private final Object gatherWriteMux = new Object();
+
     /**
      * Creates I/O implementation for specified {@code file}
      *
@@ -120,6 +123,37 @@ public class RandomAccessFileIO extends AbstractFileIO {
         return ch.write(ByteBuffer.wrap(buf, off, len));
     }
 
+    /** {@inheritDoc} */
+    @Override public long writeFully(ByteBuffer[] srcBufs, int off, int len, long position) throws IOException {
+        long total = 0;
+
+        for (int i = off; i < off + len; i++)
+            total += srcBufs[i].remaining();
+
+        // Gathering write uses the channel position, positional writes of other threads are not affected.
+        synchronized (gatherWriteMux) {
+            ch.position(position);
+
+            long written = 0;
+
+            while (written < total) {
+                long n = ch.write(srcBufs, off, len);
+
+                if (n < 0)
+                    throw new IOException("Failed to write buffers [written=" + written + ", total=" + total + ']');
+
+                written += n;
+
+                while (len > 0 && !srcBufs[off].hasRemaining()) {
+                    off++;
+                    len--;
+                }
+            }
+        }
+
+        return total;
+    }
+
     /** {@inheritDoc} */
     @Override public void force(boolean withMetadata) throws IOException {
         ch.force(withMetadata);
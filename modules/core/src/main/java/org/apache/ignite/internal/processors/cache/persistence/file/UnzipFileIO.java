@@ -20,19 +20,21 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
+import org.apache.ignite.internal.processors.compress.WalSegmentCompression;
 
 /**
- * {@link FileIO} that allows to work with ZIP compressed file.
+ * {@link FileIO} that allows to work with compressed WAL segment file, ZIP or framed one,
+ * see {@link WalSegmentCompression}.
  * Doesn't allow random access and setting {@link FileIO#position()} backwards.
  * Allows sequential reads including setting {@link FileIO#position()} forward.
  */
 public class UnzipFileIO extends AbstractFileIO {
-    /** Zip input stream. */
-    private final ZipInputStream zis;
+    /** Decompressed input stream. */
+    private final InputStream zis;
 
     /** Byte array for draining data. */
     private final byte[] arr = new byte[128 * 1024];
@@ -47,10 +49,10 @@ public class UnzipFileIO extends AbstractFileIO {
      * @param zip Compressed file.
      */
     public UnzipFileIO(File zip) throws IOException {
-        zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
+        zis = WalSegmentCompression.decompressedStream(new BufferedInputStream(new FileInputStream(zip)));
 
-        ZipEntry entry = zis.getNextEntry();
-        size = entry.getSize();
+        // Deflated ZIP entries are written with the sizes after the data, so the size is unknown for them.
+        size = zis instanceof ZipInputStream ? -1 : WalSegmentCompression.decompressedSize(zip);
     }
 
     /** {@inheritDoc} */
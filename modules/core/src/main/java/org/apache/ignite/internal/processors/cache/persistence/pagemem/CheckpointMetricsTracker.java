@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.pagemem;
 
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntryType;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
@@ -47,9 +48,23 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COW_PAGES_UPDATER =
         AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "cowPages");
 
+    /** */
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> STORE_WRITES_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "storeWrites");
+
+    /** */
+    private static final AtomicLongFieldUpdater<CheckpointMetricsTracker> STORE_WRITTEN_BYTES_UPDATER =
+        AtomicLongFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "storeWrittenBytes");
+
     /** */
     private volatile int dataPages;
 
+    /** Number of write operations issued to the page stores. */
+    private volatile int storeWrites;
+
+    /** Number of bytes written to the page stores. */
+    private volatile long storeWrittenBytes;
+
     /** */
     private volatile int cowPages;
 
@@ -101,6 +116,16 @@ public class CheckpointMetricsTracker {
         DATA_PAGES_UPDATER.incrementAndGet(this);
     }
 
+    /**
+     * Tracks a write operation issued to a page store, a run of adjacent pages may be written by one operation.
+     *
+     * @param bytes Number of written bytes.
+     */
+    public void onPageStoreWrite(long bytes) {
+        STORE_WRITES_UPDATER.incrementAndGet(this);
+        STORE_WRITTEN_BYTES_UPDATER.addAndGet(this, bytes);
+    }
+
     /**
      * @return COW pages.
      */
@@ -115,6 +140,22 @@ public class CheckpointMetricsTracker {
         return dataPages;
     }
 
+    /**
+     * @return Number of write operations issued to the page stores.
+     */
+    public int pageStoreWrites() {
+        return storeWrites;
+    }
+
+    /**
+     * @return Average size of a write operation issued to the page stores in bytes.
+     */
+    public long avgPageStoreWriteSize() {
+        int writes = storeWrites;
+
+        return writes == 0 ? 0 : storeWrittenBytes / writes;
+    }
+
     /** */
     public void onLockWaitStart() {
         cpLockWaitStart = System.currentTimeMillis();
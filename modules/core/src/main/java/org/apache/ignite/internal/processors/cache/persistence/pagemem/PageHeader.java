@@ -27,6 +27,15 @@ class PageHeader {
     /** */
     public static final long PAGE_MARKER = 0x0000000000000001L;
 
+    /** Access counter shift, counter is stored in the page marker byte right after the marker bit. */
+    private static final int ACCESS_CNT_SHIFT = 1;
+
+    /** Access counter mask. */
+    private static final long ACCESS_CNT_MASK = 0x0000000000000006L;
+
+    /** Maximum value of the access counter. */
+    public static final int MAX_ACCESS_CNT = 3;
+
     /** Dirty flag. */
     private static final long DIRTY_FLAG = 0x0100000000000000L;
 
@@ -43,7 +52,7 @@ class PageHeader {
     private static final int PAGE_PIN_CNT_OFFSET = 28;
 
     /** Page temp copy buffer relative pointer offset. */
-    private static final int PAGE_TMP_BUF_OFFSET = 40;
+    private static final int PAGE_TMP_BUF_OFFSET = 48;
 
     /**
      * @param absPtr Absolute pointer to initialize.
@@ -189,6 +198,48 @@ class PageHeader {
         return markerAndTs & ~0xFF;
     }
 
+    /**
+     * Volatile write for current timestamp to page in {@code absAddr} address with access counter incremented.
+     * Used by {@link org.apache.ignite.configuration.PageReplacementMode#CLOCK} page replacement.
+     *
+     * @param absPtr Absolute page address.
+     * @param tstamp Timestamp.
+     */
+    public static void touch(final long absPtr, long tstamp) {
+        int cnt = accessCounter(absPtr);
+
+        if (cnt < MAX_ACCESS_CNT)
+            cnt++;
+
+        long markerAndTs = (tstamp & 0xFFFFFFFFFFFFFF00L) | ((long)cnt << ACCESS_CNT_SHIFT) | 0x01;
+
+        // Do not invalidate the header cache line shared by concurrent readers if nothing changes.
+        if (GridUnsafe.getLong(absPtr) != markerAndTs)
+            GridUnsafe.putLongVolatile(null, absPtr, markerAndTs);
+    }
+
+    /**
+     * @param absPtr Absolute page address.
+     * @return Page access counter, a number of page accesses not yet consumed by the replacement clock hand.
+     */
+    public static int accessCounter(final long absPtr) {
+        return (int)((GridUnsafe.getLong(absPtr) & ACCESS_CNT_MASK) >>> ACCESS_CNT_SHIFT);
+    }
+
+    /**
+     * Decrements page access counter keeping the page timestamp.
+     *
+     * @param absPtr Absolute page address.
+     */
+    public static void decrementAccessCounter(final long absPtr) {
+        long markerAndTs = GridUnsafe.getLong(absPtr);
+
+        long cnt = (markerAndTs & ACCESS_CNT_MASK) >>> ACCESS_CNT_SHIFT;
+
+        if (cnt > 0)
+            GridUnsafe.putLongVolatile(null, absPtr, (markerAndTs & ~ACCESS_CNT_MASK) | ((cnt - 1) << ACCESS_CNT_SHIFT));
+    }
+
     /**
      * Sets pointer to checkpoint buffer.
      *
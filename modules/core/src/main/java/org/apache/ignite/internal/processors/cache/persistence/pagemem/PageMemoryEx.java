@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.pagemem;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.IgniteInternalFuture;
@@ -186,4 +187,27 @@ public interface PageMemoryEx extends PageMemory {
      * Total pages can be placed to memory.
      */
     public long totalPages();
+
+    /**
+     * Loads a page to the memory unless the page is already loaded. The page is read from disk to the given buffer
+     * without any locks, then the page is added to the memory only if it was not loaded and replaced while being
+     * read, so the content read from disk is guaranteed to be actual. Page is not pinned, it is replaced as usual
+     * if not accessed.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @param pageIdx Page index.
+     * @param buf Direct page buffer.
+     * @return {@code False} if there is no memory to load pages to.
+     * @throws IgniteCheckedException If failed to read the page.
+     */
+    public boolean preloadPage(int grpId, int partId, int pageIdx, ByteBuffer buf) throws IgniteCheckedException;
+
+    /**
+     * Applies the action to IDs of all pages loaded to the memory. IDs of the pages of each segment are collected
+     * under the segment read lock, the action is applied without locks.
+     *
+     * @param act Action applied to the full page ID, page ID is effective.
+     */
+    public void forEachLoadedPage(Consumer<FullPageId> act);
 }
@@ -36,12 +36,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.events.EventType;
 import org.apache.ignite.events.PageReplacementStartedEvent;
 import org.apache.ignite.failure.FailureContext;
@@ -57,6 +59,7 @@ import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.PageIdAllocator;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.WALIterator;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
@@ -64,6 +67,8 @@ import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InitNewPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageDeltaRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageSnapshotDiffRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.persistence.CheckpointLockStateChecker;
 import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
@@ -122,15 +127,16 @@ import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
  * <p/>
  * When page is allocated and is in use:
  * <pre>
- * +------------------+--------+--------+----+----+--------+--------+----------------------+
- * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |8 bytes |8 bytes |       PAGE_SIZE      |
- * +------------------+--------+--------+----+----+--------+--------+----------------------+
- * | Marker/Timestamp |Rel ptr |Page ID |C ID|PIN | LOCK   |TMP BUF |       Page data      |
- * +------------------+--------+--------+----+----+--------+--------+----------------------+
+ * +------------------+--------+--------+----+----+-----------------+--------+----------------------+
+ * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |    16 bytes     |8 bytes |       PAGE_SIZE      |
+ * +------------------+--------+--------+----+----+-----------------+--------+----------------------+
+ * | Marker/Timestamp |Rel ptr |Page ID |C ID|PIN |      LOCK       |TMP BUF |       Page data      |
+ * +------------------+--------+--------+----+----+-----------------+--------+----------------------+
  * </pre>
  *
  * Note that first 8 bytes of page header are used either for page marker or for next relative pointer depending
- * on whether the page is in use or not.
+ * on whether the page is in use or not. For the page in use the lowest byte holds the marker bit and the page access
+ * counter used by {@link PageReplacementMode#CLOCK} page replacement, the rest bytes hold the last access timestamp.
  */
 @SuppressWarnings({"LockAcquiredButNotSafelyReleased"})
 public class PageMemoryImpl implements PageMemoryEx {
@@ -147,15 +153,15 @@ public class PageMemoryImpl implements PageMemoryEx {
     public static final int PAGE_LOCK_OFFSET = 32;
 
     /**
-     * 8b Marker/timestamp
+     * 8b Marker/access counter/timestamp
      * 8b Relative pointer
      * 8b Page ID
      * 4b Cache group ID
      * 4b Pin count
-     * 8b Lock
+     * 16b Lock
      * 8b Temporary buffer
      */
-    public static final int PAGE_OVERHEAD = 48;
+    public static final int PAGE_OVERHEAD = 56;
 
     /** Number of random pages that will be picked for eviction. */
     public static final int RANDOM_PAGES_EVICT_NUM = 5;
@@ -266,6 +272,18 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** Memory metrics to track dirty pages count and page replace rate. */
     private final DataRegionMetricsImpl memMetrics;
 
+    /** Page replacement algorithm. */
+    private final PageReplacementMode replacementMode;
+
+    /** Number of pages to read ahead on sequential cold reads of a partition, {@code 0} disables read-ahead. */
+    private int readAheadPages;
+
+    /** Read-ahead of sequentially read pages or {@code null} if disabled. */
+    @Nullable private volatile PageReadAhead readAhead;
+
+    /** Images of the clean pages write locked by the thread or {@code null} if page snapshot diffs are disabled. */
+    @Nullable private final ThreadLocal<PagePreImages> preImages;
+
     /**
      * {@code False} if memory was not started or already stopped and is not supposed for any usage.
      */
@@ -281,6 +299,7 @@ public class PageMemoryImpl implements PageMemoryEx {
      * @param changeTracker Callback invoked to track changes in pages.
      * @param stateChecker Checkpoint lock state provider. Used to ensure lock is held by thread, which modify pages.
      * @param memMetrics Memory metrics to track dirty pages count and page replace rate.
+     * @param replacementMode Page replacement algorithm.
      * @param throttlingPlc Write throttle enabled and its type. Null equal to none.
      * @param cpProgressProvider checkpoint progress, base for throttling. Null disables throttling.
      */
@@ -294,6 +313,7 @@ public class PageMemoryImpl implements PageMemoryEx {
         @Nullable GridInClosure3X<Long, FullPageId, PageMemoryEx> changeTracker,
         CheckpointLockStateChecker stateChecker,
         DataRegionMetricsImpl memMetrics,
+        PageReplacementMode replacementMode,
         @Nullable ThrottlingPolicy throttlingPlc,
         IgniteOutClosure<CheckpointProgress> cpProgressProvider
     ) {
@@ -329,9 +349,15 @@ public class PageMemoryImpl implements PageMemoryEx {
 
         encPageSize = CU.encryptedPageSize(pageSize, ctx.kernalContext().config().getEncryptionSpi());
 
+        DataStorageConfiguration dsCfg = ctx.kernalContext().config().getDataStorageConfiguration();
+
+        preImages = dsCfg != null && dsCfg.isWalPageSnapshotDiffEnabled() && !dsCfg.isAlwaysWriteFullPages() ?
+            ThreadLocal.withInitial(() -> new PagePreImages(pageSize)) : null;
+
         rwLock = new OffheapReadWriteLock(128);
 
         this.memMetrics = memMetrics;
+        this.replacementMode = replacementMode != null ? replacementMode : PageReplacementMode.RANDOM_LRU;
 
         asyncRunner = new ThreadPoolExecutor(
             0,
@@ -394,6 +420,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             this.segments = segments;
 
+            if (readAheadPages > 0 && pmPageMgr instanceof IgnitePageStoreManager)
+                readAhead = new PageReadAhead(this, readAheadPages, ctx.igniteInstanceName(), log);
+
             if (log.isInfoEnabled())
                 log.info("Started page memory [memoryAllocated=" + U.readableSize(totalAllocated, false) +
                     ", pages=" + pages +
@@ -427,6 +456,14 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             U.shutdownNow(getClass(), asyncRunner, log);
 
+            PageReadAhead readAhead0 = readAhead;
+
+            if (readAhead0 != null) {
+                readAhead0.stop();
+
+                readAhead = null;
+            }
+
             if (segments != null) {
                 for (Segment seg : segments)
                     seg.close();
@@ -741,6 +778,13 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
+                memMetrics.onPageHit();
+
+                PageReadAhead readAhead0 = readAhead;
+
+                if (readAhead0 != null)
+                    readAhead0.onPageAccess(grpId, pageId, false);
+
                 return absPtr;
             }
         }
@@ -844,9 +888,12 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 rwLock.init(absPtr + PAGE_LOCK_OFFSET, PageIdUtils.tag(pageId));
             }
-            else
+            else {
                 absPtr = seg.absolute(relPtr);
 
+                memMetrics.onPageHit();
+            }
+
             seg.acquirePage(absPtr);
 
             if (!readPageFromStore)
@@ -885,6 +932,11 @@ public class PageMemoryImpl implements PageMemoryEx {
                     actualPageId = PageIO.getPageId(buf);
 
                     memMetrics.onPageRead();
+
+                    PageReadAhead readAhead0 = readAhead;
+
+                    if (readAhead0 != null)
+                        readAhead0.onPageAccess(grpId, pageId, true);
                 }
                 catch (IgniteDataIntegrityViolationException e) {
                     U.warn(log, "Failed to read page (data integrity violation encountered, will try to " +
@@ -906,6 +958,172 @@ public class PageMemoryImpl implements PageMemoryEx {
         }
     }
 
+    /**
+     * Sets number of pages to read ahead when pages of a partition are read from disk sequentially.
+     * Must be called before the page memory is started.
+     *
+     * @param readAheadPages Number of pages to read ahead, {@code 0} disables read-ahead.
+     */
+    public void readAheadPages(int readAheadPages) {
+        assert !started;
+        assert readAheadPages >= 0 : readAheadPages;
+
+        this.readAheadPages = readAheadPages;
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @return Number of pages in the partition file.
+     * @throws IgniteCheckedException If failed.
+     */
+    int storePages(int grpId, int partId) throws IgniteCheckedException {
+        return ((IgnitePageStoreManager)pmPageMgr).pages(grpId, partId);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean preloadPage(
+        int grpId,
+        int partId,
+        int pageIdx,
+        ByteBuffer buf
+    ) throws IgniteCheckedException {
+        return preloadPage(grpId, partId, pageIdx, buf, false);
+    }
+
+    /**
+     * Loads a page read ahead to the page memory.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @param pageIdx Page index.
+     * @param buf Page buffer.
+     * @return {@code False} if read-ahead should be stopped since there is no memory to load pages to.
+     * @throws IgniteCheckedException If failed to read the page.
+     * @see #preloadPage(int, int, int, ByteBuffer)
+     */
+    boolean readAheadPage(int grpId, int partId, int pageIdx, ByteBuffer buf) throws IgniteCheckedException {
+        return preloadPage(grpId, partId, pageIdx, buf, true);
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @param pageIdx Page index.
+     * @param buf Page buffer.
+     * @param readAhead {@code True} if the page is read ahead.
+     * @return {@code False} if there is no memory to load pages to.
+     * @throws IgniteCheckedException If failed to read the page.
+     */
+    private boolean preloadPage(
+        int grpId,
+        int partId,
+        int pageIdx,
+        ByteBuffer buf,
+        boolean readAhead
+    ) throws IgniteCheckedException {
+        if (!started)
+            return false;
+
+        // Loaded pages are tracked by effective page IDs, the actual page ID is known only after the page is read.
+        long pageId = PageIdUtils.pageId(partId,
+            partId == PageIdAllocator.INDEX_PARTITION ? PageIdAllocator.FLAG_IDX : PageIdAllocator.FLAG_DATA, pageIdx);
+
+        long effectivePageId = PageIdUtils.effectivePageId(pageId);
+
+        Segment seg = segment(grpId, pageId);
+
+        int gen;
+        int stamp;
+
+        seg.readLock().lock();
+
+        try {
+            gen = seg.partGeneration(grpId, partId);
+
+            if (seg.loadedPages.get(grpId, effectivePageId, gen, INVALID_REL_PTR, INVALID_REL_PTR) != INVALID_REL_PTR)
+                return true;
+
+            stamp = seg.replaceStamp(grpId, pageId);
+        }
+        finally {
+            seg.readLock().unlock();
+        }
+
+        if (delayedPageReplacementTracker != null)
+            delayedPageReplacementTracker.waitUnlock(new FullPageId(pageId, grpId));
+
+        buf.clear();
+
+        try {
+            pmPageMgr.read(grpId, pageId, buf, false);
+        }
+        catch (IgniteDataIntegrityViolationException e) {
+            // Let the page be restored when it is accessed.
+            return true;
+        }
+
+        long actualPageId = PageIO.getPageId(buf);
+
+        // Empty or unknown page.
+        if (actualPageId == 0 || PageIdUtils.effectivePageId(actualPageId) != effectivePageId)
+            return true;
+
+        FullPageId fullId = new FullPageId(actualPageId, grpId);
+
+        DelayedDirtyPageStoreWrite delayedWriter = delayedPageReplacementTracker != null
+            ? delayedPageReplacementTracker.delayedPageWrite() : null;
+
+        seg.writeLock().lock();
+
+        try {
+            if (seg.partGeneration(grpId, partId) != gen || seg.replaceStamp(grpId, pageId) != stamp)
+                return true;
+
+            long relPtr = seg.loadedPages.get(grpId, effectivePageId, gen, INVALID_REL_PTR, OUTDATED_REL_PTR);
+
+            if (relPtr != INVALID_REL_PTR)
+                return true;
+
+            relPtr = seg.borrowOrAllocateFreePage(actualPageId);
+
+            if (relPtr == INVALID_REL_PTR)
+                relPtr = seg.removePageForReplacement(delayedWriter == null ? flushDirtyPage : delayedWriter);
+
+            long absPtr = seg.absolute(relPtr);
+
+            PageHeader.fullPageId(absPtr, fullId);
+            PageHeader.writeTimestamp(absPtr, U.currentTimeMillis());
+
+            assert !PageHeader.isAcquired(absPtr) :
+                "Pin counter must be 0 for a new page [relPtr=" + U.hexLong(relPtr) +
+                    ", absPtr=" + U.hexLong(absPtr) + ']';
+
+            setDirty(fullId, absPtr, false, false);
+
+            GridUnsafe.copyMemory(GridUnsafe.bufferAddress(buf), absPtr + PAGE_OVERHEAD, pageSize());
+
+            rwLock.init(absPtr + PAGE_LOCK_OFFSET, PageIdUtils.tag(actualPageId));
+
+            seg.loadedPages.put(grpId, effectivePageId, relPtr, gen);
+
+            if (readAhead)
+                memMetrics.onPageReadAhead();
+
+            return true;
+        }
+        catch (IgniteOutOfMemoryException ignored) {
+            // All pages are pinned, nothing to replace.
+            return false;
+        }
+        finally {
+            seg.writeLock().unlock();
+
+            if (delayedWriter != null)
+                delayedWriter.finishReplacement();
+        }
+    }
+
     /**
      * @param seg Segment.
      * @param grpId Cache group ID.
@@ -1036,7 +1254,12 @@ public class PageMemoryImpl implements PageMemoryEx {
                                     && deltaRecord.groupId() == fullId.groupId()) {
                                     assert tmpAddr != null;
 
-                                    deltaRecord.applyDelta(this, tmpAddr);
+                                    // The page can't be restored further if the diff is taken against another image.
+                                    if (deltaRecord instanceof PageSnapshotDiffRecord &&
+                                        !((PageSnapshotDiffRecord)deltaRecord).matchesBase(tmpAddr, pageSize()))
+                                        curPage = null;
+                                    else
+                                        deltaRecord.applyDelta(this, tmpAddr);
                                 }
                             }
                     }
@@ -1115,6 +1338,34 @@ public class PageMemoryImpl implements PageMemoryEx {
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override public void forEachLoadedPage(Consumer<FullPageId> act) {
+        Segment[] segments = this.segments;
+
+        if (segments == null)
+            return;
+
+        for (Segment seg : segments) {
+            List<FullPageId> pageIds;
+
+            seg.readLock().lock();
+
+            try {
+                if (seg.closed)
+                    continue;
+
+                pageIds = new ArrayList<>(seg.loadedPages.size());
+
+                seg.loadedPages.forEach((fullId, relPtr) -> pageIds.add(fullId));
+            }
+            finally {
+                seg.readLock().unlock();
+            }
+
+            pageIds.forEach(act);
+        }
+    }
+
     /**
      * @return Total pages can be placed in all segments.
      */
@@ -1586,13 +1837,41 @@ public class PageMemoryImpl implements PageMemoryEx {
             return 0;
 
         if (touch)
-            PageHeader.writeTimestamp(absPtr, U.currentTimeMillis());
+            PageHeader.touch(absPtr, U.currentTimeMillis());
 
         assert PageIO.getCrc(absPtr + PAGE_OVERHEAD) == 0; //TODO GG-11480
 
         return absPtr + PAGE_OVERHEAD;
     }
 
+    /** {@inheritDoc} */
+    @Override public long readOptimistic(int grpId, long pageId, long page, long bufAddr) {
+        assert started;
+
+        int tag = PageIdUtils.tag(pageId);
+
+        long stamp = rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, tag);
+
+        if (stamp == 0L)
+            return 0L;
+
+        GridUnsafe.copyMemory(page + PAGE_OVERHEAD, bufAddr, pageSize());
+
+        if (!rwLock.validate(page + PAGE_LOCK_OFFSET, tag, stamp))
+            return 0L;
+
+        PageHeader.touch(page, U.currentTimeMillis());
+
+        return stamp;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        assert started;
+
+        return rwLock.validate(page + PAGE_LOCK_OFFSET, PageIdUtils.tag(pageId), stamp);
+    }
+
     /** {@inheritDoc} */
     @Override public long readLockForce(int grpId, long pageId, long page) {
         assert started;
@@ -1647,7 +1926,7 @@ public class PageMemoryImpl implements PageMemoryEx {
      * @return Pointer to the page write buffer.
      */
     private long postWriteLockPage(long absPtr, FullPageId fullId) {
-        PageHeader.writeTimestamp(absPtr, U.currentTimeMillis());
+        PageHeader.touch(absPtr, U.currentTimeMillis());
 
         // Create a buffer copy if the page is scheduled for a checkpoint.
         if (isInCheckpoint(fullId) && PageHeader.tempBufferPointer(absPtr) == INVALID_REL_PTR) {
@@ -1686,6 +1965,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
         assert PageIO.getCrc(absPtr + PAGE_OVERHEAD) == 0; //TODO GG-11480
 
+        if (preImages != null && !isDirty(absPtr))
+            preImages.get().capture(absPtr, absPtr + PAGE_OVERHEAD);
+
         return absPtr + PAGE_OVERHEAD;
     }
 
@@ -1705,6 +1987,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     ) {
         boolean wasDirty = isDirty(page);
 
+        // The image is taken when the page is locked, so it is the base of the diff only if the page is still clean.
+        long baseAddr = preImages != null ? preImages.get().release(page) : 0;
+
         try {
             //if page is for restore, we shouldn't mark it as changed
             if (!restore && markDirty && !wasDirty && changeTracker != null)
@@ -1717,7 +2002,7 @@ public class PageMemoryImpl implements PageMemoryEx {
             if (markDirty)
                 setDirty(fullId, page, true, false);
 
-            beforeReleaseWrite(fullId, page + PAGE_OVERHEAD, pageWalRec);
+            beforeReleaseWrite(fullId, page + PAGE_OVERHEAD, pageWalRec, wasDirty ? 0 : baseAddr);
         }
         catch (IgniteCheckedException e) {
             throw new IgniteException(e);
@@ -1879,14 +2164,51 @@ public class PageMemoryImpl implements PageMemoryEx {
     }
 
     /**
-     *
+     * @param pageId Full page ID.
+     * @param ptr Page address.
+     * @param pageWalRec {@code True} if the page must be logged.
+     * @param baseAddr Address of the checkpointed image of the page or {@code 0} if not available.
+     * @throws IgniteCheckedException If failed.
      */
-    void beforeReleaseWrite(FullPageId pageId, long ptr, boolean pageWalRec) throws IgniteCheckedException {
+    void beforeReleaseWrite(
+        FullPageId pageId,
+        long ptr,
+        boolean pageWalRec,
+        long baseAddr
+    ) throws IgniteCheckedException {
         boolean walIsNotDisabled = walMgr != null && !walMgr.disabled(pageId.groupId());
         boolean pageRecOrAlwaysWriteFullPage = walMgr != null && (pageWalRec || walMgr.isAlwaysWriteFullPages());
 
-        if (pageRecOrAlwaysWriteFullPage && walIsNotDisabled)
-            walMgr.log(new PageSnapshot(pageId, ptr, pageSize(), realPageSize(pageId.groupId())));
+        if (pageRecOrAlwaysWriteFullPage && walIsNotDisabled) {
+            PageSnapshotDiffRecord diff = baseAddr != 0 && !walMgr.isAlwaysWriteFullPages() ?
+                pageSnapshotDiff(pageId, baseAddr, ptr) : null;
+
+            if (diff != null)
+                walMgr.log(diff);
+            else
+                walMgr.log(new PageSnapshot(pageId, ptr, pageSize(), realPageSize(pageId.groupId())));
+        }
+    }
+
+    /**
+     * @param pageId Full page ID.
+     * @param baseAddr Address of the checkpointed image of the page.
+     * @param ptr Page address.
+     * @return Diff of the page or {@code null} if the full page should be logged.
+     */
+    @Nullable private PageSnapshotDiffRecord pageSnapshotDiff(FullPageId pageId, long baseAddr, long ptr) {
+        int grpId = pageId.groupId();
+
+        // Encrypted and compressed pages are read from disk not exactly as they were in memory when written.
+        if (realPageSize(grpId) != pageSize())
+            return null;
+
+        GridCacheContext<?, ?> cctx0 = ctx.cacheContext(grpId);
+
+        if (cctx0 != null && cctx0.compress().isDiskPageCompressionEnabled())
+            return null;
+
+        return PageSnapshotDiffRecord.create(grpId, pageId.pageId(), baseAddr, ptr, pageSize(), pageSize() / 2);
     }
 
     /**
@@ -2013,12 +2335,24 @@ public class PageMemoryImpl implements PageMemoryEx {
         /** Initial partition generation. */
         private static final int INIT_PART_GENERATION = 1;
 
+        /** Number of counters of replaced pages, power of two. */
+        private static final int REPLACE_STAMPS = 1024;
+
         /** Maps partition (grpId, partId) to its generation. Generation is 1-based incrementing partition counter. */
         private final Map<GroupPartitionId, Integer> partGenerationMap = new HashMap<>();
 
         /** */
         private boolean closed;
 
+        /** Position of the clock hand in {@link #loadedPages} for {@link PageReplacementMode#CLOCK} replacement. */
+        private int clockHand;
+
+        /**
+         * Counters of replaced pages by page ID hash. Used to detect that a page read ahead without locks
+         * was loaded and replaced in between, so the read content may be stale.
+         */
+        private final int[] replaceStamps = new int[REPLACE_STAMPS];
+
         /**
          * @param region Memory region.
          * @param throttlingPlc policy determine if write throttling enabled and its type.
@@ -2232,7 +2566,8 @@ public class PageMemoryImpl implements PageMemoryEx {
         }
 
         /**
-         * Removes random oldest page for page replacement from memory to storage.
+         * Removes a page for page replacement from memory to storage, the page is selected with configured
+         * {@link PageReplacementMode}.
          *
          * @return Relative address for removed page, now it can be replaced by allocated or reloaded page.
          * @throws IgniteCheckedException If failed to evict page.
@@ -2262,8 +2597,6 @@ public class PageMemoryImpl implements PageMemoryEx {
                 }
             }
 
-            final ThreadLocalRandom rnd = ThreadLocalRandom.current();
-
             final int cap = loadedPages.capacity();
 
             if (acquiredPages() >= loadedPages.size()) {
@@ -2281,6 +2614,49 @@ public class PageMemoryImpl implements PageMemoryEx {
                 );
             }
 
+            long relPtr = replacementMode == PageReplacementMode.CLOCK ?
+                removeClockPageForReplacement(cap, saveDirtyPage) :
+                removeRandomOldestPageForReplacement(cap, saveDirtyPage);
+
+            FullPageId replacedId = PageHeader.fullPageId(absolute(relPtr));
+
+            replaceStamps[replaceStampIndex(replacedId.groupId(), replacedId.effectivePageId())]++;
+
+            return relPtr;
+        }
+
+        /**
+         * @param grpId Cache group ID.
+         * @param pageId Page ID.
+         * @return Counter of replaced pages with the same hash as the given page.
+         */
+        private int replaceStamp(int grpId, long pageId) {
+            return replaceStamps[replaceStampIndex(grpId, PageIdUtils.effectivePageId(pageId))];
+        }
+
+        /**
+         * @param grpId Cache group ID.
+         * @param effectivePageId Effective page ID.
+         * @return Index in {@link #replaceStamps}.
+         */
+        private int replaceStampIndex(int grpId, long effectivePageId) {
+            return U.hash(effectivePageId * 65537 + grpId) & (REPLACE_STAMPS - 1);
+        }
+
+        /**
+         * Removes random oldest page for page replacement from memory to storage.
+         *
+         * @param cap Loaded pages table capacity.
+         * @param saveDirtyPage Replaced page writer, implementation to save dirty page to persistent storage.
+         * @return Relative address for removed page, now it can be replaced by allocated or reloaded page.
+         * @throws IgniteCheckedException If failed to evict page.
+         */
+        private long removeRandomOldestPageForReplacement(
+            int cap,
+            PageStoreWriter saveDirtyPage
+        ) throws IgniteCheckedException {
+            final ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
             // With big number of random picked pages we may fall into infinite loop, because
             // every time the same page may be found.
             Set<Long> ignored = null;
@@ -2402,6 +2778,79 @@ public class PageMemoryImpl implements PageMemoryEx {
             }
         }
 
+        /**
+         * Removes a page for page replacement from memory to storage with generalized CLOCK algorithm. The clock hand
+         * sweeps over the loaded pages table decrementing access counters of the pages it passes, the first page
+         * with exhausted counter which can be evicted is replaced. Pages accessed once leave the memory after
+         * a single sweep, while frequently accessed pages survive up to {@link PageHeader#MAX_ACCESS_CNT} sweeps.
+         *
+         * @param cap Loaded pages table capacity.
+         * @param saveDirtyPage Replaced page writer, implementation to save dirty page to persistent storage.
+         * @return Relative address for removed page, now it can be replaced by allocated or reloaded page.
+         * @throws IgniteCheckedException If failed to evict page.
+         */
+        private long removeClockPageForReplacement(int cap, PageStoreWriter saveDirtyPage) throws IgniteCheckedException {
+            // Every full sweep decrements all the counters, so all of them are exhausted after this number of steps.
+            long maxSteps = (long)cap * (PageHeader.MAX_ACCESS_CNT + 2);
+
+            long prevAddr = INVALID_REL_PTR;
+
+            for (long step = 0; step < maxSteps; step++) {
+                int idx = clockHand;
+
+                clockHand = idx + 1 < cap ? idx + 1 : 0;
+
+                ReplaceCandidate nearest = loadedPages.getNearestAt(idx);
+
+                assert nearest != null && nearest.relativePointer() != INVALID_REL_PTR;
+
+                long addr = nearest.relativePointer();
+
+                // Empty cells lead the hand to the same page, it must be passed only once per sweep.
+                if (addr == prevAddr)
+                    continue;
+
+                prevAddr = addr;
+
+                long absPageAddr = absolute(addr);
+
+                FullPageId fullId = PageHeader.fullPageId(absPageAddr);
+
+                // Check page mapping consistency.
+                assert fullId.equals(nearest.fullId()) : "Invalid page mapping [tableId=" + nearest.fullId() +
+                    ", actual=" + fullId + ", nearest=" + nearest;
+
+                if (nearest.generation() < partGeneration(fullId.groupId(), PageIdUtils.partId(fullId.pageId())))
+                    return refreshOutdatedPage(this, fullId.groupId(), fullId.pageId(), true);
+
+                if (PageHeader.accessCounter(absPageAddr) > 0) {
+                    PageHeader.decrementAccessCounter(absPageAddr);
+
+                    continue;
+                }
+
+                if (PageHeader.isAcquired(absPageAddr) || fullId.pageId() == META_PAGE_ID)
+                    continue;
+
+                CheckpointPages checkpointPages = this.checkpointPages;
+
+                if (isDirty(absPageAddr) && (checkpointPages == null || !checkpointPages.contains(fullId)))
+                    continue;
+
+                // Partition metadata pages are needed by every checkpoint, keep them until there is no other choice.
+                if (isStoreMetadataPage(absPageAddr))
+                    continue;
+
+                if (preparePageRemoval(fullId, absPageAddr, saveDirtyPage)) {
+                    loadedPages.remove(fullId.groupId(), fullId.effectivePageId());
+
+                    return addr;
+                }
+            }
+
+            return tryToFindSequentially(cap, saveDirtyPage);
+        }
+
         /**
          * @param absPageAddr Absolute page address
          * @return {@code True} if page is related to partition metadata, which is loaded in saveStoreMetadata().
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Images of the clean pages taken by a thread when it write locks them. The image of a clean page is the image saved
+ * by the last checkpoint, so the first change of the page after the checkpoint is logged as a diff against it.
+ * <p>
+ * Not thread-safe, used by a single thread. A thread rarely holds more than a few page write locks at once, if all
+ * the slots are taken the page is not captured and the full page is logged.
+ */
+class PagePreImages {
+    /** Number of slots. */
+    private static final int SLOTS = 8;
+
+    /** Page size. */
+    private final int pageSize;
+
+    /** Address of the buffer of the images. */
+    private final long bufAddr;
+
+    /** Buffer of the images, referenced to keep the memory allocated. */
+    @SuppressWarnings("unused")
+    private final ByteBuffer buf;
+
+    /** Absolute pointers of the captured pages, {@code 0} for a free slot. */
+    private final long[] ptrs = new long[SLOTS];
+
+    /**
+     * @param pageSize Page size.
+     */
+    PagePreImages(int pageSize) {
+        this.pageSize = pageSize;
+
+        buf = ByteBuffer.allocateDirect(pageSize * SLOTS);
+        bufAddr = GridUnsafe.bufferAddress(buf);
+    }
+
+    /**
+     * @param absPtr Absolute pointer of the page.
+     * @param pageAddr Page address.
+     */
+    void capture(long absPtr, long pageAddr) {
+        int slot = -1;
+
+        for (int i = 0; i < SLOTS; i++) {
+            // The slot of a page unlocked without being released is reused.
+            if (ptrs[i] == absPtr) {
+                slot = i;
+
+                break;
+            }
+
+            if (ptrs[i] == 0 && slot == -1)
+                slot = i;
+        }
+
+        if (slot == -1)
+            return;
+
+        ptrs[slot] = absPtr;
+
+        GridUnsafe.copyMemory(pageAddr, bufAddr + (long)slot * pageSize, pageSize);
+    }
+
+    /**
+     * Releases the image of the page. The image stays valid until the next {@link #capture(long, long)}.
+     *
+     * @param absPtr Absolute pointer of the page.
+     * @return Address of the image or {@code 0} if the page is not captured.
+     */
+    long release(long absPtr) {
+        for (int i = 0; i < SLOTS; i++) {
+            if (ptrs[i] == absPtr) {
+                ptrs[i] = 0;
+
+                return bufAddr + (long)i * pageSize;
+            }
+        }
+
+        return 0;
+    }
+}
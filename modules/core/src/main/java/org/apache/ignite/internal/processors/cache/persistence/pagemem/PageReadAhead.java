@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteThreadFactory;
+
+/**
+ * Detects sequential cold reads of pages within partition files and asynchronously loads the following pages
+ * to the page memory, so scans do not block on a single page read per page.
+ * <p>
+ * Read-ahead starts once {@link #SEQ_THRESHOLD} pages of a partition are read from disk one after another.
+ * Then a window of the next pages is loaded in background. The window in front of the scan is refilled once
+ * the scan reaches the middle of the previously loaded window, the pages loaded ahead are found in memory and
+ * are not reported as cold reads any more.
+ */
+class PageReadAhead {
+    /** Number of sequential cold reads of a partition which starts read-ahead. */
+    static final int SEQ_THRESHOLD = 3;
+
+    /** Number of tracked read streams, power of two. */
+    private static final int STREAMS = 256;
+
+    /** Capacity of the read-ahead tasks queue. */
+    private static final int QUEUE_SIZE = 1024;
+
+    /** Page memory. */
+    private final PageMemoryImpl pageMem;
+
+    /** Number of pages to read ahead. */
+    private final int size;
+
+    /** Read streams, stream is selected by the hash of the group and partition IDs. */
+    private final Stream[] streams = new Stream[STREAMS];
+
+    /** Thread local page buffers of the read-ahead threads. */
+    private final ThreadLocal<ByteBuffer> threadBuf;
+
+    /** Read-ahead threads. */
+    private final ExecutorService exec;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Stopped flag. */
+    private volatile boolean stopped;
+
+    /**
+     * @param pageMem Page memory.
+     * @param size Number of pages to read ahead.
+     * @param igniteInstanceName Ignite instance name.
+     * @param log Logger.
+     */
+    PageReadAhead(PageMemoryImpl pageMem, int size, String igniteInstanceName, IgniteLogger log) {
+        assert size > 0 : size;
+
+        this.pageMem = pageMem;
+        this.size = size;
+        this.log = log;
+
+        for (int i = 0; i < streams.length; i++)
+            streams[i] = new Stream();
+
+        int pageSize = pageMem.pageSize();
+
+        threadBuf = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder()));
+
+        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+        // Read-ahead is an optimization, tasks exceeding the queue capacity are discarded.
+        exec = new ThreadPoolExecutor(
+            threads,
+            threads,
+            30L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE),
+            new IgniteThreadFactory(igniteInstanceName, "page-read-ahead"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+        ((ThreadPoolExecutor)exec).allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Tracks a page access, the page is either read from disk or found in memory.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param cold {@code True} if the page is read from disk.
+     */
+    void onPageAccess(int grpId, long pageId, boolean cold) {
+        int partId = PageIdUtils.partId(pageId);
+        int idx = PageIdUtils.pageIndex(pageId);
+
+        Stream s = streams[U.safeAbs(U.hash(grpId * 31 + partId)) & (STREAMS - 1)];
+
+        // Fast racy check for the pages found in memory, only reaching the mark refills the window.
+        if (!cold && (s.markIdx != idx || s.grpId != grpId || s.partId != partId))
+            return;
+
+        int from;
+        int to;
+
+        synchronized (s) {
+            if (s.grpId != grpId || s.partId != partId) {
+                if (!cold)
+                    return;
+
+                s.reset(grpId, partId, idx);
+
+                return;
+            }
+
+            if (cold) {
+                if (idx == s.lastIdx + 1 || (idx > s.lastIdx && idx <= s.aheadIdx))
+                    s.seqCnt++;
+                else if (idx != s.lastIdx) {
+                    s.reset(grpId, partId, idx);
+
+                    return;
+                }
+
+                s.lastIdx = idx;
+
+                if (s.seqCnt < SEQ_THRESHOLD || (s.aheadIdx > idx && idx < s.markIdx))
+                    return;
+            }
+            else if (s.markIdx != idx)
+                return;
+
+            from = Math.max(s.aheadIdx, idx) + 1;
+            to = from + size;
+
+            s.aheadIdx = to - 1;
+            s.markIdx = from + size / 2;
+        }
+
+        exec.execute(() -> readAhead(grpId, partId, from, to));
+    }
+
+    /**
+     * Loads pages to the page memory.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @param from First page index, inclusive.
+     * @param to Last page index, exclusive.
+     */
+    private void readAhead(int grpId, int partId, int from, int to) {
+        ByteBuffer buf = threadBuf.get();
+
+        try {
+            int pages = pageMem.storePages(grpId, partId);
+
+            for (int idx = from; idx < Math.min(to, pages) && !stopped; idx++) {
+                if (!pageMem.readAheadPage(grpId, partId, idx, buf))
+                    break;
+            }
+        }
+        catch (IgniteCheckedException e) {
+            // Pages are loaded on demand anyway.
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to read pages ahead [grpId=" + grpId + ", partId=" + partId +
+                    ", from=" + from + ", to=" + to + ", err=" + e + ']');
+            }
+        }
+    }
+
+    /**
+     * Stops read-ahead.
+     */
+    void stop() {
+        stopped = true;
+
+        U.shutdownNow(getClass(), exec, log);
+    }
+
+    /**
+     * Sequential read stream of a partition.
+     */
+    private static class Stream {
+        /** Cache group ID. */
+        private volatile int grpId;
+
+        /** Partition ID. */
+        private volatile int partId = -1;
+
+        /** Index of the last page read from disk. */
+        private int lastIdx;
+
+        /** Number of sequential reads. */
+        private int seqCnt;
+
+        /** Index of the last page scheduled to be read ahead. */
+        private int aheadIdx;
+
+        /** Index of the page which access triggers the next read-ahead. */
+        private volatile int markIdx = -1;
+
+        /**
+         * @param grpId Cache group ID.
+         * @param partId Partition ID.
+         * @param idx Page index.
+         */
+        private void reset(int grpId, int partId, int idx) {
+            this.grpId = grpId;
+            this.partId = partId;
+
+            lastIdx = idx;
+            aheadIdx = idx;
+            seqCnt = 1;
+            markIdx = -1;
+        }
+    }
+}
@@ -45,6 +45,34 @@ public interface PageReadWriteManager {
      */
     public PageStore write(int grpId, long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes a run of pages with contiguous indexes of the same partition.
+     *
+     * @param grpId Cache group ID.
+     * @param pageIds Page IDs sorted by page index, indexes must be contiguous.
+     * @param pageBufs Page buffers to write.
+     * @param cnt Number of pages to write.
+     * @param tag Partition file version.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @return Page store the pages were written to.
+     * @throws IgniteCheckedException If failed to write pages.
+     */
+    public default PageStore write(
+        int grpId,
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int cnt,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        PageStore store = null;
+
+        for (int i = 0; i < cnt; i++)
+            store = write(grpId, pageIds[i], pageBufs[i], tag, calculateCrc);
+
+        return store;
+    }
+
     /**
      * Allocates a page for the given page space.
      *
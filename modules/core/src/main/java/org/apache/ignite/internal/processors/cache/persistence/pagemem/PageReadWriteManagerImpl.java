@@ -121,6 +121,35 @@ public class PageReadWriteManagerImpl implements PageReadWriteManager {
         return store;
     }
 
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        int grpId,
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int cnt,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        GridCacheContext<?, ?> cctx0 = ctx.cache().context().cacheContext(grpId);
+
+        // Compressed pages are written separately since each of them punches a hole of its own size.
+        if (cnt == 1 || (cctx0 != null && cctx0.compress().isDiskPageCompressionEnabled()))
+            return PageReadWriteManager.super.write(grpId, pageIds, pageBufs, cnt, tag, calculateCrc);
+
+        PageStore store = pageStores.getStore(grpId, PageIdUtils.partId(pageIds[0]));
+
+        try {
+            store.write(pageIds, pageBufs, cnt, tag, calculateCrc);
+        }
+        catch (StorageException e) {
+            ctx.failure().process(new FailureContext(FailureType.CRITICAL_ERROR, e));
+
+            throw e;
+        }
+
+        return store;
+    }
+
     /** {@inheritDoc} */
     @Override public long allocatePage(int grpId, int partId, byte flags) throws IgniteCheckedException {
         assert partId <= MAX_PARTITION_ID || partId == INDEX_PARTITION;
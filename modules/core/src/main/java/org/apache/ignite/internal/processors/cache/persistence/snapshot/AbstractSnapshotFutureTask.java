@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.util.Set;
+import java.util.UUID;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+
+/**
+ * Local snapshot task which is scheduled on the checkpoint and tracked by the snapshot manager.
+ *
+ * @param <T> Type of the task result.
+ */
+abstract class AbstractSnapshotFutureTask<T> extends GridFutureAdapter<T> {
+    /** Shared context. */
+    protected final GridCacheSharedContext<?, ?> cctx;
+
+    /** Ignite logger. */
+    protected final IgniteLogger log;
+
+    /** Node id which cause snapshot operation. */
+    protected final UUID srcNodeId;
+
+    /** Unique identifier of snapshot process. */
+    protected final String snpName;
+
+    /**
+     * @param cctx Shared context.
+     * @param srcNodeId Node id which cause snapshot operation.
+     * @param snpName Unique identifier of snapshot process.
+     */
+    protected AbstractSnapshotFutureTask(GridCacheSharedContext<?, ?> cctx, UUID srcNodeId, String snpName) {
+        this.cctx = cctx;
+        this.log = cctx == null ? null : cctx.logger(getClass());
+        this.srcNodeId = srcNodeId;
+        this.snpName = snpName;
+    }
+
+    /**
+     * @return Snapshot name.
+     */
+    public String snapshotName() {
+        return snpName;
+    }
+
+    /**
+     * @return Node id which triggers this operation.
+     */
+    public UUID sourceNodeId() {
+        return srcNodeId;
+    }
+
+    /**
+     * @return Set of cache groups included into snapshot operation.
+     */
+    public abstract Set<Integer> affectedCacheGroups();
+
+    /**
+     * @param th An exception which occurred during snapshot processing.
+     */
+    public abstract void acceptException(Throwable th);
+
+    /**
+     * Initiates snapshot task.
+     *
+     * @return {@code true} if task started by this call.
+     */
+    public abstract boolean start();
+
+    /**
+     * @throws IgniteCheckedException If fails.
+     */
+    public abstract void awaitStarted() throws IgniteCheckedException;
+
+    /** {@inheritDoc} */
+    @Override public abstract boolean cancel();
+}
@@ -17,9 +17,14 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.snapshot;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -29,7 +34,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -44,7 +51,12 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCheckedException;
@@ -56,6 +68,7 @@ import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.events.DiscoveryEvent;
 import org.apache.ignite.events.SnapshotEvent;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.GridTopic;
 import org.apache.ignite.internal.IgniteClientDisconnectedCheckedException;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.IgniteFeatures;
@@ -64,6 +77,12 @@ import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.NodeStoppingException;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
 import org.apache.ignite.internal.events.DiscoveryCustomEvent;
+import org.apache.ignite.internal.managers.communication.GridIoManager;
+import org.apache.ignite.internal.managers.communication.GridMessageListener;
+import org.apache.ignite.internal.managers.communication.TransmissionCancelledException;
+import org.apache.ignite.internal.managers.communication.TransmissionHandler;
+import org.apache.ignite.internal.managers.communication.TransmissionMeta;
+import org.apache.ignite.internal.managers.communication.TransmissionPolicy;
 import org.apache.ignite.internal.managers.eventstorage.DiscoveryEventListener;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheGroupDescriptor;
@@ -83,6 +102,9 @@ import org.apache.ignite.internal.processors.cache.persistence.metastorage.ReadO
 import org.apache.ignite.internal.processors.cache.persistence.metastorage.ReadWriteMetastorage;
 import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
 import org.apache.ignite.internal.processors.cluster.DiscoveryDataClusterState;
 import org.apache.ignite.internal.processors.marshaller.MappedName;
@@ -97,6 +119,7 @@ import org.apache.ignite.internal.util.future.IgniteFinishedFutureImpl;
 import org.apache.ignite.internal.util.future.IgniteFutureImpl;
 import org.apache.ignite.internal.util.lang.GridClosureException;
 import org.apache.ignite.internal.util.lang.GridPlainRunnable;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.A;
@@ -105,6 +128,9 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteCallable;
 import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.marshaller.Marshaller;
+import org.apache.ignite.marshaller.MarshallerUtils;
 import org.apache.ignite.resources.IgniteInstanceResource;
 import org.apache.ignite.thread.IgniteThreadPoolExecutor;
 import org.apache.ignite.thread.OomExceptionHandler;
@@ -120,6 +146,8 @@ import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
 import static org.apache.ignite.internal.GridClosureCallMode.BALANCE;
 import static org.apache.ignite.internal.GridClosureCallMode.BROADCAST;
+import static org.apache.ignite.internal.IgniteFeatures.INCREMENTAL_SNAPSHOT;
+import static org.apache.ignite.internal.IgniteFeatures.PARTITION_FILES_TRANSFER;
 import static org.apache.ignite.internal.IgniteFeatures.PERSISTENCE_CACHE_SNAPSHOT;
 import static org.apache.ignite.internal.MarshallerContextImpl.mappingFileStoreWorkDir;
 import static org.apache.ignite.internal.MarshallerContextImpl.saveMappings;
@@ -130,7 +158,11 @@ import static org.apache.ignite.internal.pagemem.PageIdAllocator.MAX_PARTITION_I
 import static org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl.binaryWorkDir;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.INDEX_FILE_NAME;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.PART_FILE_TEMPLATE;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.TMP_SUFFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.cacheDirName;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.cacheWorkDir;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.getPartitionFile;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.getPartitionFileName;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.PdsConsistentIdProcessor.DB_DEFAULT_FOLDER;
 import static org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId.getTypeByPartId;
 import static org.apache.ignite.internal.util.IgniteUtils.isLocalNodeCoordinator;
@@ -144,6 +176,11 @@ import static org.apache.ignite.plugin.security.SecurityPermission.ADMIN_SNAPSHO
  * These major actions available:
  * <ul>
  *     <li>Create snapshot of the whole cluster cache groups by triggering PME to achieve consistency.</li>
+ *     <li>Create a checkpoint-consistent copy of cache partition files of a remote node and transfer them
+ *     to the local node (e.g. to rebalance the whole partition files instead of rebalancing them entry by entry).</li>
+ *     <li>Restore cache groups from the cluster snapshot on the active cluster (see {@link SnapshotRestoreProcess}).</li>
+ *     <li>Create incremental snapshots on top of the cluster snapshot. An increment consists of the archived WAL
+ *     segments written since the previous snapshot of the chain (see {@link IncrementalSnapshotFutureTask}).</li>
  * </ul>
  */
 public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
@@ -163,6 +200,15 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     /** Default snapshot directory for loading remote snapshots. */
     public static final String DFLT_SNAPSHOT_TMP_DIR = "snp";
 
+    /** Extension of the file with the local node snapshot metadata. */
+    public static final String SNAPSHOT_METAFILE_EXT = ".smf";
+
+    /** Extension of the file with the local node incremental snapshot metadata. */
+    public static final String INC_SNAPSHOT_METAFILE_EXT = ".imf";
+
+    /** Directory of incremental snapshots inside the snapshot directory. */
+    public static final String INC_SNP_DIR = "increments";
+
     /** Snapshot in progress error message. */
     public static final String SNP_IN_PROGRESS_ERR_MSG = "Operation rejected due to the snapshot operation in progress.";
 
@@ -185,8 +231,23 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     /** Snapshot operation fail log message. */
     private static final String SNAPSHOT_FAILED_MSG = "Cluster-wide snapshot operation failed: ";
 
-    /** Total number of thread to perform local snapshot. */
-    private static final int SNAPSHOT_THREAD_POOL_SIZE = 4;
+    /** Default snapshot topic to receive snapshots from remote node. */
+    private static final Object DFLT_INITIAL_SNAPSHOT_TOPIC = GridTopic.TOPIC_SNAPSHOT.topic("rmtSnapshotTopic");
+
+    /** File transmission parameter of cache group id. */
+    private static final String SNP_GRP_ID_PARAM = "grpId";
+
+    /** File transmission parameter of cache directory with is currently sends its partitions. */
+    private static final String SNP_CACHE_DIR_NAME_PARAM = "cacheDirName";
+
+    /** Snapshot parameter name for a file transmission. */
+    private static final String SNP_NAME_PARAM = "snpName";
+
+    /** File transmission parameter of partition id. */
+    private static final String SNP_PART_ID_PARAM = "partId";
+
+    /** Prefix of snapshot names requested from remote nodes. */
+    private static final String RMT_SNAPSHOT_PREFIX = "snapshot_";
 
     /**
      * Local buffer to perform copy-on-write operations with pages for {@code SnapshotFutureTask.PageStoreSerialWriter}s.
@@ -197,7 +258,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     private final ThreadLocal<ByteBuffer> locBuff;
 
     /** Map of registered cache snapshot processes and their corresponding contexts. */
-    private final ConcurrentMap<String, SnapshotFutureTask> locSnpTasks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AbstractSnapshotFutureTask<?>> locSnpTasks = new ConcurrentHashMap<>();
 
     /** Lock to protect the resources is used. */
     private final GridBusyLock busyLock = new GridBusyLock();
@@ -211,6 +272,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     /** Check previously performed snapshot operation and delete uncompleted files if need. */
     private final DistributedProcess<SnapshotOperationRequest, SnapshotOperationResponse> endSnpProc;
 
+    /** Cache group restore from the snapshot procedure. */
+    private final SnapshotRestoreProcess restoreCacheGrpProc;
+
     /** Resolved persistent data storage settings. */
     private volatile PdsFolderSettings pdsSettings;
 
@@ -241,6 +305,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     /** System discovery message listener. */
     private DiscoveryEventListener discoLsnr;
 
+    /** Snapshot requested from the remote node, only one such request can be processed at a time. */
+    private final AtomicReference<RemoteSnapshotFuture> rmtSnpReq = new AtomicReference<>();
+
     /** Cluster snapshot operation requested by user. */
     private ClusterSnapshotFuture clusterSnpFut;
 
@@ -253,6 +320,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     /** Last seen cluster snapshot operation. */
     private volatile ClusterSnapshotFuture lastSeenSnpFut = new ClusterSnapshotFuture();
 
+    /** Marshaller of the snapshot metadata files. */
+    private final Marshaller marsh;
+
     /**
      * @param ctx Kernal context.
      */
@@ -266,6 +336,10 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
 
         endSnpProc = new DistributedProcess<>(ctx, END_SNAPSHOT, this::initLocalSnapshotEndStage,
             this::processLocalSnapshotEndStageResult);
+
+        restoreCacheGrpProc = new SnapshotRestoreProcess(ctx);
+
+        marsh = MarshallerUtils.jdkMarshaller(ctx.igniteInstanceName());
     }
 
     /**
@@ -299,10 +373,14 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         if (!CU.isPersistenceEnabled(ctx.config()))
             return;
 
+        int poolSize = ctx.config().getSnapshotThreadPoolSize();
+
+        A.ensure(poolSize > 0, "Snapshot thread pool size must be greater than zero: " + poolSize);
+
         snpRunner = new IgniteThreadPoolExecutor(SNAPSHOT_RUNNER_THREAD_PREFIX,
             cctx.igniteInstanceName(),
-            SNAPSHOT_THREAD_POOL_SIZE,
-            SNAPSHOT_THREAD_POOL_SIZE,
+            poolSize,
+            poolSize,
             IgniteConfiguration.DFLT_THREAD_KEEP_ALIVE_TIME,
             new LinkedBlockingQueue<>(),
             SYSTEM_POOL,
@@ -320,6 +398,8 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         U.ensureDirectory(locSnpDir, "snapshot work directory", log);
         U.ensureDirectory(tmpWorkDir, "temp directory for snapshot creation", log);
 
+        restoreCacheGrpProc.cleanup(storeMgr.workDir());
+
         MetricRegistry mreg = cctx.kernalContext().metric().registry(SNAPSHOT_METRICS);
 
         mreg.register("LastSnapshotStartTime", () -> lastSeenSnpFut.startTime,
@@ -350,9 +430,18 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 UUID leftNodeId = evt.eventNode().id();
 
                 if (evt.type() == EVT_NODE_LEFT || evt.type() == EVT_NODE_FAILED) {
+                    RemoteSnapshotFuture rmtSnpFut = rmtSnpReq.get();
+
+                    if (rmtSnpFut != null && rmtSnpFut.rmtNodeId.equals(leftNodeId)) {
+                        rmtSnpFut.onDone(new ClusterTopologyCheckedException("The node from which a snapshot has been " +
+                            "requested left the grid: " + leftNodeId));
+                    }
+
                     SnapshotOperationRequest snpReq = clusterSnpReq;
 
-                    for (SnapshotFutureTask sctx : locSnpTasks.values()) {
+                    restoreCacheGrpProc.onNodeLeft(leftNodeId);
+
+                    for (AbstractSnapshotFutureTask<?> sctx : locSnpTasks.values()) {
                         if (sctx.sourceNodeId().equals(leftNodeId) ||
                             (snpReq != null &&
                                 snpReq.snpName.equals(sctx.snapshotName()) &&
@@ -367,6 +456,182 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 busyLock.leaveBusy();
             }
         }, EVT_NODE_LEFT, EVT_NODE_FAILED);
+
+        // Remote snapshot handler.
+        cctx.gridIO().addMessageListener(DFLT_INITIAL_SNAPSHOT_TOPIC, new GridMessageListener() {
+            @Override public void onMessage(UUID nodeId, Object msg, byte plc) {
+                if (!busyLock.enterBusy())
+                    return;
+
+                try {
+                    if (msg instanceof SnapshotRequestMessage)
+                        processRemoteSnapshotRequest(nodeId, (SnapshotRequestMessage)msg);
+                    else if (msg instanceof SnapshotResponseMessage) {
+                        SnapshotResponseMessage respMsg0 = (SnapshotResponseMessage)msg;
+
+                        RemoteSnapshotFuture fut0 = rmtSnpReq.get();
+
+                        if (fut0 == null || !fut0.snpName.equals(respMsg0.snapshotName())) {
+                            if (log.isInfoEnabled()) {
+                                log.info("A stale snapshot response message has been received. Will be ignored " +
+                                    "[fromNodeId=" + nodeId + ", response=" + respMsg0 + ']');
+                            }
+
+                            return;
+                        }
+
+                        if (respMsg0.errorMessage() == null)
+                            fut0.onRemoteTaskFinished();
+                        else {
+                            fut0.onDone(new IgniteCheckedException("Request cancelled. The snapshot operation stopped " +
+                                "on the remote node with an error: " + respMsg0.errorMessage()));
+                        }
+                    }
+                }
+                catch (Throwable e) {
+                    U.error(log, "Processing snapshot request from remote node fails with an error", e);
+                }
+                finally {
+                    busyLock.leaveBusy();
+                }
+            }
+        });
+
+        cctx.gridIO().addTransmissionHandler(DFLT_INITIAL_SNAPSHOT_TOPIC, new TransmissionHandler() {
+            /** {@inheritDoc} */
+            @Override public void onEnd(UUID nodeId) {
+                RemoteSnapshotFuture snpTrFut = rmtSnpReq.get();
+
+                if (snpTrFut == null || !snpTrFut.rmtNodeId.equals(nodeId))
+                    return;
+
+                snpTrFut.onTransmissionEnd();
+            }
+
+            /** {@inheritDoc} */
+            @Override public void onException(UUID nodeId, Throwable err) {
+                RemoteSnapshotFuture fut = rmtSnpReq.get();
+
+                if (fut == null)
+                    return;
+
+                if (fut.rmtNodeId.equals(nodeId))
+                    fut.onDone(err);
+            }
+
+            /** {@inheritDoc} */
+            @Override public String filePath(UUID nodeId, TransmissionMeta fileMeta) {
+                RemoteSnapshotFuture transFut = resolve(nodeId, fileMeta);
+
+                Integer partId = (Integer)fileMeta.params().get(SNP_PART_ID_PARAM);
+                String rmtDbNodePath = (String)fileMeta.params().get(SNP_CACHE_DIR_NAME_PARAM);
+
+                try {
+                    File cacheDir = U.resolveWorkDirectory(tmpWorkDir.getAbsolutePath(),
+                        Paths.get(transFut.snpName, rmtDbNodePath).toString(),
+                        false);
+
+                    return new File(cacheDir, getPartitionFileName(partId)).getAbsolutePath();
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IgniteException(e);
+                }
+            }
+
+            /**
+             * @param nodeId Remote node id.
+             * @param meta Transmission meta.
+             * @return Resolved transmission future.
+             */
+            private RemoteSnapshotFuture resolve(UUID nodeId, TransmissionMeta meta) {
+                String snpName = (String)meta.params().get(SNP_NAME_PARAM);
+
+                RemoteSnapshotFuture transFut = rmtSnpReq.get();
+
+                if (transFut == null || !transFut.snpName.equals(snpName) || !transFut.rmtNodeId.equals(nodeId)) {
+                    throw new TransmissionCancelledException("Stale snapshot transmission will be ignored " +
+                        "[snpName=" + snpName + ", meta=" + meta + ", transFut=" + transFut + ']');
+                }
+
+                if (transFut.isDone()) {
+                    throw new TransmissionCancelledException("Snapshot request is cancelled or finished " +
+                        "[snpName=" + snpName + ", meta=" + meta + ", transFut=" + transFut + ']');
+                }
+
+                return transFut;
+            }
+
+            /**
+             * @param meta Transmission meta.
+             * @return Cache group and partition pair the transmission related to.
+             */
+            private GroupPartitionId pair(TransmissionMeta meta) {
+                return new GroupPartitionId((Integer)meta.params().get(SNP_GRP_ID_PARAM),
+                    (Integer)meta.params().get(SNP_PART_ID_PARAM));
+            }
+
+            /** {@inheritDoc} */
+            @Override public Consumer<ByteBuffer> chunkHandler(UUID nodeId, TransmissionMeta initMeta) {
+                RemoteSnapshotFuture transFut = resolve(nodeId, initMeta);
+                GroupPartitionId grpPartId = pair(initMeta);
+
+                File partFile = transFut.parts.get(grpPartId);
+
+                if (partFile == null) {
+                    throw new IgniteException("Partition file must be received prior to its delta pages " +
+                        "[meta=" + initMeta + ", transFut=" + transFut + ']');
+                }
+
+                FilePageStore pageStore;
+
+                try {
+                    pageStore = (FilePageStore)storeFactory
+                        .apply(grpPartId.getGroupId(), false)
+                        .createPageStore(getTypeByPartId(grpPartId.getPartitionId()),
+                            partFile::toPath,
+                            val -> {});
+
+                    transFut.stores.put(grpPartId, pageStore);
+
+                    pageStore.beginRecover();
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IgniteException(e);
+                }
+
+                AtomicLong transferred = new AtomicLong();
+
+                return buf -> {
+                    try {
+                        if (transFut.isDone())
+                            throw new TransmissionCancelledException("Snapshot request is cancelled [meta=" + initMeta + ']');
+
+                        int pageSize = buf.remaining();
+
+                        pageStore.write(PageIO.getPageId(buf), buf, 0, false);
+
+                        if (transferred.addAndGet(pageSize) == initMeta.count()) {
+                            pageStore.finishRecover();
+
+                            U.closeQuiet(transFut.stores.remove(grpPartId));
+
+                            transFut.partitionReceived(grpPartId, partFile);
+                        }
+                    }
+                    catch (IgniteCheckedException e) {
+                        throw new IgniteException(e);
+                    }
+                };
+            }
+
+            /** {@inheritDoc} */
+            @Override public Consumer<File> fileHandler(UUID nodeId, TransmissionMeta initMeta) {
+                RemoteSnapshotFuture transFut = resolve(nodeId, initMeta);
+                GroupPartitionId grpPartId = pair(initMeta);
+
+                return file -> transFut.parts.put(grpPartId, file);
+            }
+        });
     }
 
     /** {@inheritDoc} */
@@ -375,7 +640,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
 
         try {
             // Try stop all snapshot processing if not yet.
-            for (SnapshotFutureTask sctx : locSnpTasks.values())
+            for (AbstractSnapshotFutureTask<?> sctx : locSnpTasks.values())
                 sctx.acceptException(new NodeStoppingException(SNP_NODE_STOPPING_ERR_MSG));
 
             locSnpTasks.clear();
@@ -388,12 +653,22 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 }
             }
 
+            restoreCacheGrpProc.stop(new NodeStoppingException(SNP_NODE_STOPPING_ERR_MSG));
+
             if (snpRunner != null)
                 snpRunner.shutdownNow();
 
             if (discoLsnr != null)
                 cctx.kernalContext().event().removeDiscoveryEventListener(discoLsnr);
 
+            cctx.gridIO().removeMessageListener(DFLT_INITIAL_SNAPSHOT_TOPIC);
+            cctx.gridIO().removeTransmissionHandler(DFLT_INITIAL_SNAPSHOT_TOPIC);
+
+            RemoteSnapshotFuture rmtSnpFut = rmtSnpReq.get();
+
+            if (rmtSnpFut != null)
+                rmtSnpFut.onDone(new NodeStoppingException(SNP_NODE_STOPPING_ERR_MSG));
+
             cctx.exchange().unregisterExchangeAwareComponent(this);
         }
         finally {
@@ -449,6 +724,19 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             U.delete(binMetadataDfltDir);
             U.delete(marshallerDfltDir);
 
+            U.delete(snapshotMetafile(snpDir, folderName));
+
+            File incsDir = new File(snpDir, INC_SNP_DIR);
+            File[] incDirs = incsDir.listFiles(File::isDirectory);
+
+            if (incDirs != null) {
+                for (File incDir : incDirs)
+                    deleteIncrementalSnapshot(incDir, folderName);
+            }
+
+            if (F.isEmpty(incsDir.list()))
+                incsDir.delete();
+
             File db = new File(snpDir, DB_DEFAULT_FOLDER);
 
             if (!db.exists() || F.isEmpty(db.list())) {
@@ -462,6 +750,18 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         }
     }
 
+    /**
+     * @param incDir Incremental snapshot directory.
+     * @param folderName Local node folder name (see {@link U#maskForFileName} with consistent id).
+     */
+    private void deleteIncrementalSnapshot(File incDir, String folderName) {
+        U.delete(new File(incDir, folderName));
+        U.delete(new File(incDir, folderName + INC_SNAPSHOT_METAFILE_EXT));
+
+        if (F.isEmpty(incDir.list()))
+            incDir.delete();
+    }
+
     /**
      * @param snpName Snapshot name.
      * @return Local snapshot directory for snapshot with given name.
@@ -473,6 +773,141 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         return new File(locSnpDir, snpName);
     }
 
+    /**
+     * @param snpName Snapshot name.
+     * @param incIdx Increment index.
+     * @return Local directory of the incremental snapshot with given index.
+     */
+    public File incrementalSnapshotLocalDir(String snpName, int incIdx) {
+        return Paths.get(snapshotLocalDir(snpName).getAbsolutePath(), INC_SNP_DIR, String.format("%016d", incIdx))
+            .toFile();
+    }
+
+    /**
+     * @param snpDir Snapshot directory.
+     * @param folderName Local node folder name.
+     * @return File of the local node snapshot metadata.
+     */
+    private static File snapshotMetafile(File snpDir, String folderName) {
+        return new File(snpDir, folderName + SNAPSHOT_METAFILE_EXT);
+    }
+
+    /**
+     * @param snpName Snapshot name.
+     * @return Metadata of the local node part of the snapshot.
+     * @throws IgniteCheckedException If the metadata doesn't exist or can't be read.
+     */
+    SnapshotMetadata readSnapshotMetadata(String snpName) throws IgniteCheckedException {
+        return readMetadata(snapshotMetafile(snapshotLocalDir(snpName), pdsSettings.folderName()));
+    }
+
+    /**
+     * @param snpName Snapshot name.
+     * @param incIdx Increment index.
+     * @return Metadata of the local node part of the incremental snapshot.
+     * @throws IgniteCheckedException If the metadata doesn't exist or can't be read.
+     */
+    IncrementalSnapshotMetadata readIncrementalSnapshotMetadata(String snpName, int incIdx) throws IgniteCheckedException {
+        return readMetadata(new File(incrementalSnapshotLocalDir(snpName, incIdx),
+            pdsSettings.folderName() + INC_SNAPSHOT_METAFILE_EXT));
+    }
+
+    /**
+     * @param snpName Snapshot name.
+     * @return Index of the last incremental snapshot of the local node or {@code 0} if there are no increments.
+     */
+    int lastIncrementIndex(String snpName) {
+        int idx = 0;
+
+        while (new File(incrementalSnapshotLocalDir(snpName, idx + 1),
+            pdsSettings.folderName() + INC_SNAPSHOT_METAFILE_EXT).exists())
+            idx++;
+
+        return idx;
+    }
+
+    /**
+     * Reads the chain of incremental snapshots of the local node and checks that they follow each other
+     * without gaps and all their WAL segments are present.
+     *
+     * @param snpName Snapshot name.
+     * @param incIdx Index of the last increment to read.
+     * @return Metadata of increments from the first to the given one.
+     * @throws IgniteCheckedException If the chain is broken.
+     */
+    List<IncrementalSnapshotMetadata> readIncrementalSnapshotChain(String snpName, int incIdx) throws IgniteCheckedException {
+        SnapshotMetadata meta = readSnapshotMetadata(snpName);
+
+        WALPointer prevPtr = meta.snapshotRecordPointer();
+
+        List<IncrementalSnapshotMetadata> incs = new ArrayList<>(incIdx);
+
+        for (int i = 1; i <= incIdx; i++) {
+            IncrementalSnapshotMetadata inc = readIncrementalSnapshotMetadata(snpName, i);
+
+            if (!inc.startPointer().equals(prevPtr)) {
+                throw new IgniteCheckedException("Incremental snapshot doesn't follow the previous one " +
+                    "[snpName=" + snpName + ", incIdx=" + i + ", start=" + inc.startPointer() +
+                    ", prevEnd=" + prevPtr + ']');
+            }
+
+            File walDir = new File(incrementalSnapshotLocalDir(snpName, i), pdsSettings.folderName());
+
+            for (long segIdx = inc.startPointer().index(); segIdx < inc.endPointer().index(); segIdx++) {
+                if (!new File(walDir, FileDescriptor.fileName(segIdx)).exists()) {
+                    throw new IgniteCheckedException("WAL segment of the incremental snapshot is missed " +
+                        "[snpName=" + snpName + ", incIdx=" + i + ", segment=" + FileDescriptor.fileName(segIdx) + ']');
+                }
+            }
+
+            incs.add(inc);
+
+            prevPtr = inc.endPointer();
+        }
+
+        return incs;
+    }
+
+    /**
+     * @param file Metadata file.
+     * @param meta Metadata to write.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void writeMetadata(File file, Serializable meta) throws IgniteCheckedException {
+        File tmp = new File(file.getParentFile(), file.getName() + TMP_SUFFIX);
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(tmp))) {
+            U.marshal(marsh, meta, out);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Unable to write snapshot metadata [file=" + file + ']', e);
+        }
+
+        try {
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Unable to write snapshot metadata [file=" + file + ']', e);
+        }
+    }
+
+    /**
+     * @param file Metadata file.
+     * @return Metadata read.
+     * @throws IgniteCheckedException If failed.
+     */
+    private <T> T readMetadata(File file) throws IgniteCheckedException {
+        if (!file.exists())
+            throw new IgniteCheckedException("Snapshot metadata doesn't exist on the local node [file=" + file + ']');
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return U.unmarshal(marsh, in, U.resolveClassLoader(cctx.gridConfig()));
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Unable to read snapshot metadata [file=" + file + ']', e);
+        }
+    }
+
     /**
      * @return Node snapshot working directory.
      */
@@ -498,6 +933,11 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 "Another snapshot operation in progress [req=" + req + ", curr=" + clusterSnpReq + ']'));
         }
 
+        if (restoreCacheGrpProc.isRestoring()) {
+            return new GridFinishedFuture<>(new IgniteCheckedException("Snapshot operation has been rejected. " +
+                "Cache group restore operation is currently in progress [req=" + req + ']'));
+        }
+
         Set<UUID> leftNodes = new HashSet<>(req.bltNodes);
         leftNodes.removeAll(F.viewReadOnly(cctx.discovery().serverNodes(AffinityTopologyVersion.NONE),
             F.node2id()));
@@ -529,6 +969,25 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         if (parts.isEmpty())
             return new GridFinishedFuture<>();
 
+        if (req.incIdx > 0) {
+            IgniteInternalFuture<IncrementalSnapshotMetadata> incTask0 = registerIncrementalSnapshotTask(req,
+                parts.keySet());
+
+            clusterSnpReq = req;
+
+            return incTask0.chain(fut -> {
+                try {
+                    writeMetadata(new File(incrementalSnapshotLocalDir(req.snpName, req.incIdx),
+                        pdsSettings.folderName() + INC_SNAPSHOT_METAFILE_EXT), fut.get());
+
+                    return new SnapshotOperationResponse();
+                }
+                catch (IgniteCheckedException e) {
+                    throw new GridClosureException(e);
+                }
+            });
+        }
+
         SnapshotFutureTask task0 = registerSnapshotTask(req.snpName,
             req.srcNodeId,
             parts,
@@ -537,13 +996,100 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         clusterSnpReq = req;
 
         return task0.chain(fut -> {
-            if (fut.error() == null)
-                return new SnapshotOperationResponse();
-            else
+            if (fut.error() != null)
                 throw new GridClosureException(fut.error());
+
+            try {
+                writeMetadata(snapshotMetafile(snapshotLocalDir(req.snpName), pdsSettings.folderName()),
+                    new SnapshotMetadata(req.snpName, pdsSettings.folderName(), task0.snapshotRecordPointer()));
+            }
+            catch (IgniteCheckedException e) {
+                throw new GridClosureException(e);
+            }
+
+            return new SnapshotOperationResponse();
         });
     }
 
+    /**
+     * @param req Request on incremental snapshot creation.
+     * @param grpIds Cache groups of the local node to include into the increment.
+     * @return Future which will be completed when the increment is created on the local node.
+     */
+    private IgniteInternalFuture<IncrementalSnapshotMetadata> registerIncrementalSnapshotTask(
+        SnapshotOperationRequest req,
+        Set<Integer> grpIds
+    ) {
+        if (!busyLock.enterBusy())
+            return new GridFinishedFuture<>(new IgniteCheckedException("Snapshot manager is stopping [locNodeId=" + cctx.localNodeId() + ']'));
+
+        try {
+            if (!(cctx.wal() instanceof FileWriteAheadLogManager) ||
+                !((FileWriteAheadLogManager)cctx.wal()).getSegmentRouter().hasArchive()) {
+                throw new IgniteCheckedException("Incremental snapshots require the WAL archive to be enabled.");
+            }
+
+            if (cctx.gridConfig().getDataStorageConfiguration().isWalCompactionEnabled())
+                throw new IgniteCheckedException("Incremental snapshots are not allowed if the WAL compaction is enabled.");
+
+            SnapshotMetadata meta = readSnapshotMetadata(req.snpName);
+
+            int lastIdx = lastIncrementIndex(req.snpName);
+
+            if (lastIdx != req.incIdx - 1) {
+                throw new IgniteCheckedException("Incremental snapshot index doesn't follow the last increment of " +
+                    "the local node [snpName=" + req.snpName + ", incIdx=" + req.incIdx + ", last=" + lastIdx + ']');
+            }
+
+            WALPointer startPtr = req.incIdx == 1 ? meta.snapshotRecordPointer() :
+                readIncrementalSnapshotMetadata(req.snpName, req.incIdx - 1).endPointer();
+
+            if (startPtr == null) {
+                throw new IgniteCheckedException("Incremental snapshot can't be created since WAL was disabled " +
+                    "at the base snapshot creation [snpName=" + req.snpName + ']');
+            }
+
+            File snpDbDir = new File(snapshotLocalDir(req.snpName), databaseRelativePath(pdsSettings.folderName()));
+
+            // Cache groups created after the base snapshot can't be restored from it.
+            Set<Integer> grps = grpIds.stream()
+                .filter(grpId -> cacheWorkDir(snpDbDir, cacheDirName(cctx.cache().cacheGroup(grpId).config())).exists())
+                .collect(Collectors.toSet());
+
+            File incDir = new File(incrementalSnapshotLocalDir(req.snpName, req.incIdx), pdsSettings.folderName());
+
+            // Remove the files left after the interrupted attempt.
+            U.delete(incDir);
+
+            IncrementalSnapshotFutureTask incTask = new IncrementalSnapshotFutureTask(cctx,
+                req.srcNodeId,
+                req.snpName,
+                req.incIdx,
+                startPtr,
+                grps,
+                snpDbDir,
+                incDir,
+                ioFactory,
+                snpRunner);
+
+            AbstractSnapshotFutureTask<?> prev = locSnpTasks.putIfAbsent(req.snpName, incTask);
+
+            // The task of the previous operation on the same snapshot may be not removed yet.
+            if (prev != null && !(prev.isDone() && locSnpTasks.replace(req.snpName, prev, incTask)))
+                throw new IgniteCheckedException("Snapshot with requested name is already scheduled: " + req.snpName);
+
+            incTask.listen(f -> locSnpTasks.remove(req.snpName, incTask));
+
+            return incTask;
+        }
+        catch (IgniteCheckedException e) {
+            return new GridFinishedFuture<>(e);
+        }
+        finally {
+            busyLock.leaveBusy();
+        }
+    }
+
     /**
      * @param id Request id.
      * @param res Results.
@@ -603,8 +1149,12 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             return new GridFinishedFuture<>(new SnapshotOperationResponse());
 
         try {
-            if (req.err != null)
-                deleteSnapshot(snapshotLocalDir(req.snpName), pdsSettings.folderName());
+            if (req.err != null) {
+                if (req.incIdx > 0)
+                    deleteIncrementalSnapshot(incrementalSnapshotLocalDir(req.snpName, req.incIdx), pdsSettings.folderName());
+                else
+                    deleteSnapshot(snapshotLocalDir(req.snpName), pdsSettings.folderName());
+            }
 
             removeLastMetaStorageKey();
         }
@@ -709,7 +1259,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         busyLock.enterBusy();
 
         try {
-            for (SnapshotFutureTask sctx : locSnpTasks.values()) {
+            for (AbstractSnapshotFutureTask<?> sctx : locSnpTasks.values()) {
                 if (sctx.snapshotName().equals(name))
                     sctx.cancel();
             }
@@ -740,6 +1290,20 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
 
     /** {@inheritDoc} */
     @Override public IgniteFuture<Void> createSnapshot(String name) {
+        return createSnapshot(name, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteFuture<Void> createIncrementalSnapshot(String name) {
+        return createSnapshot(name, true);
+    }
+
+    /**
+     * @param name Snapshot name.
+     * @param incremental {@code True} to create the next increment of the existing snapshot.
+     * @return Future which will be completed when a process ends.
+     */
+    private IgniteFuture<Void> createSnapshot(String name, boolean incremental) {
         A.notNullOrEmpty(name, "Snapshot name cannot be null or empty.");
         A.ensure(U.alphanumericUnderscore(name), "Snapshot name must satisfy the following name pattern: a-zA-Z0-9_");
 
@@ -749,6 +1313,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             if (!IgniteFeatures.allNodesSupports(cctx.discovery().aliveServerNodes(), PERSISTENCE_CACHE_SNAPSHOT))
                 throw new IgniteException("Not all nodes in the cluster support a snapshot operation.");
 
+            if (incremental && !IgniteFeatures.allNodesSupports(cctx.discovery().aliveServerNodes(), INCREMENTAL_SNAPSHOT))
+                throw new IgniteException("Not all nodes in the cluster support an incremental snapshot operation.");
+
             if (!CU.isPersistenceEnabled(cctx.gridConfig())) {
                 throw new IgniteException("Create snapshot request has been rejected. Snapshots on an in-memory " +
                     "clusters are not allowed.");
@@ -770,7 +1337,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
 
                 return new IgniteSnapshotFutureImpl(cctx.kernalContext().closure()
                     .callAsyncNoFailover(BALANCE,
-                        new CreateSnapshotCallable(name),
+                        new CreateSnapshotCallable(name, incremental),
                         Collections.singletonList(crd),
                         false,
                         0,
@@ -778,6 +1345,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             }
 
             ClusterSnapshotFuture snpFut0;
+            int incIdx = 0;
 
             synchronized (snpOpMux) {
                 if (clusterSnpFut != null && !clusterSnpFut.isDone())
@@ -786,9 +1354,18 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 if (clusterSnpReq != null)
                     throw new IgniteException("Create snapshot request has been rejected. Parallel snapshot processes are not allowed.");
 
-                if (localSnapshotNames().contains(name))
+                if (incremental) {
+                    if (!localSnapshotNames().contains(name))
+                        throw new IgniteException("Create snapshot request has been rejected. Base snapshot with given name doesn't exist on local node.");
+
+                    incIdx = lastIncrementIndex(name) + 1;
+                }
+                else if (localSnapshotNames().contains(name))
                     throw new IgniteException("Create snapshot request has been rejected. Snapshot with given name already exists on local node.");
 
+                if (restoreCacheGrpProc.isRestoring())
+                    throw new IgniteException("Create snapshot request has been rejected. Cache group restore operation is currently in progress.");
+
                 snpFut0 = new ClusterSnapshotFuture(UUID.randomUUID(), name);
 
                 clusterSnpFut = snpFut0;
@@ -816,9 +1393,11 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 grps,
                 new HashSet<>(F.viewReadOnly(srvNodes,
                     F.node2id(),
-                    (node) -> CU.baselineNode(node, clusterState)))));
+                    (node) -> CU.baselineNode(node, clusterState))),
+                incIdx));
 
-            String msg = "Cluster-wide snapshot operation started [snpName=" + name + ", grps=" + grps + ']';
+            String msg = "Cluster-wide snapshot operation started [snpName=" + name + ", grps=" + grps +
+                (incremental ? ", incIdx=" + incIdx : "") + ']';
 
             recordSnapshotEvent(name, msg, EVT_CLUSTER_SNAPSHOT_STARTED);
 
@@ -838,6 +1417,45 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public IgniteFuture<Void> restoreSnapshot(String name, @Nullable Collection<String> grpNames) {
+        return restoreSnapshot(name, grpNames, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteFuture<Void> restoreSnapshot(String name, @Nullable Collection<String> grpNames, int incIdx) {
+        A.notNullOrEmpty(name, "Snapshot name cannot be null or empty.");
+        A.ensure(U.alphanumericUnderscore(name), "Snapshot name must satisfy the following name pattern: a-zA-Z0-9_");
+        A.ensure(grpNames == null || !grpNames.isEmpty(), "List of cache group names cannot be empty.");
+        A.ensure(incIdx >= 0, "Increment index cannot be negative.");
+
+        cctx.kernalContext().security().authorize(ADMIN_SNAPSHOT);
+
+        if (cctx.kernalContext().clientNode()) {
+            ClusterNode crd = U.oldest(cctx.kernalContext().discovery().aliveServerNodes(), null);
+
+            if (crd == null)
+                return new IgniteFinishedFutureImpl<>(new IgniteException("There is no alive server nodes in the cluster"));
+
+            return new IgniteFutureImpl<>(cctx.kernalContext().closure()
+                .callAsyncNoFailover(BALANCE,
+                    new RestoreSnapshotCallable(name, grpNames, incIdx),
+                    Collections.singletonList(crd),
+                    false,
+                    0,
+                    true));
+        }
+
+        return new IgniteFutureImpl<>(restoreCacheGrpProc.start(name, grpNames, incIdx));
+    }
+
+    /**
+     * @return {@code True} if the cache group restore operation is in progress.
+     */
+    public boolean isRestoring() {
+        return restoreCacheGrpProc.isRestoring();
+    }
+
     /** {@inheritDoc} */
     @Override public void onReadyForReadWrite(ReadWriteMetastorage metaStorage) throws IgniteCheckedException {
         synchronized (snpOpMux) {
@@ -888,7 +1506,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
 
         SnapshotOperationRequest snpReq = clusterSnpReq;
 
-        SnapshotFutureTask task = locSnpTasks.get(snpReq.snpName);
+        AbstractSnapshotFutureTask<?> task = locSnpTasks.get(snpReq.snpName);
 
         if (task == null)
             return;
@@ -910,7 +1528,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
      * @param grps List of cache groups which will be destroyed.
      */
     public void onCacheGroupsStopped(List<Integer> grps) {
-        for (SnapshotFutureTask sctx : locSnpTasks.values()) {
+        for (AbstractSnapshotFutureTask<?> sctx : locSnpTasks.values()) {
             Set<Integer> retain = new HashSet<>(grps);
             retain.retainAll(sctx.affectedCacheGroups());
 
@@ -943,7 +1561,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
 
             SnapshotFutureTask snpFutTask;
 
-            SnapshotFutureTask prev = locSnpTasks.putIfAbsent(snpName,
+            AbstractSnapshotFutureTask<?> prev = locSnpTasks.putIfAbsent(snpName,
                 snpFutTask = new SnapshotFutureTask(cctx,
                     srcNodeId,
                     snpName,
@@ -961,7 +1579,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                     ", topVer=" + cctx.discovery().topologyVersionEx() + ']');
             }
 
-            snpFutTask.listen(f -> locSnpTasks.remove(snpName));
+            snpFutTask.listen(f -> locSnpTasks.remove(snpName, snpFutTask));
 
             return snpFutTask;
         }
@@ -970,6 +1588,106 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         }
     }
 
+    /**
+     * Requests a checkpoint-consistent copy of the given cache partitions from the remote node. The remote node
+     * transfers the partition files as they were at the checkpoint and pages changed since that checkpoint, which
+     * are applied to the received files on the local node prior to passing them to the given consumer.
+     *
+     * @param rmtNodeId The remote node to connect to.
+     * @param parts Collection of pairs of cache group and appropriate cache partitions to be snapshot. All of them
+     * must be in the {@code OWNING} state on the remote node.
+     * @param partConsumer Received partition handler. The file is removed right after the snapshot request completes,
+     * so the consumer must move or copy it.
+     * @return Future which will be completed when requested snapshot fully received.
+     */
+    public IgniteInternalFuture<Void> createRemoteSnapshot(
+        UUID rmtNodeId,
+        Map<Integer, Set<Integer>> parts,
+        BiConsumer<File, GroupPartitionId> partConsumer
+    ) {
+        assert partConsumer != null;
+
+        ClusterNode rmtNode = cctx.discovery().node(rmtNodeId);
+
+        if (rmtNode == null) {
+            return new GridFinishedFuture<>(new ClusterTopologyCheckedException("Snapshot request cannot be performed. " +
+                "Remote node left the grid [rmtNodeId=" + rmtNodeId + ']'));
+        }
+
+        if (!IgniteFeatures.nodeSupports(rmtNode, PARTITION_FILES_TRANSFER))
+            return new GridFinishedFuture<>(new IgniteCheckedException("Snapshot on remote node is not supported: " + rmtNodeId));
+
+        if (!cctx.gridIO().fileTransmissionSupported(rmtNode)) {
+            return new GridFinishedFuture<>(new IgniteCheckedException("Snapshot request cannot be performed. " +
+                "Direct file transmission is not supported by the remote node [rmtNodeId=" + rmtNodeId + ']'));
+        }
+
+        String snpName = RMT_SNAPSHOT_PREFIX + U.maskForFileName(IgniteUuid.randomUuid().toString());
+
+        RemoteSnapshotFuture snpTransFut = new RemoteSnapshotFuture(rmtNodeId, snpName, parts, partConsumer);
+
+        if (!busyLock.enterBusy())
+            return new GridFinishedFuture<>(new IgniteCheckedException("Snapshot manager is stopping"));
+
+        try {
+            if (!rmtSnpReq.compareAndSet(null, snpTransFut)) {
+                return new GridFinishedFuture<>(new IgniteCheckedException("Snapshot request has been concurrently " +
+                    "interrupted by another request from the local node [rmtNodeId=" + rmtNodeId + ']'));
+            }
+
+            SnapshotRequestMessage msg0 = new SnapshotRequestMessage(snpName, parts);
+
+            cctx.gridIO().sendToCustomTopic(rmtNodeId, DFLT_INITIAL_SNAPSHOT_TOPIC, msg0, SYSTEM_POOL);
+
+            if (log.isInfoEnabled())
+                log.info("Snapshot request is sent to the remote node [rmtNodeId=" + rmtNodeId + ", snpName=" + snpName + ']');
+        }
+        catch (IgniteCheckedException e) {
+            snpTransFut.onDone(e);
+        }
+        finally {
+            busyLock.leaveBusy();
+        }
+
+        return snpTransFut;
+    }
+
+    /**
+     * @param nodeId Node id requested a snapshot.
+     * @param reqMsg Request message.
+     */
+    private void processRemoteSnapshotRequest(UUID nodeId, SnapshotRequestMessage reqMsg) {
+        String snpName = reqMsg.snapshotName();
+
+        SnapshotFutureTask task = registerSnapshotTask(snpName,
+            nodeId,
+            reqMsg.parts(),
+            new RemoteSnapshotSender(nodeId, snpName));
+
+        task.listen(f -> {
+            if (f.error() != null) {
+                U.error(log, "Failed to process request of creating a snapshot " +
+                    "[from=" + nodeId + ", msg=" + reqMsg + ']', f.error());
+            }
+
+            // The requester must be notified of the task completion, since partitions with no delta
+            // pages are not followed by any transmission which confirms they are completely sent.
+            try {
+                cctx.gridIO().sendToCustomTopic(nodeId,
+                    DFLT_INITIAL_SNAPSHOT_TOPIC,
+                    new SnapshotResponseMessage(snpName, f.error() == null ? null : f.error().getMessage()),
+                    SYSTEM_POOL);
+            }
+            catch (IgniteCheckedException ex0) {
+                U.error(log, "Fail to send the response message with processing snapshot request " +
+                    "result [request=" + reqMsg + ", nodeId=" + nodeId + ']', ex0);
+            }
+        });
+
+        if (task.start())
+            cctx.database().forceCheckpoint(String.format(CP_SNAPSHOT_REASON, snpName));
+    }
+
     /**
      * @param factory Factory which produces {@link LocalSnapshotSender} implementation.
      */
@@ -1031,6 +1749,13 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         this.ioFactory = ioFactory;
     }
 
+    /**
+     * @return Factory to create IO interface over a page stores.
+     */
+    FileIOFactory ioFactory() {
+        return ioFactory;
+    }
+
     /**
      * @return Relative configured path of persistence data storage directory for the local node.
      * Example: {@code snapshotWorkDir/db/IgniteNodeName0}
@@ -1261,6 +1986,265 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         }
     }
 
+    /**
+     * Snapshot sender which transfers partition files and their delta pages to the remote node
+     * which requested the snapshot.
+     */
+    private class RemoteSnapshotSender extends SnapshotSender {
+        /** The node id which requested the snapshot. */
+        private final UUID rmtNodeId;
+
+        /** Snapshot name. */
+        private final String snpName;
+
+        /** Sender to transfer files, it is not thread-safe. */
+        private final GridIoManager.TransmissionSender sndr;
+
+        /** Mutex to serialize file transmissions made from snapshot runner threads. */
+        private final Object mux = new Object();
+
+        /** Number of partitions to be transferred. */
+        private int partsCnt;
+
+        /**
+         * @param rmtNodeId The node id which requested the snapshot.
+         * @param snpName Snapshot name.
+         */
+        public RemoteSnapshotSender(UUID rmtNodeId, String snpName) {
+            super(IgniteSnapshotManager.this.log, snpRunner);
+
+            this.rmtNodeId = rmtNodeId;
+            this.snpName = snpName;
+
+            sndr = cctx.gridIO().openTransmissionSender(rmtNodeId, DFLT_INITIAL_SNAPSHOT_TOPIC);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void init(int partsCnt) {
+            this.partsCnt = partsCnt;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void sendPart0(File part, String cacheDirName, GroupPartitionId pair, Long len) {
+            try {
+                assert part.exists();
+                assert len >= 0 : "Requested partitions has incorrect file length " +
+                    "[pair=" + pair + ", cacheDirName=" + cacheDirName + ']';
+
+                synchronized (mux) {
+                    sndr.send(part, 0, len, transmissionParams(snpName, cacheDirName, pair), TransmissionPolicy.FILE);
+                }
+
+                if (log.isInfoEnabled()) {
+                    log.info("Partition file has been sent [part=" + part.getName() + ", pair=" + pair +
+                        ", length=" + len + ", rmtNodeId=" + rmtNodeId + ']');
+                }
+            }
+            catch (TransmissionCancelledException e) {
+                if (log.isInfoEnabled()) {
+                    log.info("Transmission partition file has been interrupted [part=" + part.getName() +
+                        ", pair=" + pair + ']');
+                }
+            }
+            catch (IgniteCheckedException | InterruptedException | IOException e) {
+                U.error(log, "Error sending partition file [part=" + part.getName() + ", pair=" + pair +
+                    ", length=" + len + ']', e);
+
+                throw new IgniteException(e);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public void sendDelta0(File delta, String cacheDirName, GroupPartitionId pair) {
+            // Partition hasn't been changed since the checkpoint began, the requester will treat the partition
+            // file it has received as a completed one when the snapshot task finishes.
+            if (delta.length() == 0)
+                return;
+
+            try {
+                synchronized (mux) {
+                    sndr.send(delta, transmissionParams(snpName, cacheDirName, pair), TransmissionPolicy.CHUNK);
+                }
+
+                if (log.isInfoEnabled())
+                    log.info("Delta pages storage has been sent [part=" + delta.getName() + ", pair=" + pair + ']');
+            }
+            catch (TransmissionCancelledException e) {
+                if (log.isInfoEnabled()) {
+                    log.info("Transmission delta pages has been interrupted [part=" + delta.getName() +
+                        ", pair=" + pair + ']');
+                }
+            }
+            catch (IgniteCheckedException | InterruptedException | IOException e) {
+                U.error(log, "Error sending delta file  [part=" + delta.getName() + ", pair=" + pair + ']', e);
+
+                throw new IgniteException(e);
+            }
+        }
+
+        /**
+         * @param snpName Snapshot name.
+         * @param cacheDirName Cache directory name.
+         * @param pair Cache group and partition pair.
+         * @return Map of params.
+         */
+        private Map<String, Serializable> transmissionParams(String snpName, String cacheDirName,
+            GroupPartitionId pair) {
+            Map<String, Serializable> params = new HashMap<>();
+
+            params.put(SNP_GRP_ID_PARAM, pair.getGroupId());
+            params.put(SNP_PART_ID_PARAM, pair.getPartitionId());
+            params.put(SNP_CACHE_DIR_NAME_PARAM, cacheDirName);
+            params.put(SNP_NAME_PARAM, snpName);
+
+            return params;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close0(@Nullable Throwable th) {
+            U.closeQuiet(sndr);
+
+            if (th == null) {
+                if (log.isInfoEnabled())
+                    log.info("The remote snapshot sender closed normally [snpName=" + snpName + ']');
+            }
+            else {
+                U.warn(log, "The remote snapshot sender closed due to an error occurred while processing " +
+                    "snapshot operation [snpName=" + snpName + ", partsCnt=" + partsCnt + ']', th);
+            }
+        }
+    }
+
+    /** Future of a snapshot requested from the remote node. */
+    private class RemoteSnapshotFuture extends GridFutureAdapter<Void> {
+        /** Remote node id to request snapshot from. */
+        private final UUID rmtNodeId;
+
+        /** Snapshot name to create on remote. */
+        private final String snpName;
+
+        /** Received partition handler. */
+        private final BiConsumer<File, GroupPartitionId> partConsumer;
+
+        /** Counter which show how many partitions left to be received. */
+        private final AtomicInteger partsLeft;
+
+        /** {@code true} if the transmission session with the remote node has been closed. */
+        private boolean transmissionEnd;
+
+        /** {@code true} if the snapshot task on the remote node has been finished successfully. */
+        private boolean rmtTaskFinished;
+
+        /** Partition files received but not yet recovered with their delta pages. */
+        @GridToStringExclude
+        private final Map<GroupPartitionId, File> parts = new ConcurrentHashMap<>();
+
+        /** Page stores of partitions which delta pages are being applied. */
+        @GridToStringExclude
+        private final Map<GroupPartitionId, FilePageStore> stores = new ConcurrentHashMap<>();
+
+        /**
+         * @param rmtNodeId Remote node id to request snapshot from.
+         * @param snpName Snapshot name to create on remote.
+         * @param reqParts Requested cache group partitions.
+         * @param partConsumer Received partition handler.
+         */
+        public RemoteSnapshotFuture(
+            UUID rmtNodeId,
+            String snpName,
+            Map<Integer, Set<Integer>> reqParts,
+            BiConsumer<File, GroupPartitionId> partConsumer
+        ) {
+            this.rmtNodeId = rmtNodeId;
+            this.snpName = snpName;
+            this.partConsumer = partConsumer;
+
+            partsLeft = new AtomicInteger(reqParts.values().stream().mapToInt(Set::size).sum());
+
+            // No transmission session will be opened if there is nothing to send.
+            transmissionEnd = partsLeft.get() == 0;
+        }
+
+        /**
+         * @param pair Cache group and partition pair.
+         * @param part Received partition file with all the delta pages applied.
+         */
+        private void partitionReceived(GroupPartitionId pair, File part) {
+            parts.remove(pair);
+
+            partConsumer.accept(part, pair);
+
+            partsLeft.decrementAndGet();
+        }
+
+        /** The transmission session with the remote node has been closed. */
+        private synchronized void onTransmissionEnd() {
+            transmissionEnd = true;
+
+            onRemoteEvent();
+        }
+
+        /** The snapshot task on the remote node has been finished successfully. */
+        private synchronized void onRemoteTaskFinished() {
+            rmtTaskFinished = true;
+
+            onRemoteEvent();
+        }
+
+        /**
+         * Completes the future when both the transmission session has been closed and the remote node
+         * confirmed that all the partitions have been sent. Partition files received with no delta pages
+         * are completed at this moment.
+         */
+        private synchronized void onRemoteEvent() {
+            if (!transmissionEnd || !rmtTaskFinished || isDone())
+                return;
+
+            try {
+                for (Map.Entry<GroupPartitionId, File> e : parts.entrySet()) {
+                    if (!stores.containsKey(e.getKey()))
+                        partitionReceived(e.getKey(), e.getValue());
+                }
+
+                if (partsLeft.get() == 0) {
+                    onDone();
+
+                    if (log.isInfoEnabled())
+                        log.info("Requested snapshot from remote node has been fully received [rqFut=" + this + ']');
+                }
+                else {
+                    onDone(new IgniteCheckedException("Snapshot transmission session has been closed before " +
+                        "all the requested partitions received [rqFut=" + this + ']'));
+                }
+            }
+            catch (Throwable t) {
+                onDone(t);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean onDone(@Nullable Void res, @Nullable Throwable err, boolean cancel) {
+            if (!super.onDone(res, err, cancel))
+                return false;
+
+            rmtSnpReq.compareAndSet(this, null);
+
+            for (FilePageStore store : stores.values())
+                U.closeQuiet(store);
+
+            stores.clear();
+
+            U.delete(new File(tmpWorkDir, snpName));
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(RemoteSnapshotFuture.class, this, super.toString());
+        }
+    }
+
     /** Snapshot start request for {@link DistributedProcess} initiate message. */
     private static class SnapshotOperationRequest implements Serializable {
         /** Serial version uid. */
@@ -1283,19 +2267,31 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         @GridToStringInclude
         private final Set<UUID> bltNodes;
 
+        /** Index of the increment to create or {@code 0} to create a full snapshot. */
+        private final int incIdx;
+
         /** Exception occurred during snapshot operation processing. */
         private volatile IgniteCheckedException err;
 
         /**
          * @param snpName Snapshot name.
          * @param grpIds Cache groups to include into snapshot.
+         * @param incIdx Index of the increment to create or {@code 0} to create a full snapshot.
          */
-        public SnapshotOperationRequest(UUID rqId, UUID srcNodeId, String snpName, List<Integer> grpIds, Set<UUID> bltNodes) {
+        public SnapshotOperationRequest(
+            UUID rqId,
+            UUID srcNodeId,
+            String snpName,
+            List<Integer> grpIds,
+            Set<UUID> bltNodes,
+            int incIdx
+        ) {
             this.rqId = rqId;
             this.srcNodeId = srcNodeId;
             this.snpName = snpName;
             this.grpIds = grpIds;
             this.bltNodes = bltNodes;
+            this.incIdx = incIdx;
         }
 
         /** {@inheritDoc} */
@@ -1408,20 +2404,66 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         /** Snapshot name. */
         private final String snpName;
 
+        /** {@code True} to create the next increment of the existing snapshot. */
+        private final boolean incremental;
+
+        /** Auto-injected grid instance. */
+        @IgniteInstanceResource
+        private transient IgniteEx ignite;
+
+        /**
+         * @param snpName Snapshot name.
+         * @param incremental {@code True} to create the next increment of the existing snapshot.
+         */
+        public CreateSnapshotCallable(String snpName, boolean incremental) {
+            this.snpName = snpName;
+            this.incremental = incremental;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Void call() throws Exception {
+            if (incremental)
+                ignite.snapshot().createIncrementalSnapshot(snpName).get();
+            else
+                ignite.snapshot().createSnapshot(snpName).get();
+
+            return null;
+        }
+    }
+
+    /** Start restore of cache groups from the cluster snapshot closure. */
+    @GridInternal
+    private static class RestoreSnapshotCallable implements IgniteCallable<Void> {
+        /** Serial version UID. */
+        private static final long serialVersionUID = 0L;
+
+        /** Snapshot name. */
+        private final String snpName;
+
+        /** Cache group names to restore. */
+        private final Collection<String> grpNames;
+
+        /** Index of the last increment to restore or {@code 0} to restore the full snapshot only. */
+        private final int incIdx;
+
         /** Auto-injected grid instance. */
         @IgniteInstanceResource
         private transient IgniteEx ignite;
 
         /**
          * @param snpName Snapshot name.
+         * @param grpNames Cache group names to restore.
+         * @param incIdx Index of the last increment to restore.
          */
-        public CreateSnapshotCallable(String snpName) {
+        public RestoreSnapshotCallable(String snpName, @Nullable Collection<String> grpNames, int incIdx) {
             this.snpName = snpName;
+            this.grpNames = grpNames == null ? null : new ArrayList<>(grpNames);
+            this.incIdx = incIdx;
         }
 
         /** {@inheritDoc} */
         @Override public Void call() throws Exception {
-            ignite.snapshot().createSnapshot(snpName).get();
+            ignite.snapshot().restoreSnapshot(snpName, grpNames, incIdx).get();
 
             return null;
         }
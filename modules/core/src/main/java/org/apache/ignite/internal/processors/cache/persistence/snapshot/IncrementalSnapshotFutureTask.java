@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.IgniteFutureCancelledCheckedException;
+import org.apache.ignite.internal.pagemem.wal.record.RolloverType;
+import org.apache.ignite.internal.pagemem.wal.record.SnapshotRecord;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointListener;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.PAGE_SNAPSHOT_TAKEN;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.cacheDirName;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.getPartitionFile;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.copy;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.SegmentRouter.ZIP_SUFFIX;
+
+/**
+ * Local task of an incremental snapshot. The increment is cut on a checkpoint mark, the same way the full snapshot
+ * is, so all the changes of the cache groups made between the previous snapshot of the chain and the cut are
+ * covered by the physical records of the archived WAL segments. These segments are copied to the increment
+ * directory and replayed over the partition files of the full snapshot on restore.
+ */
+class IncrementalSnapshotFutureTask extends AbstractSnapshotFutureTask<IncrementalSnapshotMetadata>
+    implements CheckpointListener {
+    /** Increment index. */
+    private final int incIdx;
+
+    /** Pointer to the snapshot record of the previous snapshot in the chain. */
+    private final WALPointer startPtr;
+
+    /** Cache groups of the base snapshot to include into the increment. */
+    private final Set<Integer> grpIds;
+
+    /** Local node directory of the base snapshot partition files. */
+    private final File snpDbDir;
+
+    /** Local node directory to copy WAL segments of the increment to. */
+    private final File incDir;
+
+    /** IO factory which will be used to copy WAL segments. */
+    @GridToStringExclude
+    private final FileIOFactory ioFactory;
+
+    /** Executor to copy WAL segments on. */
+    @GridToStringExclude
+    private final Executor exec;
+
+    /** Future to wait until checkpoint mark phase will be finished and the increment is cut. */
+    private final GridFutureAdapter<Void> startedFut = new GridFutureAdapter<>();
+
+    /** Flag indicates that task already scheduled on checkpoint. */
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /** An exception which has been occurred during snapshot processing. */
+    private final AtomicReference<Throwable> err = new AtomicReference<>();
+
+    /** Update counters of owning partitions collected under the checkpoint write lock. */
+    private final Map<Integer, Map<Integer, Long>> partCntrs = new HashMap<>();
+
+    /** Cache directory names of the cache groups collected under the checkpoint write lock. */
+    private final Map<Integer, String> cacheDirNames = new HashMap<>();
+
+    /** Pointer to the snapshot record of this increment. */
+    private volatile WALPointer endPtr;
+
+    /**
+     * @param cctx Shared context.
+     * @param srcNodeId Node id which cause snapshot operation.
+     * @param snpName Base snapshot name.
+     * @param incIdx Increment index.
+     * @param startPtr Pointer to the snapshot record of the previous snapshot in the chain.
+     * @param grpIds Cache groups of the base snapshot to include into the increment.
+     * @param snpDbDir Local node directory of the base snapshot partition files.
+     * @param incDir Local node directory to copy WAL segments of the increment to.
+     * @param ioFactory IO factory which will be used to copy WAL segments.
+     * @param exec Executor to copy WAL segments on.
+     */
+    public IncrementalSnapshotFutureTask(
+        GridCacheSharedContext<?, ?> cctx,
+        UUID srcNodeId,
+        String snpName,
+        int incIdx,
+        WALPointer startPtr,
+        Set<Integer> grpIds,
+        File snpDbDir,
+        File incDir,
+        FileIOFactory ioFactory,
+        Executor exec
+    ) {
+        super(cctx, srcNodeId, snpName);
+
+        assert incIdx > 0 : incIdx;
+        assert cctx.wal() instanceof FileWriteAheadLogManager : "Incremental snapshot requires the file WAL manager.";
+
+        this.incIdx = incIdx;
+        this.startPtr = startPtr;
+        this.grpIds = grpIds;
+        this.snpDbDir = snpDbDir;
+        this.incDir = incDir;
+        this.ioFactory = ioFactory;
+        this.exec = exec;
+    }
+
+    /**
+     * @return Increment index.
+     */
+    public int incrementIndex() {
+        return incIdx;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Set<Integer> affectedCacheGroups() {
+        return grpIds;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void acceptException(Throwable th) {
+        if (th == null || !err.compareAndSet(null, th))
+            return;
+
+        // Segments are not being copied yet, so the task can be completed right away.
+        if (startedFut.onDone(th))
+            onDone(th);
+
+        if (!(th instanceof IgniteFutureCancelledCheckedException))
+            U.error(log, "Incremental snapshot task has accepted exception to stop", th);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void awaitStarted() throws IgniteCheckedException {
+        startedFut.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean start() {
+        if (err.get() != null || !started.compareAndSet(false, true))
+            return false;
+
+        try {
+            U.ensureDirectory(incDir, "directory for incremental snapshot WAL segments", log);
+        }
+        catch (IgniteCheckedException e) {
+            acceptException(e);
+
+            return false;
+        }
+
+        startedFut.listen(f ->
+            ((GridCacheDatabaseSharedManager)cctx.database()).removeCheckpointListener(this)
+        );
+
+        // Listener will be removed right after first execution.
+        ((GridCacheDatabaseSharedManager)cctx.database()).addCheckpointListener(this);
+
+        if (log.isInfoEnabled()) {
+            log.info("Incremental snapshot operation is scheduled on local node and will be handled by the " +
+                "checkpoint listener [sctx=" + this + ", topVer=" + cctx.discovery().topologyVersionEx() + ']');
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void beforeCheckpointBegin(Context ctx) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMarkCheckpointBegin(Context ctx) {
+        if (err.get() != null)
+            return;
+
+        // Partition meta pages are saved asynchronously by the listeners, so the increment is cut once all of
+        // them are written to WAL. The write lock is still held at this moment.
+        ctx.progress().onStateChanged(PAGE_SNAPSHOT_TAKEN, () -> {
+            if (err.get() != null)
+                return;
+
+            try {
+                for (int grpId : grpIds) {
+                    CacheGroupContext gctx = cctx.cache().cacheGroup(grpId);
+
+                    if (gctx == null) {
+                        throw new IgniteCheckedException("Cache group context has not found " +
+                            "due to the cache group is stopped: " + grpId);
+                    }
+
+                    Map<Integer, Long> cntrs = new HashMap<>();
+
+                    for (GridDhtLocalPartition part : gctx.topology().currentLocalPartitions()) {
+                        if (part.state() == GridDhtPartitionState.OWNING)
+                            cntrs.put(part.id(), part.updateCounter());
+                    }
+
+                    partCntrs.put(grpId, cntrs);
+                    cacheDirNames.put(grpId, cacheDirName(gctx.config()));
+                }
+
+                // The snapshot record becomes the first record of the next segment, so the increment consists
+                // of whole segments which are archived independently of the further updates.
+                endPtr = cctx.wal().log(new SnapshotRecord(incIdx, false), RolloverType.NEXT_SEGMENT);
+
+                if (endPtr == null)
+                    throw new IgniteCheckedException("Unable to log the incremental snapshot record. WAL is disabled.");
+            }
+            catch (IgniteCheckedException e) {
+                acceptException(e);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onCheckpointBegin(Context ctx) {
+        if (err.get() != null || endPtr == null)
+            return;
+
+        // The increment can now be copied since checkpoint write lock released.
+        if (!startedFut.onDone())
+            return;
+
+        exec.execute(this::copySegments);
+    }
+
+    /**
+     * Copies the archived WAL segments of the increment.
+     */
+    private void copySegments() {
+        FileWriteAheadLogManager wal = (FileWriteAheadLogManager)cctx.wal();
+
+        Collection<File> segments;
+
+        try {
+            segments = wal.getAndReserveWalFiles(startPtr, endPtr);
+        }
+        catch (IgniteCheckedException e) {
+            onDone(new IgniteCheckedException("Unable to reserve WAL segments of the incremental snapshot. " +
+                "A new full snapshot must be created [snpName=" + snpName + ", incIdx=" + incIdx + ']', e));
+
+            return;
+        }
+
+        List<CompletableFuture<Void>> futs = new ArrayList<>();
+
+        try {
+            checkPartitions();
+
+            if (segments.size() != endPtr.index() - startPtr.index()) {
+                throw new IgniteCheckedException("Some of WAL segments required by the incremental snapshot " +
+                    "are missed in the WAL archive [from=" + startPtr + ", to=" + endPtr + ", found=" +
+                    segments.size() + ']');
+            }
+
+            for (File seg : segments) {
+                if (seg.getName().endsWith(ZIP_SUFFIX)) {
+                    throw new IgniteCheckedException("Compacted WAL segments can't be included into " +
+                        "the incremental snapshot [segment=" + seg.getName() + ']');
+                }
+
+                futs.add(CompletableFuture.runAsync(() -> {
+                    if (err.get() != null)
+                        return;
+
+                    copy(ioFactory, seg, new File(incDir, seg.getName()), seg.length());
+                }, exec));
+            }
+        }
+        catch (Throwable t) {
+            err.compareAndSet(null, t);
+        }
+
+        CompletableFuture.allOf(futs.toArray(new CompletableFuture[0]))
+            .whenComplete((r, t) -> {
+                wal.release(startPtr);
+
+                if (t != null)
+                    err.compareAndSet(null, t.getCause() == null ? t : t.getCause());
+
+                Throwable err0 = err.get();
+
+                if (err0 == null) {
+                    onDone(new IncrementalSnapshotMetadata(snpName,
+                        incIdx,
+                        incDir.getName(),
+                        startPtr,
+                        endPtr,
+                        partCntrs));
+                }
+                else
+                    onDone(err0);
+            });
+    }
+
+    /**
+     * Checks that the base snapshot contains all the owning partitions of the increment, the partitions which
+     * have become owning after the base snapshot can't be restored from its files.
+     *
+     * @throws IgniteCheckedException If some of partition files are missed.
+     */
+    private void checkPartitions() throws IgniteCheckedException {
+        for (Map.Entry<Integer, Map<Integer, Long>> e : partCntrs.entrySet()) {
+            String cacheDirName = cacheDirNames.get(e.getKey());
+            Set<Integer> missed = new HashSet<>();
+
+            for (int partId : e.getValue().keySet()) {
+                if (!getPartitionFile(snpDbDir, cacheDirName, partId).exists())
+                    missed.add(partId);
+            }
+
+            if (!missed.isEmpty()) {
+                throw new IgniteCheckedException("Partition distribution has changed since the base snapshot " +
+                    "creation. A new full snapshot must be created [snpName=" + snpName + ", grpId=" + e.getKey() +
+                    ", missed=" + missed + ']');
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean cancel() {
+        acceptException(new IgniteFutureCancelledCheckedException("Incremental snapshot operation has been " +
+            "cancelled by external process [snpName=" + snpName + ", incIdx=" + incIdx + ']'));
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean onDone(@Nullable IncrementalSnapshotMetadata res, @Nullable Throwable err) {
+        if (err != null)
+            startedFut.onDone(err);
+
+        return super.onDone(res, err);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(IncrementalSnapshotFutureTask.class, this);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.io.Serializable;
+import java.util.Map;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Metadata of the local node part of an incremental snapshot. The increment holds archived WAL segments covering
+ * all changes made between the cut of the previous snapshot of the chain (the full one or the previous increment)
+ * and its own cut.
+ */
+public class IncrementalSnapshotMetadata implements Serializable {
+    /** Serial version uid. */
+    private static final long serialVersionUID = 0L;
+
+    /** Base snapshot name. */
+    private final String snpName;
+
+    /** Increment index, starting from 1. */
+    private final int incIdx;
+
+    /** Local node folder name (see {@code U#maskForFileName} with consistent id). */
+    private final String folderName;
+
+    /** Pointer to the snapshot record of the previous snapshot in the chain. Replay starts after it. */
+    private final WALPointer startPtr;
+
+    /** Pointer to the snapshot record of this increment. Replay stops before it. */
+    private final WALPointer endPtr;
+
+    /** Update counters of owning partitions at the increment cut, group id to partition id to update counter. */
+    @GridToStringInclude
+    private final Map<Integer, Map<Integer, Long>> partCntrs;
+
+    /**
+     * @param snpName Base snapshot name.
+     * @param incIdx Increment index.
+     * @param folderName Local node folder name.
+     * @param startPtr Pointer to the snapshot record of the previous snapshot in the chain.
+     * @param endPtr Pointer to the snapshot record of this increment.
+     * @param partCntrs Update counters of owning partitions at the increment cut.
+     */
+    public IncrementalSnapshotMetadata(
+        String snpName,
+        int incIdx,
+        String folderName,
+        WALPointer startPtr,
+        WALPointer endPtr,
+        Map<Integer, Map<Integer, Long>> partCntrs
+    ) {
+        this.snpName = snpName;
+        this.incIdx = incIdx;
+        this.folderName = folderName;
+        this.startPtr = startPtr;
+        this.endPtr = endPtr;
+        this.partCntrs = partCntrs;
+    }
+
+    /**
+     * @return Base snapshot name.
+     */
+    public String snapshotName() {
+        return snpName;
+    }
+
+    /**
+     * @return Increment index.
+     */
+    public int incrementIndex() {
+        return incIdx;
+    }
+
+    /**
+     * @return Local node folder name.
+     */
+    public String folderName() {
+        return folderName;
+    }
+
+    /**
+     * @return Pointer to the snapshot record of the previous snapshot in the chain.
+     */
+    public WALPointer startPointer() {
+        return startPtr;
+    }
+
+    /**
+     * @return Pointer to the snapshot record of this increment.
+     */
+    public WALPointer endPointer() {
+        return endPtr;
+    }
+
+    /**
+     * @return Update counters of owning partitions at the increment cut.
+     */
+    public Map<Integer, Map<Integer, Long>> partitionCounters() {
+        return partCntrs;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(IncrementalSnapshotMetadata.class, this);
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageDeltaRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageSnapshotDiffRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PartitionDestroyRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStore;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteBiTuple;
+
+import static org.apache.ignite.internal.pagemem.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.pagemem.PageIdUtils.partId;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordPurpose.PHYSICAL;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.getPartitionFile;
+import static org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId.getTypeByPartId;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory.IteratorParametersBuilder.withIteratorParameters;
+
+/**
+ * Applies physical WAL records of incremental snapshots to the partition files of the full snapshot copied to
+ * the temporary restore directories. The base partition files reflect the state of the full snapshot checkpoint
+ * and each increment is cut on a checkpoint mark, so the page snapshots and the page deltas logged in between
+ * bring the pages to the state of the increment the same way the binary memory recovery does on node start.
+ * <p>
+ * Not thread-safe, records are applied sequentially in the order they are logged.
+ */
+class IncrementalSnapshotReplayer implements AutoCloseable {
+    /** Shared context. */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Restore directories of the cache groups, group id to directory. */
+    private final Map<Integer, File> grpDirs;
+
+    /** Page memory of the data regions of the cache groups used to apply page deltas. */
+    private final Map<Integer, PageMemory> pageMems;
+
+    /** Opened partition stores. */
+    private final Map<GroupPartitionId, FilePageStore> stores = new HashMap<>();
+
+    /** Pages which images are ahead of the bases of their logged diffs. */
+    private final Set<FullPageId> skippedPages = new HashSet<>();
+
+    /** Page buffer. */
+    private final ByteBuffer buf;
+
+    /** Page buffer address. */
+    private final long bufAddr;
+
+    /** Page size. */
+    private final int pageSize;
+
+    /** Number of applied records. */
+    private long applied;
+
+    /**
+     * @param cctx Shared context.
+     * @param grpDirs Restore directories of the cache groups, group id to directory.
+     * @param pageMems Page memory of the data regions of the cache groups, group id to page memory.
+     */
+    IncrementalSnapshotReplayer(
+        GridCacheSharedContext<?, ?> cctx,
+        Map<Integer, File> grpDirs,
+        Map<Integer, PageMemory> pageMems
+    ) {
+        this.cctx = cctx;
+        this.grpDirs = grpDirs;
+        this.pageMems = pageMems;
+
+        log = cctx.logger(getClass());
+        pageSize = cctx.gridConfig().getDataStorageConfiguration().getPageSize();
+        buf = ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder());
+        bufAddr = GridUnsafe.bufferAddress(buf);
+    }
+
+    /**
+     * @param walDirs Directories with WAL segments of the increments.
+     * @param from Pointer to start replay after, exclusive.
+     * @param to Pointer to stop replay at, exclusive.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void replay(Collection<File> walDirs, WALPointer from, WALPointer to) throws IgniteCheckedException {
+        IgniteWalIteratorFactory.IteratorParametersBuilder params = withIteratorParameters()
+            .log(log)
+            .sharedContext(cctx)
+            .pageSize(pageSize)
+            .filesOrDirs(walDirs.toArray(new File[0]))
+            .from(from)
+            .filter((type, ptr) -> type.purpose() == PHYSICAL);
+
+        try (WALIterator it = new IgniteWalIteratorFactory(log).iterator(params)) {
+            while (it.hasNextX()) {
+                IgniteBiTuple<WALPointer, WALRecord> tup = it.nextX();
+
+                WALPointer ptr = tup.get1();
+
+                if (ptr.compareTo(from) <= 0)
+                    continue;
+
+                if (ptr.compareTo(to) >= 0)
+                    break;
+
+                WALRecord rec = tup.get2();
+
+                if (rec instanceof PageSnapshot)
+                    applyPageSnapshot((PageSnapshot)rec);
+                else if (rec instanceof PageDeltaRecord)
+                    applyPageDelta((PageDeltaRecord)rec);
+                else if (rec instanceof PartitionDestroyRecord) {
+                    PartitionDestroyRecord destroy = (PartitionDestroyRecord)rec;
+
+                    FilePageStore store = store(destroy.groupId(), destroy.partitionId());
+
+                    if (store != null)
+                        store.truncate(0);
+                }
+            }
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Incremental snapshot WAL records applied to the restored partitions [from=" + from +
+                ", to=" + to + ", applied=" + applied + ']');
+        }
+    }
+
+    /**
+     * @param rec Page snapshot record.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void applyPageSnapshot(PageSnapshot rec) throws IgniteCheckedException {
+        int grpId = rec.fullPageId().groupId();
+        long pageId = rec.fullPageId().pageId();
+
+        FilePageStore store = store(grpId, partId(pageId));
+
+        if (store == null)
+            return;
+
+        GridUnsafe.setMemory(bufAddr, pageSize, (byte)0);
+
+        PageUtils.putBytes(bufAddr, 0, rec.pageData());
+
+        decompressIfNeeded(grpId);
+
+        write(store, pageId);
+
+        skippedPages.remove(rec.fullPageId());
+    }
+
+    /**
+     * @param rec Page delta record.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void applyPageDelta(PageDeltaRecord rec) throws IgniteCheckedException {
+        int grpId = rec.groupId();
+        long pageId = rec.pageId();
+
+        FilePageStore store = store(grpId, partId(pageId));
+
+        if (store == null)
+            return;
+
+        buf.clear();
+
+        if (pageIndex(pageId) < store.pages())
+            store.read(pageId, buf, false);
+        else
+            GridUnsafe.setMemory(bufAddr, pageSize, (byte)0);
+
+        decompressIfNeeded(grpId);
+
+        if (rec instanceof PageSnapshotDiffRecord) {
+            // The page is ahead of the base of the diff and already contains the changes up to the next matching diff.
+            if (!((PageSnapshotDiffRecord)rec).matchesBase(bufAddr, pageSize)) {
+                skippedPages.add(rec.fullPageId());
+
+                return;
+            }
+
+            skippedPages.remove(rec.fullPageId());
+        }
+        else if (!skippedPages.isEmpty() && skippedPages.contains(rec.fullPageId()))
+            return;
+
+        rec.applyDelta(pageMems.get(grpId), bufAddr);
+
+        write(store, pageId);
+    }
+
+    /**
+     * @param grpId Cache group id.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void decompressIfNeeded(int grpId) throws IgniteCheckedException {
+        if (PageIO.getCompressionType(bufAddr) == CompressionProcessor.UNCOMPRESSED_PAGE)
+            return;
+
+        buf.clear();
+
+        cctx.kernalContext().compress().decompressPage(buf, pageMems.get(grpId).realPageSize(grpId));
+    }
+
+    /**
+     * @param store Partition store.
+     * @param pageId Page id.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void write(FilePageStore store, long pageId) throws IgniteCheckedException {
+        // The number of pages includes the file header.
+        while (store.pages() <= pageIndex(pageId) + 1)
+            store.allocatePage();
+
+        buf.clear();
+
+        PageIO.setCrc(bufAddr, 0);
+
+        store.write(pageId, buf, 0, true);
+
+        applied++;
+    }
+
+    /**
+     * @param grpId Cache group id.
+     * @param partId Partition id.
+     * @return Partition store or {@code null} if the partition is not restored.
+     * @throws IgniteCheckedException If failed.
+     */
+    private FilePageStore store(int grpId, int partId) throws IgniteCheckedException {
+        File grpDir = grpDirs.get(grpId);
+
+        if (grpDir == null)
+            return null;
+
+        GroupPartitionId key = new GroupPartitionId(grpId, partId);
+
+        FilePageStore store = stores.get(key);
+
+        if (store != null)
+            return store;
+
+        File file = getPartitionFile(grpDir.getParentFile(), grpDir.getName(), partId);
+
+        // Partitions which are not saved in the base snapshot are not restored.
+        if (!file.exists())
+            return null;
+
+        FilePageStoreManager storeMgr = (FilePageStoreManager)cctx.pageStore();
+
+        store = (FilePageStore)storeMgr.getPageStoreFactory(grpId, false)
+            .createPageStore(getTypeByPartId(partId), file::toPath, val -> {});
+
+        store.init();
+
+        stores.put(key, store);
+
+        return store;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws IgniteCheckedException {
+        IgniteCheckedException err = null;
+
+        for (PageStore store : stores.values()) {
+            try {
+                store.sync();
+            }
+            catch (IgniteCheckedException e) {
+                if (err == null)
+                    err = e;
+            }
+
+            try {
+                ((FilePageStore)store).close();
+            }
+            catch (IOException e) {
+                U.error(log, "Unable to close the restored partition store", e);
+            }
+        }
+
+        stores.clear();
+
+        if (err != null)
+            throw err;
+    }
+}
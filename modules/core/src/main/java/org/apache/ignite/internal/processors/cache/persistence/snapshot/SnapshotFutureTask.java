@@ -46,13 +46,13 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import org.apache.ignite.IgniteCheckedException;
-import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.binary.BinaryType;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.IgniteFutureCancelledCheckedException;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.pagemem.store.PageWriteListener;
+import org.apache.ignite.internal.pagemem.wal.record.SnapshotRecord;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
@@ -65,6 +65,7 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactor
 import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
 import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
 import org.apache.ignite.internal.processors.marshaller.MappedName;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
@@ -77,6 +78,7 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.PAGE_SNAPSHOT_TAKEN;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.cacheDirName;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.cacheWorkDir;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.getPartitionFile;
@@ -87,22 +89,10 @@ import static org.apache.ignite.internal.processors.cache.persistence.snapshot.I
 /**
  *
  */
-class SnapshotFutureTask extends GridFutureAdapter<Boolean> implements CheckpointListener {
-    /** Shared context. */
-    private final GridCacheSharedContext<?, ?> cctx;
-
+class SnapshotFutureTask extends AbstractSnapshotFutureTask<Boolean> implements CheckpointListener {
     /** File page store manager for accessing cache group associated files. */
     private final FilePageStoreManager pageStore;
 
-    /** Ignite logger. */
-    private final IgniteLogger log;
-
-    /** Node id which cause snapshot operation. */
-    private final UUID srcNodeId;
-
-    /** Unique identifier of snapshot process. */
-    private final String snpName;
-
     /** Snapshot working directory on file system. */
     private final File tmpSnpWorkDir;
 
@@ -168,17 +158,18 @@ class SnapshotFutureTask extends GridFutureAdapter<Boolean> implements Checkpoin
     /** Flag indicates that task already scheduled on checkpoint. */
     private final AtomicBoolean started = new AtomicBoolean();
 
+    /** Pointer to the snapshot record logged to WAL at the moment the snapshot data is consistent. */
+    private volatile WALPointer snpRecPtr;
+
     /**
      * @param e Finished snapshot task future with particular exception.
      */
     public SnapshotFutureTask(IgniteCheckedException e) {
+        super(null, null, null);
+
         assert e != null : "Exception for a finished snapshot task must be not null";
 
-        cctx = null;
         pageStore = null;
-        log = null;
-        snpName = null;
-        srcNodeId = null;
         tmpSnpWorkDir = null;
         snpSndr = null;
 
@@ -206,37 +197,21 @@ class SnapshotFutureTask extends GridFutureAdapter<Boolean> implements Checkpoin
         Map<Integer, Set<Integer>> parts,
         ThreadLocal<ByteBuffer> locBuff
     ) {
+        super(cctx, srcNodeId, snpName);
+
         assert snpName != null : "Snapshot name cannot be empty or null.";
         assert snpSndr != null : "Snapshot sender which handles execution tasks must be not null.";
         assert snpSndr.executor() != null : "Executor service must be not null.";
         assert cctx.pageStore() instanceof FilePageStoreManager : "Snapshot task can work only with physical files.";
 
         this.parts = parts;
-        this.cctx = cctx;
         this.pageStore = (FilePageStoreManager)cctx.pageStore();
-        this.log = cctx.logger(SnapshotFutureTask.class);
-        this.snpName = snpName;
-        this.srcNodeId = srcNodeId;
         this.tmpSnpWorkDir = new File(tmpWorkDir, snpName);
         this.snpSndr = snpSndr;
         this.ioFactory = ioFactory;
         this.locBuff = locBuff;
     }
 
-    /**
-     * @return Snapshot name.
-     */
-    public String snapshotName() {
-        return snpName;
-    }
-
-    /**
-     * @return Node id which triggers this operation.
-     */
-    public UUID sourceNodeId() {
-        return srcNodeId;
-    }
-
     /**
      * @return Type of snapshot operation.
      */
@@ -245,16 +220,20 @@ class SnapshotFutureTask extends GridFutureAdapter<Boolean> implements Checkpoin
     }
 
     /**
-     * @return Set of cache groups included into snapshot operation.
+     * @return Pointer to the snapshot record logged to WAL right after the snapshot checkpoint mark
+     * or {@code null} if WAL is disabled.
      */
-    public Set<Integer> affectedCacheGroups() {
+    public WALPointer snapshotRecordPointer() {
+        return snpRecPtr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Set<Integer> affectedCacheGroups() {
         return parts.keySet();
     }
 
-    /**
-     * @param th An exception which occurred during snapshot processing.
-     */
-    public void acceptException(Throwable th) {
+    /** {@inheritDoc} */
+    @Override public void acceptException(Throwable th) {
         if (th == null)
             return;
 
@@ -295,10 +274,8 @@ class SnapshotFutureTask extends GridFutureAdapter<Boolean> implements Checkpoin
         return super.onDone(res, err);
     }
 
-    /**
-     * @throws IgniteCheckedException If fails.
-     */
-    public void awaitStarted() throws IgniteCheckedException {
+    /** {@inheritDoc} */
+    @Override public void awaitStarted() throws IgniteCheckedException {
         startedFut.get();
     }
 
@@ -309,12 +286,8 @@ class SnapshotFutureTask extends GridFutureAdapter<Boolean> implements Checkpoin
         return err.get() != null;
     }
 
-    /**
-     * Initiates snapshot task.
-     *
-     * @return {@code true} if task started by this call.
-     */
-    public boolean start() {
+    /** {@inheritDoc} */
+    @Override public boolean start() {
         if (stopping())
             return false;
 
@@ -473,6 +446,17 @@ class SnapshotFutureTask extends GridFutureAdapter<Boolean> implements Checkpoin
 
             pageStore.readConfigurationFiles(ccfgs,
                 (ccfg, ccfgFile) -> ccfgSndrs.add(new CacheConfigurationSender(ccfg.getName(), cacheDirName(ccfg), ccfgFile)));
+
+            // Partition meta pages are saved asynchronously by the listeners, so the snapshot record is logged
+            // once all of them are written to WAL and the checkpoint record is logged.
+            ctx.progress().onStateChanged(PAGE_SNAPSHOT_TAKEN, () -> {
+                try {
+                    snpRecPtr = cctx.wal().log(new SnapshotRecord(0, true));
+                }
+                catch (IgniteCheckedException e) {
+                    acceptException(e);
+                }
+            });
         }
         catch (IgniteCheckedException e) {
             acceptException(e);
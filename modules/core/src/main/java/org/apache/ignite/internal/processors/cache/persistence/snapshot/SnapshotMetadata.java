@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.io.Serializable;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metadata of the local node part of a full snapshot. Saved to the snapshot directory when the local snapshot
+ * task completes and used as a base to build incremental snapshots on.
+ */
+public class SnapshotMetadata implements Serializable {
+    /** Serial version uid. */
+    private static final long serialVersionUID = 0L;
+
+    /** Snapshot name. */
+    private final String snpName;
+
+    /** Local node folder name (see {@code U#maskForFileName} with consistent id). */
+    private final String folderName;
+
+    /** Pointer to the snapshot record logged to WAL at the moment the snapshot data is consistent. */
+    private final WALPointer snpRecPtr;
+
+    /**
+     * @param snpName Snapshot name.
+     * @param folderName Local node folder name.
+     * @param snpRecPtr Pointer to the snapshot record logged to WAL.
+     */
+    public SnapshotMetadata(String snpName, String folderName, @Nullable WALPointer snpRecPtr) {
+        this.snpName = snpName;
+        this.folderName = folderName;
+        this.snpRecPtr = snpRecPtr;
+    }
+
+    /**
+     * @return Snapshot name.
+     */
+    public String snapshotName() {
+        return snpName;
+    }
+
+    /**
+     * @return Local node folder name.
+     */
+    public String folderName() {
+        return folderName;
+    }
+
+    /**
+     * @return Pointer to the snapshot record logged to WAL or {@code null} if WAL was disabled.
+     */
+    public @Nullable WALPointer snapshotRecordPointer() {
+        return snpRecPtr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(SnapshotMetadata.class, this);
+    }
+}
@@ -0,0 +1,1060 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.IgniteFeatures;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.CacheGroupDescriptor;
+import org.apache.ignite.internal.processors.cache.StoredCacheData;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStore;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PagePartitionMetaIO;
+import org.apache.ignite.internal.processors.cluster.DiscoveryDataClusterState;
+import org.apache.ignite.internal.util.GridConcurrentHashSet;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.distributed.DistributedProcess;
+import org.apache.ignite.internal.util.future.GridFinishedFuture;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.IgniteFeatures.INCREMENTAL_SNAPSHOT;
+import static org.apache.ignite.internal.IgniteFeatures.SNAPSHOT_RESTORE_CACHE_GROUP;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.CACHE_DATA_FILENAME;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.CACHE_DIR_PREFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.CACHE_GRP_DIR_PREFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.FILE_SUFFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.PART_FILE_PREFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.databaseRelativePath;
+import static org.apache.ignite.internal.util.distributed.DistributedProcess.DistributedProcessType.RESTORE_CACHE_GROUP_SNAPSHOT_PRELOAD;
+import static org.apache.ignite.internal.util.distributed.DistributedProcess.DistributedProcessType.RESTORE_CACHE_GROUP_SNAPSHOT_PREPARE;
+import static org.apache.ignite.internal.util.distributed.DistributedProcess.DistributedProcessType.RESTORE_CACHE_GROUP_SNAPSHOT_ROLLBACK;
+import static org.apache.ignite.internal.util.distributed.DistributedProcess.DistributedProcessType.RESTORE_CACHE_GROUP_SNAPSHOT_START;
+
+/**
+ * Distributed process to restore cache groups from the snapshot.
+ * <p>
+ * The process consists of the following stages:
+ * <ul>
+ *     <li>Prepare. Each baseline node reads the cache configurations and the partition update counters of its part
+ *     of the snapshot. The update counters of each partition must be equal on all nodes the partition is saved on.</li>
+ *     <li>Preload. Each baseline node copies the snapshot partition files to the temporary directories in parallel
+ *     and moves them to the cache working directories. If an incremental snapshot is restored, the physical WAL
+ *     records of the increments are applied to the copied files before they are moved and the resulting partition
+ *     update counters are checked against the counters saved in the last increment.</li>
+ *     <li>Cache start. The cache groups are started over the copied partition files, the partition states and
+ *     the update counters are read from the partition meta pages, so cache entries are not replayed.</li>
+ *     <li>Rollback. In case of failure the copied partition files are removed on each node.</li>
+ * </ul>
+ * The next stage is always started by the coordinator node to survive the operation initiator node failure.
+ */
+public class SnapshotRestoreProcess {
+    /** Temporary cache directory prefix. */
+    public static final String TMP_CACHE_DIR_PREFIX = "_tmp_snp_restore_";
+
+    /** Reject operation message. */
+    private static final String OP_REJECT_MSG = "Cache group restore operation was rejected. ";
+
+    /** Kernal context. */
+    private final GridKernalContext ctx;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Cache group restore prepare stage. */
+    private final DistributedProcess<SnapshotRestoreRequest, SnapshotRestorePrepareResponse> prepareRestoreProc;
+
+    /** Cache group restore partition files copy stage. */
+    private final DistributedProcess<UUID, Boolean> preloadProc;
+
+    /** Cache group restore cache start stage. */
+    private final DistributedProcess<UUID, Boolean> cacheStartProc;
+
+    /** Cache group restore rollback stage. */
+    private final DistributedProcess<SnapshotRestoreRollbackRequest, Boolean> rollbackRestoreProc;
+
+    /** Mutex used to order the operation initiation and completion. */
+    private final Object mux = new Object();
+
+    /** Cache group restore operation context of the local node. */
+    private volatile SnapshotRestoreContext opCtx;
+
+    /** Future to be completed when the restore operation initiated by the local node ends. */
+    private ClusterSnapshotRestoreFuture fut;
+
+    /**
+     * @param ctx Kernal context.
+     */
+    public SnapshotRestoreProcess(GridKernalContext ctx) {
+        this.ctx = ctx;
+
+        log = ctx.log(getClass());
+
+        prepareRestoreProc = new DistributedProcess<>(ctx, RESTORE_CACHE_GROUP_SNAPSHOT_PREPARE, this::prepare,
+            this::finishPrepare);
+        preloadProc = new DistributedProcess<>(ctx, RESTORE_CACHE_GROUP_SNAPSHOT_PRELOAD, this::preload,
+            this::finishPreload);
+        cacheStartProc = new DistributedProcess<>(ctx, RESTORE_CACHE_GROUP_SNAPSHOT_START, this::cacheStart,
+            this::finishCacheStart);
+        rollbackRestoreProc = new DistributedProcess<>(ctx, RESTORE_CACHE_GROUP_SNAPSHOT_ROLLBACK, this::rollback,
+            this::finishRollback);
+    }
+
+    /**
+     * Cleanup temporary directories left after the interrupted restore operation.
+     *
+     * @param workDir Cache working directory.
+     */
+    public void cleanup(File workDir) {
+        File[] tmpDirs = workDir.listFiles(f -> f.isDirectory() && f.getName().startsWith(TMP_CACHE_DIR_PREFIX));
+
+        if (tmpDirs == null)
+            return;
+
+        for (File dir : tmpDirs) {
+            if (log.isInfoEnabled())
+                log.info("Removing temporary directory of the interrupted snapshot restore operation: " + dir);
+
+            U.delete(dir);
+        }
+    }
+
+    /**
+     * Start cache group restore operation.
+     *
+     * @param snpName Snapshot name.
+     * @param grpNames Cache groups to be restored or {@code null} to restore all cache groups from the snapshot.
+     * @param incIdx Index of the incremental snapshot to restore or {@code 0} to restore the full snapshot.
+     * @return Future that will be completed when the restore operation is complete and the cache groups are started.
+     */
+    public IgniteInternalFuture<Void> start(String snpName, @Nullable Collection<String> grpNames, int incIdx) {
+        ClusterSnapshotRestoreFuture fut0;
+
+        try {
+            if (!CU.isPersistenceEnabled(ctx.config()))
+                throw new IgniteException(OP_REJECT_MSG + "Persistence is not enabled.");
+
+            DiscoveryDataClusterState clusterState = ctx.state().clusterState();
+
+            if (!clusterState.state().active())
+                throw new IgniteException(OP_REJECT_MSG + "The cluster should be active.");
+
+            if (!clusterState.hasBaselineTopology())
+                throw new IgniteException(OP_REJECT_MSG + "The baseline topology is not configured for cluster.");
+
+            Collection<ClusterNode> srvNodes = ctx.discovery().serverNodes(AffinityTopologyVersion.NONE);
+
+            if (!IgniteFeatures.allNodesSupports(srvNodes, SNAPSHOT_RESTORE_CACHE_GROUP))
+                throw new IgniteException(OP_REJECT_MSG + "Not all nodes in the cluster support a restore operation.");
+
+            if (incIdx > 0 && !IgniteFeatures.allNodesSupports(srvNodes, INCREMENTAL_SNAPSHOT)) {
+                throw new IgniteException(OP_REJECT_MSG + "Not all nodes in the cluster support incremental " +
+                    "snapshots.");
+            }
+
+            Set<UUID> bltNodes = new HashSet<>(F.viewReadOnly(srvNodes, F.node2id(),
+                node -> CU.baselineNode(node, clusterState)));
+
+            if (bltNodes.size() != clusterState.baselineTopology().consistentIds().size())
+                throw new IgniteException(OP_REJECT_MSG + "Some of baseline nodes are offline.");
+
+            if (ctx.cache().context().snapshotMgr().isSnapshotCreating())
+                throw new IgniteException(OP_REJECT_MSG + "A cluster snapshot operation is in progress.");
+
+            synchronized (mux) {
+                if (fut != null || opCtx != null) {
+                    throw new IgniteException(OP_REJECT_MSG + "The previous snapshot restore operation was " +
+                        "not completed.");
+                }
+
+                fut0 = fut = new ClusterSnapshotRestoreFuture(UUID.randomUUID(), snpName);
+            }
+
+            SnapshotRestoreRequest req = new SnapshotRestoreRequest(fut0.rqId, ctx.localNodeId(), snpName,
+                grpNames == null ? null : new HashSet<>(grpNames), bltNodes, incIdx);
+
+            if (log.isInfoEnabled())
+                log.info("Starting cache group restore operation from the snapshot [req=" + req + ']');
+
+            prepareRestoreProc.start(req.reqId, req);
+        }
+        catch (IgniteException e) {
+            return new GridFinishedFuture<>(e);
+        }
+
+        return fut0;
+    }
+
+    /**
+     * @return {@code True} if the cache group restore operation is in progress on the local node.
+     */
+    public boolean isRestoring() {
+        if (opCtx != null)
+            return true;
+
+        synchronized (mux) {
+            return opCtx != null || fut != null;
+        }
+    }
+
+    /**
+     * Node left callback.
+     *
+     * @param leftNodeId Left node ID.
+     */
+    public void onNodeLeft(UUID leftNodeId) {
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        if (opCtx0 != null && opCtx0.req.nodes.contains(leftNodeId)) {
+            opCtx0.err.compareAndSet(null, new ClusterTopologyCheckedException(OP_REJECT_MSG.replace("rejected",
+                "interrupted") + "Baseline node has left the cluster [nodeId=" + leftNodeId + ']'));
+        }
+    }
+
+    /**
+     * Interrupt the currently running restore operation on the local node.
+     *
+     * @param reason Interruption reason.
+     */
+    public void stop(Exception reason) {
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        if (opCtx0 != null)
+            opCtx0.err.compareAndSet(null, reason);
+
+        synchronized (mux) {
+            if (fut != null) {
+                fut.onDone(reason);
+
+                fut = null;
+            }
+        }
+    }
+
+    /**
+     * @param req Request to prepare cache group restore from the snapshot.
+     * @return Result future.
+     */
+    private IgniteInternalFuture<SnapshotRestorePrepareResponse> prepare(SnapshotRestoreRequest req) {
+        if (ctx.clientNode())
+            return new GridFinishedFuture<>();
+
+        // Executed inside discovery notifier thread, prior to firing discovery custom event,
+        // so it is safe to set new restore operation context inside this method without synchronization.
+        SnapshotRestoreContext curr = opCtx;
+
+        if (curr != null) {
+            return new GridFinishedFuture<>(new IgniteCheckedException(OP_REJECT_MSG +
+                "Another restore operation is in progress [req=" + req + ", curr=" + curr.req + ']'));
+        }
+
+        if (ctx.cache().context().snapshotMgr().isSnapshotCreating()) {
+            return new GridFinishedFuture<>(new IgniteCheckedException(OP_REJECT_MSG +
+                "A cluster snapshot operation is in progress [req=" + req + ']'));
+        }
+
+        SnapshotRestoreContext opCtx0 = opCtx = new SnapshotRestoreContext(req);
+
+        if (!req.nodes.contains(ctx.localNodeId()))
+            return new GridFinishedFuture<>();
+
+        GridFutureAdapter<SnapshotRestorePrepareResponse> retFut = new GridFutureAdapter<>();
+
+        ctx.cache().context().snapshotMgr().snapshotExecutorService().execute(() -> {
+            try {
+                retFut.onDone(prepare0(opCtx0));
+            }
+            catch (Throwable t) {
+                retFut.onDone(t);
+            }
+        });
+
+        return retFut;
+    }
+
+    /**
+     * @param opCtx0 Restore operation context.
+     * @return Cache configurations and partition update counters of the local part of the snapshot.
+     * @throws IgniteCheckedException If failed.
+     */
+    private SnapshotRestorePrepareResponse prepare0(SnapshotRestoreContext opCtx0) throws IgniteCheckedException {
+        SnapshotRestoreRequest req = opCtx0.req;
+        IgniteSnapshotManager snpMgr = ctx.cache().context().snapshotMgr();
+        FilePageStoreManager storeMgr = (FilePageStoreManager)ctx.cache().context().pageStore();
+
+        File snpDbDir = new File(snpMgr.snapshotLocalDir(req.snpName),
+            databaseRelativePath(ctx.pdsFolderResolver().resolveFolders().folderName()));
+
+        if (!snpDbDir.exists()) {
+            throw new IgniteCheckedException(OP_REJECT_MSG + "Snapshot data doesn't exist on the local node " +
+                "[snpName=" + req.snpName + ", dir=" + snpDbDir.getAbsolutePath() + ']');
+        }
+
+        File[] snpCacheDirs = snpDbDir.listFiles(f -> f.isDirectory() &&
+            (f.getName().startsWith(CACHE_DIR_PREFIX) || f.getName().startsWith(CACHE_GRP_DIR_PREFIX)));
+
+        SnapshotRestorePrepareResponse res = new SnapshotRestorePrepareResponse();
+
+        if (snpCacheDirs == null)
+            return res;
+
+        if (req.incIdx > 0)
+            opCtx0.incs.addAll(snpMgr.readIncrementalSnapshotChain(req.snpName, req.incIdx));
+
+        for (File snpCacheDir : snpCacheDirs) {
+            Map<String, StoredCacheData> ccfgs = new HashMap<>();
+
+            storeMgr.readCacheConfigurations(snpCacheDir, ccfgs);
+
+            if (ccfgs.isEmpty())
+                continue;
+
+            CacheConfiguration<?, ?> ccfg = F.first(ccfgs.values()).config();
+            String grpName = CacheGroupContext.cacheOrGroupName(ccfg);
+
+            if (req.grps != null && !req.grps.contains(grpName))
+                continue;
+
+            if (ccfg.isEncryptionEnabled())
+                throw new IgniteCheckedException(OP_REJECT_MSG + "Encrypted cache groups are not allowed " +
+                    "[group=" + grpName + ']');
+
+            for (CacheGroupDescriptor desc : ctx.cache().cacheGroupDescriptors().values()) {
+                if (desc.cacheOrGroupName().equals(grpName)) {
+                    throw new IgniteCheckedException(OP_REJECT_MSG + "Cache group with the same name already " +
+                        "exists [group=" + grpName + ']');
+                }
+            }
+
+            for (String cacheName : ccfgs.keySet()) {
+                if (ctx.cache().cacheDescriptor(cacheName) != null) {
+                    throw new IgniteCheckedException(OP_REJECT_MSG + "Cache with the same name already exists " +
+                        "[cache=" + cacheName + ", group=" + grpName + ']');
+                }
+            }
+
+            File cacheDir = new File(storeMgr.workDir(), snpCacheDir.getName());
+
+            if (!F.isEmpty(cacheDir.list())) {
+                throw new IgniteCheckedException(OP_REJECT_MSG + "Cache group directory is not empty " +
+                    "[group=" + grpName + ", dir=" + cacheDir.getAbsolutePath() + ']');
+            }
+
+            int grpId = CU.cacheGroupId(ccfg.getName(), ccfg.getGroupName());
+
+            Map<Integer, Long> cntrs;
+
+            if (req.incIdx > 0) {
+                cntrs = F.last(opCtx0.incs).partitionCounters().get(grpId);
+
+                if (cntrs == null) {
+                    throw new IgniteCheckedException(OP_REJECT_MSG + "Cache group is not included into the " +
+                        "incremental snapshot [group=" + grpName + ", incIdx=" + req.incIdx + ']');
+                }
+
+                opCtx0.cntrs.put(grpId, cntrs);
+            }
+            else
+                cntrs = readUpdateCounters(storeMgr, grpId, snpCacheDir);
+
+            res.ccfgs.addAll(ccfgs.values());
+            res.cntrs.put(grpId, cntrs);
+
+            opCtx0.snpCacheDirs.put(grpId, snpCacheDir);
+        }
+
+        return res;
+    }
+
+    /**
+     * @param storeMgr Page store manager.
+     * @param grpId Cache group id.
+     * @param snpCacheDir Snapshot cache group directory.
+     * @return Update counters of owning partitions saved in the snapshot, partition id to update counter.
+     * @throws IgniteCheckedException If failed.
+     */
+    private Map<Integer, Long> readUpdateCounters(
+        FilePageStoreManager storeMgr,
+        int grpId,
+        File snpCacheDir
+    ) throws IgniteCheckedException {
+        File[] parts = snpCacheDir.listFiles(f -> f.getName().startsWith(PART_FILE_PREFIX) &&
+            f.getName().endsWith(FILE_SUFFIX));
+
+        Map<Integer, Long> cntrs = new HashMap<>();
+
+        if (parts == null)
+            return cntrs;
+
+        ByteBuffer buf = ByteBuffer.allocateDirect(ctx.config().getDataStorageConfiguration().getPageSize())
+            .order(ByteOrder.nativeOrder());
+
+        long addr = GridUnsafe.bufferAddress(buf);
+
+        for (File part : parts) {
+            String name = part.getName();
+            int partId = Integer.parseInt(name.substring(PART_FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+
+            try (FilePageStore store = (FilePageStore)storeMgr.getPageStoreFactory(grpId, false)
+                .createPageStore(PageStore.TYPE_DATA, part::toPath, val -> {})) {
+                buf.clear();
+
+                store.init();
+
+                // Partition has never been written, so there are no updates.
+                if (!store.read(PageIdUtils.pageId(partId, PageIdAllocator.FLAG_DATA, 0), buf, true)) {
+                    cntrs.put(partId, 0L);
+
+                    continue;
+                }
+
+                PagePartitionMetaIO io = PagePartitionMetaIO.VERSIONS.forPage(addr);
+
+                if (GridDhtPartitionState.fromOrdinal(io.getPartitionState(addr)) == GridDhtPartitionState.OWNING)
+                    cntrs.put(partId, io.getUpdateCounter(addr));
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Unable to read partition meta page from the snapshot " +
+                    "[file=" + part.getAbsolutePath() + ']', e);
+            }
+        }
+
+        return cntrs;
+    }
+
+    /**
+     * @param reqId Request id.
+     * @param res Results.
+     * @param errs Errors.
+     */
+    private void finishPrepare(UUID reqId, Map<UUID, SnapshotRestorePrepareResponse> res, Map<UUID, Exception> errs) {
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        Exception failure = F.first(errs.values());
+
+        if (opCtx0 == null || !reqId.equals(opCtx0.req.reqId)) {
+            // Local node has rejected the request or is a client node.
+            if (failure != null)
+                finishProcess(reqId, failure);
+
+            return;
+        }
+
+        if (failure == null)
+            failure = checkNodeLeft(opCtx0, res.keySet());
+
+        if (failure == null) {
+            try {
+                opCtx0.ccfgs.addAll(validatePrepareResults(opCtx0.req, res));
+            }
+            catch (IgniteCheckedException e) {
+                failure = e;
+            }
+        }
+
+        if (failure != null) {
+            // Nothing has been copied yet, so there is no need to perform a rollback.
+            opCtx = null;
+
+            finishProcess(reqId, failure);
+
+            return;
+        }
+
+        if (U.isLocalNodeCoordinator(ctx.discovery()))
+            preloadProc.start(reqId, reqId);
+    }
+
+    /**
+     * @param req Restore request.
+     * @param res Prepare stage results of each node.
+     * @return Cache configurations to start.
+     * @throws IgniteCheckedException If the results are inconsistent.
+     */
+    private Collection<StoredCacheData> validatePrepareResults(
+        SnapshotRestoreRequest req,
+        Map<UUID, SnapshotRestorePrepareResponse> res
+    ) throws IgniteCheckedException {
+        Map<String, StoredCacheData> ccfgs = new HashMap<>();
+        Map<Integer, Map<Integer, Long>> cntrs = new HashMap<>();
+
+        for (Map.Entry<UUID, SnapshotRestorePrepareResponse> e : res.entrySet()) {
+            if (e.getValue() == null)
+                continue;
+
+            for (StoredCacheData data : e.getValue().ccfgs)
+                ccfgs.putIfAbsent(data.config().getName(), data);
+
+            for (Map.Entry<Integer, Map<Integer, Long>> grpCntrs : e.getValue().cntrs.entrySet()) {
+                Map<Integer, Long> cntrs0 = cntrs.computeIfAbsent(grpCntrs.getKey(), k -> new HashMap<>());
+
+                for (Map.Entry<Integer, Long> partCntr : grpCntrs.getValue().entrySet()) {
+                    Long prev = cntrs0.putIfAbsent(partCntr.getKey(), partCntr.getValue());
+
+                    if (prev != null && !prev.equals(partCntr.getValue())) {
+                        throw new IgniteCheckedException("Partition update counters of the snapshot don't match " +
+                            "[grpId=" + grpCntrs.getKey() + ", partId=" + partCntr.getKey() + ", nodeId=" +
+                            e.getKey() + ", cntr=" + partCntr.getValue() + ", expected=" + prev + ']');
+                    }
+                }
+            }
+        }
+
+        Set<String> grps = new HashSet<>();
+
+        for (StoredCacheData data : ccfgs.values()) {
+            CacheConfiguration<?, ?> ccfg = data.config();
+            int grpId = CU.cacheGroupId(ccfg.getName(), ccfg.getGroupName());
+
+            grps.add(CacheGroupContext.cacheOrGroupName(ccfg));
+
+            if (ccfg.getAffinity() == null)
+                continue;
+
+            Map<Integer, Long> cntrs0 = cntrs.getOrDefault(grpId, new HashMap<>());
+
+            for (int p = 0; p < ccfg.getAffinity().partitions(); p++) {
+                if (!cntrs0.containsKey(p)) {
+                    throw new IgniteCheckedException("Snapshot doesn't contain an owning copy of the partition " +
+                        "[group=" + CacheGroupContext.cacheOrGroupName(ccfg) + ", partId=" + p + ']');
+                }
+            }
+        }
+
+        if (req.grps != null && !grps.containsAll(req.grps)) {
+            Set<String> missed = new HashSet<>(req.grps);
+            missed.removeAll(grps);
+
+            throw new IgniteCheckedException(OP_REJECT_MSG + "Cache groups were not found in the snapshot " +
+                "[snpName=" + req.snpName + ", missed=" + missed + ']');
+        }
+
+        if (ccfgs.isEmpty())
+            throw new IgniteCheckedException(OP_REJECT_MSG + "There are no cache groups to restore [req=" + req + ']');
+
+        return ccfgs.values();
+    }
+
+    /**
+     * @param reqId Request id.
+     * @return Result future.
+     */
+    private IgniteInternalFuture<Boolean> preload(UUID reqId) {
+        if (ctx.clientNode())
+            return new GridFinishedFuture<>();
+
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        if (opCtx0 == null || !reqId.equals(opCtx0.req.reqId)) {
+            return new GridFinishedFuture<>(new IgniteCheckedException("The restore operation context not found " +
+                "[reqId=" + reqId + ']'));
+        }
+
+        Throwable err = opCtx0.err.get();
+
+        if (err != null)
+            return new GridFinishedFuture<>(err);
+
+        if (opCtx0.snpCacheDirs.isEmpty())
+            return new GridFinishedFuture<>(true);
+
+        GridFutureAdapter<Boolean> retFut = new GridFutureAdapter<>();
+
+        try {
+            FilePageStoreManager storeMgr = (FilePageStoreManager)ctx.cache().context().pageStore();
+            FileIOFactory ioFactory = ctx.cache().context().snapshotMgr().ioFactory();
+            Executor exec = ctx.cache().context().snapshotMgr().snapshotExecutorService();
+
+            List<CompletableFuture<Void>> futs = new ArrayList<>();
+
+            if (log.isInfoEnabled()) {
+                log.info("Copying snapshot partition files to the cache working directories " +
+                    "[reqId=" + reqId + ", dirs=" + opCtx0.snpCacheDirs.values() + ']');
+            }
+
+            Map<Integer, File> tmpCacheDirs = new HashMap<>();
+
+            for (Map.Entry<Integer, File> e : opCtx0.snpCacheDirs.entrySet()) {
+                File snpCacheDir = e.getValue();
+                File tmpCacheDir = new File(storeMgr.workDir(), TMP_CACHE_DIR_PREFIX + snpCacheDir.getName());
+
+                tmpCacheDirs.put(e.getKey(), tmpCacheDir);
+                opCtx0.dirs.add(tmpCacheDir);
+
+                U.delete(tmpCacheDir);
+                U.ensureDirectory(tmpCacheDir, "temporary directory for snapshot restore", log);
+
+                // Cache configuration files are saved on the cache start.
+                File[] files = snpCacheDir.listFiles(f -> f.isFile() && !f.getName().endsWith(CACHE_DATA_FILENAME));
+
+                for (File file : files) {
+                    futs.add(CompletableFuture.runAsync(() -> {
+                        if (opCtx0.err.get() != null)
+                            return;
+
+                        IgniteSnapshotManager.copy(ioFactory, file, new File(tmpCacheDir, file.getName()), file.length());
+                    }, exec));
+                }
+            }
+
+            CompletableFuture.allOf(futs.toArray(new CompletableFuture[0]))
+                .thenRun(() -> {
+                    if (opCtx0.err.get() != null)
+                        return;
+
+                    if (opCtx0.req.incIdx > 0)
+                        applyIncrements(opCtx0, tmpCacheDirs);
+
+                    for (File tmpCacheDir : tmpCacheDirs.values()) {
+                        File cacheDir = new File(storeMgr.workDir(),
+                            tmpCacheDir.getName().substring(TMP_CACHE_DIR_PREFIX.length()));
+
+                        opCtx0.dirs.add(cacheDir);
+
+                        try {
+                            // Target directory is checked to be empty at the prepare stage.
+                            if (cacheDir.exists())
+                                Files.delete(cacheDir.toPath());
+
+                            Files.move(tmpCacheDir.toPath(), cacheDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                        }
+                        catch (IOException e) {
+                            throw new IgniteException("Unable to move the restored partition files to the cache " +
+                                "working directory [from=" + tmpCacheDir + ", to=" + cacheDir + ']', e);
+                        }
+                    }
+                })
+                .whenComplete((r, t) -> {
+                    Throwable err0 = t == null ? opCtx0.err.get() : t.getCause() == null ? t : t.getCause();
+
+                    if (err0 == null)
+                        retFut.onDone(true);
+                    else {
+                        opCtx0.err.compareAndSet(null, err0);
+
+                        retFut.onDone(err0);
+                    }
+                });
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            opCtx0.err.compareAndSet(null, e);
+
+            retFut.onDone(e);
+        }
+
+        return retFut;
+    }
+
+    /**
+     * Applies the WAL records of the increments to the copied partition files and checks that the partition
+     * update counters are equal to the counters saved in the last increment. Partitions which are not owned
+     * by the local node at the time of the last increment are removed.
+     *
+     * @param opCtx0 Restore operation context.
+     * @param tmpCacheDirs Temporary cache group directories, group id to directory.
+     */
+    private void applyIncrements(SnapshotRestoreContext opCtx0, Map<Integer, File> tmpCacheDirs) {
+        IgniteSnapshotManager snpMgr = ctx.cache().context().snapshotMgr();
+        FilePageStoreManager storeMgr = (FilePageStoreManager)ctx.cache().context().pageStore();
+
+        try {
+            String folderName = ctx.pdsFolderResolver().resolveFolders().folderName();
+            Map<Integer, PageMemory> pageMems = new HashMap<>();
+
+            for (StoredCacheData data : opCtx0.ccfgs) {
+                CacheConfiguration<?, ?> ccfg = data.config();
+
+                pageMems.put(CU.cacheGroupId(ccfg.getName(), ccfg.getGroupName()),
+                    ctx.cache().context().database().dataRegion(ccfg.getDataRegionName()).pageMemory());
+            }
+
+            List<File> walDirs = new ArrayList<>();
+
+            for (int i = 1; i <= opCtx0.req.incIdx; i++)
+                walDirs.add(new File(snpMgr.incrementalSnapshotLocalDir(opCtx0.req.snpName, i), folderName));
+
+            try (IncrementalSnapshotReplayer replayer = new IncrementalSnapshotReplayer(ctx.cache().context(),
+                tmpCacheDirs, pageMems)) {
+                replayer.replay(walDirs, opCtx0.incs.get(0).startPointer(), F.last(opCtx0.incs).endPointer());
+            }
+
+            for (Map.Entry<Integer, File> e : tmpCacheDirs.entrySet()) {
+                Map<Integer, Long> expected = opCtx0.cntrs.get(e.getKey());
+
+                File[] parts = e.getValue().listFiles(f -> f.getName().startsWith(PART_FILE_PREFIX) &&
+                    f.getName().endsWith(FILE_SUFFIX));
+
+                for (File part : parts == null ? new File[0] : parts) {
+                    String name = part.getName();
+                    int partId = Integer.parseInt(name.substring(PART_FILE_PREFIX.length(),
+                        name.length() - FILE_SUFFIX.length()));
+
+                    if (!expected.containsKey(partId))
+                        U.delete(part);
+                }
+
+                Map<Integer, Long> cntrs = readUpdateCounters(storeMgr, e.getKey(), e.getValue());
+
+                if (!cntrs.equals(expected)) {
+                    throw new IgniteCheckedException("Partition update counters of the restored incremental " +
+                        "snapshot don't match [grpId=" + e.getKey() + ", incIdx=" + opCtx0.req.incIdx +
+                        ", cntrs=" + cntrs + ", expected=" + expected + ']');
+                }
+            }
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /**
+     * @param reqId Request id.
+     * @param res Results.
+     * @param errs Errors.
+     */
+    private void finishPreload(UUID reqId, Map<UUID, Boolean> res, Map<UUID, Exception> errs) {
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        if (opCtx0 == null || !reqId.equals(opCtx0.req.reqId) || !U.isLocalNodeCoordinator(ctx.discovery()))
+            return;
+
+        Exception failure = F.first(errs.values());
+
+        if (failure == null)
+            failure = checkNodeLeft(opCtx0, res.keySet());
+
+        if (failure == null)
+            cacheStartProc.start(reqId, reqId);
+        else
+            rollbackRestoreProc.start(reqId, new SnapshotRestoreRollbackRequest(reqId, failure));
+    }
+
+    /**
+     * @param reqId Request id.
+     * @return Result future.
+     */
+    private IgniteInternalFuture<Boolean> cacheStart(UUID reqId) {
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        if (opCtx0 == null || !reqId.equals(opCtx0.req.reqId) || !U.isLocalNodeCoordinator(ctx.discovery()))
+            return new GridFinishedFuture<>(true);
+
+        Throwable err = opCtx0.err.get();
+
+        if (err != null)
+            return new GridFinishedFuture<>(err);
+
+        if (log.isInfoEnabled()) {
+            log.info("Starting restored caches [reqId=" + reqId + ", caches=" +
+                F.viewReadOnly(opCtx0.ccfgs, d -> d.config().getName()) + ']');
+        }
+
+        return ctx.cache().dynamicStartCachesByStoredConf(opCtx0.ccfgs, true, false, false, null);
+    }
+
+    /**
+     * @param reqId Request id.
+     * @param res Results.
+     * @param errs Errors.
+     */
+    private void finishCacheStart(UUID reqId, Map<UUID, Boolean> res, Map<UUID, Exception> errs) {
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        if (opCtx0 == null || !reqId.equals(opCtx0.req.reqId))
+            return;
+
+        // Caches are started over the restored files, so a node left doesn't require a rollback anymore.
+        Exception failure = F.first(errs.values());
+
+        if (failure == null) {
+            opCtx = null;
+
+            finishProcess(reqId, null);
+
+            return;
+        }
+
+        if (U.isLocalNodeCoordinator(ctx.discovery()))
+            rollbackRestoreProc.start(reqId, new SnapshotRestoreRollbackRequest(reqId, failure));
+    }
+
+    /**
+     * @param req Rollback request.
+     * @return Result future.
+     */
+    private IgniteInternalFuture<Boolean> rollback(SnapshotRestoreRollbackRequest req) {
+        if (ctx.clientNode())
+            return new GridFinishedFuture<>();
+
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        if (opCtx0 == null || !req.reqId.equals(opCtx0.req.reqId))
+            return new GridFinishedFuture<>(true);
+
+        opCtx0.err.compareAndSet(null, req.err);
+
+        if (opCtx0.dirs.isEmpty())
+            return new GridFinishedFuture<>(true);
+
+        GridFutureAdapter<Boolean> retFut = new GridFutureAdapter<>();
+
+        ctx.cache().context().snapshotMgr().snapshotExecutorService().execute(() -> {
+            for (File dir : opCtx0.dirs) {
+                if (log.isInfoEnabled())
+                    log.info("Removing restored cache directory [reqId=" + req.reqId + ", dir=" + dir + ']');
+
+                if (dir.exists() && !U.delete(dir))
+                    log.warning("Unable to remove restored cache directory [dir=" + dir + ']');
+            }
+
+            retFut.onDone(true);
+        });
+
+        return retFut;
+    }
+
+    /**
+     * @param reqId Request id.
+     * @param res Results.
+     * @param errs Errors.
+     */
+    private void finishRollback(UUID reqId, Map<UUID, Boolean> res, Map<UUID, Exception> errs) {
+        SnapshotRestoreContext opCtx0 = opCtx;
+
+        if (opCtx0 == null || !reqId.equals(opCtx0.req.reqId))
+            return;
+
+        if (!errs.isEmpty())
+            log.warning("Some of nodes failed to remove restored cache directories [reqId=" + reqId + ", errs=" + errs + ']');
+
+        opCtx = null;
+
+        finishProcess(reqId, opCtx0.err.get());
+    }
+
+    /**
+     * @param opCtx0 Restore operation context.
+     * @param respNodes Nodes responded to the process stage.
+     * @return Error if some of nodes left the cluster during the stage, {@code null} otherwise.
+     */
+    private @Nullable Exception checkNodeLeft(SnapshotRestoreContext opCtx0, Set<UUID> respNodes) {
+        Set<UUID> leftNodes = new HashSet<>(opCtx0.req.nodes);
+        leftNodes.removeAll(respNodes);
+
+        if (leftNodes.isEmpty())
+            return null;
+
+        return new ClusterTopologyCheckedException(OP_REJECT_MSG.replace("rejected", "interrupted") +
+            "Baseline nodes have left the cluster [nodeIds=" + leftNodes + ']');
+    }
+
+    /**
+     * Completes the operation future on the initiator node.
+     *
+     * @param reqId Request id.
+     * @param err Error if any.
+     */
+    private void finishProcess(UUID reqId, @Nullable Throwable err) {
+        if (err == null && log.isInfoEnabled())
+            log.info("Cache group restore operation finished successfully [reqId=" + reqId + ']');
+        else if (err != null)
+            log.warning("Cache group restore operation failed [reqId=" + reqId + ']', err);
+
+        synchronized (mux) {
+            if (fut == null || !fut.rqId.equals(reqId))
+                return;
+
+            fut.onDone(err);
+
+            fut = null;
+        }
+    }
+
+    /** Request to restore cache groups from the snapshot. */
+    private static class SnapshotRestoreRequest implements Serializable {
+        /** Serial version uid. */
+        private static final long serialVersionUID = 0L;
+
+        /** Request id. */
+        private final UUID reqId;
+
+        /** Operation initiator node id. */
+        private final UUID initNodeId;
+
+        /** Snapshot name. */
+        private final String snpName;
+
+        /** Cache group names to restore, {@code null} to restore all cache groups from the snapshot. */
+        @GridToStringInclude
+        private final Set<String> grps;
+
+        /** Baseline nodes to restore the snapshot on. */
+        @GridToStringInclude
+        private final Set<UUID> nodes;
+
+        /** Index of the incremental snapshot to restore or {@code 0} to restore the full snapshot. */
+        private final int incIdx;
+
+        /**
+         * @param reqId Request id.
+         * @param initNodeId Operation initiator node id.
+         * @param snpName Snapshot name.
+         * @param grps Cache group names to restore.
+         * @param nodes Baseline nodes to restore the snapshot on.
+         * @param incIdx Index of the incremental snapshot to restore or {@code 0} to restore the full snapshot.
+         */
+        public SnapshotRestoreRequest(UUID reqId, UUID initNodeId, String snpName, @Nullable Set<String> grps,
+            Set<UUID> nodes, int incIdx) {
+            this.reqId = reqId;
+            this.initNodeId = initNodeId;
+            this.snpName = snpName;
+            this.grps = grps;
+            this.nodes = nodes;
+            this.incIdx = incIdx;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(SnapshotRestoreRequest.class, this);
+        }
+    }
+
+    /** Cache configurations and partition update counters of the local part of the snapshot. */
+    private static class SnapshotRestorePrepareResponse implements Serializable {
+        /** Serial version uid. */
+        private static final long serialVersionUID = 0L;
+
+        /** Cache configurations. */
+        private final List<StoredCacheData> ccfgs = new ArrayList<>();
+
+        /** Update counters of owning partitions, group id to partition id to update counter. */
+        private final Map<Integer, Map<Integer, Long>> cntrs = new HashMap<>();
+    }
+
+    /** Request to rollback the cache group restore operation. */
+    private static class SnapshotRestoreRollbackRequest implements Serializable {
+        /** Serial version uid. */
+        private static final long serialVersionUID = 0L;
+
+        /** Request id. */
+        private final UUID reqId;
+
+        /** Error caused the rollback. */
+        private final Throwable err;
+
+        /**
+         * @param reqId Request id.
+         * @param err Error caused the rollback.
+         */
+        public SnapshotRestoreRollbackRequest(UUID reqId, Throwable err) {
+            this.reqId = reqId;
+            this.err = err;
+        }
+    }
+
+    /** Cache group restore operation context of the local node. */
+    private static class SnapshotRestoreContext {
+        /** Restore request. */
+        private final SnapshotRestoreRequest req;
+
+        /** Local snapshot cache group directories to restore, group id to directory. */
+        private final Map<Integer, File> snpCacheDirs = new HashMap<>();
+
+        /** Metadata of the local increments to apply, empty if the full snapshot is restored. */
+        private final List<IncrementalSnapshotMetadata> incs = new ArrayList<>();
+
+        /** Update counters of the local partitions saved in the last increment, group id to partition id to counter. */
+        private final Map<Integer, Map<Integer, Long>> cntrs = new HashMap<>();
+
+        /** Cache configurations to start. */
+        private final List<StoredCacheData> ccfgs = new ArrayList<>();
+
+        /** Directories created on the local node to be removed on rollback. */
+        private final Set<File> dirs = new GridConcurrentHashSet<>();
+
+        /** The first error occurred during the operation. */
+        private final AtomicReference<Throwable> err = new AtomicReference<>();
+
+        /**
+         * @param req Restore request.
+         */
+        public SnapshotRestoreContext(SnapshotRestoreRequest req) {
+            this.req = req;
+        }
+    }
+
+    /** Future to be completed when the cache group restore operation ends. */
+    private static class ClusterSnapshotRestoreFuture extends GridFutureAdapter<Void> {
+        /** Request id. */
+        private final UUID rqId;
+
+        /** Snapshot name. */
+        private final String name;
+
+        /**
+         * @param rqId Request id.
+         * @param name Snapshot name.
+         */
+        public ClusterSnapshotRestoreFuture(UUID rqId, String name) {
+            this.rqId = rqId;
+            this.name = name;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(ClusterSnapshotRestoreFuture.class, this);
+        }
+    }
+}
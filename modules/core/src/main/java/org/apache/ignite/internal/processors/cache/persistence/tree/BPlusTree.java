@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.tree;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -70,6 +72,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageLoc
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.util.GridArrays;
 import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.lang.GridTreePrinter;
@@ -82,6 +85,7 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_LOCK_RETRIES;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READS;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.DONE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.FALSE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.READY;
@@ -118,6 +122,17 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     private static final int LOCK_RETRIES = IgniteSystemProperties.getInteger(
         IGNITE_BPLUS_TREE_LOCK_RETRIES, IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT);
 
+    /** */
+    public static final boolean IGNITE_BPLUS_TREE_OPTIMISTIC_READS_DEFAULT = true;
+
+    /** */
+    private static final boolean OPTIMISTIC_READS = IgniteSystemProperties.getBoolean(
+        IGNITE_BPLUS_TREE_OPTIMISTIC_READS, IGNITE_BPLUS_TREE_OPTIMISTIC_READS_DEFAULT);
+
+    /** Buffer to copy inner pages to on optimistic reads. */
+    private static final ThreadLocal<OptimisticReadBuffer> OPTIMISTIC_READ_BUF =
+        ThreadLocal.withInitial(OptimisticReadBuffer::new);
+
     /** */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -475,6 +490,128 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /** */
+    private final PageHandler<InvokeAll, Result> invokeAllSearch;
+
+    /**
+     * Collects the rows of {@link InvokeAll} operation which can be processed on the given leaf page.
+     */
+    private class InvokeAllSearch extends PageHandler<InvokeAll, Result> {
+        /** {@inheritDoc} */
+        @Override public Result run(int cacheId, long leafId, long leafPage, long leafAddr, PageIO iox,
+            Boolean walPlc, InvokeAll x, int lvl, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+            assert lvl == 0 : lvl;
+
+            if (!(iox instanceof BPlusLeafIO))
+                return NOT_FOUND;
+
+            BPlusIO<L> io = (BPlusIO<L>)iox;
+
+            int cnt = io.getCount(leafAddr);
+            boolean rightmost = io.getForward(leafAddr) == 0L;
+            int free = io.getMaxCount(leafAddr, pageSize()) - cnt;
+
+            x.runSize = 0;
+
+            for (int i = x.idx; i < x.rows.size() && x.runSize < x.found.length; i++) {
+                int idx = findInsertionPoint(lvl, io, leafAddr, 0, cnt, x.rows.get(i), 0);
+
+                if (!isInsideLeaf(idx, cnt, rightmost))
+                    break;
+
+                if (idx < 0 && free-- == 0)
+                    break;
+
+                x.found[x.runSize++] = idx >= 0 ? getRow(io, leafAddr, idx, x.x) : null;
+            }
+
+            return x.runSize == 0 ? NOT_FOUND : FOUND;
+        }
+    }
+
+    /** */
+    private final PageHandler<InvokeAll, Result> invokeAllApply;
+
+    /**
+     * Applies the invoke closure results of {@link InvokeAll} operation on the given leaf page.
+     */
+    private class InvokeAllApply extends PageHandler<InvokeAll, Result> {
+        /** {@inheritDoc} */
+        @Override public Result run(int cacheId, long leafId, long leafPage, long leafAddr, PageIO iox,
+            Boolean walPlc, InvokeAll x, int lvl, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+            assert lvl == 0 : lvl;
+
+            if (!(iox instanceof BPlusLeafIO))
+                return NOT_FOUND;
+
+            BPlusIO<L> io = (BPlusIO<L>)iox;
+
+            boolean rightmost = io.getForward(leafAddr) == 0L;
+            int maxCnt = io.getMaxCount(leafAddr, pageSize());
+
+            for (int i = 0; i < x.runSize; i++) {
+                IgniteTree.OperationType opType = x.ops[i];
+
+                if (opType != IgniteTree.OperationType.PUT && opType != IgniteTree.OperationType.REMOVE)
+                    continue;
+
+                int cnt = io.getCount(leafAddr);
+                L row = x.rows.get(x.idx + i);
+                int idx = findInsertionPoint(lvl, io, leafAddr, 0, cnt, row, 0);
+
+                if (!isInsideLeaf(idx, cnt, rightmost) || (idx < 0 && cnt == maxCnt) ||
+                    (idx < 0) != (x.found[i] == null))
+                    continue; // Leave it for the regular tree operation.
+
+                boolean needWal = needWalDeltaRecord(leafId, leafPage, walPlc);
+
+                if (opType == IgniteTree.OperationType.REMOVE) {
+                    io.remove(leafAddr, idx, cnt);
+
+                    if (needWal)
+                        wal.log(new RemoveRecord(grpId, leafId, idx, cnt));
+                }
+                else if (idx >= 0) {
+                    byte[] newRowBytes = io.store(leafAddr, idx, x.newRows[i], null, needWal);
+
+                    if (needWal)
+                        wal.log(new ReplaceRecord<>(grpId, leafId, io, newRowBytes, idx));
+                }
+                else {
+                    idx = fix(idx);
+
+                    byte[] rowBytes = io.insert(leafAddr, idx, x.newRows[i], null, 0L, needWal);
+
+                    if (needWal)
+                        wal.log(new InsertRecord<>(grpId, leafId, io, idx, rowBytes, 0L));
+                }
+
+                x.ops[i] = IgniteTree.OperationType.NOOP;
+            }
+
+            return FOUND;
+        }
+    }
+
+    /**
+     * Checks whether the row with the given insertion point can be inserted, replaced or removed on the leaf page
+     * without touching the upper levels of the tree: the row must not become the rightmost item of a non-rightmost
+     * leaf (such an item is duplicated in the inner page) and the leaf must not become empty.
+     *
+     * @param idx Insertion point of the row on the leaf page.
+     * @param cnt Items count on the leaf page.
+     * @param rightmost {@code True} if the leaf page is the rightmost one in the tree.
+     * @return {@code True} if the row is strictly inside the key range of the leaf page.
+     */
+    private static boolean isInsideLeaf(int idx, int cnt, boolean rightmost) {
+        if (idx >= 0)
+            return idx < cnt - 1 || (rightmost && cnt > 1);
+
+        int ins = fix(idx);
+
+        return ins > 0 && (ins < cnt || rightmost);
+    }
+
     /** */
     private final PageHandler<Remove, Result> rmvFromLeaf;
 
@@ -729,10 +866,14 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
             io.initRoot(pageAddr, rootId, pageSize());
             io.setInlineSize(pageAddr, inlineSize);
-            io.initFlagsAndVersion(pageAddr, BPlusMetaIO.DEFAULT_FLAGS, IgniteVersionUtils.VER);
+            long flags = metaPageFlags();
 
-            if (needWalDeltaRecord(metaId, metaPage, walPlc))
-                wal.log(new MetaPageInitRootInlineFlagsCreatedVersionRecord(cacheId, metaId, rootId, inlineSize));
+            io.initFlagsAndVersion(pageAddr, flags, IgniteVersionUtils.VER);
+
+            if (needWalDeltaRecord(metaId, metaPage, walPlc)) {
+                wal.log(new MetaPageInitRootInlineFlagsCreatedVersionRecord(cacheId, metaId, rootId, inlineSize,
+                    flags, IgniteVersionUtils.VER));
+            }
 
             assert io.getRootLevel(pageAddr) == 0;
             assert io.getFirstPageId(pageAddr, 0) == rootId;
@@ -844,6 +985,8 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         rmvFromLeaf = (PageHandler<Remove, Result>) wrap(this, new RemoveFromLeaf());
         insert = (PageHandler<Put, Result>) wrap(this, new Insert());
         replace = (PageHandler<Put, Result>) wrap(this, new Replace());
+        invokeAllSearch = (PageHandler<InvokeAll, Result>) wrap(this, new InvokeAllSearch());
+        invokeAllApply = (PageHandler<InvokeAll, Result>) wrap(this, new InvokeAllApply());
     }
 
     /**
@@ -915,6 +1058,13 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * @return Feature flags written to the meta page of the new tree.
+     */
+    protected long metaPageFlags() {
+        return BPlusMetaIO.DEFAULT_FLAGS;
+    }
+
     /**
      * @return Tree meta data.
      * @throws IgniteCheckedException If failed.
@@ -1431,7 +1581,10 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                 g.pageId = pageId;
                 g.fwdId = fwdId;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                Result res = lvl > 0 && OPTIMISTIC_READS ? findDownOptimistic(g, pageId, page, fwdId, lvl) : null;
+
+                if (res == null)
+                    res = read(pageId, page, search, g, lvl, RETRY);
 
                 switch (res) {
                     case GO_DOWN:
@@ -1470,6 +1623,52 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Searches the inner page without taking the read lock: the page is copied to a thread local buffer and
+     * the copy is used if the page has not been modified concurrently. This way concurrent readers do not
+     * contend on the locks of the root and the upper inner pages.
+     *
+     * @param g Get.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param fwdId Expected forward page ID.
+     * @param lvl Level.
+     * @return Result code or {@code null} if the page must be read under the read lock.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private Result findDownOptimistic(Get g, long pageId, long page, long fwdId, int lvl)
+        throws IgniteCheckedException {
+        assert lvl > 0 : lvl;
+
+        OptimisticReadBuffer buf = OPTIMISTIC_READ_BUF.get();
+
+        // The buffer may be already used up the stack, e.g. by a comparator looking up another tree.
+        if (buf.busy)
+            return null;
+
+        long backId = g.backId;
+
+        buf.busy = true;
+
+        Result res;
+
+        try {
+            res = readOptimistic(pageId, page, search, g, lvl, buf.address(pageMem.pageSize()), statisticsHolder());
+        }
+        finally {
+            buf.busy = false;
+        }
+
+        if (res == null) {
+            // Restore the arguments possibly modified by the discarded search.
+            g.pageId = pageId;
+            g.fwdId = fwdId;
+            g.backId = backId;
+        }
+
+        return res;
+    }
+
     /**
      * @param instance Instance name.
      * @param type Tree type.
@@ -1899,7 +2098,54 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     @Override public void invoke(L row, Object z, InvokeClosure<T> c) throws IgniteCheckedException {
         checkDestroyed();
 
-        Invoke x = new Invoke(row, z, c);
+        doInvoke(new Invoke(row, z, c));
+    }
+
+    /**
+     * Batched version of {@link #invoke(Object, Object, InvokeClosure)}. A row which falls strictly inside the key
+     * range of the leaf page touched by the previous row is processed on that leaf directly, without a descent from
+     * the root, and all the modifications of the leaf made by consecutive rows are done under a single write lock.
+     * Rows that can not be handled this way (the leaf is full, the row is on the leaf boundary, the leaf was
+     * concurrently split or merged) fall back to the regular tree operations.
+     * <p>
+     * Rows must be distinct and are expected to be sorted in the tree order. Unsorted rows are still processed
+     * correctly, but mostly go through the regular per-row path.
+     *
+     * @param rows Rows sorted in the tree order.
+     * @param z Implementation specific argument.
+     * @param clos Closures, one for each row.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void invokeAll(List<? extends L> rows, Object z, List<? extends InvokeClosure<T>> clos)
+        throws IgniteCheckedException {
+        assert rows.size() == clos.size() : "rows=" + rows.size() + ", clos=" + clos.size();
+
+        checkDestroyed();
+
+        InvokeAll x = new InvokeAll(rows, z, clos);
+
+        long leafId = 0L;
+
+        while (x.idx < rows.size()) {
+            if (leafId != 0L && x.invokeOnLeaf(leafId))
+                continue;
+
+            Invoke inv = new Invoke(rows.get(x.idx), z, clos.get(x.idx));
+
+            x.idx++;
+
+            doInvoke(inv);
+
+            leafId = inv.leafId;
+        }
+    }
+
+    /**
+     * @param x Invoke operation.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void doInvoke(Invoke x) throws IgniteCheckedException {
+        L row = x.row;
 
         try {
             for (;;) {
@@ -2020,14 +2266,20 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                         return res;
 
                     case NOT_FOUND:
-                        if (lvl == 0)
+                        if (lvl == 0) {
+                            x.leafId = pageId;
+
                             x.invokeClosure();
+                        }
 
                         return x.onNotFound(pageId, page, fwdId, lvl);
 
                     case FOUND:
-                        if (lvl == 0)
+                        if (lvl == 0) {
+                            x.leafId = pageId;
+
                             x.invokeClosure();
+                        }
 
                         return x.onFound(pageId, page, backId, fwdId, lvl);
 
@@ -2261,6 +2513,185 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Builds the tree bottom-up from the sorted rows filling the leaf and inner pages completely. Unlike inserting
+     * the rows one by one there are no page splits and every page is written only once, so this is the preferred
+     * way to populate a new tree with a large number of rows.
+     * <p>
+     * The tree must be empty and must not be accessed concurrently until the method returns. New pages are linked
+     * to the meta page only when all the rows are loaded, so the tree remains empty if the load fails.
+     *
+     * @param rows Rows in ascending order without duplicates.
+     * @return Number of loaded rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    public final long bulkLoad(GridCursor<? extends L> rows) throws IgniteCheckedException {
+        checkDestroyed();
+
+        if (!isEmpty())
+            throw new IgniteCheckedException("Failed to bulk load rows into non-empty tree [name=" + name + ']');
+
+        // Bulk loaded levels, the leaf level goes first.
+        List<BulkLoadLevel> lvls = new ArrayList<>();
+
+        long cnt = 0;
+
+        try {
+            L lastRow = null;
+
+            while (rows.next()) {
+                L row = rows.get();
+
+                if (lastRow == null)
+                    lvls.add(new BulkLoadLevel(latestLeafIO(), 0L));
+
+                BulkLoadLevel leaves = lvls.get(0);
+
+                if (leaves.isFull()) {
+                    leaves.nextPage(0L);
+
+                    // The last row of the left page is the max row of its subtree.
+                    bulkLoadMoveUp(lvls, 1, lastRow, leaves.pageId);
+                }
+
+                leaves.append(row, 0L);
+
+                lastRow = row;
+
+                cnt++;
+            }
+
+            if (cnt == 0)
+                return 0;
+
+            // Move up the postponed rows, the levels list may grow here.
+            for (int lvl = 1; lvl < lvls.size(); lvl++) {
+                BulkLoadLevel l = lvls.get(lvl);
+
+                if (l.pendingRow != null)
+                    bulkLoadMoveUp(lvls, lvl + 1, l.splitLast(), l.pageId);
+            }
+
+            for (BulkLoadLevel l : lvls)
+                l.finish();
+
+            long oldRootId = bulkLoadInitMeta(lvls);
+
+            if (reuseList != null) {
+                LongListReuseBag bag = new LongListReuseBag();
+
+                long oldRootPage = acquirePage(oldRootId);
+
+                try {
+                    long oldRootAddr = writeLock(oldRootId, oldRootPage); // No checks, we must be out of use.
+
+                    assert oldRootAddr != 0L;
+
+                    try {
+                        bag.addFreePage(recyclePage(oldRootId, oldRootPage, oldRootAddr, null));
+                    }
+                    finally {
+                        writeUnlock(oldRootId, oldRootPage, oldRootAddr, true);
+                    }
+                }
+                finally {
+                    releasePage(oldRootId, oldRootPage);
+                }
+
+                reuseList.addForRecycle(bag);
+            }
+        }
+        finally {
+            for (BulkLoadLevel l : lvls)
+                l.close();
+        }
+
+        return cnt;
+    }
+
+    /**
+     * Adds a row to the bulk loaded level, the level is created if it does not exist yet.
+     *
+     * @param lvls Bulk loaded levels.
+     * @param lvl Level to add the row to.
+     * @param row Max row of the subtree on the left of the right page.
+     * @param rightId Right page ID.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void bulkLoadMoveUp(List<BulkLoadLevel> lvls, int lvl, L row, long rightId)
+        throws IgniteCheckedException {
+        if (lvl == lvls.size()) {
+            BulkLoadLevel l = new BulkLoadLevel(latestInnerIO(), lvls.get(lvl - 1).firstPageId);
+
+            lvls.add(l);
+
+            l.append(row, rightId);
+        }
+        else {
+            BulkLoadLevel l = lvls.get(lvl);
+
+            if (l.pendingRow != null) {
+                L moveUpRow = l.pendingRow;
+
+                l.nextPage(l.pendingRightId);
+
+                l.pendingRow = null;
+                l.pendingRightId = 0L;
+
+                l.append(row, rightId);
+
+                bulkLoadMoveUp(lvls, lvl + 1, moveUpRow, l.pageId);
+            }
+            else if (l.isFull()) {
+                // The row will be moved up when the next page gets at least one row.
+                l.pendingRow = row;
+                l.pendingRightId = rightId;
+            }
+            else
+                l.append(row, rightId);
+        }
+    }
+
+    /**
+     * Links the bulk loaded levels to the meta page.
+     *
+     * @param lvls Bulk loaded levels.
+     * @return Previous root page ID.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long bulkLoadInitMeta(List<BulkLoadLevel> lvls) throws IgniteCheckedException {
+        long metaPage = acquirePage(metaPageId);
+
+        try {
+            long metaPageAddr = writeLock(metaPageId, metaPage); // No checks, we must be out of use.
+
+            assert metaPageAddr != 0L;
+
+            try {
+                BPlusMetaIO io = BPlusMetaIO.VERSIONS.forPage(metaPageAddr);
+
+                long oldRootId = io.getFirstPageId(metaPageAddr, io.getRootLevel(metaPageAddr));
+
+                io.initRoot(metaPageAddr, lvls.get(0).firstPageId, pageSize());
+
+                for (int lvl = 1; lvl < lvls.size(); lvl++)
+                    io.addRoot(metaPageAddr, lvls.get(lvl).firstPageId, pageSize());
+
+                int rootLvl = lvls.size() - 1;
+
+                treeMeta = new TreeMetaData(rootLvl, lvls.get(rootLvl).firstPageId);
+
+                return oldRootId;
+            }
+            finally {
+                writeUnlock(metaPageId, metaPage, metaPageAddr, Boolean.TRUE, true);
+            }
+        }
+        finally {
+            releasePage(metaPageId, metaPage);
+        }
+    }
+
     /**
      * Returns number of elements in the tree by scanning pages of the bottom (leaf) level.
      * Since a concurrent access is permitted, there is no guarantee about
@@ -3911,6 +4342,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         /** */
         Get op;
 
+        /** Leaf page where the closure has been invoked, used as a hint by {@link #invokeAll}. */
+        long leafId;
+
         /**
          * @param row Row.
          * @param x Implementation specific argument.
@@ -4188,6 +4622,136 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Batched invoke operation, see {@link #invokeAll(List, Object, List)}.
+     */
+    private final class InvokeAll {
+        /** Maximum number of rows processed on a leaf page under a single write lock. */
+        private static final int MAX_RUN_SIZE = 256;
+
+        /** */
+        final List<? extends L> rows;
+
+        /** Implementation specific argument. */
+        final Object x;
+
+        /** */
+        final List<? extends InvokeClosure<T>> clos;
+
+        /** Index of the first row which is not processed yet. */
+        int idx;
+
+        /** Number of rows in the current leaf run. */
+        int runSize;
+
+        /** Found rows of the current leaf run. */
+        final T[] found;
+
+        /** New rows of the current leaf run. */
+        final T[] newRows;
+
+        /** Operation types of the current leaf run, {@code NOOP} for already applied ones. */
+        final IgniteTree.OperationType[] ops;
+
+        /**
+         * @param rows Rows.
+         * @param x Implementation specific argument.
+         * @param clos Closures.
+         */
+        private InvokeAll(List<? extends L> rows, Object x, List<? extends InvokeClosure<T>> clos) {
+            this.rows = rows;
+            this.x = x;
+            this.clos = clos;
+
+            int size = Math.min(rows.size(), MAX_RUN_SIZE);
+
+            found = (T[])new Object[size];
+            newRows = (T[])new Object[size];
+            ops = new IgniteTree.OperationType[size];
+        }
+
+        /**
+         * Processes the run of consecutive rows which fall into the given leaf page.
+         *
+         * @param leafId Leaf page ID.
+         * @return {@code True} if at least one row has been processed.
+         * @throws IgniteCheckedException If failed.
+         */
+        private boolean invokeOnLeaf(long leafId) throws IgniteCheckedException {
+            try {
+                if (read(leafId, invokeAllSearch, this, 0, RETRY) != FOUND)
+                    return false;
+
+                boolean needWrite = false;
+
+                for (int i = 0; i < runSize; i++) {
+                    InvokeClosure<T> clo = clos.get(idx + i);
+
+                    clo.call(found[i]);
+
+                    ops[i] = clo.operationType();
+
+                    switch (ops[i]) {
+                        case PUT:
+                            newRows[i] = clo.newRow();
+
+                            assert newRows[i] != null;
+
+                            needWrite = true;
+
+                            break;
+
+                        case REMOVE:
+                            assert found[i] != null;
+
+                            needWrite = true;
+
+                            break;
+
+                        case NOOP:
+                        case IN_PLACE:
+                            break;
+
+                        default:
+                            throw new IllegalStateException();
+                    }
+                }
+
+                if (needWrite)
+                    write(leafId, invokeAllApply, this, 0, RETRY, statisticsHolder());
+
+                // Rows which were not applied on the leaf page go through the regular operations.
+                for (int i = 0; i < runSize; i++) {
+                    if (ops[i] == IgniteTree.OperationType.PUT)
+                        doPut(newRows[i], false);
+                    else if (ops[i] == IgniteTree.OperationType.REMOVE)
+                        doRemove(rows.get(idx + i), false);
+                }
+
+                idx += runSize;
+
+                return true;
+            }
+            catch (UnregisteredClassException | UnregisteredBinaryTypeException e) {
+                throw e;
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteCheckedException("Runtime failure on search row: " + rows.get(idx), e);
+            }
+            catch (RuntimeException | AssertionError e) {
+                throw corruptedTreeException("Runtime failure on search row: " + rows.get(idx), e, grpId, leafId);
+            }
+            finally {
+                Arrays.fill(found, 0, runSize, null);
+                Arrays.fill(newRows, 0, runSize, null);
+
+                runSize = 0;
+
+                checkDestroyed();
+            }
+        }
+    }
+
     /**
      * Remove operation.
      */
@@ -5920,6 +6484,231 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Thread local buffer to copy inner pages to on optimistic reads.
+     */
+    private static final class OptimisticReadBuffer {
+        /** Buffer. */
+        private ByteBuffer buf;
+
+        /** Buffer address. */
+        private long addr;
+
+        /** {@code True} if the buffer is in use. */
+        private boolean busy;
+
+        /**
+         * @param size Required size.
+         * @return Buffer address.
+         */
+        private long address(int size) {
+            if (buf == null || buf.capacity() < size) {
+                buf = ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+                addr = GridUnsafe.bufferAddress(buf);
+            }
+
+            return addr;
+        }
+    }
+
+    /**
+     * Level of the tree being bulk loaded. Holds the rightmost page of the level which is the only page
+     * being modified, all the pages on the left are complete. The rightmost page stays acquired but is locked
+     * only for the time of a modification, so the pages written so far may be checkpointed during the load.
+     */
+    private final class BulkLoadLevel {
+        /** Page IO. */
+        private final BPlusIO<L> io;
+
+        /** First page ID of the level. */
+        private final long firstPageId;
+
+        /** Current page ID. */
+        private long pageId;
+
+        /** Current page or {@code 0} if released. */
+        private long page;
+
+        /** Number of items in the current page. */
+        private int cnt;
+
+        /** Max number of items in the page. */
+        private int maxCnt;
+
+        /** Row to move up once the next page is created, only for inner levels. */
+        private L pendingRow;
+
+        /** Page ID on the right of the pending row. */
+        private long pendingRightId;
+
+        /**
+         * @param io Page IO.
+         * @param leftmostId Leftmost child page ID for inner pages.
+         * @throws IgniteCheckedException If failed.
+         */
+        private BulkLoadLevel(BPlusIO<L> io, long leftmostId) throws IgniteCheckedException {
+            this.io = io;
+
+            firstPageId = allocatePage(null);
+
+            initPage(firstPageId, leftmostId);
+        }
+
+        /**
+         * @param newPageId New current page ID.
+         * @param leftmostId Leftmost child page ID for inner pages.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void initPage(long newPageId, long leftmostId) throws IgniteCheckedException {
+            init(newPageId, io);
+
+            pageId = newPageId;
+            page = acquirePage(pageId);
+            cnt = 0;
+
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                if (!io.isLeaf())
+                    inner(io).setLeft(pageAddr, 0, leftmostId);
+
+                maxCnt = io.getMaxCount(pageAddr, pageSize());
+
+                // The last row of a full inner page may be moved to the next one.
+                assert io.isLeaf() || maxCnt > 1 : maxCnt;
+            }
+            finally {
+                writeUnlock(pageId, page, pageAddr, Boolean.FALSE, true);
+            }
+        }
+
+        /**
+         * @return {@code True} if the current page is full.
+         */
+        private boolean isFull() {
+            return cnt == maxCnt;
+        }
+
+        /**
+         * Appends the row to the current page.
+         *
+         * @param row Row.
+         * @param rightId Right child page ID for inner pages.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void append(L row, long rightId) throws IgniteCheckedException {
+            assert cnt < maxCnt : cnt;
+
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                assert cnt == 0 || !io.isLeaf() || compare(io, pageAddr, cnt - 1, row) < 0 :
+                    "Rows must be sorted in ascending order without duplicates";
+
+                io.insert(pageAddr, cnt, row, null, rightId, false);
+
+                cnt++;
+            }
+            finally {
+                writeUnlock(pageId, page, pageAddr, Boolean.FALSE, true);
+            }
+        }
+
+        /**
+         * Completes the current page and makes a new one forward to it current.
+         *
+         * @param leftmostId Leftmost child page ID of the new page for inner pages.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void nextPage(long leftmostId) throws IgniteCheckedException {
+            long fwdId = allocatePage(null);
+
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                io.setForward(pageAddr, fwdId);
+            }
+            finally {
+                // Log the complete page at once.
+                writeUnlock(pageId, page, pageAddr, Boolean.TRUE, true);
+            }
+
+            close();
+
+            initPage(fwdId, leftmostId);
+        }
+
+        /**
+         * Moves the last row with its right child from the current full page to a new page along with
+         * the pending row, so that the new page is not empty.
+         *
+         * @return Row to move up for the new page.
+         * @throws IgniteCheckedException If failed.
+         */
+        private L splitLast() throws IgniteCheckedException {
+            assert pendingRow != null && cnt > 1 : cnt;
+
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            L moveUpRow;
+            long leftmostId;
+
+            try {
+                moveUpRow = io.getLookupRow(BPlusTree.this, pageAddr, cnt - 1);
+                leftmostId = inner(io).getLeft(pageAddr, cnt);
+
+                io.setCount(pageAddr, --cnt);
+            }
+            finally {
+                writeUnlock(pageId, page, pageAddr, Boolean.FALSE, true);
+            }
+
+            nextPage(leftmostId);
+
+            append(pendingRow, pendingRightId);
+
+            pendingRow = null;
+            pendingRightId = 0L;
+
+            return moveUpRow;
+        }
+
+        /**
+         * Completes the current page.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        private void finish() throws IgniteCheckedException {
+            assert pendingRow == null;
+
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            // Log the complete page at once.
+            writeUnlock(pageId, page, pageAddr, Boolean.TRUE, true);
+        }
+
+        /**
+         * Releases the current page.
+         */
+        private void close() {
+            if (page != 0L) {
+                releasePage(pageId, page);
+
+                page = 0L;
+            }
+        }
+    }
+
     /**
      *
      */
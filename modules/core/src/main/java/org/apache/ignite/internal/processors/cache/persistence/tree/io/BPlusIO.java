@@ -50,6 +50,9 @@ public abstract class BPlusIO<L> extends PageIO implements CompactablePageIO {
     /** All the items must be of fixed size. */
     protected final int itemSize;
 
+    /** Offset of the first item, the header extension of the subclass is placed at {@link #ITEMS_OFF} before it. */
+    protected final int itemsOff;
+
     /**
      * @param type Page type.
      * @param ver Page format version.
@@ -57,14 +60,29 @@ public abstract class BPlusIO<L> extends PageIO implements CompactablePageIO {
      * @param canGetRow If we can get full row from this page.
      */
     protected BPlusIO(int type, int ver, boolean leaf, boolean canGetRow, int itemSize) {
+        this(type, ver, leaf, canGetRow, itemSize, 0);
+    }
+
+    /**
+     * @param type Page type.
+     * @param ver Page format version.
+     * @param leaf If this is a leaf IO.
+     * @param canGetRow If we can get full row from this page.
+     * @param itemSize Single item size on page.
+     * @param extHdrSize Size of the page header extension reserved for the subclass data.
+     */
+    protected BPlusIO(int type, int ver, boolean leaf, boolean canGetRow, int itemSize, int extHdrSize) {
         super(type, ver);
 
         assert itemSize > 0 : itemSize;
+        assert extHdrSize >= 0 : extHdrSize;
         assert canGetRow || !leaf : "leaf page always must be able to get full row";
 
         this.leaf = leaf;
         this.canGetRow = canGetRow;
         this.itemSize = itemSize;
+
+        itemsOff = ITEMS_OFF + extHdrSize;
     }
 
     /**
@@ -26,10 +26,10 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
  */
 public abstract class BPlusInnerIO<L> extends BPlusIO<L> {
     /** */
-    private static final int SHIFT_LEFT = ITEMS_OFF;
+    private final int SHIFT_LEFT = itemsOff;
 
     /** */
-    private static final int SHIFT_LINK = SHIFT_LEFT + 8;
+    private final int SHIFT_LINK = SHIFT_LEFT + 8;
 
     /** */
     private final int SHIFT_RIGHT = SHIFT_LINK + itemSize;
@@ -41,7 +41,18 @@ public abstract class BPlusInnerIO<L> extends BPlusIO<L> {
      * @param itemSize Single item size on page.
      */
     protected BPlusInnerIO(int type, int ver, boolean canGetRow, int itemSize) {
-        super(type, ver, false, canGetRow, itemSize);
+        this(type, ver, canGetRow, itemSize, 0);
+    }
+
+    /**
+     * @param type Page type.
+     * @param ver Page format version.
+     * @param canGetRow If we can get full row from this page.
+     * @param itemSize Single item size on page.
+     * @param extHdrSize Size of the page header extension reserved for the subclass data.
+     */
+    protected BPlusInnerIO(int type, int ver, boolean canGetRow, int itemSize, int extHdrSize) {
+        super(type, ver, false, canGetRow, itemSize, extHdrSize);
     }
 
     /** {@inheritDoc} */
@@ -49,7 +60,7 @@ public abstract class BPlusInnerIO<L> extends BPlusIO<L> {
         // The structure of the page is the following:
         // |ITEMS_OFF|w|A|x|B|y|C|z|
         // where capital letters are data items, lowercase letters are 8 byte page references.
-        return (pageSize - ITEMS_OFF - 8) / (getItemSize() + 8);
+        return (pageSize - itemsOff - 8) / (getItemSize() + 8);
     }
 
     /**
@@ -30,12 +30,22 @@ public abstract class BPlusLeafIO<L> extends BPlusIO<L> {
      * @param itemSize Single item size on page.
      */
     protected BPlusLeafIO(int type, int ver, int itemSize) {
-        super(type, ver, true, true, itemSize);
+        this(type, ver, itemSize, 0);
+    }
+
+    /**
+     * @param type Page type.
+     * @param ver Page format version.
+     * @param itemSize Single item size on page.
+     * @param extHdrSize Size of the page header extension reserved for the subclass data.
+     */
+    protected BPlusLeafIO(int type, int ver, int itemSize, int extHdrSize) {
+        super(type, ver, true, true, itemSize, extHdrSize);
     }
 
     /** {@inheritDoc} */
     @Override public int getMaxCount(long pageAddr, int pageSize) {
-        return (pageSize - ITEMS_OFF) / getItemSize();
+        return (pageSize - itemsOff) / getItemSize();
     }
 
     /** {@inheritDoc} */
@@ -51,6 +61,6 @@ public abstract class BPlusLeafIO<L> extends BPlusIO<L> {
     @Override public final int offset(int idx) {
         assert idx >= 0 : idx;
 
-        return ITEMS_OFF + idx * getItemSize();
+        return itemsOff + idx * getItemSize();
     }
 }
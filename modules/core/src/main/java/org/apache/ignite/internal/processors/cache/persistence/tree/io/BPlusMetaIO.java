@@ -64,6 +64,12 @@ public class BPlusMetaIO extends PageIO {
     /** */
     private static final long FLAG_INLINE_OBJECT_HASH = 4L;
 
+    /** Common prefix of the first inlined column is stored once per tree page. */
+    public static final long FLAG_INLINE_PREFIX_COMPRESSION = 8L;
+
+    /** Values of the included columns are stored in the leaf pages after the inlined indexed columns. */
+    public static final long FLAG_INCLUDED_COLUMNS = 16L;
+
     /** */
     public static final long DEFAULT_FLAGS = FLAG_UNWRAPPED_PK | FLAG_INLINE_OBJECT_SUPPORTED | FLAG_INLINE_OBJECT_HASH;
 
@@ -247,6 +253,22 @@ public class BPlusMetaIO extends PageIO {
         return (flags(pageAddr) & FLAG_INLINE_OBJECT_HASH) != 0L;
     }
 
+    /**
+     * @param pageAddr Page address.
+     * @return {@code true} In case the common prefix of the first inlined column is stored once per tree page.
+     */
+    public boolean inlinePrefixCompression(long pageAddr) {
+        return supportFlags() && (flags(pageAddr) & FLAG_INLINE_PREFIX_COMPRESSION) != 0L;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return {@code true} In case the values of the included columns are stored in the leaf pages.
+     */
+    public boolean includedColumns(long pageAddr) {
+        return supportFlags() && (flags(pageAddr) & FLAG_INCLUDED_COLUMNS) != 0L;
+    }
+
     /**
      * @return {@code true} If flags are supported.
      */
@@ -178,6 +178,59 @@ public abstract class PageHandler<X, R> {
         }
     }
 
+    /**
+     * Runs the handler on a copy of the page taken without the read lock. The handler must not modify anything
+     * but its argument, since the result is discarded if the page was modified while the handler was running.
+     *
+     * @param pageMem Page memory.
+     * @param cacheId Cache ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param h Handler.
+     * @param arg Argument.
+     * @param intArg Argument of type {@code int}.
+     * @param bufAddr Address of a buffer of the page size to copy the page to.
+     * @param statHolder Statistics holder to track IO operations.
+     * @param pageIoRslvr Page IO resolver.
+     * @return Handler result or {@code null} if the page is write locked or was modified concurrently,
+     *      in this case the page must be read under the read lock.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable public static <X, R> R readPageOptimistic(
+        PageMemory pageMem,
+        int cacheId,
+        long pageId,
+        long page,
+        PageHandler<X, R> h,
+        X arg,
+        int intArg,
+        long bufAddr,
+        IoStatisticsHolder statHolder,
+        PageIoResolver pageIoRslvr
+    ) throws IgniteCheckedException {
+        long stamp = pageMem.readOptimistic(cacheId, pageId, page, bufAddr);
+
+        if (stamp == 0L)
+            return null;
+
+        R res;
+
+        try {
+            PageIO io = pageIoRslvr.resolve(bufAddr);
+
+            res = h.run(cacheId, pageId, page, bufAddr, io, null, arg, intArg, statHolder);
+        }
+        catch (IgniteCheckedException | RuntimeException | AssertionError e) {
+            // The copy is consistent, but links read from it may point to the rows removed after the copy was taken.
+            if (pageMem.validateOptimisticRead(cacheId, pageId, page, stamp))
+                throw e;
+
+            return null;
+        }
+
+        return pageMem.validateOptimisticRead(cacheId, pageId, page, stamp) ? res : null;
+    }
+
     /**
      * @param pageMem Page memory.
      * @param cacheId Cache ID.
@@ -27,11 +27,14 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Time;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -52,9 +55,6 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
@@ -62,6 +62,7 @@ import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.configuration.WalCompactionCodec;
 import org.apache.ignite.events.WalSegmentArchivedEvent;
 import org.apache.ignite.events.WalSegmentCompactedEvent;
 import org.apache.ignite.failure.FailureContext;
@@ -106,6 +107,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.Re
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactoryImpl;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer;
+import org.apache.ignite.internal.processors.compress.WalSegmentCompression;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutProcessor;
@@ -302,6 +304,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** WAL archive directory (including consistent ID as subfolder). */
     private File walArchiveDir;
 
+    /**
+     * Change data capture directory (including consistent ID as subfolder) the archived segments are linked to
+     * or {@code null} if change data capture is disabled.
+     */
+    @Nullable private File walCdcDir;
+
     /** Serializer of latest version, used to read header record and for write records */
     private RecordSerializer serializer;
 
@@ -393,6 +401,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** Page snapshot records compression level. */
     private int pageCompressionLevel;
 
+    /** WAL archive segments compaction codec. */
+    private WalCompactionCodec compactionCodec;
+
+    /** WAL archive segments compaction level of the {@link #compactionCodec}. */
+    private int compactionLevel;
+
     /**
      * Local segment sizes: absolute segment index -> size in bytes.
      * For segments from {@link #walWorkDir} and {@link #walArchiveDir}.
@@ -497,6 +511,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             // We have to initialize compressor before archiver in order to setup already compressed segments.
             // Otherwise, FileArchiver initialization will trigger redundant work for FileCompressor.
             if (dsCfg.isWalCompactionEnabled()) {
+                compactionCodec = dsCfg.getWalCompactionCodec();
+
+                WalSegmentCompression.checkSupported(compactionCodec);
+
+                compactionLevel = WalSegmentCompression.compactionLevel(compactionCodec, dsCfg.getWalCompactionLevel());
+
                 compressor = new FileCompressor(log);
 
                 decompressor = new FileDecompressor(log);
@@ -507,6 +527,18 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             else
                 archiver = null;
 
+            if (dsCfg.isCdcEnabled()) {
+                if (archiver == null)
+                    throw new IgniteCheckedException("Change data capture requires WAL archive to be enabled.");
+
+                walCdcDir = initDirectory(
+                    dsCfg.getCdcWalPath(),
+                    DataStorageConfiguration.DFLT_WAL_CDC_PATH,
+                    resolveFolders.folderName(),
+                    "change data capture directory"
+                );
+            }
+
             segmentRouter = new SegmentRouter(walWorkDir, walArchiveDir, segmentAware, dsCfg);
 
             fileHandleManager = fileHandleManagerFactory.build(
@@ -919,8 +951,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
         FileWriteHandle res = rollOver(currWriteHandle, rolloverType == RolloverType.NEXT_SEGMENT ? rec : null);
 
-        if (log != null && log.isInfoEnabled())
-            log.info("Rollover segment [" + idx + " to " + res.getSegmentId() + "], recordType=" + rec.type());
+        if (log != null && log.isInfoEnabled()) {
+            log.info("Rollover segment [" + idx + " to " + res.getSegmentId() + "], recordType=" +
+                (rec == null ? null : rec.type()));
+        }
 
         return res;
     }
@@ -2051,6 +2085,15 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 }
 
                 segmentSize.put(absIdx, dstFile.length());
+
+                if (walCdcDir != null) {
+                    Path cdcLink = new File(walCdcDir, name).toPath();
+
+                    // Link left by an archiving interrupted by node stop.
+                    Files.deleteIfExists(cdcLink);
+
+                    Files.createLink(cdcLink, dstFile.toPath());
+                }
             }
             catch (IOException e) {
                 throw new StorageException("Failed to archive WAL segment [" +
@@ -2318,9 +2361,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     .getSerializerVersion();
             }
 
-            try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)))) {
-                zos.setLevel(dsCfg.getWalCompactionLevel());
-                zos.putNextEntry(new ZipEntry(idx + ".wal"));
+            long start = System.nanoTime();
+
+            try (OutputStream zos = WalSegmentCompression.compressedStream(
+                new BufferedOutputStream(new FileOutputStream(zip)), compactionCodec, compactionLevel, idx + ".wal")) {
 
                 ByteBuffer buf = ByteBuffer.allocate(HEADER_RECORD_SIZE);
                 buf.order(ByteOrder.nativeOrder());
@@ -2354,7 +2398,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 zos.write(heapBuf.array());
             }
 
-            segmentSize.put(idx, zip.length());
+            long zipLen = zip.length();
+
+            segmentSize.put(idx, zipLen);
+
+            if (metrics != null)
+                metrics.onWalSegmentCompressed(compactionCodec, raw.length(), zipLen, System.nanoTime() - start);
         }
 
         /**
@@ -2459,14 +2508,20 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         File unzipTmp = new File(walArchiveDir, segmentFileName + TMP_SUFFIX);
                         File unzip = new File(walArchiveDir, segmentFileName);
 
-                        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
-                             FileIO io = ioFactory.create(unzipTmp)) {
-                            zis.getNextEntry();
+                        long start = System.nanoTime();
 
+                        try (InputStream zis = WalSegmentCompression.decompressedStream(
+                            new BufferedInputStream(new FileInputStream(zip)));
+                             FileIO io = ioFactory.create(unzipTmp)) {
                             while (io.writeFully(arr, 0, zis.read(arr)) > 0)
                                 updateHeartbeat();
                         }
 
+                        if (metrics != null && metrics.metricsEnabled()) {
+                            metrics.onWalSegmentDecompressed(WalSegmentCompression.segmentCodec(zip),
+                                unzipTmp.length(), System.nanoTime() - start);
+                        }
+
                         try {
                             Files.move(unzipTmp.toPath(), unzip.toPath());
                         }
@@ -58,6 +58,19 @@ public class FileHandleManagerFactory {
         RecordSerializer serializer,
         Supplier<FileWriteHandle> currHandleSupplier
     ) {
+        WalGroupCommitter grpCommitter = dsConf.getWalMode() == WALMode.FSYNC &&
+            dsConf.getWalGroupCommitMaxDelayNanos() > 0 ?
+            new WalGroupCommitter(
+                cctx,
+                metrics,
+                currHandleSupplier,
+                dsConf.getWalGroupCommitMaxDelayNanos(),
+                dsConf.getWalGroupCommitMaxBatchSize()
+            ) : null;
+
+        // Group commit replaces the fsync delay.
+        long fsyncDelay = grpCommitter == null ? dsConf.getWalFsyncDelayNanos() : 0;
+
         if (dsConf.getWalMode() == WALMode.FSYNC && !walFsyncWithDedicatedWorker)
             return new FsyncFileHandleManagerImpl(
                 cctx,
@@ -66,8 +79,9 @@ public class FileHandleManagerFactory {
                 currHandleSupplier,
                 dsConf.getWalMode(),
                 dsConf.getWalSegmentSize(),
-                dsConf.getWalFsyncDelayNanos(),
-                dsConf.getWalThreadLocalBufferSize()
+                fsyncDelay,
+                dsConf.getWalThreadLocalBufferSize(),
+                grpCommitter
             );
         else
             return new FileHandleManagerImpl(
@@ -79,7 +93,9 @@ public class FileHandleManagerFactory {
                 dsConf.getWalMode(),
                 dsConf.getWalBufferSize(),
                 dsConf.getWalSegmentSize(),
-                dsConf.getWalFsyncDelayNanos()
+                fsyncDelay,
+                dsConf.getWalWriteThreadCount(),
+                grpCommitter
             );
     }
 }
@@ -21,9 +21,14 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
@@ -42,6 +47,8 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.Re
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
 import org.apache.ignite.thread.IgniteThread;
+import org.apache.ignite.thread.IgniteThreadPoolExecutor;
+import org.jetbrains.annotations.Nullable;
 
 import static java.lang.Long.MAX_VALUE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SEGMENT_SYNC_TIMEOUT;
@@ -58,6 +65,12 @@ public class FileHandleManagerImpl implements FileHandleManager {
     /** Default wal segment sync timeout. */
     public static final long DFLT_WAL_SEGMENT_SYNC_TIMEOUT = 500L;
 
+    /** Min size of a stripe of the buffer written in parallel. */
+    static final int MIN_WRITE_STRIPE_SIZE = 64 * 1024;
+
+    /** Alignment of the file positions the buffer is split into stripes at. */
+    private static final int WRITE_STRIPE_ALIGNMENT = 4 * 1024;
+
     /** WAL writer worker. */
     private final WALWriter walWriter;
 
@@ -94,6 +107,12 @@ public class FileHandleManagerImpl implements FileHandleManager {
     /** Fsync delay. */
     private final long fsyncDelay;
 
+    /** Number of threads writing the buffer to the segment file. */
+    private final int writeThreads;
+
+    /** WAL group commit worker or {@code null} if group commit is disabled. */
+    @Nullable private final WalGroupCommitter grpCommitter;
+
     /**
      * @param cctx Context.
      * @param metrics Data storage metrics.
@@ -104,6 +123,8 @@ public class FileHandleManagerImpl implements FileHandleManager {
      * @param walBufferSize WAL buffer size.
      * @param maxWalSegmentSize Max WAL segment size.
      * @param fsyncDelay Fsync delay.
+     * @param writeThreads Number of threads writing the buffer to the segment file.
+     * @param grpCommitter WAL group commit worker or {@code null} if group commit is disabled.
      */
     public FileHandleManagerImpl(
         GridCacheSharedContext cctx,
@@ -114,7 +135,9 @@ public class FileHandleManagerImpl implements FileHandleManager {
         WALMode mode,
         int walBufferSize,
         long maxWalSegmentSize,
-        long fsyncDelay
+        long fsyncDelay,
+        int writeThreads,
+        @Nullable WalGroupCommitter grpCommitter
     ) {
         this.cctx = cctx;
         log = cctx.logger(FileHandleManagerImpl.class);
@@ -126,6 +149,8 @@ public class FileHandleManagerImpl implements FileHandleManager {
         this.walBufferSize = walBufferSize;
         this.maxWalSegmentSize = maxWalSegmentSize;
         this.fsyncDelay = fsyncDelay;
+        this.writeThreads = writeThreads;
+        this.grpCommitter = grpCommitter;
         walWriter = new WALWriter(log);
 
         if (mode != WALMode.NONE && mode != WALMode.FSYNC) {
@@ -204,6 +229,9 @@ public class FileHandleManagerImpl implements FileHandleManager {
 
     /** {@inheritDoc} */
     @Override public void onDeactivate() throws IgniteCheckedException {
+        if (grpCommitter != null)
+            grpCommitter.shutdown();
+
         FileWriteHandleImpl currHnd = currentHandle();
 
         try {
@@ -233,6 +261,9 @@ public class FileHandleManagerImpl implements FileHandleManager {
 
         if (walSegmentSyncWorker != null)
             walSegmentSyncWorker.restart();
+
+        if (grpCommitter != null)
+            grpCommitter.restart();
     }
 
     /** {@inheritDoc} */
@@ -266,7 +297,10 @@ public class FileHandleManagerImpl implements FileHandleManager {
         if (!cur.needFsync(filePtr))
             return filePtr;
 
-        cur.fsync(filePtr);
+        if (grpCommitter != null)
+            grpCommitter.fsync(filePtr);
+        else
+            cur.fsync(filePtr);
 
         return filePtr;
     }
@@ -296,6 +330,9 @@ public class FileHandleManagerImpl implements FileHandleManager {
         /** Err. */
         private volatile Throwable err;
 
+        /** Threads writing stripes of the buffer in parallel with the writer or {@code null} if single threaded. */
+        private ExecutorService stripeWriters;
+
         //TODO: replace with GC free data structure.
         /** Parked threads. */
         final Map<Thread, Long> waiters = new ConcurrentHashMap<>();
@@ -437,6 +474,12 @@ public class FileHandleManagerImpl implements FileHandleManager {
             }
 
             assert walWriter.runner() == null : "WALWriter should be stopped.";
+
+            if (stripeWriters != null) {
+                U.shutdownNow(getClass(), stripeWriters, log);
+
+                stripeWriters = null;
+            }
         }
 
         /**
@@ -569,7 +612,10 @@ public class FileHandleManagerImpl implements FileHandleManager {
             try {
                 assert hdl.written == hdl.fileIO.position();
 
-                hdl.written += hdl.fileIO.writeFully(buf);
+                if (stripeWriters != null && size >= 2 * MIN_WRITE_STRIPE_SIZE)
+                    writeStriped(hdl, buf);
+                else
+                    hdl.written += hdl.fileIO.writeFully(buf);
 
                 metrics.onWalBytesWritten(size);
 
@@ -586,6 +632,82 @@ public class FileHandleManagerImpl implements FileHandleManager {
             }
         }
 
+        /**
+         * Splits the buffer into stripes at the aligned file positions and writes them to the segment file
+         * in parallel, the first stripe is written by the current thread.
+         *
+         * @param hdl Current handle.
+         * @param buf Buffer to write to file.
+         * @throws IOException If failed.
+         * @throws IgniteInterruptedCheckedException If interrupted.
+         */
+        private void writeStriped(FileWriteHandleImpl hdl, ByteBuffer buf)
+            throws IOException, IgniteInterruptedCheckedException {
+            long pos = hdl.written;
+            int size = buf.remaining();
+
+            int stripes = Math.min(writeThreads, size / MIN_WRITE_STRIPE_SIZE);
+            int stripeSize = size / stripes;
+
+            List<Future<Integer>> futs = new ArrayList<>(stripes - 1);
+
+            ByteBuffer first = null;
+
+            long start = pos;
+
+            for (int i = 0; i < stripes; i++) {
+                long end = i == stripes - 1 ? pos + size :
+                    (pos + (long)stripeSize * (i + 1)) & ~(WRITE_STRIPE_ALIGNMENT - 1);
+
+                ByteBuffer stripe = buf.duplicate();
+
+                stripe.limit(buf.position() + (int)(end - pos));
+                stripe.position(buf.position() + (int)(start - pos));
+
+                if (first == null)
+                    first = stripe;
+                else {
+                    long stripePos = start;
+
+                    futs.add(stripeWriters.submit(() -> hdl.fileIO.writeFully(stripe, stripePos)));
+                }
+
+                start = end;
+            }
+
+            IOException err = null;
+
+            try {
+                hdl.fileIO.writeFully(first, pos);
+            }
+            catch (IOException e) {
+                err = e;
+            }
+
+            // Wait for all the stripes even if some failed, the buffer must not be reused until then.
+            for (Future<Integer> fut : futs) {
+                try {
+                    fut.get();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new IgniteInterruptedCheckedException(e);
+                }
+                catch (ExecutionException e) {
+                    if (err == null)
+                        err = e.getCause() instanceof IOException ? (IOException)e.getCause() : new IOException(e);
+                }
+            }
+
+            if (err != null)
+                throw err;
+
+            hdl.fileIO.position(pos + size);
+
+            hdl.written = pos + size;
+        }
+
         /**
          * Restart worker in IgniteThread.
          */
@@ -594,6 +716,17 @@ public class FileHandleManagerImpl implements FileHandleManager {
 
             isCancelled = false;
 
+            if (writeThreads > 1) {
+                stripeWriters = new IgniteThreadPoolExecutor(
+                    "wal-stripe-writer",
+                    cctx.igniteInstanceName(),
+                    writeThreads - 1,
+                    writeThreads - 1,
+                    0,
+                    new LinkedBlockingQueue<>()
+                );
+            }
+
             new IgniteThread(this).start();
         }
     }
@@ -29,6 +29,7 @@ import org.apache.ignite.internal.processors.cache.persistence.StorageException;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link FileWriteHandle} for FSYNC mode.
@@ -61,6 +62,9 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
     /** Thread local byte buffer size. */
     private final int tlbSize;
 
+    /** WAL group commit worker or {@code null} if group commit is disabled. */
+    @Nullable private final WalGroupCommitter grpCommitter;
+
     /**
      * @param cctx Context.
      * @param metrics Data storage metrics.
@@ -70,6 +74,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
      * @param maxWalSegmentSize Max WAL segment size.
      * @param fsyncDelay Fsync delay.
      * @param tlbSize Thread local byte buffer size.
+     * @param grpCommitter WAL group commit worker or {@code null} if group commit is disabled.
      */
     public FsyncFileHandleManagerImpl(
         GridCacheSharedContext cctx,
@@ -79,7 +84,8 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         WALMode mode,
         long maxWalSegmentSize,
         long fsyncDelay,
-        int tlbSize
+        int tlbSize,
+        @Nullable WalGroupCommitter grpCommitter
     ) {
         this.cctx = cctx;
         this.log = cctx.logger(FsyncFileHandleManagerImpl.class);
@@ -90,6 +96,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         this.maxWalSegmentSize = maxWalSegmentSize;
         this.fsyncDelay = fsyncDelay;
         this.tlbSize = tlbSize;
+        this.grpCommitter = grpCommitter;
     }
 
     /** {@inheritDoc} */
@@ -119,6 +126,9 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
 
     /** {@inheritDoc} */
     @Override public void onDeactivate() throws IgniteCheckedException {
+        if (grpCommitter != null)
+            grpCommitter.shutdown();
+
         FsyncFileWriteHandle currHnd = currentHandle();
 
         if (mode == WALMode.BACKGROUND) {
@@ -132,7 +142,8 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
 
     /** {@inheritDoc} */
     @Override public void resumeLogging() {
-        //NOOP.
+        if (grpCommitter != null && !cctx.kernalContext().clientNode())
+            grpCommitter.restart();
     }
 
     /** {@inheritDoc} */
@@ -163,7 +174,10 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         if (!cur.needFsync(filePtr))
             return filePtr;
 
-        cur.fsync(filePtr, false);
+        if (grpCommitter != null)
+            grpCommitter.fsync(filePtr);
+        else
+            cur.fsync(filePtr, false);
 
         return filePtr;
     }
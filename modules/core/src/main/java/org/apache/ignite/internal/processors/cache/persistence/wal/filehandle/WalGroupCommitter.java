@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.filehandle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
+import org.apache.ignite.internal.processors.cache.persistence.StorageException;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.internal.util.worker.GridWorker;
+import org.apache.ignite.thread.IgniteThread;
+
+/**
+ * Group commit of the WAL in {@link org.apache.ignite.configuration.WALMode#FSYNC FSYNC} mode. Committing threads
+ * register the pointers they need to be synced and park, the worker syncs the WAL up to the greatest registered
+ * pointer once per window and unparks all the threads of the batch together. The window is opened by the oldest
+ * waiting thread and is closed either when the max delay elapses or when the max number of threads is waiting.
+ */
+public class WalGroupCommitter extends GridWorker {
+    /** Current handle supplier. */
+    private final Supplier<FileWriteHandle> currentHandleSupplier;
+
+    /** Persistence metrics tracker. */
+    private final DataStorageMetricsImpl metrics;
+
+    /** Max delay of the fsync after the first thread of a batch starts waiting, in nanoseconds. */
+    private final long maxDelay;
+
+    /** Max number of the threads in a batch. */
+    private final int maxBatchSize;
+
+    /** Waiting threads. */
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    /** Number of waiting threads. */
+    private final AtomicInteger waitersCnt = new AtomicInteger();
+
+    /** Worker is stopped and does not serve the waiters anymore. */
+    private volatile boolean stopped;
+
+    /**
+     * @param cctx Context.
+     * @param metrics Data storage metrics.
+     * @param currentHandleSupplier Current handle supplier.
+     * @param maxDelay Max delay of the fsync after the first thread of a batch starts waiting, in nanoseconds.
+     * @param maxBatchSize Max number of the threads in a batch.
+     */
+    public WalGroupCommitter(
+        GridCacheSharedContext<?, ?> cctx,
+        DataStorageMetricsImpl metrics,
+        Supplier<FileWriteHandle> currentHandleSupplier,
+        long maxDelay,
+        int maxBatchSize
+    ) {
+        super(cctx.igniteInstanceName(), "wal-group-commit%" + cctx.igniteInstanceName(),
+            cctx.logger(WalGroupCommitter.class), cctx.kernalContext().workersRegistry());
+
+        this.metrics = metrics;
+        this.currentHandleSupplier = currentHandleSupplier;
+        this.maxDelay = maxDelay;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Waits until the WAL is synced up to the given pointer by the group commit.
+     *
+     * @param ptr Pointer to sync.
+     * @throws StorageException If failed.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void fsync(WALPointer ptr) throws StorageException, IgniteCheckedException {
+        Thread runner = runner();
+
+        if (runner == null || stopped) {
+            fsync0(ptr);
+
+            return;
+        }
+
+        Waiter waiter = new Waiter(ptr, Thread.currentThread());
+
+        waiters.add(waiter);
+
+        int cnt = waitersCnt.incrementAndGet();
+
+        if (cnt == 1 || cnt >= maxBatchSize)
+            LockSupport.unpark(runner);
+
+        // Worker could stop before the waiter is added and never see it.
+        if (stopped && waiters.remove(waiter)) {
+            waitersCnt.decrementAndGet();
+
+            fsync0(ptr);
+
+            return;
+        }
+
+        while (!waiter.done)
+            LockSupport.park(this);
+
+        Throwable err = waiter.err;
+
+        if (err instanceof StorageException)
+            throw (StorageException)err;
+        else if (err != null)
+            throw new IgniteCheckedException("Failed to sync WAL.", err);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void body() {
+        try {
+            while (!isCancelled()) {
+                onIdle();
+
+                Waiter first = waiters.peek();
+
+                if (first == null) {
+                    blockingSectionBegin();
+
+                    try {
+                        LockSupport.park();
+                    }
+                    finally {
+                        blockingSectionEnd();
+                    }
+
+                    continue;
+                }
+
+                long deadline = first.start + maxDelay;
+
+                for (long now = System.nanoTime(); now < deadline && waitersCnt.get() < maxBatchSize &&
+                    !isCancelled(); now = System.nanoTime())
+                    LockSupport.parkNanos(deadline - now);
+
+                updateHeartbeat();
+
+                commit();
+            }
+        }
+        finally {
+            stopped = true;
+
+            commit();
+        }
+    }
+
+    /**
+     * Syncs the WAL up to the greatest pointer of the waiting threads and unparks them.
+     */
+    private void commit() {
+        List<Waiter> batch = new ArrayList<>();
+
+        WALPointer max = null;
+
+        for (Waiter w; (w = waiters.poll()) != null; ) {
+            waitersCnt.decrementAndGet();
+
+            batch.add(w);
+
+            if (max == null || w.ptr.compareTo(max) > 0)
+                max = w.ptr;
+        }
+
+        if (batch.isEmpty())
+            return;
+
+        Throwable err = null;
+
+        try {
+            fsync0(max);
+        }
+        catch (Throwable e) {
+            U.error(log, "Failed to sync WAL [ptr=" + max + ']', e);
+
+            err = e;
+        }
+
+        boolean metricsEnabled = metrics.metricsEnabled();
+
+        if (metricsEnabled)
+            metrics.onWalGroupCommit(batch.size());
+
+        long now = metricsEnabled ? System.nanoTime() : 0;
+
+        for (Waiter w : batch) {
+            w.err = err;
+            w.done = true;
+
+            LockSupport.unpark(w.thread);
+
+            if (metricsEnabled)
+                metrics.onWalGroupCommitWait(now - w.start);
+        }
+    }
+
+    /**
+     * @param ptr Pointer to sync.
+     * @throws StorageException If failed.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void fsync0(WALPointer ptr) throws StorageException, IgniteCheckedException {
+        FileWriteHandle cur = currentHandleSupplier.get();
+
+        // No need to sync if was rolled over.
+        if (cur != null && cur.needFsync(ptr))
+            cur.fsync(ptr);
+    }
+
+    /**
+     * Stops the worker, the threads waiting for the sync are served before it stops.
+     */
+    public void shutdown() {
+        // Not interrupted as an interrupt closes the file channel of the segment being synced.
+        isCancelled = true;
+
+        Thread runner = runner();
+
+        if (runner != null) {
+            LockSupport.unpark(runner);
+
+            U.join(this, log);
+        }
+    }
+
+    /**
+     * Restarts the worker in a new thread.
+     */
+    public void restart() {
+        assert runner() == null : "WalGroupCommitter is still running.";
+
+        isCancelled = false;
+        stopped = false;
+
+        new IgniteThread(this).start();
+    }
+
+    /**
+     * Thread waiting for the sync.
+     */
+    private static class Waiter {
+        /** Pointer to sync. */
+        final WALPointer ptr;
+
+        /** Waiting thread. */
+        final Thread thread;
+
+        /** Start of the wait, in nanoseconds. */
+        final long start = System.nanoTime();
+
+        /** Sync error. */
+        volatile Throwable err;
+
+        /** Done flag. */
+        volatile boolean done;
+
+        /**
+         * @param ptr Pointer to sync.
+         * @param thread Waiting thread.
+         */
+        Waiter(WALPointer ptr, Thread thread) {
+            this.ptr = ptr;
+            this.thread = thread;
+        }
+    }
+}
@@ -80,6 +80,7 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartiti
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartitionDataRecordV3;
 import org.apache.ignite.internal.pagemem.wal.record.delta.NewRootInitRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageListMetaResetCountRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageSnapshotDiffRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListAddPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListInitNewPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListRemovePageRecord;
@@ -388,6 +389,9 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             case INDEX_META_PAGE_DELTA_RECORD:
                 return /*cache ID*/4 + /*page ID*/8 + /*encrypt page index*/ 4 + /*encrypt pages count*/4;
 
+            case PAGE_SNAPSHOT_DIFF_RECORD:
+                return ((PageSnapshotDiffRecord)record).dataSize();
+
             case PARTITION_META_PAGE_UPDATE_COUNTERS:
                 return /*cache ID*/4 + /*page ID*/8 + /*upd cntr*/8 + /*rmv id*/8 + /*part size*/4 + /*counters page id*/8 + /*state*/ 1
                         + /*allocatedIdxCandidate*/ 4;
@@ -636,6 +640,11 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case PAGE_SNAPSHOT_DIFF_RECORD:
+                res = new PageSnapshotDiffRecord(in);
+
+                break;
+
             case PARTITION_META_PAGE_UPDATE_COUNTERS:
                 res = new MetaPageUpdatePartitionDataRecord(in);
 
@@ -1322,6 +1331,11 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case PAGE_SNAPSHOT_DIFF_RECORD:
+                ((PageSnapshotDiffRecord)rec).toBytes(buf);
+
+                break;
+
             case PARTITION_META_PAGE_UPDATE_COUNTERS:
             case PARTITION_META_PAGE_UPDATE_COUNTERS_V2:
             case PARTITION_META_PAGE_DELTA_RECORD_V3:
@@ -17,14 +17,20 @@
 
 package org.apache.ignite.internal.processors.cache.tree;
 
+import java.util.Collection;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
 import org.apache.ignite.internal.processors.cache.persistence.CacheSearchRow;
+import org.apache.ignite.internal.processors.cache.persistence.PartitionBloomFilter;
 import org.apache.ignite.internal.processors.cache.persistence.RowStore;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.FreeList;
 import org.apache.ignite.internal.processors.cache.tree.mvcc.data.MvccDataRow;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -50,6 +56,9 @@ public class CacheDataRowStore extends RowStore {
     /** */
     private final int partId;
 
+    /** Bloom filter of the partition keys, {@code null} if disabled. */
+    private volatile PartitionBloomFilter keyFilter;
+
     /**
      * @param grp Cache group.
      * @param freeList Free list.
@@ -61,6 +70,18 @@ public class CacheDataRowStore extends RowStore {
         this.partId = partId;
     }
 
+    /**
+     * @param grp Cache group.
+     * @param freeList Free list.
+     * @param partId Partition number.
+     * @param pageMem Page memory the rows are stored in.
+     */
+    public CacheDataRowStore(CacheGroupContext grp, FreeList freeList, int partId, PageMemory pageMem) {
+        super(grp, freeList, pageMem);
+
+        this.partId = partId;
+    }
+
     /**
      * @return Partition Id.
      */
@@ -68,6 +89,43 @@ public class CacheDataRowStore extends RowStore {
         return partId;
     }
 
+    /**
+     * @return Bloom filter of the partition keys, {@code null} if disabled.
+     */
+    @Nullable public PartitionBloomFilter keyFilter() {
+        return keyFilter;
+    }
+
+    /**
+     * @param keyFilter Bloom filter of the partition keys, all the rows added after this call are added to it.
+     */
+    public void keyFilter(PartitionBloomFilter keyFilter) {
+        this.keyFilter = keyFilter;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void addRow(CacheDataRow row, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        super.addRow(row, statHolder);
+
+        PartitionBloomFilter keyFilter0 = keyFilter;
+
+        if (keyFilter0 != null)
+            keyFilter0.add(row.hash());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void addRows(Collection<? extends CacheDataRow> rows,
+        IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        super.addRows(rows, statHolder);
+
+        PartitionBloomFilter keyFilter0 = keyFilter;
+
+        if (keyFilter0 != null) {
+            for (CacheDataRow row : rows)
+                keyFilter0.add(row.hash());
+        }
+    }
+
     /**
      * @param cacheId Cache ID.
      * @param hash Hash code.
@@ -114,6 +172,7 @@ public class CacheDataRowStore extends RowStore {
     protected CacheDataRow dataRow(int cacheId, int hash, long link, CacheDataRowAdapter.RowData rowData) {
         DataRow dataRow = new DataRow(
             grp,
+            pageMem,
             hash,
             link,
             partId,
@@ -19,8 +19,10 @@ package org.apache.ignite.internal.processors.cache.tree;
 
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
@@ -47,6 +49,7 @@ import org.apache.ignite.internal.processors.cache.tree.mvcc.search.MvccDataPage
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 import static java.lang.Boolean.FALSE;
@@ -96,13 +99,51 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
         boolean initNew,
         PageLockListener lockLsnr,
         byte pageFlag
+    ) throws IgniteCheckedException {
+        this(
+            grp,
+            name,
+            grp.dataRegion().pageMemory(),
+            grp.dataRegion().config().isPersistenceEnabled() ? grp.shared().wal() : null,
+            reuseList,
+            rowStore,
+            metaPageId,
+            initNew,
+            lockLsnr,
+            pageFlag
+        );
+    }
+
+    /**
+     * @param grp Cache group.
+     * @param name Tree name.
+     * @param pageMem Page memory, e.g. the page memory of a partition file being defragmented.
+     * @param wal Write ahead log manager or {@code null} if the tree changes are not logged.
+     * @param reuseList Reuse list.
+     * @param rowStore Row store.
+     * @param metaPageId Meta page ID.
+     * @param initNew Initialize new index.
+     * @param pageFlag Default flag value for allocated pages.
+     * @throws IgniteCheckedException If failed.
+     */
+    public CacheDataTree(
+        CacheGroupContext grp,
+        String name,
+        PageMemory pageMem,
+        @Nullable IgniteWriteAheadLogManager wal,
+        ReuseList reuseList,
+        CacheDataRowStore rowStore,
+        long metaPageId,
+        boolean initNew,
+        PageLockListener lockLsnr,
+        byte pageFlag
     ) throws IgniteCheckedException {
         super(
             name,
             grp.groupId(),
             grp.name(),
-            grp.dataRegion().pageMemory(),
-            grp.dataRegion().config().isPersistenceEnabled() ? grp.shared().wal() : null,
+            pageMem,
+            wal,
             grp.offheap().globalRemoveId(),
             metaPageId,
             reuseList,
@@ -118,7 +159,7 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
         this.rowStore = rowStore;
         this.grp = grp;
 
-        assert !grp.dataRegion().config().isPersistenceEnabled() || grp.shared().database().checkpointLockIsHeldByThread();
+        assert wal == null || grp.shared().database().checkpointLockIsHeldByThread();
 
         initTree(initNew);
     }
@@ -504,7 +545,7 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
 
         // TODO GG-11768.
         CacheDataRowAdapter other = grp.mvccEnabled() ? new MvccDataRow(link) : new CacheDataRowAdapter(link);
-        other.initFromLink(grp, CacheDataRowAdapter.RowData.KEY_ONLY);
+        other.initFromLink(grp, grp.shared(), pageMem, CacheDataRowAdapter.RowData.KEY_ONLY, false);
 
         byte[] bytes1 = other.key().valueBytes(grp.cacheObjectContext());
         byte[] bytes2 = key.valueBytes(grp.cacheObjectContext());
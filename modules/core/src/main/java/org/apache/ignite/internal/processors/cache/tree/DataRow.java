@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.tree;
 
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
@@ -44,6 +45,27 @@ public class DataRow extends CacheDataRowAdapter {
      * @param skipVer Whether version read should be skipped.
      */
     protected DataRow(CacheGroupContext grp, int hash, long link, int part, RowData rowData, boolean skipVer) {
+        this(grp, grp.dataRegion().pageMemory(), hash, link, part, rowData, skipVer);
+    }
+
+    /**
+     * @param grp Cache group (used to initialize row).
+     * @param pageMem Page memory the row is stored in.
+     * @param hash Hash code.
+     * @param link Link.
+     * @param part Partition.
+     * @param rowData Required row data.
+     * @param skipVer Whether version read should be skipped.
+     */
+    protected DataRow(
+        CacheGroupContext grp,
+        PageMemory pageMem,
+        int hash,
+        long link,
+        int part,
+        RowData rowData,
+        boolean skipVer
+    ) {
         super(link);
 
         this.hash = hash;
@@ -52,7 +74,7 @@ public class DataRow extends CacheDataRowAdapter {
         try {
             // We can not init data row lazily outside of entry lock because underlying buffer can be concurrently cleared.
             if (rowData != RowData.LINK_ONLY)
-                initFromLink(grp, rowData, skipVer);
+                initFromLink(grp, grp.shared(), pageMem, rowData, skipVer);
         }
         catch (IgniteCheckedException e) {
             throw new IgniteException(e);
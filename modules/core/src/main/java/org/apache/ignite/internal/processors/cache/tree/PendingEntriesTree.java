@@ -17,14 +17,18 @@
 
 package org.apache.ignite.internal.processors.cache.tree;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageLockListener;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -55,13 +59,48 @@ public class PendingEntriesTree extends BPlusTree<PendingRow, PendingRow> {
         boolean initNew,
         PageLockListener lockLsnr,
         byte pageFlag
+    ) throws IgniteCheckedException {
+        this(
+            grp,
+            name,
+            pageMem,
+            grp.dataRegion().config().isPersistenceEnabled() ? grp.shared().wal() : null,
+            metaPageId,
+            reuseList,
+            initNew,
+            lockLsnr,
+            pageFlag
+        );
+    }
+
+    /**
+     * @param grp Cache group.
+     * @param name Tree name.
+     * @param pageMem Page memory.
+     * @param wal Write ahead log manager or {@code null} if the tree changes are not logged.
+     * @param metaPageId Meta page ID.
+     * @param reuseList Reuse list.
+     * @param initNew Initialize new index.
+     * @param pageFlag Default flag value for allocated pages.
+     * @throws IgniteCheckedException If failed.
+     */
+    public PendingEntriesTree(
+        CacheGroupContext grp,
+        String name,
+        PageMemory pageMem,
+        @Nullable IgniteWriteAheadLogManager wal,
+        long metaPageId,
+        ReuseList reuseList,
+        boolean initNew,
+        PageLockListener lockLsnr,
+        byte pageFlag
     ) throws IgniteCheckedException {
         super(
             name,
             grp.groupId(),
             grp.name(),
             pageMem,
-            grp.dataRegion().config().isPersistenceEnabled() ? grp.shared().wal() : null,
+            wal,
             grp.offheap().globalRemoveId(),
             metaPageId,
             reuseList,
@@ -74,7 +113,7 @@ public class PendingEntriesTree extends BPlusTree<PendingRow, PendingRow> {
 
         this.grp = grp;
 
-        assert !grp.dataRegion().config().isPersistenceEnabled() || grp.shared().database().checkpointLockIsHeldByThread();
+        assert wal == null || grp.shared().database().checkpointLockIsHeldByThread();
 
         initTree(initNew);
     }
@@ -119,6 +158,31 @@ public class PendingEntriesTree extends BPlusTree<PendingRow, PendingRow> {
         return Long.compare(link, row.link);
     }
 
+    /**
+     * Removes the rows by a batch of leaf page operations, see {@link #invokeAll(List, Object, List)}.
+     *
+     * @param rows Rows sorted in the tree order.
+     * @return Rows which were found and removed, in the order of the given rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    public List<PendingRow> removeAll(List<PendingRow> rows) throws IgniteCheckedException {
+        List<RemoveClosure> clos = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++)
+            clos.add(new RemoveClosure());
+
+        invokeAll(rows, WITHOUT_KEY, clos);
+
+        List<PendingRow> removed = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (clos.get(i).removed)
+                removed.add(rows.get(i));
+        }
+
+        return removed;
+    }
+
     /** {@inheritDoc} */
     @Override public PendingRow getRow(BPlusIO<PendingRow> io, long pageAddr, int idx, Object flag)
         throws IgniteCheckedException {
@@ -126,4 +190,27 @@ public class PendingEntriesTree extends BPlusTree<PendingRow, PendingRow> {
 
         return flag == WITHOUT_KEY ? row : row.initKey(grp);
     }
+
+    /**
+     * Removes the found row.
+     */
+    private static class RemoveClosure implements InvokeClosure<PendingRow> {
+        /** */
+        private boolean removed;
+
+        /** {@inheritDoc} */
+        @Override public void call(@Nullable PendingRow row) {
+            removed = row != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public PendingRow newRow() {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public OperationType operationType() {
+            return removed ? OperationType.REMOVE : OperationType.NOOP;
+        }
+    }
 }
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.PageDumpWarmUpConfiguration;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * "Page dump" warm-up strategy, which loads the pages dumped by {@link PageDumper} before the node restart to
+ * persistent data region until it reaches {@link DataRegionConfiguration#getMaxSize}. Partitions are loaded in
+ * parallel, pages of each partition are loaded in order of their offsets in the partition file.
+ */
+public class PageDumpWarmUpStrategy implements WarmUpStrategy<PageDumpWarmUpConfiguration> {
+    /** Kernal context. */
+    @GridToStringExclude
+    private final GridKernalContext ctx;
+
+    /** Logger. */
+    @GridToStringExclude
+    private final IgniteLogger log;
+
+    /** Stop flag. */
+    private volatile boolean stop;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Kernal context.
+     */
+    public PageDumpWarmUpStrategy(GridKernalContext ctx) {
+        this.ctx = ctx;
+
+        log = ctx.log(PageDumpWarmUpStrategy.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Class<PageDumpWarmUpConfiguration> configClass() {
+        return PageDumpWarmUpConfiguration.class;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void warmUp(
+        PageDumpWarmUpConfiguration cfg,
+        DataRegion region
+    ) throws IgniteCheckedException {
+        if (stop)
+            return;
+
+        assert region.config().isPersistenceEnabled();
+
+        IgnitePageStoreManager pageStore = ctx.cache().context().pageStore();
+
+        File file = PageDumper.dumpFile(
+            new File(((FilePageStoreManager)pageStore).workDir(), PageDumper.DUMP_DIR), region.config().getName());
+
+        if (!file.exists()) {
+            if (log.isInfoEnabled())
+                log.info("No page dump found for data region [name=" + region.config().getName() + ']');
+
+            return;
+        }
+
+        Map<Integer, long[]> dump;
+
+        try {
+            dump = PageDumper.read(file);
+        }
+        catch (IOException e) {
+            U.warn(log, "Failed to read page dump, data region is not warmed up [name=" +
+                region.config().getName() + ", file=" + file + ", err=" + e + ']');
+
+            return;
+        }
+
+        List<LoadPartition> parts = loadPartitions(region, dump);
+
+        if (log.isInfoEnabled()) {
+            log.info("Loading dumped pages into data region [name=" + region.config().getName()
+                + ", partCnt=" + parts.size() + ", pageCnt=" + parts.stream().mapToLong(LoadPartition::pages).sum()
+                + ", threads=" + cfg.getLoadThreads() + ']');
+        }
+
+        PageMemoryEx pageMem = (PageMemoryEx)region.pageMemory();
+
+        AtomicLong loadedPageCnt = new AtomicLong();
+
+        U.doInParallel(cfg.getLoadThreads(), ctx.getSystemExecutorService(), parts, part -> {
+            if (stop || !pageStore.exists(part.grpId, part.part))
+                return null;
+
+            int storePages = pageStore.pages(part.grpId, part.part);
+
+            ByteBuffer buf = GridUnsafe.allocateBuffer(pageMem.pageSize()).order(ByteOrder.nativeOrder());
+
+            try {
+                for (int i = part.from; i < part.to && !stop; i++) {
+                    int pageIdx = PageDumper.pageIndex(part.keys[i]);
+
+                    // Pages allocated but not checkpointed before the dump.
+                    if (pageIdx >= storePages)
+                        break;
+
+                    if (!pageMem.preloadPage(part.grpId, part.part, pageIdx, buf))
+                        break;
+
+                    loadedPageCnt.incrementAndGet();
+                }
+            }
+            finally {
+                GridUnsafe.freeBuffer(buf);
+            }
+
+            return null;
+        });
+
+        if (log.isInfoEnabled()) {
+            log.info((stop ? "Stop" : "Finish") + " loading dumped pages into data region [name=" +
+                region.config().getName() + ", pageCnt=" + loadedPageCnt.get() + ']');
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop() throws IgniteCheckedException {
+        stop = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(PageDumpWarmUpStrategy.class, this);
+    }
+
+    /**
+     * Splits the dumped pages of the existing cache groups of the data region by partitions, the number of pages
+     * is limited by free space of the data region.
+     *
+     * @param region Data region.
+     * @param dump Dumped page keys grouped by cache groups.
+     * @return Partitions to load.
+     */
+    private List<LoadPartition> loadPartitions(DataRegion region, Map<Integer, long[]> dump) {
+        Set<Integer> grpIds = ctx.cache().cacheGroups().stream()
+            .filter(grp -> region.equals(grp.dataRegion()))
+            .map(CacheGroupContext::groupId)
+            .collect(toSet());
+
+        long sysPageSize = region.pageMemory().systemPageSize();
+
+        long availablePageCnt = Math.max(0,
+            (region.config().getMaxSize() - region.pageMemory().loadedPages() * sysPageSize) / sysPageSize);
+
+        List<LoadPartition> parts = new ArrayList<>();
+
+        for (Map.Entry<Integer, long[]> e : dump.entrySet()) {
+            if (!grpIds.contains(e.getKey()))
+                continue;
+
+            long[] keys = e.getValue();
+
+            for (int from = 0; from < keys.length && availablePageCnt > 0; ) {
+                int part = PageDumper.partId(keys[from]);
+
+                int to = from + 1;
+
+                while (to < keys.length && PageDumper.partId(keys[to]) == part && to - from < availablePageCnt)
+                    to++;
+
+                parts.add(new LoadPartition(e.getKey(), part, keys, from, to));
+
+                availablePageCnt -= to - from;
+
+                from = to;
+            }
+        }
+
+        return parts;
+    }
+
+    /**
+     * Dumped pages of a partition.
+     */
+    private static class LoadPartition {
+        /** Cache group ID. */
+        private final int grpId;
+
+        /** Partition ID. */
+        private final int part;
+
+        /** Sorted page keys of the cache group. */
+        private final long[] keys;
+
+        /** Index of the first key of the partition, inclusive. */
+        private final int from;
+
+        /** Index of the last key of the partition, exclusive. */
+        private final int to;
+
+        /**
+         * @param grpId Cache group ID.
+         * @param part Partition ID.
+         * @param keys Sorted page keys of the cache group.
+         * @param from Index of the first key of the partition, inclusive.
+         * @param to Index of the last key of the partition, exclusive.
+         */
+        private LoadPartition(int grpId, int part, long[] keys, int from, int to) {
+            this.grpId = grpId;
+            this.part = part;
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * @return Number of pages to load.
+         */
+        private long pages() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.PageDumpWarmUpConfiguration;
+import org.apache.ignite.configuration.WarmUpConfiguration;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.processors.timeout.GridTimeoutProcessor;
+import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Arrays.asList;
+
+/**
+ * Dumps IDs of the pages loaded to the persistent data regions with {@link PageDumpWarmUpConfiguration}
+ * periodically and on node stop. The dumps are loaded by {@link PageDumpWarmUpStrategy} on node start.
+ * <p>
+ * Dump file contains page IDs grouped by cache groups, the pages of each group are sorted by partition and page
+ * index, so the pages are loaded in order of their offsets in partition files.
+ */
+public class PageDumper {
+    /** Name of the directory with the dumps, relative to the node store directory. */
+    public static final String DUMP_DIR = "warmup";
+
+    /** Dump file extension. */
+    private static final String DUMP_FILE_EXT = ".dump";
+
+    /** Temporary dump file extension. */
+    private static final String TMP_FILE_EXT = ".tmp";
+
+    /** Dump file magic. */
+    private static final long MAGIC = 0x49474e5044554d50L;
+
+    /** Dump file format version. */
+    private static final int VERSION = 1;
+
+    /** Shared context. */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Directory with the dumps. */
+    private final File dumpDir;
+
+    /** Data regions to dump. */
+    private final Map<DataRegion, PageDumpWarmUpConfiguration> regions = new LinkedHashMap<>();
+
+    /** Periodic dump tasks. */
+    private final List<GridTimeoutProcessor.CancelableTask> tasks = new ArrayList<>();
+
+    /** Stopped flag. */
+    private volatile boolean stopped;
+
+    /**
+     * @param cctx Shared context.
+     * @param storeWorkDir Node store directory.
+     */
+    public PageDumper(GridCacheSharedContext<?, ?> cctx, File storeWorkDir) {
+        this.cctx = cctx;
+
+        log = cctx.logger(getClass());
+        dumpDir = new File(storeWorkDir, DUMP_DIR);
+    }
+
+    /**
+     * Starts periodic dumps of the data regions with {@link PageDumpWarmUpConfiguration}.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void start() throws IgniteCheckedException {
+        DataStorageConfiguration dsCfg = cctx.gridConfig().getDataStorageConfiguration();
+
+        List<DataRegionConfiguration> regCfgs = new ArrayList<>(asList(dsCfg.getDefaultDataRegionConfiguration()));
+
+        if (dsCfg.getDataRegionConfigurations() != null)
+            regCfgs.addAll(asList(dsCfg.getDataRegionConfigurations()));
+
+        for (DataRegionConfiguration regCfg : regCfgs) {
+            PageDumpWarmUpConfiguration cfg = config(dsCfg, regCfg);
+
+            if (cfg == null)
+                continue;
+
+            DataRegion region = cctx.database().dataRegion(regCfg.getName());
+
+            if (region == null)
+                continue;
+
+            regions.put(region, cfg);
+
+            if (cfg.getDumpFrequency() > 0) {
+                tasks.add(cctx.time().schedule(
+                    () -> cctx.kernalContext().closure().runLocalSafe(() -> dump(region), true),
+                    cfg.getDumpFrequency(),
+                    cfg.getDumpFrequency()
+                ));
+            }
+        }
+    }
+
+    /**
+     * Stops periodic dumps.
+     *
+     * @param dump {@code True} if the data regions should be dumped.
+     */
+    public void stop(boolean dump) {
+        tasks.forEach(GridTimeoutProcessor.CancelableTask::close);
+
+        tasks.clear();
+
+        if (dump)
+            regions.keySet().forEach(this::dump);
+
+        stopped = true;
+    }
+
+    /**
+     * Dumps IDs of the pages loaded to the data region, errors are logged.
+     *
+     * @param region Data region.
+     */
+    synchronized void dump(DataRegion region) {
+        if (stopped)
+            return;
+
+        String name = region.config().getName();
+
+        try {
+            long start = U.currentTimeMillis();
+
+            Map<Integer, GridLongList> pages = new TreeMap<>();
+
+            ((PageMemoryEx)region.pageMemory()).forEachLoadedPage(fullId -> pages
+                .computeIfAbsent(fullId.groupId(), grpId -> new GridLongList())
+                .add(pageKey(PageIdUtils.partId(fullId.pageId()), PageIdUtils.pageIndex(fullId.pageId()))));
+
+            long cnt = write(dumpFile(dumpDir, name), pages);
+
+            if (log.isInfoEnabled()) {
+                log.info("Dumped pages of data region [name=" + name + ", pageCnt=" + cnt +
+                    ", time=" + (U.currentTimeMillis() - start) + "ms]");
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            U.error(log, "Failed to dump pages of data region [name=" + name + ']', e);
+        }
+    }
+
+    /**
+     * @param file Dump file.
+     * @param pages Page keys grouped by cache groups.
+     * @return Number of dumped pages.
+     * @throws IOException If failed.
+     */
+    private static long write(File file, Map<Integer, GridLongList> pages) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+
+        File tmp = new File(file.getPath() + TMP_FILE_EXT);
+
+        long cnt = 0;
+
+        try (FileOutputStream fos = new FileOutputStream(tmp)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos, 64 * 1024));
+
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(pages.size());
+
+            for (Map.Entry<Integer, GridLongList> e : pages.entrySet()) {
+                GridLongList keys = e.getValue().sort();
+
+                out.writeInt(e.getKey());
+                out.writeInt(keys.size());
+
+                for (int i = 0; i < keys.size(); i++)
+                    out.writeLong(keys.get(i));
+
+                cnt += keys.size();
+            }
+
+            out.flush();
+
+            fos.getFD().sync();
+        }
+
+        Files.move(tmp.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+
+        return cnt;
+    }
+
+    /**
+     * Reads the dump.
+     *
+     * @param file Dump file.
+     * @return Sorted page keys grouped by cache groups.
+     * @throws IOException If failed.
+     * @see #partId(long)
+     * @see #pageIndex(long)
+     */
+    static Map<Integer, long[]> read(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024))) {
+            if (in.readLong() != MAGIC)
+                throw new IOException("Invalid page dump file: " + file);
+
+            int ver = in.readInt();
+
+            if (ver != VERSION)
+                throw new IOException("Unsupported page dump version [file=" + file + ", ver=" + ver + ']');
+
+            int grps = in.readInt();
+
+            Map<Integer, long[]> pages = new LinkedHashMap<>();
+
+            for (int i = 0; i < grps; i++) {
+                int grpId = in.readInt();
+
+                long[] keys = new long[in.readInt()];
+
+                for (int j = 0; j < keys.length; j++)
+                    keys[j] = in.readLong();
+
+                pages.put(grpId, keys);
+            }
+
+            return pages;
+        }
+    }
+
+    /**
+     * @param dumpDir Directory with the dumps.
+     * @param regionName Data region name.
+     * @return Dump file of the data region.
+     */
+    static File dumpFile(File dumpDir, String regionName) {
+        return new File(dumpDir, U.maskForFileName(regionName) + DUMP_FILE_EXT);
+    }
+
+    /**
+     * @param dsCfg Data storage configuration.
+     * @param regCfg Data region configuration.
+     * @return Page dump warm-up configuration of the data region or {@code null} if the region is not warmed up
+     *      with page dumps.
+     */
+    @Nullable static PageDumpWarmUpConfiguration config(
+        DataStorageConfiguration dsCfg,
+        DataRegionConfiguration regCfg
+    ) {
+        if (!regCfg.isPersistenceEnabled())
+            return null;
+
+        WarmUpConfiguration cfg = regCfg.getWarmUpConfiguration() != null ?
+            regCfg.getWarmUpConfiguration() : dsCfg.getDefaultWarmUpConfiguration();
+
+        return cfg instanceof PageDumpWarmUpConfiguration ? (PageDumpWarmUpConfiguration)cfg : null;
+    }
+
+    /**
+     * @param partId Partition ID.
+     * @param pageIdx Page index.
+     * @return Page key, keys are ordered by partition ID and page index.
+     */
+    static long pageKey(int partId, int pageIdx) {
+        return ((long)partId << 32) | (pageIdx & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param key Page key.
+     * @return Partition ID.
+     */
+    static int partId(long key) {
+        return (int)(key >>> 32);
+    }
+
+    /**
+     * @param key Page key.
+     * @return Page index.
+     */
+    static int pageIndex(long key) {
+        return (int)key;
+    }
+}
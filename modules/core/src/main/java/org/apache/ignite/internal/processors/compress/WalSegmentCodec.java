@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.IOException;
+
+/**
+ * Block codec used to compress WAL archive segments.
+ *
+ * @see WalSegmentCompression
+ */
+public interface WalSegmentCodec {
+    /**
+     * @param len Length of the data to compress.
+     * @return Max length of the compressed data.
+     */
+    public int maxCompressedLength(int len);
+
+    /**
+     * @param src Source array.
+     * @param srcOff Source offset.
+     * @param srcLen Length of the data to compress.
+     * @param dst Destination array of at least {@link #maxCompressedLength(int)} bytes after the offset.
+     * @param dstOff Destination offset.
+     * @param level Compression level.
+     * @return Length of the compressed data.
+     * @throws IOException If failed.
+     */
+    public int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int level) throws IOException;
+
+    /**
+     * @param src Source array.
+     * @param srcOff Source offset.
+     * @param srcLen Length of the compressed data.
+     * @param dst Destination array.
+     * @param dstOff Destination offset.
+     * @param dstLen Exact length of the decompressed data.
+     * @throws IOException If failed.
+     */
+    public void decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int dstLen) throws IOException;
+}
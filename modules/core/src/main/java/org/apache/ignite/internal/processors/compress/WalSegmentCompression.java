@@ -0,0 +1,565 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.WalCompactionCodec;
+import org.apache.ignite.internal.IgniteComponentType;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_WAL_COMPACTION_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.LZ4_DEFAULT_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.LZ4_MAX_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.LZ4_MIN_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_DEFAULT_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_MAX_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_MIN_LEVEL;
+
+/**
+ * Compression of WAL archive segments.
+ * <p>
+ * {@link WalCompactionCodec#ZIP} segments are regular ZIP files with a single entry. Segments compressed with
+ * other codecs are framed: a header of {@link #FRAME_MAGIC} and the codec id followed by blocks of up to
+ * {@link #BLOCK_SIZE} raw bytes each prefixed with the raw and the compressed lengths. A block with equal lengths
+ * is stored uncompressed, a zero raw length marks the end of the segment. The format of a file is detected
+ * by its magic, so segments compressed with any codec can be read regardless of the configured one.
+ */
+public final class WalSegmentCompression {
+    /** */
+    private static final String LZ4_CODEC_CLASS =
+        "org.apache.ignite.internal.processors.compress.Lz4WalSegmentCodec";
+
+    /** */
+    private static final String ZSTD_CODEC_CLASS =
+        "org.apache.ignite.internal.processors.compress.ZstdWalSegmentCodec";
+
+    /** Magic of the framed format. */
+    private static final int FRAME_MAGIC = 0x49475743; // "IGWC"
+
+    /** Size of the frame header: magic and codec id. */
+    private static final int FRAME_HEADER_SIZE = 5;
+
+    /** Size of the block header: raw and compressed lengths. */
+    private static final int BLOCK_HEADER_SIZE = 8;
+
+    /** Max raw size of a block. */
+    public static final int BLOCK_SIZE = 128 * 1024;
+
+    /** */
+    private static final WalSegmentCodec lz4;
+
+    /** */
+    private static final WalSegmentCodec zstd;
+
+    /** */
+    private static volatile Throwable err;
+
+    /** */
+    static {
+        WalSegmentCodec x = null;
+        WalSegmentCodec y = null;
+
+        try {
+            if (IgniteComponentType.COMPRESSION.inClassPath()) {
+                x = U.newInstance(LZ4_CODEC_CLASS);
+                y = U.newInstance(ZSTD_CODEC_CLASS);
+            }
+        }
+        catch (Throwable e) {
+            err = e;
+        }
+
+        lz4 = x;
+        zstd = y;
+    }
+
+    /**
+     */
+    private WalSegmentCompression() {
+        // No-op.
+    }
+
+    /**
+     * @param codec Codec.
+     * @throws IgniteCheckedException If the codec is not supported.
+     */
+    public static void checkSupported(WalCompactionCodec codec) throws IgniteCheckedException {
+        if (codec != WalCompactionCodec.ZIP && codec(codec) == null) {
+            throw new IgniteCheckedException("WAL compaction codec " + codec + " is not supported. " +
+                "Make sure that ignite-compress module is in classpath.", err);
+        }
+    }
+
+    /**
+     * @param codec Codec.
+     * @param level Configured compaction level.
+     * @return Compaction level to use with the codec.
+     * @throws IgniteCheckedException If the level is out of the codec bounds.
+     */
+    public static int compactionLevel(WalCompactionCodec codec, int level) throws IgniteCheckedException {
+        int min;
+        int max;
+        int dflt;
+
+        switch (codec) {
+            case ZIP:
+                min = Deflater.DEFAULT_COMPRESSION;
+                max = Deflater.BEST_COMPRESSION;
+                dflt = DFLT_WAL_COMPACTION_LEVEL;
+
+                break;
+
+            case LZ4:
+                min = LZ4_MIN_LEVEL;
+                max = LZ4_MAX_LEVEL;
+                dflt = LZ4_DEFAULT_LEVEL;
+
+                break;
+
+            case ZSTD:
+                min = ZSTD_MIN_LEVEL;
+                max = ZSTD_MAX_LEVEL;
+                dflt = ZSTD_DEFAULT_LEVEL;
+
+                break;
+
+            default:
+                throw new IllegalStateException("Unsupported WAL compaction codec: " + codec);
+        }
+
+        // Default level of the configuration is the ZIP one, use the default level of the codec instead.
+        if (level == DFLT_WAL_COMPACTION_LEVEL)
+            return dflt;
+
+        if (level < min || level > max) {
+            throw new IgniteCheckedException("WAL compaction level for " + codec + " must be between " + min +
+                " and " + max + ", but was: " + level);
+        }
+
+        return level;
+    }
+
+    /**
+     * @param out Output stream of the compressed file, closed when the returned stream is closed.
+     * @param codec Codec.
+     * @param level Compaction level resolved with {@link #compactionLevel(WalCompactionCodec, int)}.
+     * @param entryName Name of the ZIP entry.
+     * @return Stream compressing the written data.
+     * @throws IOException If failed.
+     */
+    public static OutputStream compressedStream(
+        OutputStream out,
+        WalCompactionCodec codec,
+        int level,
+        String entryName
+    ) throws IOException {
+        if (codec == WalCompactionCodec.ZIP) {
+            ZipOutputStream zos = new ZipOutputStream(out);
+
+            zos.setLevel(level);
+            zos.putNextEntry(new ZipEntry(entryName));
+
+            return zos;
+        }
+
+        WalSegmentCodec c = codec(codec);
+
+        if (c == null)
+            throw new IOException("WAL compaction codec is not supported: " + codec, err);
+
+        return new BlockOutputStream(out, c, codec, level);
+    }
+
+    /**
+     * @param in Input stream of the compressed file, closed when the returned stream is closed.
+     * @return Stream of the decompressed data.
+     * @throws IOException If failed.
+     */
+    public static InputStream decompressedStream(InputStream in) throws IOException {
+        if (!in.markSupported())
+            in = new BufferedInputStream(in);
+
+        in.mark(FRAME_HEADER_SIZE);
+
+        DataInputStream din = new DataInputStream(in);
+
+        int magic;
+
+        try {
+            magic = din.readInt();
+        }
+        catch (EOFException ignored) {
+            magic = 0;
+        }
+
+        if (magic != FRAME_MAGIC) {
+            in.reset();
+
+            ZipInputStream zis = new ZipInputStream(in);
+
+            if (zis.getNextEntry() == null)
+                throw new IOException("Compressed WAL segment has no entries.");
+
+            return zis;
+        }
+
+        WalCompactionCodec codec = WalCompactionCodec.fromOrdinal(din.readByte());
+
+        WalSegmentCodec c = codec == null ? null : codec(codec);
+
+        if (c == null)
+            throw new IOException("WAL compaction codec of the segment is not supported: " + codec, err);
+
+        return new BlockInputStream(din, c);
+    }
+
+    /**
+     * @param file Compressed file.
+     * @return Codec the file is compressed with.
+     * @throws IOException If failed.
+     */
+    public static WalCompactionCodec segmentCodec(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != FRAME_MAGIC)
+                return WalCompactionCodec.ZIP;
+
+            WalCompactionCodec codec = WalCompactionCodec.fromOrdinal(in.readByte());
+
+            if (codec == null)
+                throw new IOException("Unknown WAL compaction codec of the segment: " + file);
+
+            return codec;
+        }
+        catch (EOFException ignored) {
+            return WalCompactionCodec.ZIP;
+        }
+    }
+
+    /**
+     * @param file Compressed file.
+     * @return Size of the decompressed data or {@code -1} if unknown.
+     * @throws IOException If failed.
+     */
+    public static long decompressedSize(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FRAME_MAGIC)
+                return -1;
+
+            in.readByte();
+
+            long size = 0;
+
+            for (int rawLen; (rawLen = in.readInt()) != 0; ) {
+                int compLen = in.readInt();
+
+                for (int skipped = 0; skipped < compLen; ) {
+                    int n = in.skipBytes(compLen - skipped);
+
+                    if (n <= 0)
+                        return -1;
+
+                    skipped += n;
+                }
+
+                size += rawLen;
+            }
+
+            return size;
+        }
+        catch (EOFException ignored) {
+            return -1;
+        }
+    }
+
+    /**
+     * @param codec Codec.
+     * @return Block codec or {@code null} if not available.
+     */
+    private static WalSegmentCodec codec(WalCompactionCodec codec) {
+        switch (codec) {
+            case LZ4:
+                return lz4;
+
+            case ZSTD:
+                return zstd;
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Stream writing framed blocks.
+     */
+    private static class BlockOutputStream extends OutputStream {
+        /** */
+        private final OutputStream out;
+
+        /** */
+        private final WalSegmentCodec codec;
+
+        /** */
+        private final int level;
+
+        /** Raw block. */
+        private final byte[] raw = new byte[BLOCK_SIZE];
+
+        /** Compressed block with the header. */
+        private final byte[] comp;
+
+        /** Raw block position. */
+        private int pos;
+
+        /** */
+        private boolean closed;
+
+        /**
+         * @param out Output stream.
+         * @param codec Codec.
+         * @param codecType Codec type.
+         * @param level Compaction level.
+         * @throws IOException If failed.
+         */
+        BlockOutputStream(OutputStream out, WalSegmentCodec codec, WalCompactionCodec codecType, int level)
+            throws IOException {
+            this.out = out;
+            this.codec = codec;
+            this.level = level;
+
+            comp = new byte[BLOCK_HEADER_SIZE + Math.max(codec.maxCompressedLength(BLOCK_SIZE), BLOCK_SIZE)];
+
+            putInt(comp, 0, FRAME_MAGIC);
+            comp[4] = (byte)codecType.ordinal();
+
+            out.write(comp, 0, FRAME_HEADER_SIZE);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void write(int b) throws IOException {
+            if (pos == raw.length)
+                flushBlock();
+
+            raw[pos++] = (byte)b;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (pos == raw.length)
+                    flushBlock();
+
+                int n = Math.min(len, raw.length - pos);
+
+                System.arraycopy(b, off, raw, pos, n);
+
+                pos += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        /**
+         * @throws IOException If failed.
+         */
+        private void flushBlock() throws IOException {
+            if (pos == 0)
+                return;
+
+            int compLen = codec.compress(raw, 0, pos, comp, BLOCK_HEADER_SIZE, level);
+
+            // Incompressible data is stored as is.
+            if (compLen >= pos) {
+                System.arraycopy(raw, 0, comp, BLOCK_HEADER_SIZE, pos);
+
+                compLen = pos;
+            }
+
+            putInt(comp, 0, pos);
+            putInt(comp, 4, compLen);
+
+            out.write(comp, 0, BLOCK_HEADER_SIZE + compLen);
+
+            pos = 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void flush() throws IOException {
+            out.flush();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() throws IOException {
+            if (closed)
+                return;
+
+            closed = true;
+
+            try {
+                flushBlock();
+
+                putInt(comp, 0, 0);
+
+                out.write(comp, 0, 4);
+            }
+            finally {
+                out.close();
+            }
+        }
+
+        /**
+         * @param arr Array.
+         * @param off Offset.
+         * @param val Value.
+         */
+        private static void putInt(byte[] arr, int off, int val) {
+            arr[off] = (byte)(val >>> 24);
+            arr[off + 1] = (byte)(val >>> 16);
+            arr[off + 2] = (byte)(val >>> 8);
+            arr[off + 3] = (byte)val;
+        }
+    }
+
+    /**
+     * Stream reading framed blocks.
+     */
+    private static class BlockInputStream extends InputStream {
+        /** */
+        private final DataInputStream in;
+
+        /** */
+        private final WalSegmentCodec codec;
+
+        /** Raw block. */
+        private final byte[] raw = new byte[BLOCK_SIZE];
+
+        /** Compressed block. */
+        private byte[] comp;
+
+        /** Raw block position. */
+        private int pos;
+
+        /** Raw block limit. */
+        private int lim;
+
+        /** End marker was read. */
+        private boolean eof;
+
+        /**
+         * @param in Input stream positioned after the frame header.
+         * @param codec Codec.
+         */
+        BlockInputStream(DataInputStream in, WalSegmentCodec codec) {
+            this.in = in;
+            this.codec = codec;
+
+            comp = new byte[Math.max(codec.maxCompressedLength(BLOCK_SIZE), BLOCK_SIZE)];
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read() throws IOException {
+            if (pos == lim && !readBlock())
+                return -1;
+
+            return raw[pos++] & 0xFF;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+
+            if (pos == lim && !readBlock())
+                return -1;
+
+            int n = Math.min(len, lim - pos);
+
+            System.arraycopy(raw, pos, b, off, n);
+
+            pos += n;
+
+            return n;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int available() {
+            return lim - pos;
+        }
+
+        /**
+         * @return {@code False} if the end of the segment is reached.
+         * @throws IOException If failed.
+         */
+        private boolean readBlock() throws IOException {
+            if (eof)
+                return false;
+
+            int rawLen;
+            int compLen;
+
+            try {
+                rawLen = in.readInt();
+
+                if (rawLen == 0) {
+                    eof = true;
+
+                    return false;
+                }
+
+                compLen = in.readInt();
+            }
+            catch (EOFException e) {
+                throw new IOException("Compressed WAL segment is truncated.", e);
+            }
+
+            if (rawLen < 0 || rawLen > BLOCK_SIZE || compLen < 0 || compLen > comp.length) {
+                throw new IOException("Compressed WAL segment is corrupted [rawLen=" + rawLen +
+                    ", compLen=" + compLen + ']');
+            }
+
+            if (compLen == rawLen)
+                in.readFully(raw, 0, rawLen);
+            else {
+                in.readFully(comp, 0, compLen);
+
+                codec.decompress(comp, 0, compLen, raw, 0, rawLen);
+            }
+
+            pos = 0;
+            lim = rawLen;
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -147,6 +147,9 @@ public class GridMetricManager extends GridManagerAdapter<MetricExporterSpi> imp
     /** Transaction metrics prefix. */
     public static final String TX_METRICS = "tx";
 
+    /** Expiration of cache entries metrics prefix. */
+    public static final String TTL_METRICS = "ttl";
+
     /** GC CPU load metric name. */
     public static final String GC_CPU_LOAD = "GcCpuLoad";
 
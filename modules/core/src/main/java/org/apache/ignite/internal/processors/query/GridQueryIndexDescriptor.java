@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.query;
 
 import java.util.Collection;
+import java.util.Collections;
 import org.apache.ignite.cache.QueryIndexType;
 
 /**
@@ -60,4 +61,13 @@ public interface GridQueryIndexDescriptor {
      * @return Inline size.
      */
     public int inlineSize();
+
+    /**
+     * Gets fields which values are stored in the SORTED index in addition to the indexed fields.
+     *
+     * @return Included fields.
+     */
+    public default Collection<String> includedFields() {
+        return Collections.emptyList();
+    }
 }
@@ -19,8 +19,10 @@ package org.apache.ignite.internal.processors.query;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.TreeSet;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cache.QueryIndexType;
@@ -59,6 +61,9 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
     /** */
     private final int inlineSize;
 
+    /** Fields stored in the index in addition to the indexed fields. */
+    private Collection<String> inclFields;
+
     /**
      * Constructor.
      *
@@ -103,6 +108,11 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
         return inlineSize;
     }
 
+    /** {@inheritDoc} */
+    @Override public Collection<String> includedFields() {
+        return inclFields != null ? inclFields : Collections.emptyList();
+    }
+
     /** {@inheritDoc} */
     @Override public boolean descending(String field) {
         return descendings != null && descendings.contains(field);
@@ -134,6 +144,25 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
         return this;
     }
 
+    /**
+     * Adds field which value is stored in this index in addition to the indexed fields.
+     *
+     * @param field Field name.
+     * @return This instance for chaining.
+     * @throws IgniteCheckedException If failed.
+     */
+    public QueryIndexDescriptorImpl addIncludedField(String field) throws IgniteCheckedException {
+        if (!typDesc.hasField(field))
+            throw new IgniteCheckedException("Field not found: " + field);
+
+        if (inclFields == null)
+            inclFields = new LinkedHashSet<>();
+
+        inclFields.add(field);
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public QueryIndexType type() {
         return type;
@@ -768,6 +768,17 @@ public class QueryUtils {
             res.addField(field, i++, !asc);
         }
 
+        if (!F.isEmpty(idx.getIncludedFields())) {
+            if (idxTyp != QueryIndexType.SORTED)
+                throw new IgniteCheckedException("Included fields are supported by SORTED indexes only: " + idxName);
+
+            for (String field : idx.getIncludedFields()) {
+                String alias = typeDesc.aliases().get(field);
+
+                res.addIncludedField(alias != null ? alias : field);
+            }
+        }
+
         return res;
     }
 
@@ -146,6 +146,9 @@ public class SqlKeyword {
     /** Keyword: IF. */
     public static final String IF = "IF";
 
+    /** Keyword: INCLUDE. */
+    public static final String INCLUDE = "INCLUDE";
+
     /** Keyword: INDEX. */
     public static final String INDEX = "INDEX";
 
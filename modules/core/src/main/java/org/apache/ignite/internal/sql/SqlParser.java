@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.sql;
 
 import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
+import org.apache.ignite.internal.sql.command.SqlAlterIndexCommand;
 import org.apache.ignite.internal.sql.command.SqlAlterTableCommand;
 import org.apache.ignite.internal.sql.command.SqlAlterUserCommand;
 import org.apache.ignite.internal.sql.command.SqlBeginTransactionCommand;
@@ -432,6 +433,11 @@ public class SqlParser {
 
                     break;
 
+                case INDEX:
+                    cmd = new SqlAlterIndexCommand();
+
+                    break;
+
                 case USER:
                     cmd = new SqlAlterUserCommand();
 
@@ -442,7 +448,7 @@ public class SqlParser {
                 return cmd.parse(lex);
         }
 
-        throw errorUnexpectedToken(lex, TABLE, USER);
+        throw errorUnexpectedToken(lex, TABLE, INDEX, USER);
     }
 
     /**
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.command;
+
+import org.apache.ignite.internal.sql.SqlLexer;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+import static org.apache.ignite.internal.sql.SqlKeyword.IF;
+import static org.apache.ignite.internal.sql.SqlKeyword.INLINE_SIZE;
+import static org.apache.ignite.internal.sql.SqlParserUtils.error;
+import static org.apache.ignite.internal.sql.SqlParserUtils.parseIfExists;
+import static org.apache.ignite.internal.sql.SqlParserUtils.parseInt;
+import static org.apache.ignite.internal.sql.SqlParserUtils.parseQualifiedIdentifier;
+import static org.apache.ignite.internal.sql.SqlParserUtils.skipIfMatchesKeyword;
+
+/**
+ * ALTER INDEX command. Rebuilds the index with a new inline size.
+ */
+public class SqlAlterIndexCommand implements SqlCommand {
+    /** Schema name. */
+    private String schemaName;
+
+    /** Index name. */
+    private String idxName;
+
+    /** IF EXISTS flag. */
+    private boolean ifExists;
+
+    /** Inline size. */
+    private int inlineSize;
+
+    /** {@inheritDoc} */
+    @Override public String schemaName() {
+        return schemaName;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void schemaName(String schemaName) {
+        this.schemaName = schemaName;
+    }
+
+    /**
+     * @return Index name.
+     */
+    public String indexName() {
+        return idxName;
+    }
+
+    /**
+     * @return IF EXISTS flag.
+     */
+    public boolean ifExists() {
+        return ifExists;
+    }
+
+    /**
+     * @return New inline size.
+     */
+    public int inlineSize() {
+        return inlineSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public SqlCommand parse(SqlLexer lex) {
+        ifExists = parseIfExists(lex);
+
+        SqlQualifiedName idxQName = parseQualifiedIdentifier(lex, IF);
+
+        schemaName = idxQName.schemaName();
+        idxName = idxQName.name();
+
+        skipIfMatchesKeyword(lex, INLINE_SIZE);
+
+        inlineSize = parseInt(lex);
+
+        if (inlineSize < 0)
+            throw error(lex, "Illegal " + INLINE_SIZE + " value. Should be positive: " + inlineSize);
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(SqlAlterIndexCommand.class, this);
+    }
+}
@@ -34,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 import static org.apache.ignite.internal.sql.SqlKeyword.ASC;
 import static org.apache.ignite.internal.sql.SqlKeyword.DESC;
 import static org.apache.ignite.internal.sql.SqlKeyword.IF;
+import static org.apache.ignite.internal.sql.SqlKeyword.INCLUDE;
 import static org.apache.ignite.internal.sql.SqlKeyword.INLINE_SIZE;
 import static org.apache.ignite.internal.sql.SqlKeyword.ON;
 import static org.apache.ignite.internal.sql.SqlKeyword.PARALLEL;
@@ -80,6 +81,10 @@ public class SqlCreateIndexCommand implements SqlCommand {
     @GridToStringExclude
     private Set<String> colNames;
 
+    /** Included columns. */
+    @GridToStringInclude
+    private Collection<String> inclCols;
+
     /** Inline size. Zero effectively disables inlining. */
     private int inlineSize = QueryIndex.DFLT_INLINE_SIZE;
 
@@ -152,6 +157,13 @@ public class SqlCreateIndexCommand implements SqlCommand {
         return cols != null ? cols : Collections.<SqlIndexColumn>emptySet();
     }
 
+    /**
+     * @return Columns which values are stored in the index in addition to the indexed columns.
+     */
+    public Collection<String> includedColumns() {
+        return inclCols != null ? inclCols : Collections.<String>emptySet();
+    }
+
     /** {@inheritDoc} */
     @Override public SqlCommand parse(SqlLexer lex) {
         ifNotExists = parseIfNotExists(lex);
@@ -167,6 +179,12 @@ public class SqlCreateIndexCommand implements SqlCommand {
 
         parseColumnList(lex);
 
+        if (matchesKeyword(lex.lookAhead(), INCLUDE)) {
+            lex.shift();
+
+            parseIncludedColumnList(lex);
+        }
+
         parseIndexProperties(lex);
 
         return this;
@@ -219,6 +237,28 @@ public class SqlCreateIndexCommand implements SqlCommand {
         addColumn(lex, new SqlIndexColumn(name, desc));
     }
 
+    /**
+     * @param lex Lexer.
+     */
+    private void parseIncludedColumnList(SqlLexer lex) {
+        if (!lex.shift() || lex.tokenType() != SqlLexerTokenType.PARENTHESIS_LEFT)
+            throw errorUnexpectedToken(lex, "(");
+
+        inclCols = new LinkedList<>();
+
+        while (true) {
+            String name = parseIdentifier(lex);
+
+            if (!colNames.add(name))
+                throw error(lex, "Column already defined: " + name);
+
+            inclCols.add(name);
+
+            if (skipCommaOrRightParenthesis(lex))
+                break;
+        }
+    }
+
     /**
      * @param lex Lexer.
      * @param col Column.
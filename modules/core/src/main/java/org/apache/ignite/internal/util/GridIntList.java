@@ -25,7 +25,10 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.SB;
 import org.apache.ignite.plugin.extensions.communication.Message;
@@ -82,6 +85,35 @@ public class GridIntList implements Message, Externalizable {
         return new GridIntList(vals);
     }
 
+    /**
+     * @param col Collection of integers.
+     * @return List from the collection values.
+     */
+    public static GridIntList valueOf(Collection<Integer> col) {
+        if (F.isEmpty(col))
+            return new GridIntList();
+
+        GridIntList res = new GridIntList(col.size());
+
+        for (Integer i : col)
+            res.add(i);
+
+        return res;
+    }
+
+    /**
+     * @param list List of integers.
+     * @return Set of the list values.
+     */
+    public static Set<Integer> asSet(GridIntList list) {
+        Set<Integer> res = new HashSet<>(list.size());
+
+        for (int i = 0; i < list.size(); i++)
+            res.add(list.get(i));
+
+        return res;
+    }
+
     /**
      * @param arr Array.
      * @param size Size.
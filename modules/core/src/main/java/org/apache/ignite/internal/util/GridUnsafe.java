@@ -1428,6 +1428,13 @@ public abstract class GridUnsafe {
         UNSAFE.putIntVolatile(obj, off, val);
     }
 
+    /**
+     * Ensures that loads before the fence will not be reordered with loads after the fence.
+     */
+    public static void loadFence() {
+        UNSAFE.loadFence();
+    }
+
     /**
      * Gets long value with volatile semantic.
      *
@@ -33,6 +33,10 @@ import org.apache.ignite.internal.util.typedef.internal.U;
  *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
  *     +----------------+---------------+---------+----------+
  * </pre>
+ * The state is followed by an 8-byte version which is incremented on each write unlock. The version allows
+ * optimistic reads without modifying the lock state: a reader takes a stamp with {@link #tryOptimisticRead(long, int)},
+ * reads the protected resource and then checks with {@link #validate(long, int, long)} that the resource
+ * was not write locked in the meantime.
  */
 public class OffheapReadWriteLock {
     /** @see #IGNITE_OFFHEAP_RWLOCK_SPIN_COUNT */
@@ -61,7 +65,10 @@ public class OffheapReadWriteLock {
     public static final int TAG_LOCK_ALWAYS = -1;
 
     /** Lock size. */
-    public static final int LOCK_SIZE = 8;
+    public static final int LOCK_SIZE = 16;
+
+    /** Version offset. */
+    private static final int VERSION_OFFSET = 8;
 
     /** Maximum number of waiting threads, read or write. */
     public static final int MAX_WAITERS = 0xFFFF;
@@ -114,6 +121,7 @@ public class OffheapReadWriteLock {
         assert tag != 0;
 
         GridUnsafe.putLong(lock, (long)tag << 16);
+        GridUnsafe.putLong(lock + VERSION_OFFSET, 1L);
     }
 
     /**
@@ -272,6 +280,10 @@ public class OffheapReadWriteLock {
 
         assert tag != 0;
 
+        // The version is incremented while the write lock is still held, so that a reader that sees the lock
+        // released also sees the new version.
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, GridUnsafe.getLong(lock + VERSION_OFFSET) + 1);
+
         while (true) {
             long state = GridUnsafe.getLongVolatile(null, lock);
 
@@ -306,6 +318,46 @@ public class OffheapReadWriteLock {
         }
     }
 
+    /**
+     * Starts an optimistic read. The resource may be read without holding the lock, but the read data must not
+     * be used until the stamp is validated with {@link #validate(long, int, long)}.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @return Stamp of the optimistic read or {@code 0} if the write lock is held or tag validation failed.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        // The version must be read before the state, see validate().
+        long ver = GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET);
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return checkTag(state, tag) && canReadLock(state) ? ver : 0L;
+    }
+
+    /**
+     * Checks that the write lock was not acquired since the given stamp was obtained, so all the data read
+     * after {@link #tryOptimisticRead(long, int)} is consistent.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @param stamp Stamp returned by {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if the data read under the stamp is consistent.
+     */
+    public boolean validate(long lock, int tag, long stamp) {
+        assert stamp != 0L;
+
+        // Do not let the reads of the resource to be reordered with the reads of the lock below.
+        GridUnsafe.loadFence();
+
+        // The state must be read before the version: a writer that has released the lock by now
+        // has incremented the version before that, and a writer still holding the lock is seen in the state.
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return checkTag(state, tag) && canReadLock(state) &&
+            GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET) == stamp;
+    }
+
     /**
      * @param writeWaitCnt Writers wait count.
      * @param readWaitCnt Readers wait count.
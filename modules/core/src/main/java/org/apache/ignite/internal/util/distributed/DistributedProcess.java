@@ -36,6 +36,7 @@ import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
 import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.SnapshotRestoreProcess;
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.typedef.CI3;
@@ -440,6 +441,34 @@ public class DistributedProcess<I extends Serializable, R extends Serializable>
         /**
          * Cache group encyption key change perform phase.
          */
-        CACHE_GROUP_KEY_CHANGE_FINISH
+        CACHE_GROUP_KEY_CHANGE_FINISH,
+
+        /**
+         * Cache group restore from snapshot prepare phase.
+         *
+         * @see SnapshotRestoreProcess
+         */
+        RESTORE_CACHE_GROUP_SNAPSHOT_PREPARE,
+
+        /**
+         * Cache group restore from snapshot partition files copy phase.
+         *
+         * @see SnapshotRestoreProcess
+         */
+        RESTORE_CACHE_GROUP_SNAPSHOT_PRELOAD,
+
+        /**
+         * Cache group restore from snapshot cache start phase.
+         *
+         * @see SnapshotRestoreProcess
+         */
+        RESTORE_CACHE_GROUP_SNAPSHOT_START,
+
+        /**
+         * Cache group restore from snapshot rollback phase.
+         *
+         * @see SnapshotRestoreProcess
+         */
+        RESTORE_CACHE_GROUP_SNAPSHOT_ROLLBACK
     }
 }
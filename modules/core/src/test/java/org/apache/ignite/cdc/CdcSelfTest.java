@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_WAL_CDC_PATH;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.WAL_SEGMENT_FILE_FILTER;
+
+/**
+ * Tests change data capture.
+ */
+public class CdcSelfTest extends GridCommonAbstractTest {
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** */
+    private static final int KEYS = 1000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setConsistentId(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setCdcEnabled(true)
+            .setWalSegmentSize(1024 * 1024)
+            .setWalAutoArchiveAfterInactivity(500)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setPersistenceEnabled(true)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that the changes are captured and the committed segments are not delivered again.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCapture() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ig.getOrCreateCache(CACHE_NAME);
+
+        Map<Integer, Integer> expected = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < KEYS; i++) {
+            cache.put(i, i);
+
+            expected.put(i, i);
+        }
+
+        for (int i = 0; i < KEYS; i += 2) {
+            cache.remove(i);
+
+            expected.remove(i);
+        }
+
+        CollectingConsumer first = new CollectingConsumer(true);
+
+        captureUntil(ig.configuration(), first, c -> c.state.equals(expected));
+
+        File cdcDir = new File(U.resolveWorkDirectory(ig.configuration().getWorkDirectory(), DFLT_WAL_CDC_PATH,
+            false), U.maskForFileName(ig.configuration().getConsistentId().toString()));
+
+        assertTrue(new File(cdcDir, CdcMain.STATE_FILE_NAME).exists());
+
+        long committed = lastCommittedSegment(cdcDir);
+
+        for (File f : cdcDir.listFiles(WAL_SEGMENT_FILE_FILTER))
+            assertTrue(f.getName(), FileWriteAheadLogManager.scan(new File[] {f})[0].idx() > committed);
+
+        for (int i = KEYS; i < 2 * KEYS; i++)
+            cache.put(i, i);
+
+        CollectingConsumer second = new CollectingConsumer(true);
+
+        captureUntil(ig.configuration(), second, c -> c.state.size() == KEYS);
+
+        for (int key : second.state.keySet())
+            assertTrue("Committed change is delivered again: " + key, key >= KEYS);
+    }
+
+    /**
+     * Checks that the changes of the segments not committed by the consumer are delivered again after restart.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRedeliveryOfNotCommitted() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ig.getOrCreateCache(CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        captureUntil(ig.configuration(), new CollectingConsumer(false), c -> c.state.size() == KEYS);
+
+        stopAllGrids();
+
+        captureUntil(getConfiguration(getTestIgniteInstanceName(0)), new CollectingConsumer(true),
+            c -> c.state.size() == KEYS);
+    }
+
+    /**
+     * @param cfg Node configuration.
+     * @param consumer Consumer.
+     * @param cond Condition to wait for.
+     * @throws Exception If failed.
+     */
+    private void captureUntil(
+        IgniteConfiguration cfg,
+        CollectingConsumer consumer,
+        Predicate<CollectingConsumer> cond
+    ) throws Exception {
+        CdcMain cdc = new CdcMain(cfg, new CdcConfiguration()
+            .setConsumer(consumer)
+            .setCheckFrequency(100));
+
+        IgniteInternalFuture<?> fut = GridTestUtils.runAsync(cdc);
+
+        try {
+            assertTrue(GridTestUtils.waitForCondition(() -> cond.test(consumer), getTestTimeout() / 2));
+        }
+        finally {
+            cdc.stop();
+
+            fut.get(getTestTimeout());
+        }
+
+        assertTrue(consumer.started);
+        assertTrue(consumer.stopped);
+    }
+
+    /**
+     * @param cdcDir Change data capture directory.
+     * @return Index of the last committed segment.
+     * @throws Exception If failed.
+     */
+    private static long lastCommittedSegment(File cdcDir) throws Exception {
+        return ByteBuffer.wrap(Files.readAllBytes(new File(cdcDir, CdcMain.STATE_FILE_NAME).toPath())).getLong();
+    }
+
+    /**
+     * Consumer which applies the changes of the test cache to a map.
+     */
+    private static class CollectingConsumer implements CdcConsumer {
+        /** Cache id. */
+        private final int cacheId = CU.cacheId(CACHE_NAME);
+
+        /** Commit flag. */
+        private final boolean commit;
+
+        /** State of the cache. */
+        private final Map<Integer, Integer> state = new ConcurrentHashMap<>();
+
+        /** */
+        private volatile boolean started;
+
+        /** */
+        private volatile boolean stopped;
+
+        /**
+         * @param commit Commit flag.
+         */
+        private CollectingConsumer(boolean commit) {
+            this.commit = commit;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void start() {
+            started = true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean onEvents(Iterator<CdcEvent> events) {
+            events.forEachRemaining(evt -> {
+                if (evt.cacheId() != cacheId)
+                    return;
+
+                if (evt.value() == null)
+                    state.remove((Integer)evt.key());
+                else
+                    state.put((Integer)evt.key(), (Integer)evt.value());
+            });
+
+            return commit;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void stop() {
+            stopped = true;
+        }
+    }
+}
@@ -24,7 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
 /**
- * Checks that one and only one Ttl cleanup worker thread must exists, and only
+ * Checks that one and only one pool of Ttl cleanup worker threads must exists, and only
  * if at least one cache with set 'eagerTtl' flag exists.
  */
 public class IgniteCacheOnlyOneTtlCleanupThreadExistsTest extends GridCommonAbstractTest {
@@ -83,7 +83,7 @@ public class IgniteCacheOnlyOneTtlCleanupThreadExistsTest extends GridCommonAbst
     }
 
     /**
-     * @param exists {@code True} if ttl cleanup worker thread expected.
+     * @param exists {@code True} if ttl cleanup worker threads expected.
      * @throws Exception If failed.
      */
     private void checkCleanupThreadExists(boolean exists) throws Exception {
@@ -94,12 +94,14 @@ public class IgniteCacheOnlyOneTtlCleanupThreadExistsTest extends GridCommonAbst
                 cnt++;
         }
 
-        if (cnt > 1)
-            fail("More then one ttl cleanup worker threads exists");
+        int workers = grid(0).context().cache().context().ttl().cleanupWorkers();
+
+        if (cnt > workers)
+            fail("More then one pool of ttl cleanup worker threads exists");
 
         if (exists)
-            assertEquals("Ttl cleanup thread does not exist", cnt, 1);
+            assertEquals("Ttl cleanup threads do not exist", workers, cnt);
         else
-            assertEquals("Ttl cleanup thread exists", cnt, 0);
+            assertEquals("Ttl cleanup threads exist", 0, cnt);
     }
 }
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.GridCacheTtlManager;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.TTL_METRICS;
+
+/**
+ * Tests removal of expired entries by several TTL cleanup workers.
+ */
+@WithSystemProperty(key = IGNITE_TTL_CLEANUP_WORKERS, value = "3")
+public class IgnitePdsTtlCleanupWorkersTest extends GridCommonAbstractTest {
+    /** */
+    private static final String GROUP = "group";
+
+    /** */
+    private static final String[] CACHES = {"cache0", "cache1", "cache2"};
+
+    /** */
+    private static final int PARTS = 32;
+
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** */
+    private static final long TTL = 1_000;
+
+    /** */
+    private boolean persistence;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.LOG_ONLY)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(256L * 1024 * 1024)
+                .setPersistenceEnabled(persistence)));
+
+        CacheConfiguration<?, ?>[] ccfgs = new CacheConfiguration[CACHES.length];
+
+        for (int i = 0; i < CACHES.length; i++) {
+            ccfgs[i] = new CacheConfiguration<>(CACHES[i])
+                .setEagerTtl(true)
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS));
+        }
+
+        // The first two caches share the pending entries trees.
+        ccfgs[0].setGroupName(GROUP);
+        ccfgs[1].setGroupName(GROUP);
+
+        cfg.setCacheConfiguration(ccfgs);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExpirePersistent() throws Exception {
+        persistence = true;
+
+        checkExpire();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExpireInMemory() throws Exception {
+        persistence = false;
+
+        checkExpire();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDestroyCacheDuringExpiration() throws Exception {
+        persistence = true;
+
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        assertEquals(3, ig.context().cache().context().ttl().cleanupWorkers());
+
+        load(ig);
+
+        U.sleep(TTL);
+
+        ig.destroyCache(CACHES[1]);
+
+        assertTrue(GridTestUtils.waitForCondition(() -> ig.cache(CACHES[0]).size() == 0 &&
+            ig.cache(CACHES[2]).size() == 0, getTestTimeout()));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    private void checkExpire() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        load(ig);
+
+        MetricRegistry mreg = ig.context().metric().registry(TTL_METRICS);
+
+        LongMetric lag = mreg.findMetric("ExpiryLag");
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            for (String name : CACHES) {
+                if (ig.cache(name).size() != 0)
+                    return false;
+            }
+
+            return true;
+        }, getTestTimeout()));
+
+        for (String name : CACHES) {
+            GridCacheTtlManager ttl = ig.cachex(name).context().ttl();
+
+            assertEquals(0, ttl.pendingSize());
+            assertEquals(0, ttl.oldestExpireTime());
+        }
+
+        assertEquals(0, lag.value());
+
+        assertTrue(mreg.<LongAdderMetric>findMetric("ExpiredEntriesRemoved").value() > 0);
+        assertTrue(mreg.<HitRateMetric>findMetric("ExpiredEntriesRemovalRate").value() > 0);
+    }
+
+    /**
+     * @param ig Ignite.
+     */
+    private void load(IgniteEx ig) {
+        for (String name : CACHES) {
+            IgniteCache<Integer, Integer> cache = ig.<Integer, Integer>cache(name)
+                .withExpiryPolicy(new CreatedExpiryPolicy(new Duration(TimeUnit.MILLISECONDS, TTL)));
+
+            Map<Integer, Integer> batch = new HashMap<>();
+
+            for (int key = 0; key < KEYS; key++) {
+                batch.put(key, key);
+
+                if (batch.size() == 500) {
+                    cache.putAll(batch);
+
+                    batch.clear();
+                }
+            }
+
+            cache.putAll(batch);
+        }
+    }
+}
@@ -53,16 +53,23 @@ import org.apache.ignite.internal.processors.cache.GridCacheUtils;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemandMessage;
 import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.typedef.G;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Assert;
 import org.junit.Test;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_RECOVERY_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.IGNITE_PDS_SKIP_CHECKPOINT_ON_NODE_STOP;
+
 /**
  * A set of tests that check correctness of logical recovery performed during node start.
  */
@@ -213,6 +220,42 @@ public class IgniteLogicalRecoveryTest extends GridCommonAbstractTest {
         checkCacheContextsConsistencyAfterRecovery();
     }
 
+    /**
+     *
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_RECOVERY_BATCH_SIZE, value = "3")
+    @WithSystemProperty(key = IGNITE_PDS_SKIP_CHECKPOINT_ON_NODE_STOP, value = "true")
+    public void testRecoveryWithSmallBatches() throws Exception {
+        IgniteEx crd = (IgniteEx) startGridsMultiThreaded(3);
+
+        crd.cluster().active(true);
+
+        IgniteEx node = grid(2);
+
+        AggregateCacheLoader cacheLoader = new AggregateCacheLoader(node);
+
+        cacheLoader.loadByTime(5_000).get();
+
+        forceCheckpoint();
+
+        cacheLoader.loadByTime(5_000).get();
+
+        stopGrid(2, true);
+
+        node = startGrid(2);
+
+        awaitPartitionMapExchange();
+
+        cacheLoader.consistencyCheck(node);
+
+        checkNoRebalanceAfterRecovery();
+
+        MetricRegistry mreg = node.context().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        assertTrue(mreg.<LongMetric>findMetric("RecoveryUpdatesApplied").value() > 0);
+    }
+
     /**
      *
      */
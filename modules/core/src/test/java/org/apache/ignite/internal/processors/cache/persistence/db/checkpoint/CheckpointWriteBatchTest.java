@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.checkpoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.CheckpointWriteOrder;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.file.AsyncFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Checks that adjacent pages are written to the page stores in batches during checkpoint.
+ */
+@RunWith(Parameterized.class)
+public class CheckpointWriteBatchTest extends GridCommonAbstractTest {
+    /** Number of entries. */
+    private static final int ENTRIES = 5_000;
+
+    /** Value size. */
+    private static final int VAL_SIZE = 512;
+
+    /** Checkpoint write batch size. */
+    @Parameterized.Parameter(0)
+    public int batchSize;
+
+    /** File I/O factory. */
+    @Parameterized.Parameter(1)
+    public FileIOFactory ioFactory;
+
+    /** @return Test parameters. */
+    @Parameterized.Parameters(name = "batchSize={0}, ioFactory={1}")
+    public static Collection<Object[]> parameters() {
+        List<Object[]> params = new ArrayList<>();
+
+        for (int batchSize : new int[] {1, DataStorageConfiguration.DFLT_CHECKPOINT_WRITE_BATCH_SIZE}) {
+            params.add(new Object[] {batchSize, new RandomAccessFileIOFactory()});
+            params.add(new Object[] {batchSize, new AsyncFileIOFactory()});
+        }
+
+        return params;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setCheckpointWriteOrder(CheckpointWriteOrder.SEQUENTIAL)
+            .setCheckpointWriteBatchSize(batchSize)
+            .setFileIOFactory(ioFactory)
+            .setMetricsEnabled(true)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(50L * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 4)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCheckpointWriteBatches() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().active(true);
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            cache.put(i, value(i));
+
+        forceCheckpoint();
+
+        MetricRegistry mreg = ignite.context().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        long pages = mreg.<LongMetric>findMetric("LastCheckpointTotalPagesNumber").value();
+        long writes = mreg.<LongMetric>findMetric("LastCheckpointPageStoreWrites").value();
+        long avgWriteSize = mreg.<LongMetric>findMetric("LastCheckpointAvgWriteSize").value();
+
+        int pageSize = ignite.configuration().getDataStorageConfiguration().getPageSize();
+
+        assertTrue("pages=" + pages, pages > 0);
+        assertTrue("writes=" + writes + ", pages=" + pages, writes > 0 && writes <= pages);
+
+        if (batchSize > 1) {
+            assertTrue("writes=" + writes + ", pages=" + pages, writes < pages);
+            assertTrue("avgWriteSize=" + avgWriteSize, avgWriteSize > pageSize);
+        }
+        else
+            assertEquals(pageSize, avgWriteSize);
+
+        stopAllGrids();
+
+        ignite = startGrid(0);
+
+        ignite.cluster().active(true);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            assertArrayEquals(value(i), cache.get(i));
+    }
+
+    /**
+     * @param key Key.
+     * @return Value.
+     */
+    private static byte[] value(int key) {
+        byte[] val = new byte[VAL_SIZE];
+
+        for (int i = 0; i < val.length; i++)
+            val[i] = (byte)(key + i);
+
+        return val;
+    }
+}
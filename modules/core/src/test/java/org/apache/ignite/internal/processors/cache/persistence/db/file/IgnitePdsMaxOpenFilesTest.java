@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.file;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileHandlePool;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests the limit of open page store files.
+ */
+public class IgnitePdsMaxOpenFilesTest extends GridCommonAbstractTest {
+    /** */
+    private static final int MAX_OPEN_FILES = 8;
+
+    /** */
+    private static final int CACHES = 3;
+
+    /** */
+    private static final int PARTS = 16;
+
+    /** */
+    private static final int KEYS = 5_000;
+
+    /** */
+    private static final int THREADS = 4;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.LOG_ONLY)
+            .setMaxOpenPageStoreFiles(MAX_OPEN_FILES)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(64L * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        CacheConfiguration<?, ?>[] ccfgs = new CacheConfiguration[CACHES];
+
+        for (int i = 0; i < CACHES; i++) {
+            ccfgs[i] = new CacheConfiguration<>(cacheName(i))
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS));
+        }
+
+        cfg.setCacheConfiguration(ccfgs);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks concurrent reads and writes of the partitions which files are closed and reopened to stay within the limit.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadWriteWithinLimit() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < KEYS; i++) {
+                int key = rnd.nextInt(KEYS);
+
+                ig.<Integer, Integer>cache(cacheName(key % CACHES)).put(key, key);
+            }
+        }, THREADS, "loader");
+
+        for (int key = 0; key < KEYS; key++)
+            ig.<Integer, Integer>cache(cacheName(key % CACHES)).put(key, key);
+
+        forceCheckpoint();
+
+        checkOpenFiles(ig);
+
+        assertTrue(fileHandles(ig).closedFiles() > 0);
+
+        stopGrid(0);
+
+        IgniteEx restarted = startGrid(0);
+
+        restarted.cluster().state(ClusterState.ACTIVE);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int key = 0; key < KEYS; key++) {
+                IgniteCache<Integer, Integer> cache = restarted.cache(cacheName(key % CACHES));
+
+                assertEquals(Integer.valueOf(key), cache.get(key));
+
+                if (key % 10 == 0)
+                    cache.put(key, key);
+            }
+        }, THREADS, "checker");
+
+        forceCheckpoint();
+
+        checkOpenFiles(restarted);
+    }
+
+    /**
+     * @param ig Ignite.
+     */
+    private void checkOpenFiles(IgniteEx ig) {
+        int openFiles = fileHandles(ig).openFiles();
+
+        // The limit is exceeded only while all the open files are in use.
+        assertTrue("Too many open files: " + openFiles, openFiles <= MAX_OPEN_FILES + THREADS);
+    }
+
+    /**
+     * @param ig Ignite.
+     * @return Pool of open files.
+     */
+    private FileHandlePool fileHandles(IgniteEx ig) {
+        return ((FilePageStoreManager)ig.context().cache().context().pageStore()).fileHandlePool();
+    }
+
+    /**
+     * @param idx Cache index.
+     * @return Cache name.
+     */
+    private static String cacheName(int idx) {
+        return "cache" + idx;
+    }
+}
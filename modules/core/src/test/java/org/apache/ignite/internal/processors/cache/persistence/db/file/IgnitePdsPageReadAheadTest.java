@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.file;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.DummyPageIO;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Tests read-ahead of the pages of partitions read sequentially.
+ */
+public class IgnitePdsPageReadAheadTest extends GridCommonAbstractTest {
+    /** */
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    /** */
+    private static final long MEMORY_LIMIT = 32 * 1024 * 1024;
+
+    /** */
+    private static final int READ_AHEAD_PAGES = 32;
+
+    /** */
+    private static final String REGION_NAME = "dfltDataRegion";
+
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        DataRegionConfiguration regCfg = new DataRegionConfiguration()
+            .setName(REGION_NAME)
+            .setInitialSize(MEMORY_LIMIT)
+            .setMaxSize(MEMORY_LIMIT)
+            .setPersistenceEnabled(true)
+            .setMetricsEnabled(true)
+            .setReadAheadPages(READ_AHEAD_PAGES);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setPageSize(PAGE_SIZE)
+            .setWalMode(WALMode.LOG_ONLY)
+            .setDefaultDataRegionConfiguration(regCfg));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 1)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSequentialReadFitsMemory() throws Exception {
+        checkSequentialRead(2_000);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSequentialReadWithPageReplacement() throws Exception {
+        checkSequentialRead(3 * (int)(MEMORY_LIMIT / PAGE_SIZE));
+    }
+
+    /**
+     * Writes pages to a partition, restarts the node and reads and updates the pages in order of their indexes
+     * several times.
+     *
+     * @param pagesNum Number of pages.
+     * @throws Exception If failed.
+     */
+    private void checkSequentialRead(int pagesNum) throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        // Initializes the partition, so the pages are allocated after its meta page.
+        ig.cache(CACHE_NAME).put(0, 0);
+
+        int grpId = CU.cacheId(CACHE_NAME);
+
+        List<FullPageId> pageIds = new ArrayList<>(pagesNum);
+
+        IgniteCacheDatabaseSharedManager db = ig.context().cache().context().database();
+
+        PageMemory mem = db.dataRegion(REGION_NAME).pageMemory();
+
+        PageIO pageIO = new DummyPageIO();
+
+        for (int i = 0; i < pagesNum; i++) {
+            db.checkpointReadLock();
+
+            try {
+                FullPageId fullId = new FullPageId(mem.allocatePage(grpId, 0, PageMemory.FLAG_DATA), grpId);
+
+                long page = mem.acquirePage(grpId, fullId.pageId());
+
+                try {
+                    long pageAddr = mem.writeLock(grpId, fullId.pageId(), page);
+
+                    try {
+                        pageIO.initNewPage(pageAddr, fullId.pageId(), mem.realPageSize(grpId));
+
+                        PageUtils.putLong(pageAddr, PageIO.COMMON_HEADER_END, i);
+                    }
+                    finally {
+                        mem.writeUnlock(grpId, fullId.pageId(), page, null, true);
+                    }
+                }
+                finally {
+                    mem.releasePage(grpId, fullId.pageId(), page);
+                }
+
+                pageIds.add(fullId);
+            }
+            finally {
+                db.checkpointReadUnlock();
+            }
+        }
+
+        forceCheckpoint();
+
+        stopGrid(0);
+
+        ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        db = ig.context().cache().context().database();
+
+        mem = db.dataRegion(REGION_NAME).pageMemory();
+
+        for (int i = 0; i < pagesNum; i++)
+            checkPage(db, mem, pageIds.get(i), i, i + pagesNum);
+
+        LongAdderMetric readAhead = ig.context().metric().registry(metricName(DATAREGION_METRICS_PREFIX, REGION_NAME))
+            .findMetric("PagesReadAhead");
+
+        assertTrue("No pages read ahead", readAhead.value() > 0);
+
+        // Pages loaded ahead must not hide the updates of the pages.
+        for (int i = 0; i < pagesNum; i++)
+            checkPage(db, mem, pageIds.get(i), i + pagesNum, i + 2 * pagesNum);
+
+        for (int i = 0; i < pagesNum; i++)
+            checkPage(db, mem, pageIds.get(i), i + 2 * pagesNum, i);
+    }
+
+    /**
+     * Checks the page content and updates it.
+     *
+     * @param db Database manager.
+     * @param mem Page memory.
+     * @param fullId Page ID.
+     * @param expVal Expected value.
+     * @param newVal New value.
+     * @throws Exception If failed.
+     */
+    private void checkPage(
+        IgniteCacheDatabaseSharedManager db,
+        PageMemory mem,
+        FullPageId fullId,
+        long expVal,
+        long newVal
+    ) throws Exception {
+        int grpId = fullId.groupId();
+        long pageId = fullId.pageId();
+
+        db.checkpointReadLock();
+
+        try {
+            long page = mem.acquirePage(grpId, pageId);
+
+            try {
+                long pageAddr = mem.writeLock(grpId, pageId, page);
+
+                try {
+                    assertEquals(expVal, PageUtils.getLong(pageAddr, PageIO.COMMON_HEADER_END));
+
+                    PageUtils.putLong(pageAddr, PageIO.COMMON_HEADER_END, newVal);
+                }
+                finally {
+                    mem.writeUnlock(grpId, pageId, page, null, true);
+                }
+            }
+            finally {
+                mem.releasePage(grpId, pageId, page);
+            }
+        }
+        finally {
+            db.checkpointReadUnlock();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.file;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.PartitionBloomFilter;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Tests Bloom filters of the partition keys of persistent caches.
+ */
+public class IgnitePdsPartitionBloomFilterTest extends GridCommonAbstractTest {
+    /** */
+    private static final String REGION_NAME = "dfltDataRegion";
+
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        DataRegionConfiguration regCfg = new DataRegionConfiguration()
+            .setName(REGION_NAME)
+            .setMaxSize(64L * 1024 * 1024)
+            .setPersistenceEnabled(true)
+            .setMetricsEnabled(true)
+            .setPartitionBloomFilterEnabled(true);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.LOG_ONLY)
+            .setDefaultDataRegionConfiguration(regCfg));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 4)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that the filter has no false negatives while growing beyond the expected number of keys.
+     */
+    @Test
+    public void testFilterGrowth() {
+        PartitionBloomFilter filter = new PartitionBloomFilter(0, true);
+
+        for (int i = 0; i < 100_000; i += 2)
+            filter.add(Integer.hashCode(i) * 31);
+
+        int falsePositives = 0;
+
+        for (int i = 0; i < 100_000; i++) {
+            boolean contains = filter.mightContain(Integer.hashCode(i) * 31);
+
+            if (i % 2 == 0)
+                assertTrue("False negative: " + i, contains);
+            else if (contains)
+                falsePositives++;
+        }
+
+        assertTrue("Too many false positives: " + falsePositives, falsePositives < 50_000 / 10);
+    }
+
+    /**
+     * Checks lookups of the keys of the partitions with the filters built in background after the node restart.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLookupsAfterRestart() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        IgniteCache<Integer, Integer> cache = ig.cache(CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        // Keys of the partitions created on this node are tracked from the start.
+        checkKeys(cache);
+
+        stopAllGrids();
+
+        ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        IgniteCache<Integer, Integer> cache0 = ig.cache(CACHE_NAME);
+
+        LongAdderMetric negatives = ig.context().metric().registry(metricName(DATAREGION_METRICS_PREFIX, REGION_NAME))
+            .findMetric("BloomFilterNegatives");
+
+        // The first misses trigger the build of the filters.
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            for (int i = KEYS; i < KEYS + 100; i++)
+                assertNull(cache0.get(i));
+
+            return negatives.value() > 0;
+        }, getTestTimeout()));
+
+        checkKeys(cache0);
+
+        for (int i = 0; i < KEYS; i += 2)
+            cache0.remove(i);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i % 2 == 0 ? null : (Integer)i, cache0.get(i));
+
+        for (int i = 0; i < KEYS; i += 2)
+            cache0.put(i, i);
+
+        checkKeys(cache0);
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkKeys(IgniteCache<Integer, Integer> cache) {
+        for (int i = 0; i < KEYS; i++) {
+            assertEquals((Integer)i, cache.get(i));
+            assertTrue(cache.containsKey(i));
+        }
+
+        for (int i = KEYS; i < 2 * KEYS; i++) {
+            assertNull(cache.get(i));
+            assertFalse(cache.containsKey(i));
+        }
+    }
+}
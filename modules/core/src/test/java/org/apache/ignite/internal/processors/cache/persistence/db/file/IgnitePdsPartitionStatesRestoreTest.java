@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.file;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PARTITION_STATE_RESTORE_THREADS;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+
+/**
+ * Tests parallel restore of the partition states on node start.
+ */
+public class IgnitePdsPartitionStatesRestoreTest extends GridCommonAbstractTest {
+    /** Partitions of the large cache, restored by several batches. */
+    private static final int LARGE_PARTS = 256;
+
+    /** Partitions of the small caches. */
+    private static final int SMALL_PARTS = 8;
+
+    /** */
+    private static final int SMALL_CACHES = 3;
+
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.LOG_ONLY)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(128L * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        CacheConfiguration<?, ?>[] ccfgs = new CacheConfiguration[SMALL_CACHES + 1];
+
+        ccfgs[0] = new CacheConfiguration<>(cacheName(0))
+            .setAffinity(new RendezvousAffinityFunction(false, LARGE_PARTS));
+
+        for (int i = 1; i <= SMALL_CACHES; i++) {
+            ccfgs[i] = new CacheConfiguration<>(cacheName(i))
+                .setAffinity(new RendezvousAffinityFunction(false, SMALL_PARTS));
+        }
+
+        cfg.setCacheConfiguration(ccfgs);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_PARTITION_STATE_RESTORE_THREADS, value = "2")
+    public void testRestoreWithLimitedThreads() throws Exception {
+        checkRestore();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRestoreWithAllStripes() throws Exception {
+        checkRestore();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    private void checkRestore() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        for (int i = 0; i <= SMALL_CACHES; i++) {
+            try (IgniteDataStreamer<Integer, Integer> streamer = ig.dataStreamer(cacheName(i))) {
+                for (int key = 0; key < KEYS; key++)
+                    streamer.addData(key, key + i);
+            }
+        }
+
+        forceCheckpoint();
+
+        stopGrid(0);
+
+        ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        MetricRegistry mreg = ig.context().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        // The system cache partitions are restored as well.
+        int parts = ig.context().cache().cacheGroups().stream()
+            .filter(CacheGroupContext::persistenceEnabled)
+            .mapToInt(grp -> grp.topology().localPartitions().size())
+            .sum();
+
+        assertTrue(parts >= LARGE_PARTS + SMALL_CACHES * SMALL_PARTS);
+
+        assertEquals(parts, mreg.<AtomicLongMetric>findMetric("PartitionStatesRestored").value());
+
+        for (int i = 0; i <= SMALL_CACHES; i++) {
+            IgniteCache<Integer, Integer> cache = ig.cache(cacheName(i));
+
+            for (int key = 0; key < KEYS; key++)
+                assertEquals(Integer.valueOf(key + i), cache.get(key));
+
+            for (GridDhtLocalPartition part : ig.cachex(cacheName(i)).context().topology().localPartitions())
+                assertEquals(OWNING, part.state());
+        }
+    }
+
+    /**
+     * @param idx Cache index.
+     * @return Cache name.
+     */
+    private static String cacheName(int idx) {
+        return "cache" + idx;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+
+/**
+ * Tests WAL group commit in FSYNC mode.
+ */
+public class WalGroupCommitTest extends GridCommonAbstractTest {
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** */
+    private static final int THREADS = 16;
+
+    /** */
+    private static final int KEYS_PER_THREAD = 200;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.FSYNC)
+            .setMetricsEnabled(true)
+            .setWalGroupCommitMaxDelayNanos(5_000_000)
+            .setWalGroupCommitMaxBatchSize(THREADS / 2)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(256L * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(CACHE_NAME)
+            .setAtomicityMode(TRANSACTIONAL)
+            .setAffinity(new RendezvousAffinityFunction(false, 8)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testGroupCommit() throws Exception {
+        checkGroupCommit();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER, value = "true")
+    public void testGroupCommitWithDedicatedWorker() throws Exception {
+        checkGroupCommit();
+    }
+
+    /**
+     * Commits transactions from several threads, checks that they share fsyncs and that the data survives restart.
+     *
+     * @throws Exception If failed.
+     */
+    private void checkGroupCommit() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        IgniteCache<Integer, Integer> cache = ig.cache(CACHE_NAME);
+
+        AtomicInteger idx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int base = idx.getAndIncrement() * KEYS_PER_THREAD;
+
+            for (int i = base; i < base + KEYS_PER_THREAD; i++) {
+                try (Transaction tx = ig.transactions().txStart()) {
+                    cache.put(i, i);
+
+                    tx.commit();
+                }
+            }
+        }, THREADS, "tx-committer");
+
+        MetricRegistry mreg = ig.context().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        long[] batches = mreg.<HistogramMetricImpl>findMetric("WalGroupCommitBatchSize").value();
+        long[] waits = mreg.<HistogramMetricImpl>findMetric("WalGroupCommitWaitTime").value();
+
+        long grouped = Arrays.stream(batches).skip(1).sum();
+        long served = Arrays.stream(waits).sum();
+
+        assertTrue("No commits grouped: " + Arrays.toString(batches), grouped > 0);
+        assertTrue("Waits are not tracked: " + Arrays.toString(waits), served > 0);
+
+        stopAllGrids();
+
+        IgniteEx restarted = startGrid(0);
+
+        restarted.cluster().active(true);
+
+        IgniteCache<Integer, Integer> restartedCache = restarted.cache(CACHE_NAME);
+
+        for (int i = 0; i < THREADS * KEYS_PER_THREAD; i++)
+            assertEquals((Integer)i, restartedCache.get(i));
+    }
+}
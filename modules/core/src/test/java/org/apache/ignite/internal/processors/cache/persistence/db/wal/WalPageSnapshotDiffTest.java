@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_SNAPSHOT_DIFF_RECORD;
+
+/**
+ * Tests page snapshots logged as diffs against the checkpointed images of the pages.
+ */
+public class WalPageSnapshotDiffTest extends GridCommonAbstractTest {
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** */
+    private static final int UPDATES = 1_000;
+
+    /** */
+    private boolean diffEnabled = true;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.LOG_ONLY)
+            .setWalPageSnapshotDiffEnabled(diffEnabled)
+            .setCheckpointFrequency(Integer.MAX_VALUE)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(256L * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 16)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that the first changes of the pages after a checkpoint are logged as diffs.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWalVolume() throws Exception {
+        diffEnabled = false;
+
+        long fullBytes = walBytesOfUpdates(false);
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        diffEnabled = true;
+
+        long diffBytes = walBytesOfUpdates(true);
+
+        assertTrue("WAL volume is not reduced [full=" + fullBytes + ", diff=" + diffBytes + ']',
+            diffBytes * 2 < fullBytes);
+    }
+
+    /**
+     * Checks the recovery of the pages changed after the last checkpoint.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecovery() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ig.cache(CACHE_NAME);
+
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        load(cache, expected);
+
+        forceCheckpoint();
+
+        update(cache, expected);
+
+        dbMgr(ig).enableCheckpoints(false).get();
+
+        stopGrid(0, true);
+
+        checkData(expected);
+    }
+
+    /**
+     * Checks the recovery if the node stopped in the middle of a checkpoint which wrote the pages changed after the
+     * previous checkpoint. The images of such pages on disk are ahead of the bases of their logged diffs.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecoveryAfterUnfinishedCheckpoint() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ig.cache(CACHE_NAME);
+
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        load(cache, expected);
+
+        forceCheckpoint();
+
+        update(cache, expected);
+
+        forceCheckpoint();
+
+        update(cache, expected);
+
+        File cpDir = dbMgr(ig).checkpointDirectory();
+
+        dbMgr(ig).enableCheckpoints(false).get();
+
+        stopGrid(0, true);
+
+        File lastEnd = null;
+
+        for (File f : cpDir.listFiles()) {
+            if (f.getName().endsWith("-END.bin") && (lastEnd == null || f.getName().compareTo(lastEnd.getName()) > 0))
+                lastEnd = f;
+        }
+
+        assertNotNull(lastEnd);
+
+        // The node looks stopped in the middle of the last checkpoint, pages are restored from the previous one.
+        assertTrue(lastEnd.delete());
+
+        checkData(expected);
+    }
+
+    /**
+     * @param diffs {@code True} if diffs are expected.
+     * @return Number of bytes logged by the updates after a checkpoint.
+     * @throws Exception If failed.
+     */
+    private long walBytesOfUpdates(boolean diffs) throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ig.cache(CACHE_NAME);
+
+        load(cache, new HashMap<>());
+
+        forceCheckpoint();
+
+        IgniteWriteAheadLogManager wal = ig.context().cache().context().wal();
+
+        WALPointer start = wal.lastWritePointer();
+
+        update(cache, new HashMap<>());
+
+        WALPointer end = wal.lastWritePointer();
+
+        assertEquals(start.index(), end.index());
+
+        int pageRecs = 0;
+        int diffRecs = 0;
+
+        try (WALIterator it = wal.replay(start)) {
+            while (it.hasNext()) {
+                IgniteBiTuple<WALPointer, WALRecord> tup = it.next();
+
+                if (tup.get2().type() == PAGE_RECORD)
+                    pageRecs++;
+                else if (tup.get2().type() == PAGE_SNAPSHOT_DIFF_RECORD)
+                    diffRecs++;
+            }
+        }
+
+        if (diffs) {
+            assertTrue(diffRecs > 0);
+            assertTrue("Page records [full=" + pageRecs + ", diff=" + diffRecs + ']', pageRecs < diffRecs);
+        }
+        else
+            assertEquals(0, diffRecs);
+
+        return end.fileOffset() - start.fileOffset();
+    }
+
+    /**
+     * @param cache Cache.
+     * @param expected Expected data.
+     */
+    private void load(IgniteCache<Integer, Integer> cache, Map<Integer, Integer> expected) {
+        for (int i = 0; i < KEYS; i++) {
+            cache.put(i, i);
+
+            expected.put(i, i);
+        }
+    }
+
+    /**
+     * Updates and removes random keys.
+     *
+     * @param cache Cache.
+     * @param expected Expected data.
+     */
+    private void update(IgniteCache<Integer, Integer> cache, Map<Integer, Integer> expected) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int i = 0; i < UPDATES; i++) {
+            int key = rnd.nextInt(KEYS);
+
+            if (i % 10 == 0) {
+                cache.remove(key);
+
+                expected.remove(key);
+            }
+            else {
+                int val = rnd.nextInt();
+
+                cache.put(key, val);
+
+                expected.put(key, val);
+            }
+        }
+    }
+
+    /**
+     * Restarts the node and checks the data.
+     *
+     * @param expected Expected data.
+     * @throws Exception If failed.
+     */
+    private void checkData(Map<Integer, Integer> expected) throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ig.cache(CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals("key=" + i, expected.get(i), cache.get(i));
+
+        assertEquals(expected.size(), cache.size());
+    }
+
+    /**
+     * @param ig Ignite.
+     * @return Database manager.
+     */
+    private GridCacheDatabaseSharedManager dbMgr(IgniteEx ig) {
+        return (GridCacheDatabaseSharedManager)ig.context().cache().context().database();
+    }
+}
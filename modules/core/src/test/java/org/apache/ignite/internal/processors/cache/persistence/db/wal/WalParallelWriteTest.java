@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP;
+
+/**
+ * Tests WAL buffer written to the segment file by several threads.
+ */
+@WithSystemProperty(key = IGNITE_WAL_MMAP, value = "false")
+public class WalParallelWriteTest extends GridCommonAbstractTest {
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** */
+    private static final int KEYS = 4_000;
+
+    /** */
+    private static final int BATCH = 200;
+
+    /** */
+    private static final int VAL_SIZE = 4 * 1024;
+
+    /** */
+    private WALMode walMode = WALMode.LOG_ONLY;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(walMode)
+            .setWalSegmentSize(8 * 1024 * 1024)
+            .setWalBufferSize(4 * 1024 * 1024)
+            .setWalWriteThreadCount(4)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(256L * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 8)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLogOnly() throws Exception {
+        checkParallelWrite();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBackground() throws Exception {
+        walMode = WALMode.BACKGROUND;
+
+        checkParallelWrite();
+    }
+
+    /**
+     * Writes large batches to the WAL, reads them back and checks the data after restart.
+     *
+     * @throws Exception If failed.
+     */
+    private void checkParallelWrite() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        IgniteCache<Integer, byte[]> cache = ig.cache(CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i += BATCH) {
+            Map<Integer, byte[]> batch = new HashMap<>();
+
+            for (int k = i; k < i + BATCH; k++)
+                batch.put(k, value(k));
+
+            cache.putAll(batch);
+        }
+
+        ig.context().cache().context().wal().flush(null, true);
+
+        assertTrue("No stripes written in parallel", Thread.getAllStackTraces().keySet().stream()
+            .anyMatch(t -> t.getName().startsWith("wal-stripe-writer")));
+
+        int cacheId = CU.cacheId(CACHE_NAME);
+
+        BitSet logged = new BitSet(KEYS);
+
+        try (WALIterator it = ig.context().cache().context().wal().replay(null)) {
+            while (it.hasNextX()) {
+                WALRecord rec = it.nextX().get2();
+
+                if (rec.type() != WALRecord.RecordType.DATA_RECORD)
+                    continue;
+
+                for (DataEntry e : ((DataRecord)rec).writeEntries()) {
+                    if (e.cacheId() == cacheId)
+                        logged.set((Integer)e.key().value(null, false));
+                }
+            }
+        }
+
+        assertEquals(KEYS, logged.cardinality());
+
+        stopAllGrids();
+
+        ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        cache = ig.cache(CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            assertTrue("Unexpected value: " + i, Arrays.equals(value(i), cache.get(i)));
+    }
+
+    /**
+     * @param key Key.
+     * @return Value.
+     */
+    private static byte[] value(int key) {
+        byte[] val = new byte[VAL_SIZE];
+
+        Arrays.fill(val, (byte)key);
+
+        val[0] = (byte)(key >>> 8);
+
+        return val;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.defragmentation;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.ExpiryPolicy;
+import javax.cache.expiry.ModifiedExpiryPolicy;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.INDEX_FILE_NAME;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.PART_FILE_PREFIX;
+
+/**
+ * Tests defragmentation of partition files.
+ */
+public class IgnitePdsDefragmentationTest extends GridCommonAbstractTest {
+    /** */
+    private static final String CACHE_NAME = "cache";
+
+    /** */
+    private static final String GRP_NAME = "group";
+
+    /** */
+    private static final String GRP_CACHE_NAME_1 = "groupCache1";
+
+    /** */
+    private static final String GRP_CACHE_NAME_2 = "groupCache2";
+
+    /** */
+    private static final int PARTS = 4;
+
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** */
+    private static final ExpiryPolicy EXPIRY_PLC = new ModifiedExpiryPolicy(new Duration(TimeUnit.DAYS, 1));
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setConsistentId(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(100L * 1024 * 1024)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(
+                cacheConfiguration(CACHE_NAME, null),
+                cacheConfiguration(GRP_CACHE_NAME_1, GRP_NAME),
+                cacheConfiguration(GRP_CACHE_NAME_2, GRP_NAME));
+    }
+
+    /**
+     * @param name Cache name.
+     * @param grpName Cache group name.
+     * @return Cache configuration.
+     */
+    private CacheConfiguration<Integer, byte[]> cacheConfiguration(String name, String grpName) {
+        return new CacheConfiguration<Integer, byte[]>(name)
+            .setGroupName(grpName)
+            .setAffinity(new RendezvousAffinityFunction(false, PARTS));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDefragmentation() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        for (String cacheName : Arrays.asList(CACHE_NAME, GRP_CACHE_NAME_1, GRP_CACHE_NAME_2))
+            fill(ig.cache(cacheName));
+
+        checkPendingEntries(ig);
+
+        forceCheckpoint();
+
+        File cacheDir = cacheWorkDir(ig, CACHE_NAME, false);
+        File grpDir = cacheWorkDir(ig, GRP_NAME, true);
+
+        long cacheSize = partitionFilesSize(cacheDir);
+        long grpSize = partitionFilesSize(grpDir);
+
+        CachePartitionDefragmentationManager.schedule(ig.context(), Arrays.asList(CACHE_NAME, GRP_NAME));
+
+        stopGrid(0);
+
+        // Defragmentation is executed automatically in the maintenance mode.
+        startGrid(0);
+
+        stopGrid(0);
+
+        assertTrue(partitionFilesSize(cacheDir) < cacheSize / 2);
+        assertTrue(partitionFilesSize(grpDir) < grpSize / 2);
+
+        assertFalse(new File(cacheDir, INDEX_FILE_NAME).exists());
+
+        ig = startGrid(0);
+
+        assertFalse(ig.context().maintenanceRegistry().isMaintenanceMode());
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        for (String cacheName : Arrays.asList(CACHE_NAME, GRP_CACHE_NAME_1, GRP_CACHE_NAME_2))
+            check(ig.cache(cacheName));
+
+        checkPendingEntries(ig);
+
+        // The node keeps working with the defragmented partitions after restart.
+        forceCheckpoint();
+
+        stopGrid(0);
+
+        ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        for (String cacheName : Arrays.asList(CACHE_NAME, GRP_CACHE_NAME_1, GRP_CACHE_NAME_2))
+            check(ig.cache(cacheName));
+
+        checkPendingEntries(ig);
+    }
+
+    /**
+     * Puts the keys and removes all of them except for every fourth one.
+     *
+     * @param cache Cache.
+     */
+    private void fill(IgniteCache<Integer, byte[]> cache) {
+        IgniteCache<Integer, byte[]> ttlCache = cache.withExpiryPolicy(EXPIRY_PLC);
+
+        for (int i = 0; i < KEYS; i++)
+            (i % 8 == 0 ? ttlCache : cache).put(i, value(i));
+
+        for (int i = 0; i < KEYS; i++) {
+            if (i % 4 != 0)
+                cache.remove(i);
+        }
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void check(IgniteCache<Integer, byte[]> cache) {
+        assertEquals(KEYS / 4, cache.size());
+
+        for (int i = 0; i < KEYS; i++) {
+            byte[] val = cache.get(i);
+
+            if (i % 4 != 0)
+                assertNull(val);
+            else
+                assertTrue(Arrays.equals(value(i), val));
+        }
+
+    }
+
+    /**
+     * @param ig Node.
+     * @throws Exception If failed.
+     */
+    private void checkPendingEntries(IgniteEx ig) throws Exception {
+        assertEquals(KEYS / 8, ig.cachex(CACHE_NAME).context().group().offheap().expiredSize());
+        assertEquals(2 * KEYS / 8, ig.cachex(GRP_CACHE_NAME_1).context().group().offheap().expiredSize());
+    }
+
+    /**
+     * @param i Key.
+     * @return Value.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[128];
+
+        Arrays.fill(val, (byte)i);
+
+        return val;
+    }
+
+    /**
+     * @param ig Node.
+     * @param name Cache or group name.
+     * @param grp Whether it is a cache group.
+     * @return Cache work directory.
+     */
+    private static File cacheWorkDir(IgniteEx ig, String name, boolean grp) {
+        return ((FilePageStoreManager)ig.context().cache().context().pageStore()).cacheWorkDir(grp, name);
+    }
+
+    /**
+     * @param dir Cache work directory.
+     * @return Total size of the partition files.
+     */
+    private static long partitionFilesSize(File dir) {
+        long size = 0;
+
+        for (File file : dir.listFiles((d, name) -> name.startsWith(PART_FILE_PREFIX)))
+            size += file.length();
+
+        return size;
+    }
+}
@@ -21,6 +21,7 @@ import java.io.File;
 import java.util.Collections;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
 import org.apache.ignite.internal.managers.systemview.GridSystemViewManager;
 import org.apache.ignite.internal.managers.systemview.JmxSystemViewExporterSpi;
@@ -134,6 +135,7 @@ public class IndexStoragePageMemoryImplTest extends IndexStorageSelfTest {
             },
             () -> true,
             new DataRegionMetricsImpl(new DataRegionConfiguration(), cctx.metric(), NO_OP_METRICS),
+            PageReplacementMode.RANDOM_LRU,
             PageMemoryImpl.ThrottlingPolicy.DISABLED,
             clo
         );
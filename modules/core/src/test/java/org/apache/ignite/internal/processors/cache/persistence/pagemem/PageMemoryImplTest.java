@@ -31,6 +31,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.failure.NoOpFailureHandler;
 import org.apache.ignite.internal.IgniteFutureTimeoutCheckedException;
 import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
@@ -271,6 +272,59 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             assertEquals(2, data[i]);
     }
 
+    /**
+     * Checks that CLOCK page replacement keeps frequently accessed pages in memory while cold pages are rotated.
+     *
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testClockReplacementKeepsHotPages() throws Exception {
+        TestPageStoreManager pageStoreMgr = new TestPageStoreManager();
+
+        // Create a 1 mb page memory.
+        PageMemoryImpl memory = createPageMemory(
+            1,
+            PageMemoryImpl.ThrottlingPolicy.TARGET_RATIO_BASED,
+            PageReplacementMode.CLOCK,
+            pageStoreMgr,
+            pageStoreMgr,
+            null
+        );
+
+        List<FullPageId> hot = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            FullPageId fullId = new FullPageId(memory.allocatePage(1, INDEX_PARTITION, FLAG_IDX), 1);
+
+            writePage(memory, fullId, (byte)1);
+
+            hot.add(fullId);
+        }
+
+        long coldPagesCnt = memory.totalPages() * 4;
+
+        for (long i = 0; i < coldPagesCnt; i++) {
+            FullPageId fullId = new FullPageId(memory.allocatePage(1, INDEX_PARTITION, FLAG_IDX), 1);
+
+            writePage(memory, fullId, (byte)2);
+
+            if (i % 20 == 0) {
+                doCheckpoint(memory.beginCheckpoint(new GridFinishedFuture()), memory, pageStoreMgr);
+
+                for (FullPageId hotId : hot)
+                    readPage(memory, hotId);
+            }
+        }
+
+        DataRegionMetricsImpl metrics = memory.metrics();
+
+        assertTrue(metrics.getPagesReplaced() > 0);
+
+        // None of the hot pages was replaced, so there were no reads from the store.
+        assertEquals(0, metrics.getPagesRead());
+        assertEquals(1.0, metrics.getPagesHitRatio());
+    }
+
     /**
      * @throws Exception if failed.
      */
@@ -413,6 +467,28 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             }, null);
     }
 
+    /**
+     * @param mem Page memory.
+     * @param fullPageId Full page ID to read.
+     * @throws Exception If failed.
+     */
+    private void readPage(PageMemoryImpl mem, FullPageId fullPageId) throws Exception {
+        int grpId = fullPageId.groupId();
+        long pageId = fullPageId.pageId();
+        long page = mem.acquirePage(grpId, pageId);
+
+        try {
+            long ptr = mem.readLock(grpId, pageId, page);
+
+            assertTrue(ptr != 0);
+
+            mem.readUnlock(grpId, pageId, page);
+        }
+        finally {
+            mem.releasePage(grpId, pageId, page);
+        }
+    }
+
     /**
      * @param mem Page memory.
      * @param fullPageId Full page ID to write.
@@ -572,6 +648,23 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
         IgnitePageStoreManager mgr,
         PageStoreWriter replaceWriter,
         @Nullable IgniteInClosure<FullPageId> cpBufChecker
+    ) throws Exception {
+        return createPageMemory(maxSize, throttlingPlc, PageReplacementMode.RANDOM_LRU, mgr, replaceWriter,
+            cpBufChecker);
+    }
+
+    /**
+     * @param throttlingPlc Throttling Policy.
+     * @param replacementMode Page replacement mode.
+     * @throws Exception If creating mock failed.
+     */
+    private PageMemoryImpl createPageMemory(
+        int maxSize,
+        PageMemoryImpl.ThrottlingPolicy throttlingPlc,
+        PageReplacementMode replacementMode,
+        IgnitePageStoreManager mgr,
+        PageStoreWriter replaceWriter,
+        @Nullable IgniteInClosure<FullPageId> cpBufChecker
     ) throws Exception {
         long[] sizes = new long[5];
 
@@ -584,6 +677,8 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
 
         IgniteConfiguration igniteCfg = new IgniteConfiguration();
         igniteCfg.setDataStorageConfiguration(new DataStorageConfiguration());
+        igniteCfg.getDataStorageConfiguration().getDefaultDataRegionConfiguration()
+            .setPageReplacementMode(replacementMode);
         igniteCfg.setFailureHandler(new NoOpFailureHandler());
         igniteCfg.setEncryptionSpi(new NoopEncryptionSpi());
         igniteCfg.setMetricExporterSpi(new NoopMetricExporterSpi());
@@ -657,6 +752,7 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             new DataRegionMetricsImpl(igniteCfg.getDataStorageConfiguration().getDefaultDataRegionConfiguration(),
                 kernalCtx.metric(),
                 NO_OP_METRICS),
+            replacementMode,
             throttlingPlc,
             noThrottle
         ) : new PageMemoryImpl(
@@ -677,6 +773,7 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             new DataRegionMetricsImpl(igniteCfg.getDataStorageConfiguration().getDefaultDataRegionConfiguration(),
                 kernalCtx.metric(),
                 NO_OP_METRICS),
+            replacementMode,
             throttlingPlc,
             noThrottle
         ) {
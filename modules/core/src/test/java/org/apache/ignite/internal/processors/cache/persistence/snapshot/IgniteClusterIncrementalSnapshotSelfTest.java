@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.io.File;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.assertThrowsAnyCause;
+
+/**
+ * Cluster incremental snapshot tests.
+ */
+public class IgniteClusterIncrementalSnapshotSelfTest extends AbstractSnapshotSelfTest {
+    /** Timeout. */
+    private static final long TIMEOUT = 15_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        // Each increment starts a new segment, so keep segments small.
+        cfg.getDataStorageConfiguration().setWalSegmentSize(1024 * 1024);
+
+        return cfg;
+    }
+
+    /** @throws Exception If fails. */
+    @Test
+    public void testRestoreIncrementalSnapshot() throws Exception {
+        IgniteEx ignite = startGridsWithCache(2, dfltCacheCfg.setBackups(1), CACHE_KEYS_RANGE);
+
+        ignite.snapshot().createSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < CACHE_KEYS_RANGE; i++)
+            cache.put(i, i + 1);
+
+        ignite.snapshot().createIncrementalSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        for (int i = 0; i < CACHE_KEYS_RANGE / 2; i++)
+            cache.put(i, i + 2);
+
+        for (int i = CACHE_KEYS_RANGE; i < 2 * CACHE_KEYS_RANGE; i++)
+            cache.put(i, i);
+
+        ignite.snapshot().createIncrementalSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        // Updates after the last increment must not be restored.
+        for (int i = 0; i < 2 * CACHE_KEYS_RANGE; i++)
+            cache.put(i, -1);
+
+        for (int g = 0; g < 2; g++) {
+            assertEquals(2, snp(grid(g)).lastIncrementIndex(SNAPSHOT_NAME));
+            assertTrue(new File(snp(grid(g)).incrementalSnapshotLocalDir(SNAPSHOT_NAME, 2), folderName(grid(g)))
+                .isDirectory());
+        }
+
+        cache.destroy();
+
+        awaitPartitionMapExchange();
+
+        ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, null, 1).get(TIMEOUT);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(CACHE_KEYS_RANGE, cache.size());
+
+        for (int i = 0; i < CACHE_KEYS_RANGE; i++)
+            assertEquals(Integer.valueOf(i + 1), cache.get(i));
+
+        cache.destroy();
+
+        awaitPartitionMapExchange();
+
+        ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, null, 2).get(TIMEOUT);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(2 * CACHE_KEYS_RANGE, cache.size());
+
+        for (int i = 0; i < 2 * CACHE_KEYS_RANGE; i++)
+            assertEquals(Integer.valueOf(i < CACHE_KEYS_RANGE / 2 ? i + 2 : i < CACHE_KEYS_RANGE ? i + 1 : i), cache.get(i));
+    }
+
+    /** @throws Exception If fails. */
+    @Test
+    public void testIncrementalSnapshotRejected() throws Exception {
+        IgniteEx ignite = startGridsWithCache(2, dfltCacheCfg, CACHE_KEYS_RANGE);
+
+        assertThrowsAnyCause(log,
+            () -> ignite.snapshot().createIncrementalSnapshot(SNAPSHOT_NAME).get(TIMEOUT),
+            IgniteException.class,
+            "Base snapshot with given name doesn't exist");
+
+        ignite.snapshot().createSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        ignite.snapshot().createIncrementalSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        ignite.cache(DEFAULT_CACHE_NAME).destroy();
+
+        awaitPartitionMapExchange();
+
+        assertThrowsAnyCause(log,
+            () -> ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, null, 2).get(TIMEOUT),
+            IgniteException.class,
+            "Snapshot metadata doesn't exist on the local node");
+
+        // The full snapshot is still restorable after the rejected operation.
+        ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, null).get(TIMEOUT);
+
+        assertSnapshotCacheKeys(ignite.cache(DEFAULT_CACHE_NAME));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.io.File;
+import java.util.Collections;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.util.typedef.F;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.SnapshotRestoreProcess.TMP_CACHE_DIR_PREFIX;
+import static org.apache.ignite.testframework.GridTestUtils.assertThrowsAnyCause;
+
+/**
+ * Cluster snapshot restore tests.
+ */
+public class IgniteClusterSnapshotRestoreSelfTest extends AbstractSnapshotSelfTest {
+    /** Timeout. */
+    private static final long TIMEOUT = 15_000;
+
+    /** Cache group name. */
+    private static final String SHARED_GRP = "shared";
+
+    /** @throws Exception If fails. */
+    @Test
+    public void testRestoreAllGroups() throws Exception {
+        IgniteEx ignite = startGridsWithCache(3, dfltCacheCfg.setBackups(1), CACHE_KEYS_RANGE);
+
+        ignite.snapshot().createSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        ignite.cache(DEFAULT_CACHE_NAME).destroy();
+
+        awaitPartitionMapExchange();
+
+        // Start client without the static cache configuration, so the destroyed cache is not started on join.
+        IgniteEx client = startClientGrid(optimize(getConfiguration(getTestIgniteInstanceName(3)).setCacheConfiguration()));
+
+        client.snapshot().restoreSnapshot(SNAPSHOT_NAME, null).get(TIMEOUT);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        assertSnapshotCacheKeys(cache);
+        assertEquals(CACHE_KEYS_RANGE, cache.size());
+
+        for (int g = 0; g < 3; g++)
+            assertTrue(F.isEmpty(workDir(grid(g)).list((dir, name) -> name.startsWith(TMP_CACHE_DIR_PREFIX))));
+
+        // Check the restored partitions are consistent after the cluster restart.
+        for (int i = 0; i < CACHE_KEYS_RANGE; i++)
+            cache.put(i, i + 1);
+
+        forceCheckpoint();
+
+        stopAllGrids();
+
+        ignite = startGrids(3);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache0 = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < CACHE_KEYS_RANGE; i++)
+            assertEquals(Integer.valueOf(i + 1), cache0.get(i));
+    }
+
+    /** @throws Exception If fails. */
+    @Test
+    public void testRestoreSharedCacheGroup() throws Exception {
+        CacheConfiguration<Integer, Integer> ccfg1 = txCacheConfig(new CacheConfiguration<Integer, Integer>("cache1"))
+            .setGroupName(SHARED_GRP);
+        CacheConfiguration<Integer, Integer> ccfg2 = txCacheConfig(new CacheConfiguration<Integer, Integer>("cache2"))
+            .setGroupName(SHARED_GRP);
+
+        IgniteEx ignite = startGridsWithCache(2, CACHE_KEYS_RANGE, Integer::new, ccfg1, ccfg2, dfltCacheCfg);
+
+        ignite.snapshot().createSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        ignite.destroyCaches(F.asList(ccfg1.getName(), ccfg2.getName()));
+
+        awaitPartitionMapExchange();
+
+        ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, Collections.singleton(SHARED_GRP)).get(TIMEOUT);
+
+        assertSnapshotCacheKeys(ignite.cache(ccfg1.getName()));
+        assertSnapshotCacheKeys(ignite.cache(ccfg2.getName()));
+        assertSnapshotCacheKeys(ignite.cache(DEFAULT_CACHE_NAME));
+    }
+
+    /** @throws Exception If fails. */
+    @Test
+    public void testRestoreRejectedCacheExists() throws Exception {
+        IgniteEx ignite = startGridsWithCache(2, dfltCacheCfg, CACHE_KEYS_RANGE);
+
+        ignite.snapshot().createSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        assertThrowsAnyCause(log,
+            () -> ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, null).get(TIMEOUT),
+            IgniteException.class,
+            "Cache group with the same name already exists");
+
+        // Existing cache must not be affected.
+        assertSnapshotCacheKeys(ignite.cache(DEFAULT_CACHE_NAME));
+
+        ignite.cache(DEFAULT_CACHE_NAME).destroy();
+
+        awaitPartitionMapExchange();
+
+        assertThrowsAnyCause(log,
+            () -> ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, Collections.singleton("unknown")).get(TIMEOUT),
+            IgniteException.class,
+            "Cache groups were not found in the snapshot");
+
+        // The next operation must succeed after the rejected ones.
+        ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, null).get(TIMEOUT);
+
+        assertSnapshotCacheKeys(ignite.cache(DEFAULT_CACHE_NAME));
+    }
+
+    /** @throws Exception If fails. */
+    @Test
+    public void testRestoreRejectedNodeOffline() throws Exception {
+        IgniteEx ignite = startGridsWithCache(3, dfltCacheCfg, CACHE_KEYS_RANGE);
+
+        ignite.snapshot().createSnapshot(SNAPSHOT_NAME).get(TIMEOUT);
+
+        ignite.cache(DEFAULT_CACHE_NAME).destroy();
+
+        awaitPartitionMapExchange();
+
+        stopGrid(2);
+
+        assertThrowsAnyCause(log,
+            () -> ignite.snapshot().restoreSnapshot(SNAPSHOT_NAME, null).get(TIMEOUT),
+            IgniteException.class,
+            "Some of baseline nodes are offline");
+    }
+
+    /**
+     * @param ignite Ignite instance.
+     * @return Cache working directory of the node.
+     */
+    private static File workDir(IgniteEx ignite) {
+        return ((FilePageStoreManager)ignite.context().cache().context().pageStore()).workDir();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.cache.persistence.snapshot;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,6 +28,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -60,6 +62,7 @@ import org.apache.ignite.testframework.GridTestUtils;
 import org.junit.Test;
 
 import static org.apache.ignite.internal.MarshallerContextImpl.mappingFileStoreWorkDir;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl.binaryWorkDir;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.cacheDirName;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.CP_SNAPSHOT_REASON;
@@ -388,6 +391,81 @@ public class IgniteSnapshotManagerSelfTest extends AbstractSnapshotSelfTest {
         snpFut.get(5_000, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Requests a snapshot of all the owning partitions of the remote node and checks received partition files
+     * are the same as the remote node has after the snapshot checkpoint.
+     *
+     * @throws Exception If fails.
+     */
+    @Test
+    public void testRemoteSnapshotPartitions() throws Exception {
+        IgniteEx ig0 = startGridsWithCache(2, dfltCacheCfg, CACHE_KEYS_RANGE);
+        IgniteEx ig1 = grid(1);
+
+        int grpId = CU.cacheId(DEFAULT_CACHE_NAME);
+
+        Map<Integer, Set<Integer>> parts = owningParts(ig1, Collections.singleton(grpId), ig0.localNode().id());
+
+        File rcvDir = U.resolveWorkDirectory(U.defaultWorkDirectory(), "rcv-snp", true);
+
+        Map<GroupPartitionId, File> rcvParts = new ConcurrentHashMap<>();
+
+        IgniteInternalFuture<Void> fut = snp(ig1).createRemoteSnapshot(ig0.localNode().id(),
+            parts,
+            (part, pair) -> {
+                File dst = new File(rcvDir, part.getName());
+
+                try {
+                    Files.copy(part.toPath(), dst.toPath());
+                }
+                catch (IOException e) {
+                    throw new IgniteException(e);
+                }
+
+                rcvParts.put(pair, dst);
+            });
+
+        fut.get(getTestTimeout());
+
+        assertEquals("All the requested partitions must be received", parts.get(grpId).size(), rcvParts.size());
+
+        File cacheWorkDir = ((FilePageStoreManager)ig0.context()
+            .cache()
+            .context()
+            .pageStore())
+            .cacheWorkDir(dfltCacheCfg);
+
+        Map<String, Integer> origPartCRCs = calculateCRC32Partitions(cacheWorkDir);
+
+        origPartCRCs.keySet().retainAll(calculateCRC32Partitions(rcvDir).keySet());
+
+        assertEquals("Partitions must have the same CRC after file transmission and merging partition delta files",
+            origPartCRCs, calculateCRC32Partitions(rcvDir));
+
+        U.delete(rcvDir);
+    }
+
+    /** @throws Exception If fails. */
+    @Test
+    public void testRemoteSnapshotRequestFailed() throws Exception {
+        IgniteEx ig0 = startGridsWithCache(2, dfltCacheCfg, CACHE_KEYS_RANGE);
+
+        IgniteInternalFuture<Void> fut = snp(grid(1)).createRemoteSnapshot(ig0.localNode().id(),
+            F.asMap(CU.cacheId(DEFAULT_CACHE_NAME), Collections.singleton(INDEX_PARTITION)),
+            (part, pair) -> fail("Partitions must not be received: " + pair));
+
+        assertThrowsAnyCause(log,
+            () -> fut.get(getTestTimeout()),
+            IgniteCheckedException.class,
+            "Index partition cannot be included into snapshot");
+
+        // The next request must be processed.
+        snp(grid(1)).createRemoteSnapshot(ig0.localNode().id(),
+            owningParts(grid(1), Collections.singleton(CU.cacheId(DEFAULT_CACHE_NAME)), ig0.localNode().id()),
+            (part, pair) -> {})
+            .get(getTestTimeout());
+    }
+
     /**
      * @param src Source node to calculate.
      * @param grps Groups to collect owning parts.
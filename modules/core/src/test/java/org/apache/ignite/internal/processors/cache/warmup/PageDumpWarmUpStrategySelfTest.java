@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.warmup;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageDumpWarmUpConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Test class for testing {@link PageDumpWarmUpStrategy}.
+ */
+public class PageDumpWarmUpStrategySelfTest extends GridCommonAbstractTest {
+    /** Data region name. */
+    private static final String REGION_NAME = "dr_0";
+
+    /** Cache name. */
+    private static final String CACHE_NAME = "c_0";
+
+    /** Number of entries. */
+    private static final int ENTRIES = 20_000;
+
+    /** Dump frequency. */
+    private long dumpFreq;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        dumpFreq = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(
+                new DataStorageConfiguration()
+                    .setDataRegionConfigurations(
+                        new DataRegionConfiguration().setName(REGION_NAME).setPersistenceEnabled(true)
+                            .setWarmUpConfiguration(new PageDumpWarmUpConfiguration().setDumpFrequency(dumpFreq))
+                    )
+            ).setCacheConfiguration(
+                new CacheConfiguration<>(CACHE_NAME)
+                    .setDataRegionName(REGION_NAME)
+                    .setAffinity(new RendezvousAffinityFunction(false, 16))
+            );
+    }
+
+    /**
+     * Test checks that the pages loaded before graceful node stop are loaded on node start.
+     * <p/>
+     * Steps:
+     * 1)Start a node, fill the cache and stop the node without the dump;
+     * 2)Start the node, check that nothing is warmed up and read a part of the entries;
+     * 3)Stop the node gracefully and restart it;
+     * 4)Check that the pages loaded before the stop are loaded and other pages are not.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWorkingSetRestored() throws Exception {
+        IgniteEx n = startGrid(0);
+        n.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = n.cache(CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            cache.put(i, new byte[128]);
+
+        forceCheckpoint();
+
+        Set<FullPageId> allPages = loadedPages(n);
+
+        stopGrid(0, true);
+
+        assertFalse(dumpFile(n).exists());
+
+        n = startGrid(0);
+
+        Set<FullPageId> coldPages = loadedPages(n);
+
+        assertTrue(coldPages.size() < allPages.size() / 2);
+
+        cache = n.cache(CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES / 10; i++)
+            assertNotNull(cache.get(i));
+
+        forceCheckpoint();
+
+        Set<FullPageId> expPages = loadedPages(n);
+
+        stopGrid(0, false);
+
+        assertTrue(dumpFile(n).exists());
+
+        n = startGrid(0);
+
+        Set<FullPageId> actPages = loadedPages(n);
+
+        for (FullPageId pageId : expPages)
+            assertTrue(pageId.toString(), actPages.contains(pageId));
+
+        assertTrue(actPages.size() < allPages.size());
+    }
+
+    /**
+     * Test checks that the pages are dumped periodically, so the pages are loaded after the node failure.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPeriodicDump() throws Exception {
+        dumpFreq = 200;
+
+        IgniteEx n = startGrid(0);
+        n.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = n.cache(CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            cache.put(i, new byte[128]);
+
+        forceCheckpoint();
+
+        File dumpFile = dumpFile(n);
+
+        assertTrue(GridTestUtils.waitForCondition(dumpFile::exists, getTestTimeout()));
+
+        // Make sure the dump is written after the checkpoint.
+        long modified = dumpFile.lastModified();
+
+        assertTrue(GridTestUtils.waitForCondition(() -> dumpFile.lastModified() != modified, getTestTimeout()));
+
+        stopGrid(0, true);
+
+        Map<Integer, long[]> dump = PageDumper.read(dumpFile);
+
+        long[] keys = dump.get(CU.cacheId(CACHE_NAME));
+
+        assertNotNull(keys);
+
+        n = startGrid(0);
+
+        Set<FullPageId> actPages = loadedPages(n);
+
+        int grpId = CU.cacheId(CACHE_NAME);
+
+        for (long key : keys) {
+            long pageId = PageIdUtils.pageId(PageDumper.partId(key), (byte)0, PageDumper.pageIndex(key));
+
+            assertTrue(U.hexLong(pageId), actPages.contains(new FullPageId(pageId, grpId)));
+        }
+    }
+
+    /**
+     * @param n Node.
+     * @return Dump file of the data region.
+     */
+    private File dumpFile(IgniteEx n) {
+        File workDir = ((FilePageStoreManager)n.context().cache().context().pageStore()).workDir();
+
+        return PageDumper.dumpFile(new File(workDir, PageDumper.DUMP_DIR), REGION_NAME);
+    }
+
+    /**
+     * @param n Node.
+     * @return Pages of the cache loaded to the data region.
+     * @throws Exception If failed.
+     */
+    private Set<FullPageId> loadedPages(IgniteEx n) throws Exception {
+        DataRegion region = n.context().cache().context().database().dataRegion(REGION_NAME);
+
+        int grpId = CU.cacheId(CACHE_NAME);
+
+        Set<FullPageId> pages = new HashSet<>();
+
+        ((PageMemoryEx)region.pageMemory()).forEachLoadedPage(fullId -> {
+            if (fullId.groupId() == grpId)
+                pages.add(fullId);
+        });
+
+        return pages;
+    }
+}
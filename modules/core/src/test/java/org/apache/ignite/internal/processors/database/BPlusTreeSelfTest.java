@@ -301,6 +301,85 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         assertTrue(tree.isEmpty());
     }
 
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testBulkLoad() throws IgniteCheckedException {
+        for (int maxPerPage : new int[] {2, 3, 0}) {
+            MAX_PER_PAGE = maxPerPage;
+
+            for (int size : new int[] {0, 1, 2, 3, 4, 7, 9, 10, 27, 28, 100, 1000, 10_000}) {
+                TestTree tree = createTestTree(true);
+                TreeMap<Long, Long> map = new TreeMap<>();
+
+                for (long i = 1; i <= size; i++)
+                    map.put(i * 2, i * 2);
+
+                assertEquals(size, tree.bulkLoad(cursor(map.values().iterator())));
+
+                assertNoLocks();
+
+                tree.validateTree();
+
+                assertEquals(size, tree.size());
+                assertEquals(size == 0, tree.isEmpty());
+
+                checkCursor(tree.find(null, null), map.values().iterator());
+
+                // Bulk loaded tree must support regular updates.
+                for (int i = 0; i < 500; i++) {
+                    long x = rnd.nextInt(size * 2 + 10) + 1;
+
+                    if (rnd.nextBoolean()) {
+                        tree.put(x);
+                        map.put(x, x);
+                    }
+                    else {
+                        tree.remove(x);
+                        map.remove(x);
+                    }
+                }
+
+                assertNoLocks();
+
+                tree.validateTree();
+
+                checkCursor(tree.find(null, null), map.values().iterator());
+            }
+        }
+
+        TestTree tree = createTestTree(true);
+
+        tree.put(1L);
+
+        GridTestUtils.assertThrows(log, () -> tree.bulkLoad(cursor(Collections.singleton(2L).iterator())),
+            IgniteCheckedException.class, "Failed to bulk load rows into non-empty tree");
+    }
+
+    /**
+     * @param it Iterator.
+     * @return Cursor over the iterator.
+     */
+    private static GridCursor<Long> cursor(Iterator<Long> it) {
+        return new GridCursor<Long>() {
+            /** */
+            private Long cur;
+
+            /** {@inheritDoc} */
+            @Override public boolean next() {
+                cur = it.hasNext() ? it.next() : null;
+
+                return cur != null;
+            }
+
+            /** {@inheritDoc} */
+            @Override public Long get() {
+                return cur;
+            }
+        };
+    }
+
     /**
      * @throws IgniteCheckedException If failed.
      */
@@ -905,6 +984,155 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_3_300_1() throws IgniteCheckedException {
+        MAX_PER_PAGE = 3;
+        CNT = 300;
+
+        doTestRandomInvokeAll(true);
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_3_300_0() throws IgniteCheckedException {
+        MAX_PER_PAGE = 3;
+        CNT = 300;
+
+        doTestRandomInvokeAll(false);
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_0_10000_1() throws IgniteCheckedException {
+        CNT = 10_000;
+
+        doTestRandomInvokeAll(true);
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_0_10000_0() throws IgniteCheckedException {
+        CNT = 10_000;
+
+        doTestRandomInvokeAll(false);
+    }
+
+    /**
+     * @param canGetRow Can get row from inner page.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void doTestRandomInvokeAll(boolean canGetRow) throws IgniteCheckedException {
+        TestTree tree = createTestTree(canGetRow);
+
+        Map<Long, Long> map = new HashMap<>();
+
+        int loops = reuseList == null ? 2_000 : 6_000;
+
+        for (int i = 0; i < loops; i++) {
+            if (i % 1_000 == 0)
+                X.println(" --> " + i);
+
+            TreeSet<Long> keys = new TreeSet<>();
+
+            int batch = 1 + BPlusTree.randomInt(100);
+            long start = BPlusTree.randomInt(CNT);
+
+            for (int j = 0; j < batch; j++)
+                keys.add((start + BPlusTree.randomInt(batch * 2)) % CNT);
+
+            List<Long> rows = new ArrayList<>(keys);
+            List<TestInvokeClosure> clos = new ArrayList<>(rows.size());
+
+            for (Long x : rows) {
+                int rnd = BPlusTree.randomInt(3);
+
+                clos.add(new TestInvokeClosure(x, rnd));
+
+                if (rnd == 0)
+                    map.put(x, x);
+                else if (rnd == 1)
+                    map.remove(x);
+            }
+
+            tree.invokeAll(rows, null, clos);
+
+            assertNoLocks();
+
+            tree.validateTree();
+
+            if (i % 100 == 0)
+                assertEqualContents(tree, map);
+        }
+
+        assertEqualContents(tree, map);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInvokeAllMultithreaded() throws Exception {
+        MAX_PER_PAGE = 5;
+        CNT = 3_000;
+
+        final TestTree tree = createTestTree(true);
+
+        final int threads = Math.max(2, Math.min(CPUS, 8));
+
+        final Map<Long, Long> map = new ConcurrentHashMap<>();
+
+        final AtomicInteger threadIdx = new AtomicInteger();
+
+        // Every thread owns its own subset of keys, so the keys of different threads share the leaf pages.
+        multithreaded(new Callable<Void>() {
+            @Override public Void call() throws Exception {
+                int idx = threadIdx.getAndIncrement();
+
+                for (int i = 0; i < 1_000; i++) {
+                    TreeSet<Long> keys = new TreeSet<>();
+
+                    int batch = 1 + BPlusTree.randomInt(50);
+
+                    for (int j = 0; j < batch; j++)
+                        keys.add((long)(BPlusTree.randomInt(CNT / threads) * threads + idx));
+
+                    List<Long> rows = new ArrayList<>(keys);
+                    List<TestInvokeClosure> clos = new ArrayList<>(rows.size());
+
+                    for (Long x : rows) {
+                        int rnd = BPlusTree.randomInt(3);
+
+                        clos.add(new TestInvokeClosure(x, rnd));
+
+                        if (rnd == 0)
+                            map.put(x, x);
+                        else if (rnd == 1)
+                            map.remove(x);
+                    }
+
+                    tree.invokeAll(rows, null, clos);
+
+                    assertNoLocks();
+                }
+
+                return null;
+            }
+        }, threads, "invoke-all");
+
+        tree.validateTree();
+
+        assertEqualContents(tree, map);
+    }
+
     /**
      * @throws IgniteCheckedException If failed.
      */
@@ -2739,6 +2967,54 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         return new FullPageId(pageMem.allocatePage(CACHE_ID, PageIdAllocator.INDEX_PARTITION, PageIdAllocator.FLAG_IDX), CACHE_ID);
     }
 
+    /**
+     * Invoke closure which puts the row ({@code op == 0}), removes it ({@code op == 1}) or does nothing.
+     */
+    private static class TestInvokeClosure implements IgniteTree.InvokeClosure<Long> {
+        /** */
+        private final Long x;
+
+        /** */
+        private final int op;
+
+        /** */
+        private IgniteTree.OperationType opType;
+
+        /**
+         * @param x Row.
+         * @param op Operation.
+         */
+        TestInvokeClosure(Long x, int op) {
+            this.x = x;
+            this.op = op;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void call(@Nullable Long row) {
+            assertNull(opType);
+
+            if (row != null)
+                assertEquals(x, row);
+
+            if (op == 0)
+                opType = PUT;
+            else if (op == 1 && row != null)
+                opType = REMOVE;
+            else
+                opType = NOOP;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Long newRow() {
+            return opType == PUT ? x : null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteTree.OperationType operationType() {
+            return opType;
+        }
+    }
+
     /**
      * Test tree.
      */
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql;
+
+import org.apache.ignite.internal.sql.command.SqlAlterIndexCommand;
+import org.junit.Test;
+
+/**
+ * Tests for SQL parser: ALTER INDEX.
+ */
+public class SqlParserAlterIndexSelfTest extends SqlParserAbstractSelfTest {
+    /**
+     * Tests for ALTER INDEX command.
+     */
+    @Test
+    public void testAlterIndex() {
+        // Base.
+        parseValidate(null, "ALTER INDEX idx INLINE_SIZE 64", null, "IDX", 64);
+        parseValidate(null, "ALTER INDEX \"iDx\" INLINE_SIZE 0", null, "iDx", 0);
+
+        assertParseError(null, "ALTER INDEX", "Unexpected");
+        assertParseError(null, "ALTER INDEX idx", "Unexpected end of command");
+        assertParseError(null, "ALTER INDEX idx INLINE_SIZE", "Unexpected end of command");
+        assertParseError(null, "ALTER INDEX idx INLINE_SIZE -1", "Illegal INLINE_SIZE value");
+        assertParseError(null, "ALTER INDEX idx PARALLEL 2", "Unexpected token: \"PARALLEL\"");
+
+        // Schema.
+        parseValidate("SCHEMA", "ALTER INDEX idx INLINE_SIZE 10", "SCHEMA", "IDX", 10);
+        parseValidate(null, "ALTER INDEX \"sChema\".idx INLINE_SIZE 10", "sChema", "IDX", 10);
+
+        // IF EXISTS
+        SqlAlterIndexCommand cmd;
+
+        cmd = parseValidate(null, "ALTER INDEX schema.idx INLINE_SIZE 10", "SCHEMA", "IDX", 10);
+        assertFalse(cmd.ifExists());
+
+        cmd = parseValidate(null, "ALTER INDEX IF EXISTS schema.idx INLINE_SIZE 10", "SCHEMA", "IDX", 10);
+        assertTrue(cmd.ifExists());
+
+        assertParseError(null, "ALTER INDEX IF idx INLINE_SIZE 10", "Unexpected token: \"IDX\"");
+    }
+
+    /**
+     * Parse and validate SQL script.
+     *
+     * @param schema Schema.
+     * @param sql SQL.
+     * @param expSchemaName Expected schema name.
+     * @param expIdxName Expected index name.
+     * @param expInlineSize Expected inline size.
+     * @return Command.
+     */
+    private static SqlAlterIndexCommand parseValidate(String schema, String sql, String expSchemaName,
+        String expIdxName, int expInlineSize) {
+        SqlAlterIndexCommand cmd = (SqlAlterIndexCommand)new SqlParser(schema, sql).nextCommand();
+
+        assertEquals(expSchemaName, cmd.schemaName());
+        assertEquals(expIdxName, cmd.indexName());
+        assertEquals(expInlineSize, cmd.inlineSize());
+
+        return cmd;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.sql;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -180,6 +182,33 @@ public class SqlParserCreateIndexSelfTest extends SqlParserAbstractSelfTest {
 
     }
 
+    /**
+     * Tests for INCLUDE clause of CREATE INDEX command.
+     */
+    @Test
+    public void testCreateIndexIncludedColumns() {
+        SqlCreateIndexCommand cmd = parseValidate(null, "CREATE INDEX idx ON tbl(a) INCLUDE (b, \"c\")", null, "TBL",
+            "IDX", DEFAULT_PROPS, "A", false);
+
+        assertEquals(Arrays.asList("B", "c"), new ArrayList<>(cmd.includedColumns()));
+
+        cmd = parseValidate(null, "CREATE INDEX idx ON tbl(a DESC, b) INCLUDE (c) INLINE_SIZE 5 PARALLEL 7", null,
+            "TBL", "IDX", getProps(7, 5), "A", true, "B", false);
+
+        assertEquals(Collections.singletonList("C"), new ArrayList<>(cmd.includedColumns()));
+
+        cmd = parseValidate(null, "CREATE INDEX idx ON tbl(a)", null, "TBL", "IDX", DEFAULT_PROPS, "A", false);
+
+        assertTrue(cmd.includedColumns().isEmpty());
+
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE", "Unexpected end of command (expected: \"(\")");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE b", "Unexpected token: \"B\" (expected: \"(\")");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE ()", "Unexpected token: \")\"");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (a)", "Column already defined: A");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (b, b)", "Column already defined: B");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INLINE_SIZE 5 INCLUDE (b)", "Unexpected token: \"INCLUDE\"");
+    }
+
     /**
      * Parse and validate SQL script.
      *
@@ -328,6 +328,145 @@ public class IgniteOffheapReadWriteLockSelfTest extends GridCommonAbstractTest {
         checkTagIdUpdate(false);
     }
 
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testOptimisticRead() throws Exception {
+        OffheapReadWriteLock lock = new OffheapReadWriteLock(16);
+
+        long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        try {
+            lock.init(ptr, TAG_0);
+
+            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(stamp != 0);
+            assertEquals(0, lock.tryOptimisticRead(ptr, TAG_0 + 1));
+
+            // Read locks do not invalidate optimistic reads.
+            assertTrue(lock.readLock(ptr, TAG_0));
+            assertEquals(stamp, lock.tryOptimisticRead(ptr, TAG_0));
+            lock.readUnlock(ptr);
+
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+
+            assertTrue(lock.writeLock(ptr, TAG_0));
+            assertEquals(0, lock.tryOptimisticRead(ptr, TAG_0));
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+            lock.writeUnlock(ptr, TAG_0);
+
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+
+            stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(stamp != 0);
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+
+            // Tag change on write unlock.
+            assertTrue(lock.writeLock(ptr, TAG_0));
+            lock.writeUnlock(ptr, TAG_0 + 1);
+
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+            assertEquals(0, lock.tryOptimisticRead(ptr, TAG_0));
+            assertTrue(lock.tryOptimisticRead(ptr, TAG_0 + 1) != 0);
+        }
+        finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testConcurrentOptimisticReads() throws Exception {
+        final int numPairs = 100;
+        final Pair[] data = new Pair[numPairs];
+
+        for (int i = 0; i < numPairs; i++)
+            data[i] = new Pair();
+
+        final OffheapReadWriteLock lock = new OffheapReadWriteLock(16);
+
+        final long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        lock.init(ptr, TAG_0);
+
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicInteger failedReads = new AtomicInteger();
+        final AtomicInteger writes = new AtomicInteger();
+        final AtomicBoolean done = new AtomicBoolean(false);
+
+        IgniteInternalFuture<Long> fut = GridTestUtils.runMultiThreadedAsync(new Callable<Object>() {
+            /** {@inheritDoc} */
+            @Override public Object call() {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+                while (!done.get()) {
+                    if (rnd.nextInt(10) < 2) {
+                        assertTrue(lock.writeLock(ptr, TAG_0));
+
+                        try {
+                            int idx = rnd.nextInt(numPairs);
+                            int delta = rnd.nextInt(100_000);
+
+                            data[idx].a += delta;
+                            data[idx].b -= delta;
+                        }
+                        finally {
+                            lock.writeUnlock(ptr, TAG_0);
+                        }
+
+                        writes.incrementAndGet();
+                    }
+                    else {
+                        long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+                        if (stamp == 0) {
+                            failedReads.incrementAndGet();
+
+                            continue;
+                        }
+
+                        int[] a = new int[numPairs];
+                        int[] b = new int[numPairs];
+
+                        for (int i = 0; i < numPairs; i++) {
+                            a[i] = data[i].a;
+                            b[i] = data[i].b;
+                        }
+
+                        if (lock.validate(ptr, TAG_0, stamp)) {
+                            for (int i = 0; i < numPairs; i++)
+                                assertEquals("Failed check for index: " + i, a[i], -b[i]);
+
+                            reads.incrementAndGet();
+                        }
+                        else
+                            failedReads.incrementAndGet();
+                    }
+                }
+
+                return null;
+            }
+        }, 32, "tester");
+
+        for (int i = 0; i < ROUNDS_PER_TEST; i++) {
+            Thread.sleep(1_000);
+
+            info("Reads: " + reads.getAndSet(0) + ", failed reads=" + failedReads.getAndSet(0) +
+                ", writes=" + writes.getAndSet(0));
+        }
+
+        done.set(true);
+
+        fut.get();
+
+        validate(data);
+    }
+
     /**
      * @throws Exception if failed.
      */
@@ -66,6 +66,7 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartiti
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartitionDataRecordV3;
 import org.apache.ignite.internal.pagemem.wal.record.delta.NewRootInitRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageListMetaResetCountRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageSnapshotDiffRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListAddPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListInitNewPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListRemovePageRecord;
@@ -142,6 +143,7 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGES_LIST_SET_PREVIOUS;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_LIST_META_RESET_COUNT_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_SNAPSHOT_DIFF_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PARTITION_DESTROY;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PARTITION_META_PAGE_DELTA_RECORD_V3;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PARTITION_META_PAGE_UPDATE_COUNTERS;
@@ -236,6 +238,7 @@ public class RecordUtils {
             put(CONSISTENT_CUT, RecordUtils::buildConsistentCutRecord);
             put(BTREE_META_PAGE_INIT_ROOT_V3, RecordUtils::buildBtreeMetaPageInitRootV3);
             put(OUT_OF_ORDER_UPDATE, RecordUtils::buildOutOfOrderRecord);
+            put(PAGE_SNAPSHOT_DIFF_RECORD, RecordUtils::buildPageSnapshotDiffRecord);
         }};
 
     /** **/
@@ -479,6 +482,11 @@ public class RecordUtils {
         return new PageListMetaResetCountRecord(1, 1);
     }
 
+    /** **/
+    public static PageSnapshotDiffRecord buildPageSnapshotDiffRecord() {
+        return new PageSnapshotDiffRecord(1, 1, 1, new byte[] {0, 1, 0, 1, 1});
+    }
+
     /** **/
     public static SwitchSegmentRecord buildSwitchSegmentRecord() {
         return new SwitchSegmentRecord();
@@ -43,7 +43,11 @@ import org.apache.ignite.internal.processors.cache.persistence.db.IgnitePdsWithT
 import org.apache.ignite.internal.processors.cache.persistence.db.file.DefaultPageSizeBackwardsCompatibilityTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.file.IgnitePdsCheckpointSimpleTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.file.IgnitePdsCheckpointSimulationWithRealCpDisabledTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.file.IgnitePdsMaxOpenFilesTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.file.IgnitePdsPageReadAheadTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.file.IgnitePdsPageReplacementTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.file.IgnitePdsPartitionBloomFilterTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.file.IgnitePdsPartitionStatesRestoreTest;
 import org.apache.ignite.internal.processors.cache.persistence.metastorage.IgniteMetaStorageBasicTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.BPlusTreePageMemoryImplTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.BPlusTreeReuseListPageMemoryImplTest;
@@ -147,6 +151,10 @@ public class IgnitePdsTestSuite {
     private static void addRealPageStoreTestsLongRunning(List<Class<?>> suite, Collection<Class> ignoredTests) {
         // Basic PageMemory tests.
         GridTestUtils.addTestIfNeeded(suite, IgnitePdsPageReplacementTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, IgnitePdsPageReadAheadTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, IgnitePdsPartitionBloomFilterTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, IgnitePdsMaxOpenFilesTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, IgnitePdsPartitionStatesRestoreTest.class, ignoredTests);
     }
 
     /**
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.systemview.walker;
+
+import org.apache.ignite.spi.systemview.view.SqlIndexInlineSizeView;
+import org.apache.ignite.spi.systemview.view.SystemViewRowAttributeWalker;
+
+/**
+ * Generated by {@code org.apache.ignite.codegen.SystemViewRowAttributeWalkerGenerator}.
+ * {@link SqlIndexInlineSizeView} attributes walker.
+ * 
+ * @see SqlIndexInlineSizeView
+ */
+public class SqlIndexInlineSizeViewWalker implements SystemViewRowAttributeWalker<SqlIndexInlineSizeView> {
+    /** {@inheritDoc} */
+    @Override public void visitAll(AttributeVisitor v) {
+        v.accept(0, "cacheName", String.class);
+        v.accept(1, "schemaName", String.class);
+        v.accept(2, "tableName", String.class);
+        v.accept(3, "indexName", String.class);
+        v.accept(4, "inlineSize", int.class);
+        v.accept(5, "recommendedInlineSize", int.class);
+        v.accept(6, "sampledRows", long.class);
+        v.accept(7, "inlineFallbacks", long.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void visitAll(SqlIndexInlineSizeView row, AttributeWithValueVisitor v) {
+        v.accept(0, "cacheName", String.class, row.cacheName());
+        v.accept(1, "schemaName", String.class, row.schemaName());
+        v.accept(2, "tableName", String.class, row.tableName());
+        v.accept(3, "indexName", String.class, row.indexName());
+        v.acceptInt(4, "inlineSize", row.inlineSize());
+        v.acceptInt(5, "recommendedInlineSize", row.recommendedInlineSize());
+        v.acceptLong(6, "sampledRows", row.sampledRows());
+        v.acceptLong(7, "inlineFallbacks", row.inlineFallbacks());
+    }
+
+    /** {@inheritDoc} */
+    @Override public int count() {
+        return 8;
+    }
+}
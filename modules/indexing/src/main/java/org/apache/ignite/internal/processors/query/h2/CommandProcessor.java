@@ -66,6 +66,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxLocal;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccUtils;
 import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
+import org.apache.ignite.internal.processors.query.GridQueryIndexDescriptor;
 import org.apache.ignite.internal.processors.query.GridQueryProperty;
 import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
 import org.apache.ignite.internal.processors.query.GridRunningQueryInfo;
@@ -90,6 +91,7 @@ import org.apache.ignite.internal.processors.query.h2.sql.GridSqlStatement;
 import org.apache.ignite.internal.processors.query.messages.GridQueryKillRequest;
 import org.apache.ignite.internal.processors.query.messages.GridQueryKillResponse;
 import org.apache.ignite.internal.processors.query.schema.SchemaOperationException;
+import org.apache.ignite.internal.sql.command.SqlAlterIndexCommand;
 import org.apache.ignite.internal.sql.command.SqlAlterTableCommand;
 import org.apache.ignite.internal.sql.command.SqlAlterUserCommand;
 import org.apache.ignite.internal.sql.command.SqlBeginTransactionCommand;
@@ -380,6 +382,7 @@ public class CommandProcessor {
         return cmd instanceof SqlCreateIndexCommand
             || cmd instanceof SqlDropIndexCommand
             || cmd instanceof SqlAlterTableCommand
+            || cmd instanceof SqlAlterIndexCommand
             || cmd instanceof SqlCreateUserCommand
             || cmd instanceof SqlAlterUserCommand
             || cmd instanceof SqlDropUserCommand;
@@ -601,6 +604,21 @@ public class CommandProcessor {
                 newIdx.setFields(flds);
                 newIdx.setInlineSize(cmd0.inlineSize());
 
+                if (!cmd0.includedColumns().isEmpty()) {
+                    List<String> inclFlds = new ArrayList<>(cmd0.includedColumns().size());
+
+                    for (String colName : cmd0.includedColumns()) {
+                        GridQueryProperty prop = typeDesc.property(colName);
+
+                        if (prop == null)
+                            throw new SchemaOperationException(SchemaOperationException.CODE_COLUMN_NOT_FOUND, colName);
+
+                        inclFlds.add(prop.name());
+                    }
+
+                    newIdx.setIncludedFields(inclFlds);
+                }
+
                 fut = ctx.query().dynamicIndexCreate(tbl.cacheName(), cmd.schemaName(), typeDesc.tableName(),
                     newIdx, cmd0.ifNotExists(), cmd0.parallel());
             }
@@ -623,6 +641,24 @@ public class CommandProcessor {
                             cmd0.indexName());
                 }
             }
+            else if (cmd instanceof SqlAlterIndexCommand) {
+                SqlAlterIndexCommand cmd0 = (SqlAlterIndexCommand)cmd;
+
+                GridH2Table tbl = schemaMgr.dataTableForIndex(cmd0.schemaName(), cmd0.indexName());
+
+                if (tbl != null) {
+                    ensureDdlSupported(tbl);
+
+                    fut = alterIndexInlineSize(tbl, cmd0.schemaName(), cmd0.indexName(), cmd0.inlineSize());
+                }
+                else {
+                    if (cmd0.ifExists())
+                        fut = new GridFinishedFuture();
+                    else
+                        throw new SchemaOperationException(SchemaOperationException.CODE_INDEX_NOT_FOUND,
+                            cmd0.indexName());
+                }
+            }
             else if (cmd instanceof SqlAlterTableCommand) {
                 SqlAlterTableCommand cmd0 = (SqlAlterTableCommand)cmd;
 
@@ -687,6 +723,52 @@ public class CommandProcessor {
         }
     }
 
+    /**
+     * Rebuilds the sorted index with a new inline size. The index is dropped and created again with the same
+     * definition, the cache stays available while the new index is built.
+     *
+     * @param tbl Table.
+     * @param schemaName Schema name.
+     * @param idxName Index name.
+     * @param inlineSize New inline size.
+     * @return Future completed when the index is rebuilt.
+     * @throws IgniteCheckedException If failed.
+     */
+    private IgniteInternalFuture<?> alterIndexInlineSize(GridH2Table tbl, String schemaName, String idxName,
+        int inlineSize) throws IgniteCheckedException {
+        GridQueryTypeDescriptor typeDesc = tbl.rowDescriptor().type();
+
+        GridQueryIndexDescriptor idxDesc = typeDesc.indexes().get(idxName);
+
+        if (idxDesc == null || idxDesc.type() != QueryIndexType.SORTED) {
+            throw new IgniteSQLException("Inline size can be changed for the sorted secondary indexes only: " +
+                idxName, IgniteQueryErrorCode.UNSUPPORTED_OPERATION);
+        }
+
+        if (idxDesc.inlineSize() == inlineSize)
+            return new GridFinishedFuture<>();
+
+        QueryIndex newIdx = new QueryIndex();
+
+        newIdx.setName(idxName);
+        newIdx.setIndexType(QueryIndexType.SORTED);
+
+        LinkedHashMap<String, Boolean> flds = new LinkedHashMap<>();
+
+        for (String fld : idxDesc.fields())
+            flds.put(fld, !idxDesc.descending(fld));
+
+        newIdx.setFields(flds);
+        newIdx.setInlineSize(inlineSize);
+
+        if (!idxDesc.includedFields().isEmpty())
+            newIdx.setIncludedFields(new ArrayList<>(idxDesc.includedFields()));
+
+        ctx.query().dynamicIndexDrop(tbl.cacheName(), schemaName, idxName, false).get();
+
+        return ctx.query().dynamicIndexCreate(tbl.cacheName(), schemaName, typeDesc.tableName(), newIdx, false, 0);
+    }
+
     /**
      * Execute DDL statement.
      *
@@ -133,6 +133,7 @@ public class DurableBackgroundCleanupIndexTreeTask implements DurableBackgroundT
                         false,
                         Collections.emptyList(),
                         Collections.emptyList(),
+                        Collections.emptyList(),
                         new AtomicInteger(0),
                         false,
                         false,
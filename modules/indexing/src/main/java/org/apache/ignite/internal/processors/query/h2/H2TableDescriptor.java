@@ -221,9 +221,13 @@ public class H2TableDescriptor {
         List<IndexColumn> wrappedKeyCols = H2Utils.treeIndexColumns(tbl.rowDescriptor(),
             new ArrayList<>(2), keyCol, affCol);
 
+        // Key with an alias is looked up by the alias column, so the hash index serves the conditions on it.
+        int keyAliasColId = tbl.rowDescriptor().getAlternativeColumnId(QueryUtils.KEY_COL);
+
         Index hashIdx = createHashIndex(
             tbl,
-            wrappedKeyCols
+            keyAliasColId == QueryUtils.KEY_COL ? wrappedKeyCols : H2Utils.treeIndexColumns(tbl.rowDescriptor(),
+                new ArrayList<>(2), tbl.indexColumn(keyAliasColId, SortOrder.ASCENDING), affCol)
         );
 
         if (hashIdx != null)
@@ -237,6 +241,7 @@ public class H2TableDescriptor {
             false,
             unwrappedKeyAndAffinityCols,
             wrappedKeyCols,
+            Collections.emptyList(),
             -1
         );
 
@@ -300,6 +305,7 @@ public class H2TableDescriptor {
                     true,
                     colsWithUnwrappedKey,
                     cols,
+                    Collections.emptyList(),
                     -1)
                 );
             }
@@ -423,6 +429,15 @@ public class H2TableDescriptor {
 
             cols = H2Utils.treeIndexColumns(desc, cols, keyCol, affCol);
 
+            List<IndexColumn> inclCols = new ArrayList<>(idxDesc.includedFields().size());
+
+            for (String field : idxDesc.includedFields()) {
+                IndexColumn inclCol = tbl.indexColumn(tbl.getColumn(field).getColumnId(), SortOrder.ASCENDING);
+
+                if (!H2Utils.containsColumn(colsWithUnwrappedKey, inclCol))
+                    inclCols.add(inclCol);
+            }
+
             return idx.createSortedIndex(
                 idxDesc.name(),
                 tbl,
@@ -430,6 +445,7 @@ public class H2TableDescriptor {
                 false,
                 colsWithUnwrappedKey,
                 cols,
+                inclCols,
                 idxDesc.inlineSize()
             );
         }
@@ -452,12 +452,13 @@ public class IgniteH2Indexing implements GridQueryIndexing {
      * @param affinityKey Affinity key flag.
      * @param unwrappedCols Unwrapped index columns for complex types.
      * @param wrappedCols Index columns as is complex types.
+     * @param inclCols Columns which values are stored in the index in addition to the indexed columns.
      * @param inlineSize Index inline size.
      * @return Index.
      */
     @SuppressWarnings("ConstantConditions")
     GridH2IndexBase createSortedIndex(String name, GridH2Table tbl, boolean pk, boolean affinityKey,
-        List<IndexColumn> unwrappedCols, List<IndexColumn> wrappedCols, int inlineSize) {
+        List<IndexColumn> unwrappedCols, List<IndexColumn> wrappedCols, List<IndexColumn> inclCols, int inlineSize) {
         try {
             GridCacheContextInfo cacheInfo = tbl.cacheInfo();
 
@@ -478,6 +479,7 @@ public class IgniteH2Indexing implements GridQueryIndexing {
                     affinityKey,
                     unwrappedCols,
                     wrappedCols,
+                    inclCols,
                     inlineSize,
                     segments,
                     log
@@ -2446,8 +2448,9 @@ public class IgniteH2Indexing implements GridQueryIndexing {
             removeId,
             metaPageId,
             reuseList,
-            H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled),
-            H2ExtrasLeafIO.getVersions(inlineSize, mvccEnabled),
+            // All the page formats are readable, no pages are created on destroy.
+            H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled, inlineSize > 0 && !mvccEnabled),
+            H2ExtrasLeafIO.getVersions(inlineSize, mvccEnabled, inlineSize > 0 && !mvccEnabled),
             PageIdAllocator.FLAG_IDX,
             ctx.failure(),
             lockLsnr
@@ -59,6 +59,7 @@ import org.apache.ignite.internal.processors.tracing.MTC.TraceSurroundings;
 import org.apache.ignite.internal.sql.SqlParseException;
 import org.apache.ignite.internal.sql.SqlParser;
 import org.apache.ignite.internal.sql.SqlStrictParseException;
+import org.apache.ignite.internal.sql.command.SqlAlterIndexCommand;
 import org.apache.ignite.internal.sql.command.SqlAlterTableCommand;
 import org.apache.ignite.internal.sql.command.SqlAlterUserCommand;
 import org.apache.ignite.internal.sql.command.SqlBeginTransactionCommand;
@@ -95,8 +96,9 @@ public class QueryParser {
 
     /** A pattern for commands having internal implementation in Ignite. */
     private static final Pattern INTERNAL_CMD_RE = Pattern.compile(
-        "^(create|drop)\\s+index|^alter\\s+table|^copy|^set|^begin|^commit|^rollback|^(create|alter|drop)\\s+user" +
-            "|^kill\\s+(query|scan|continuous|compute|service|transaction)|show|help|grant|revoke",
+        "^(create|drop)\\s+index|^alter\\s+(table|index)|^copy|^set|^begin|^commit|^rollback" +
+            "|^(create|alter|drop)\\s+user|^kill\\s+(query|scan|continuous|compute|service|transaction)" +
+            "|show|help|grant|revoke",
         Pattern.CASE_INSENSITIVE);
 
     /** Indexing. */
@@ -266,6 +268,7 @@ public class QueryParser {
                 || nativeCmd instanceof SqlRollbackTransactionCommand
                 || nativeCmd instanceof SqlBulkLoadCommand
                 || nativeCmd instanceof SqlAlterTableCommand
+                || nativeCmd instanceof SqlAlterIndexCommand
                 || nativeCmd instanceof SqlSetStreamingCommand
                 || nativeCmd instanceof SqlCreateUserCommand
                 || nativeCmd instanceof SqlAlterUserCommand
@@ -37,6 +37,7 @@ import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.query.annotations.QuerySqlFunction;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.managers.systemview.walker.SqlIndexInlineSizeViewWalker;
 import org.apache.ignite.internal.managers.systemview.walker.SqlIndexViewWalker;
 import org.apache.ignite.internal.managers.systemview.walker.SqlSchemaViewWalker;
 import org.apache.ignite.internal.managers.systemview.walker.SqlTableColumnViewWalker;
@@ -51,6 +52,7 @@ import org.apache.ignite.internal.processors.query.IgniteSQLException;
 import org.apache.ignite.internal.processors.query.QueryField;
 import org.apache.ignite.internal.processors.query.QueryIndexDescriptorImpl;
 import org.apache.ignite.internal.processors.query.QueryUtils;
+import org.apache.ignite.internal.processors.query.h2.database.H2TreeIndex;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2IndexBase;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2RowDescriptor;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
@@ -64,6 +66,7 @@ import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisito
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.systemview.view.SqlIndexInlineSizeView;
 import org.apache.ignite.spi.systemview.view.SqlIndexView;
 import org.apache.ignite.spi.systemview.view.SqlSchemaView;
 import org.apache.ignite.spi.systemview.view.SqlTableColumnView;
@@ -103,6 +106,12 @@ public class SchemaManager {
     /** */
     public static final String SQL_IDXS_VIEW_DESC = "SQL indexes";
 
+    /** */
+    public static final String SQL_IDX_INLINE_SIZES_VIEW = metricName("index", "inline", "sizes");
+
+    /** */
+    public static final String SQL_IDX_INLINE_SIZES_VIEW_DESC = "SQL sorted indexes inline sizes statistics";
+
     /** */
     public static final String SQL_TBL_COLS_VIEW = metricName("table", "columns");
 
@@ -172,6 +181,12 @@ public class SchemaManager {
             GridH2Table::indexesInformation,
             SqlIndexView::new);
 
+        ctx.systemView().registerInnerCollectionView(SQL_IDX_INLINE_SIZES_VIEW, SQL_IDX_INLINE_SIZES_VIEW_DESC,
+            new SqlIndexInlineSizeViewWalker(),
+            dataTables.values(),
+            tbl -> F.viewReadOnly(tbl.getIndexes(), idx -> (H2TreeIndex)idx, idx -> idx instanceof H2TreeIndex),
+            SqlIndexInlineSizeView::new);
+
         ctx.systemView().registerInnerArrayView(SQL_TBL_COLS_VIEW, SQL_TBL_COLS_VIEW_DESC,
             new SqlTableColumnViewWalker(),
             dataTables.values(),
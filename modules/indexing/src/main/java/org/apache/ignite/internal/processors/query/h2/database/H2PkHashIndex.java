@@ -27,6 +27,7 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataRowStore;
@@ -43,6 +44,7 @@ import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
 import org.apache.ignite.spi.indexing.IndexingQueryFilter;
 import org.h2.engine.Session;
 import org.h2.index.Cursor;
+import org.h2.index.IndexCondition;
 import org.h2.index.IndexType;
 import org.h2.message.DbException;
 import org.h2.result.Row;
@@ -51,11 +53,19 @@ import org.h2.result.SortOrder;
 import org.h2.table.Column;
 import org.h2.table.IndexColumn;
 import org.h2.table.TableFilter;
+import org.h2.value.Value;
+import org.h2.value.ValueNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
- *
+ * Primary key index backed by the cache data trees. The key equality conditions, including the {@code IN} lists,
+ * are served by a direct lookup in the data tree of the key partition, which is cheaper than the descent
+ * of the sorted PK index followed by the data row read.
  */
 public class H2PkHashIndex extends GridH2IndexBase {
+    /** Cost of the lookup by key, lower than the cost of the unique sorted index lookup. */
+    private static final long POINT_LOOKUP_COST = 2;
+
     /** */
     private final GridCacheContext cctx;
 
@@ -107,27 +117,47 @@ public class H2PkHashIndex extends GridH2IndexBase {
             IndexingQueryFilter f = qctx.filter();
             filter = f != null ? f.forCache(getTable().cacheName()) : null;
             mvccSnapshot = qctx.mvccSnapshot();
-            seg = qctx.segment();
+            seg = segment(qctx);
         }
 
         assert !cctx.mvccEnabled() || mvccSnapshot != null;
 
-        KeyCacheObject lowerObj = lower != null ? cctx.toCacheKeyObject(lower.getValue(0).getObject()) : null;
-        KeyCacheObject upperObj = upper != null ? cctx.toCacheKeyObject(upper.getValue(0).getObject()) : null;
+        // Data tree is ordered by the key hash, so only the bounds of a point lookup are used. MVCC data trees
+        // can't be searched by key at all, all the row versions are scanned and filtered by H2.
+        KeyCacheObject key = null;
+
+        if (lower != null && upper != null && !cctx.mvccEnabled()) {
+            key = keyObject(lower.getValue(columnIds[0]));
+
+            if (key != null && !key.equals(keyObject(upper.getValue(columnIds[0]))))
+                key = null;
+        }
 
         try {
             CacheDataRowStore.setSkipVersion(true);
 
             Collection<GridCursor<? extends CacheDataRow>> cursors = new ArrayList<>();
 
-            for (IgniteCacheOffheapManager.CacheDataStore store : cctx.offheap().cacheDataStores()) {
-                int part = store.partId();
+            if (key != null && !cctx.isLocal()) {
+                // The key is searched in the data tree of its partition only.
+                int part = cctx.affinity().partition(key);
+
+                GridDhtLocalPartition locPart = segmentForPartition(part) == seg &&
+                    (filter == null || filter.applyPartition(part)) ? cctx.topology().localPartition(part) : null;
+
+                if (locPart != null)
+                    cursors.add(cctx.offheap().dataStore(locPart).cursor(cctx.cacheId(), key, key, null, null));
+            }
+            else {
+                for (IgniteCacheOffheapManager.CacheDataStore store : cctx.offheap().cacheDataStores()) {
+                    int part = store.partId();
 
-                if (segmentForPartition(part) != seg)
-                    continue;
+                    if (segmentForPartition(part) != seg)
+                        continue;
 
-                if (filter == null || filter.applyPartition(part))
-                    cursors.add(store.cursor(cctx.cacheId(), lowerObj, upperObj, null, mvccSnapshot));
+                    if (filter == null || filter.applyPartition(part))
+                        cursors.add(store.cursor(cctx.cacheId(), key, key, null, mvccSnapshot));
+                }
             }
 
             return new H2PkHashIndexCursor(cursors.iterator());
@@ -140,6 +170,14 @@ public class H2PkHashIndex extends GridH2IndexBase {
         }
     }
 
+    /**
+     * @param key Key value of the search row.
+     * @return Cache key object or {@code null} if the key is not bound.
+     */
+    @Nullable private KeyCacheObject keyObject(@Nullable Value key) {
+        return key != null && key != ValueNull.INSTANCE ? cctx.toCacheKeyObject(key.getObject()) : null;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean canScan() {
         return false;
@@ -171,7 +209,20 @@ public class H2PkHashIndex extends GridH2IndexBase {
 
     /** {@inheritDoc} */
     @Override public double getCost(Session ses, int[] masks, TableFilter[] filters, int filter, SortOrder sortOrder, HashSet<Column> allColumnsSet) {
-        return Double.MAX_VALUE;
+        // Only the lookups by the whole key are served, range and ordered scans are left to the sorted PK index.
+        if (cctx.mvccEnabled() || masks == null ||
+            (masks[columnIds[0]] & IndexCondition.EQUALITY) != IndexCondition.EQUALITY)
+            return Double.MAX_VALUE;
+
+        // Distributed lookups are not supported.
+        QueryContext qctx = H2Utils.context(ses);
+
+        if (qctx != null && qctx.distributedJoinContext() != null)
+            return Double.MAX_VALUE;
+
+        long sortingCost = sortOrder != null ? 100 + getRowCountApproximation() / 10 : 0;
+
+        return getDistributedMultiplier(ses, filters, filter) * (POINT_LOOKUP_COST + sortingCost);
     }
 
     /** {@inheritDoc} */
@@ -18,8 +18,11 @@
 package org.apache.ignite.internal.processors.query.h2.database;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -33,6 +36,7 @@ import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.PageIdAllocator;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
@@ -42,6 +46,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.CorruptedTreeException;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusMetaIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIoResolver;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.cache.tree.mvcc.data.MvccDataRow;
@@ -51,10 +56,15 @@ import org.apache.ignite.internal.processors.query.h2.H2Utils;
 import org.apache.ignite.internal.processors.query.h2.database.inlinecolumn.InlineIndexColumnFactory;
 import org.apache.ignite.internal.processors.query.h2.database.io.H2ExtrasInnerIO;
 import org.apache.ignite.internal.processors.query.h2.database.io.H2ExtrasLeafIO;
+import org.apache.ignite.internal.processors.query.h2.database.io.H2IncludedColumnUtils;
+import org.apache.ignite.internal.processors.query.h2.database.io.H2InlinePrefixUtils;
 import org.apache.ignite.internal.processors.query.h2.database.io.H2RowLinkIO;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2RowDescriptor;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
 import org.apache.ignite.internal.processors.query.h2.opt.H2CacheRow;
+import org.apache.ignite.internal.processors.query.h2.opt.H2PlainRow;
 import org.apache.ignite.internal.processors.query.h2.opt.H2Row;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteProductVersion;
@@ -73,6 +83,9 @@ import static org.apache.ignite.internal.processors.query.h2.database.inlinecolu
  * H2 tree index implementation.
  */
 public class H2Tree extends BPlusTree<H2Row, H2Row> {
+    /** One of how many inserted rows is sampled to calculate the recommended inline size. */
+    private static final int INLINE_SIZE_SAMPLE_RATE = 16;
+
     /** @see #IGNITE_THROTTLE_INLINE_SIZE_CALCULATION */
     public static final int DFLT_THROTTLE_INLINE_SIZE_CALCULATION = 1_000;
 
@@ -81,6 +94,13 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         defaults = "" + DFLT_THROTTLE_INLINE_SIZE_CALCULATION)
     public static final String IGNITE_THROTTLE_INLINE_SIZE_CALCULATION = "IGNITE_THROTTLE_INLINE_SIZE_CALCULATION";
 
+    /** */
+    @SystemProperty(value = "Enables the inline prefix compression for the new indexes with the first column of " +
+        "the string type. The common prefix of the column values is stored once per index page, so that " +
+        "the inlined bytes are the ones distinguishing the values. Indexes created with the compression " +
+        "can't be read by the nodes of the previous versions")
+    public static final String IGNITE_INDEX_INLINE_PREFIX_COMPRESSION = "IGNITE_INDEX_INLINE_PREFIX_COMPRESSION";
+
     /** Cache context. */
     private final GridCacheContext cctx;
 
@@ -93,6 +113,12 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
     /** List of helpers to work with inline values on the page. */
     private final List<InlineIndexColumn> inlineIdxs;
 
+    /** Helpers to work with values of the included columns stored in the leaf pages. */
+    private final List<InlineIndexColumn> inclIdxs;
+
+    /** Size of the included columns in the leaf items. */
+    private final int inclSize;
+
     /** Actual columns that current index is consist from. */
     private final IndexColumn[] cols;
 
@@ -106,6 +132,9 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
     /** */
     private final boolean mvccEnabled;
 
+    /** Whether the common prefix of the first inlined column is stored once per page. */
+    private final boolean prefixCompression;
+
     /** */
     private final boolean pk;
 
@@ -141,6 +170,9 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
     /** Keep max calculated inline size for current index. */
     private final AtomicInteger maxCalculatedInlineSize;
 
+    /** Statistics of the inline sizes of the rows. */
+    private final InlineSizeStatistics inlineStats = new InlineSizeStatistics();
+
     /** */
     private final IgniteLogger log;
 
@@ -170,6 +202,7 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
      * else meta page info will be read.
      * @param unwrappedCols Unwrapped indexed columns.
      * @param wrappedCols Original indexed columns.
+     * @param inclCols Columns which values are stored in the leaf pages in addition to the indexed columns.
      * @param maxCalculatedInlineSize Keep max calculated inline size
      * for current index.
      * @param pk {@code true} for primary key.
@@ -201,6 +234,7 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         boolean initNew,
         List<IndexColumn> unwrappedCols,
         List<IndexColumn> wrappedCols,
+        List<IndexColumn> inclCols,
         AtomicInteger maxCalculatedInlineSize,
         boolean pk,
         boolean affinityKey,
@@ -256,23 +290,31 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
 
             boolean inlineObjSupported = inlineSize > 0 && metaInfo.inlineObjectSupported();
 
-            inlineIdxs = inlineObjSupported ? inlineIdxs0 : inlineIdxs0.stream()
+            List<InlineIndexColumn> inlineIdxs1 = inlineObjSupported ? inlineIdxs0 : inlineIdxs0.stream()
                 .filter(ih -> ih.type() != Value.JAVA_OBJECT)
                 .collect(Collectors.toList());
 
-            inlineCols = new IndexColumn[inlineIdxs.size()];
+            inlineCols = new IndexColumn[inlineIdxs1.size()];
 
-            for (int i = 0, j = 0; i < cols.length && j < inlineIdxs.size(); i++) {
-                if (cols[i].column.getColumnId() == inlineIdxs.get(j).columnIndex())
+            for (int i = 0, j = 0; i < cols.length && j < inlineIdxs1.size(); i++) {
+                if (cols[i].column.getColumnId() == inlineIdxs1.get(j).columnIndex())
                     inlineCols[j++] = cols[i];
             }
 
+            prefixCompression = metaInfo.inlinePrefixCompression();
+
+            inlineIdxs = prefixCompression ? withPrefixCompression(inlineIdxs1, factory) : inlineIdxs1;
+
+            inclIdxs = metaInfo.includedColumns() ? includedInlineColumns(inclCols, factory) :
+                Collections.emptyList();
+            inclSize = H2IncludedColumnUtils.size(inclIdxs);
+
             if (!metaInfo.flagsSupported())
                 upgradeMetaPage(inlineObjSupported);
 
             setIos(
-                H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled),
-                H2ExtrasLeafIO.getVersions(inlineSize, mvccEnabled)
+                H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled, prefixCompression),
+                H2ExtrasLeafIO.getVersions(inlineSize + inclSize, mvccEnabled, prefixCompression)
             );
         }
         else {
@@ -281,13 +323,26 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
             cols = unwrappedCols.toArray(H2Utils.EMPTY_COLUMNS);
             inlineCols = cols;
 
-            inlineIdxs = getAvailableInlineColumns(affinityKey, cacheName, idxName, log, pk, table, cols, factory, true);
+            List<InlineIndexColumn> inlineIdxs0 =
+                getAvailableInlineColumns(affinityKey, cacheName, idxName, log, pk, table, cols, factory, true);
+
+            inlineSize = computeInlineSize(inlineIdxs0, configuredInlineSize, cctx.config().getSqlIndexMaxInlineSize());
+
+            inclIdxs = includedInlineColumns(inclCols, factory);
+            inclSize = H2IncludedColumnUtils.size(inclIdxs);
 
-            inlineSize = computeInlineSize(inlineIdxs, configuredInlineSize, cctx.config().getSqlIndexMaxInlineSize());
+            prefixCompression = IgniteSystemProperties.getBoolean(IGNITE_INDEX_INLINE_PREFIX_COMPRESSION) &&
+                !mvccEnabled &&
+                inclIdxs.isEmpty() &&
+                inlineSize > H2InlinePrefixUtils.VALUE_HDR_SIZE &&
+                !inlineIdxs0.isEmpty() &&
+                inlineIdxs0.get(0).type() == Value.STRING;
+
+            inlineIdxs = prefixCompression ? withPrefixCompression(inlineIdxs0, factory) : inlineIdxs0;
 
             setIos(
-                H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled),
-                H2ExtrasLeafIO.getVersions(inlineSize, mvccEnabled)
+                H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled, prefixCompression),
+                H2ExtrasLeafIO.getVersions(inlineSize + inclSize, mvccEnabled, prefixCompression)
             );
 
             initTree(true, inlineSize);
@@ -296,6 +351,67 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         created = initNew;
     }
 
+    /**
+     * @param inlineIdxs Inline helpers.
+     * @param factory Inline helper factory.
+     * @return Inline helpers with the first column stored relative to the common prefix of the page.
+     */
+    private List<InlineIndexColumn> withPrefixCompression(
+        List<InlineIndexColumn> inlineIdxs,
+        InlineIndexColumnFactory factory
+    ) {
+        List<InlineIndexColumn> res = new ArrayList<>(inlineIdxs);
+
+        res.set(0, factory.createPrefixInlineHelper(inlineCols[0].column));
+
+        return res;
+    }
+
+    /**
+     * @param inclCols Included columns.
+     * @param factory Inline helper factory.
+     * @return Helpers of the included columns which values can be restored from the leaf pages.
+     */
+    private List<InlineIndexColumn> includedInlineColumns(
+        List<IndexColumn> inclCols,
+        InlineIndexColumnFactory factory
+    ) {
+        if (mvccEnabled || inlineSize == 0 || F.isEmpty(inclCols))
+            return Collections.emptyList();
+
+        List<InlineIndexColumn> res = new ArrayList<>(inclCols.size());
+
+        int payloadSize = inlineSize;
+
+        for (IndexColumn col : inclCols) {
+            int type = col.column.getType();
+
+            if (type == Value.JAVA_OBJECT || !InlineIndexColumnFactory.typeSupported(type))
+                continue;
+
+            InlineIndexColumn inclIdx = factory.createInlineHelper(col.column, true);
+
+            payloadSize += H2IncludedColumnUtils.slotSize(inclIdx);
+
+            if (payloadSize > PageIO.MAX_PAYLOAD_SIZE)
+                break;
+
+            res.add(inclIdx);
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected long metaPageFlags() {
+        long flags = super.metaPageFlags();
+
+        if (prefixCompression)
+            flags |= BPlusMetaIO.FLAG_INLINE_PREFIX_COMPRESSION;
+
+        return inclSize > 0 ? flags | BPlusMetaIO.FLAG_INCLUDED_COLUMNS : flags;
+    }
+
     /**
      * Return columns of the index.
      *
@@ -436,12 +552,97 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         return table.rowDescriptor().createRow(row);
     }
 
-    /** {@inheritDoc} */
-    @Override public H2Row getRow(BPlusIO<H2Row> io, long pageAddr, int idx, Object ignore)
+    /**
+     * {@inheritDoc}
+     *
+     * @param x Ids of the columns to restore from the leaf page as a {@link BitSet}, {@code null} means
+     *      that the full row is read.
+     */
+    @Override public H2Row getRow(BPlusIO<H2Row> io, long pageAddr, int idx, Object x)
         throws IgniteCheckedException {
+        if (x instanceof BitSet && io.isLeaf()) {
+            H2Row row = getIndexRow(io, pageAddr, idx, (BitSet)x);
+
+            if (row != null)
+                return row;
+        }
+
         return io.getLookupRow(this, pageAddr, idx);
     }
 
+    /**
+     * Restores the row from the values stored in the leaf page without reading the data page.
+     *
+     * @param io Leaf IO.
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @param cols Ids of the columns to restore.
+     * @return Row with the values of the requested columns or {@code null} if some of them are not stored
+     *      in the page completely.
+     */
+    @SuppressWarnings("ForLoopReplaceableByForEach")
+    @Nullable private H2Row getIndexRow(BPlusIO<H2Row> io, long pageAddr, int idx, BitSet cols) {
+        int off = io.offset(idx);
+
+        Value[] vals = new Value[table.getColumns().length];
+
+        int fieldOff = 0;
+
+        for (int i = 0; i < inlineIdxs.size(); i++) {
+            InlineIndexColumn inlineIdx = inlineIdxs.get(i);
+
+            int maxSize = inlineSize - fieldOff;
+
+            if (maxSize < 1 || inlineIdx.size() + 1 > maxSize ||
+                PageUtils.getByte(pageAddr, off + fieldOff) == Value.UNKNOWN)
+                break;
+
+            restoreValue(inlineIdx, pageAddr, off + fieldOff, maxSize, cols, vals);
+
+            fieldOff += inlineIdx.fullSize(pageAddr, off + fieldOff);
+        }
+
+        int inclOff = off + inlineSize;
+
+        for (int i = 0; i < inclIdxs.size(); i++) {
+            InlineIndexColumn inclIdx = inclIdxs.get(i);
+
+            int slot = H2IncludedColumnUtils.slotSize(inclIdx);
+
+            restoreValue(inclIdx, pageAddr, inclOff, slot, cols, vals);
+
+            inclOff += slot;
+        }
+
+        for (int i = cols.nextSetBit(0); i >= 0; i = cols.nextSetBit(i + 1)) {
+            if (vals[i] == null)
+                return null;
+        }
+
+        return new H2PlainRow(vals);
+    }
+
+    /**
+     * @param col Inlined column.
+     * @param pageAddr Page address.
+     * @param off Offset.
+     * @param maxSize Max size.
+     * @param cols Ids of the columns to restore.
+     * @param vals Values of the row.
+     */
+    private void restoreValue(InlineIndexColumn col, long pageAddr, int off, int maxSize, BitSet cols, Value[] vals) {
+        int colId = col.columnIndex();
+        int altColId = table.rowDescriptor().getAlternativeColumnId(colId);
+
+        if (!cols.get(colId) && !cols.get(altColId))
+            return;
+
+        Value val = H2IncludedColumnUtils.get(col, pageAddr, off, maxSize);
+
+        vals[colId] = val;
+        vals[altColId] = val;
+    }
+
     /**
      * @return Inline size.
      */
@@ -513,8 +714,11 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
     @Override protected int compare(BPlusIO<H2Row> io, long pageAddr, int idx,
         H2Row row) throws IgniteCheckedException {
         try {
-            if (inlineSize() == 0)
+            if (inlineSize() == 0) {
+                inlineStats.onInlineFallback();
+
                 return compareRows(getRow(io, pageAddr, idx), row);
+            }
             else {
                 int off = io.offset(idx);
 
@@ -549,6 +753,8 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
                 if (lastIdxUsed == cols.length)
                     return mvccCompare((H2RowLinkIO)io, pageAddr, idx, row);
 
+                inlineStats.onInlineFallback();
+
                 inlineSizeRecomendation(row);
 
                 SearchRow rowData = getRow(io, pageAddr, idx);
@@ -745,6 +951,30 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         }
     }
 
+    /**
+     * Samples the size required to inline the indexed columns of the row.
+     *
+     * @param row Row.
+     */
+    public void sampleInlineSize(H2Row row) {
+        if (inlineIdxs.isEmpty() || ThreadLocalRandom.current().nextInt(INLINE_SIZE_SAMPLE_RATE) != 0)
+            return;
+
+        int size = 0;
+
+        for (InlineIndexColumn inlineIdx : inlineIdxs)
+            size += inlineIdx.inlineSizeOf(row.getValue(inlineIdx.columnIndex()));
+
+        inlineStats.onRowSampled(size);
+    }
+
+    /**
+     * @return Statistics of the inline sizes of the rows.
+     */
+    public InlineSizeStatistics inlineSizeStatistics() {
+        return inlineStats;
+    }
+
     /** {@inheritDoc} */
     @Override protected IoStatisticsHolder statisticsHolder() {
         return stats;
@@ -764,6 +994,41 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         return inlineIdxs;
     }
 
+    /**
+     * @return Included columns for the segment.
+     */
+    public List<InlineIndexColumn> includedIndexes() {
+        return inclIdxs;
+    }
+
+    /**
+     * @return Ids of the columns which values can be restored from the leaf pages or {@code null} if there
+     *      are no included columns.
+     */
+    @Nullable public BitSet coveredColumns() {
+        if (inclIdxs.isEmpty())
+            return null;
+
+        BitSet res = new BitSet();
+
+        GridH2RowDescriptor desc = table.rowDescriptor();
+
+        // Key and value columns can be referenced by the aliases.
+        for (InlineIndexColumn inlineIdx : inlineIdxs) {
+            if (inlineIdx.type() != Value.JAVA_OBJECT) {
+                res.set(inlineIdx.columnIndex());
+                res.set(desc.getAlternativeColumnId(inlineIdx.columnIndex()));
+            }
+        }
+
+        for (InlineIndexColumn inclIdx : inclIdxs) {
+            res.set(inclIdx.columnIndex());
+            res.set(desc.getAlternativeColumnId(inclIdx.columnIndex()));
+        }
+
+        return res;
+    }
+
     /**
      *
      */
@@ -783,6 +1048,12 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         /** */
         boolean inlineObjHash;
 
+        /** */
+        boolean inlinePrefixCompression;
+
+        /** */
+        boolean includedColumns;
+
         /** */
         IgniteProductVersion createdVer;
 
@@ -798,6 +1069,8 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
             if (flagsSupported) {
                 inlineObjSupported = io.inlineObjectSupported(pageAddr);
                 inlineObjHash = io.inlineObjectHash(pageAddr);
+                inlinePrefixCompression = io.inlinePrefixCompression(pageAddr);
+                includedColumns = io.includedColumns(pageAddr);
             }
 
             createdVer = io.createdVersion(pageAddr);
@@ -837,6 +1110,20 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         public boolean inlineObjectHash() {
             return inlineObjHash;
         }
+
+        /**
+         * @return {@code true} In case the common prefix of the first inlined column is stored once per page.
+         */
+        public boolean inlinePrefixCompression() {
+            return inlinePrefixCompression;
+        }
+
+        /**
+         * @return {@code true} In case the values of the included columns are stored in the leaf pages.
+         */
+        public boolean includedColumns() {
+            return includedColumns;
+        }
     }
 
     /**
@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.processors.query.h2.database;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -90,7 +92,10 @@ import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
 import org.apache.ignite.spi.indexing.IndexingQueryFilter;
+import org.h2.command.dml.Select;
 import org.h2.engine.Session;
+import org.h2.expression.Expression;
+import org.h2.expression.ExpressionVisitor;
 import org.h2.index.Cursor;
 import org.h2.index.IndexCondition;
 import org.h2.index.IndexLookupBatch;
@@ -170,6 +175,12 @@ public class H2TreeIndex extends H2TreeIndexBase {
     /** If {code true} then this index is already marked as destroyed. */
     private final AtomicBoolean destroyed = new AtomicBoolean();
 
+    /**
+     * Ids of the columns which values can be read from the leaf pages, {@code null} if the index-only scans
+     * are not possible.
+     */
+    private final BitSet coveredCols;
+
     /**
      * @param cctx Cache context.
      * @param tbl Table.
@@ -207,6 +218,9 @@ public class H2TreeIndex extends H2TreeIndexBase {
         this.segments = segments;
         this.stats = stats;
 
+        // Expiration time is stored in the data row only.
+        coveredCols = cctx.expiry() == null ? segments[0].coveredColumns() : null;
+
         qryCtxRegistry = ((IgniteH2Indexing)(ctx.query().getIndexing())).queryContextRegistry();
 
         // Initialize distributed joins.
@@ -240,6 +254,7 @@ public class H2TreeIndex extends H2TreeIndexBase {
      * @param affinityKey {@code true} for affinity key.
      * @param unwrappedCols Unwrapped index columns for complex types.
      * @param wrappedCols Index columns as is.
+     * @param inclCols Columns which values are stored in the index in addition to the indexed columns.
      * @param inlineSize Inline size.
      * @param segmentsCnt Count of tree segments.
      * @throws IgniteCheckedException If failed.
@@ -253,12 +268,13 @@ public class H2TreeIndex extends H2TreeIndexBase {
         boolean affinityKey,
         List<IndexColumn> unwrappedCols,
         List<IndexColumn> wrappedCols,
+        List<IndexColumn> inclCols,
         int inlineSize,
         int segmentsCnt,
         IgniteLogger log
     ) throws IgniteCheckedException {
-        return createIndex(cctx, rowCache, tbl, idxName, pk, affinityKey, unwrappedCols, wrappedCols, inlineSize,
-            segmentsCnt, cctx.dataRegion().pageMemory(),
+        return createIndex(cctx, rowCache, tbl, idxName, pk, affinityKey, unwrappedCols, wrappedCols, inclCols,
+            inlineSize, segmentsCnt, cctx.dataRegion().pageMemory(),
             cctx.offheap(),
             PageIoResolver.DEFAULT_PAGE_IO_RESOLVER,
             log
@@ -275,6 +291,7 @@ public class H2TreeIndex extends H2TreeIndexBase {
         boolean affinityKey,
         List<IndexColumn> unwrappedCols,
         List<IndexColumn> wrappedCols,
+        List<IndexColumn> inclCols,
         int inlineSize,
         int segmentsCnt,
         PageMemory pageMemory,
@@ -330,6 +347,7 @@ public class H2TreeIndex extends H2TreeIndexBase {
                     page.isAllocated(),
                     unwrappedCols,
                     wrappedCols,
+                    inclCols,
                     maxCalculatedInlineSize,
                     pk,
                     affinityKey,
@@ -360,6 +378,18 @@ public class H2TreeIndex extends H2TreeIndexBase {
         return segments[0].inlineSize();
     }
 
+    /**
+     * @return Statistics of the inline sizes of the rows collected by all the segments.
+     */
+    public InlineSizeStatistics inlineSizeStatistics() {
+        InlineSizeStatistics res = new InlineSizeStatistics();
+
+        for (H2Tree segment : segments)
+            res.add(segment.inlineSizeStatistics());
+
+        return res;
+    }
+
     /**
      * Check if index exists in store.
      *
@@ -389,8 +419,24 @@ public class H2TreeIndex extends H2TreeIndexBase {
         return segments.length;
     }
 
+    /** {@inheritDoc} */
+    @Override public Cursor find(TableFilter filter, SearchRow first, SearchRow last) {
+        return find(filter.getSession(), first, last, coveredColumns(filter));
+    }
+
     /** {@inheritDoc} */
     @Override public Cursor find(Session ses, SearchRow lower, SearchRow upper) {
+        return find(ses, lower, upper, null);
+    }
+
+    /**
+     * @param ses Session.
+     * @param lower Lower bound.
+     * @param upper Upper bound.
+     * @param cols Ids of the columns to read from the leaf pages or {@code null} to read the full rows.
+     * @return Cursor.
+     */
+    private Cursor find(Session ses, SearchRow lower, SearchRow upper, @Nullable BitSet cols) {
         assert lower == null || lower instanceof H2Row : lower;
         assert upper == null || upper instanceof H2Row : upper;
 
@@ -403,7 +449,7 @@ public class H2TreeIndex extends H2TreeIndexBase {
 
             // If it is known that only one row will be returned an optimization is employed
             if (isSingleRowLookup(lower, upper, tree)) {
-                H2Row row = tree.findOne((H2Row)lower, filter(qctx), null);
+                H2Row row = tree.findOne((H2Row)lower, filter(qctx), cols);
 
                 if (row == null || isExpired(row))
                     return GridH2Cursor.EMPTY;
@@ -412,7 +458,7 @@ public class H2TreeIndex extends H2TreeIndexBase {
             }
             else {
                 return new H2Cursor(tree.find((H2Row)lower,
-                    (H2Row)upper, filter(qctx), null));
+                    (H2Row)upper, filter(qctx), cols));
             }
         }
         catch (IgniteCheckedException e) {
@@ -420,6 +466,69 @@ public class H2TreeIndex extends H2TreeIndexBase {
         }
     }
 
+    /**
+     * @param filter Table filter.
+     * @return Ids of the columns of this table referenced by the query if all of them can be read from the leaf
+     *      pages, {@code null} otherwise.
+     */
+    @Nullable private BitSet coveredColumns(TableFilter filter) {
+        Select select = coveredCols == null ? null : filter.getSelect();
+
+        if (select == null)
+            return null;
+
+        HashSet<Column> cols = new HashSet<>();
+
+        ExpressionVisitor visitor = ExpressionVisitor.getColumnsVisitor(cols);
+
+        select.isEverything(visitor);
+
+        for (TableFilter f : select.getTopFilters())
+            collectJoinColumns(f, visitor);
+
+        // Cursor restarts the lookup from the last returned row, so it must contain all the indexed columns.
+        for (IndexColumn col : indexColumns)
+            cols.add(col.column);
+
+        BitSet res = new BitSet();
+
+        for (Column col : cols) {
+            if (col.getTable() != table)
+                continue;
+
+            if (!coveredCols.get(col.getColumnId()))
+                return null;
+
+            res.set(col.getColumnId());
+        }
+
+        return res;
+    }
+
+    /**
+     * @param filter Table filter.
+     * @param visitor Columns visitor.
+     */
+    private static void collectJoinColumns(@Nullable TableFilter filter, ExpressionVisitor visitor) {
+        for (; filter != null; filter = filter.getJoin()) {
+            Expression cond = filter.getJoinCondition();
+
+            if (cond != null)
+                cond.isEverything(visitor);
+
+            if ((cond = filter.getFilterCondition()) != null)
+                cond.isEverything(visitor);
+
+            collectJoinColumns(filter.getNestedJoin(), visitor);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean containsColumn(Column col) {
+        return super.containsColumn(col) ||
+            coveredCols != null && col.getTable() == table && coveredCols.get(col.getColumnId());
+    }
+
     /** */
     private boolean isSingleRowLookup(SearchRow lower, SearchRow upper, H2Tree tree) {
         return !cctx.mvccEnabled() && indexType.isPrimaryKey() && lower != null && upper != null &&
@@ -444,10 +553,12 @@ public class H2TreeIndex extends H2TreeIndexBase {
 
             H2Tree tree = treeForRead(seg);
 
-            InlineIndexColumnFactory.setCurrentInlineIndexes(tree.inlineIndexes());
+            InlineIndexColumnFactory.setCurrentInlineIndexes(tree.inlineIndexes(), tree.includedIndexes());
 
             assert cctx.shared().database().checkpointLockIsHeldByThread();
 
+            tree.sampleInlineSize(row);
+
             return (H2CacheRow)tree.put(row);
         }
         catch (Throwable t) {
@@ -478,10 +589,12 @@ public class H2TreeIndex extends H2TreeIndexBase {
 
             H2Tree tree = treeForRead(seg);
 
-            InlineIndexColumnFactory.setCurrentInlineIndexes(tree.inlineIndexes());
+            InlineIndexColumnFactory.setCurrentInlineIndexes(tree.inlineIndexes(), tree.includedIndexes());
 
             assert cctx.shared().database().checkpointLockIsHeldByThread();
 
+            tree.sampleInlineSize(row);
+
             return tree.putx(row);
         }
         catch (Throwable t) {
@@ -503,7 +616,7 @@ public class H2TreeIndex extends H2TreeIndexBase {
 
             H2Tree tree = treeForRead(seg);
 
-            InlineIndexColumnFactory.setCurrentInlineIndexes(tree.inlineIndexes());
+            InlineIndexColumnFactory.setCurrentInlineIndexes(tree.inlineIndexes(), tree.includedIndexes());
 
             assert cctx.shared().database().checkpointLockIsHeldByThread();
 
@@ -1035,6 +1148,7 @@ public class H2TreeIndex extends H2TreeIndexBase {
             boolean initNew,
             List<IndexColumn> unwrappedCols,
             List<IndexColumn> wrappedCols,
+            List<IndexColumn> inclCols,
             AtomicInteger maxCalculatedInlineSize,
             boolean pk,
             boolean affinityKey,
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.database;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+
+/**
+ * Statistics of the sizes required to inline the indexed columns of the rows and of the comparisons which
+ * have to read the data rows because the indexed columns are not inlined completely.
+ */
+public class InlineSizeStatistics {
+    /** Size step of the histogram buckets. */
+    private static final int BUCKET_SIZE = 8;
+
+    /** Share of the sampled rows which indexed columns should be inlined completely with the recommended size. */
+    private static final double INLINED_ROWS_SHARE = 0.95;
+
+    /** Numbers of the sampled rows by the required inline size. */
+    private final AtomicLongArray hist = new AtomicLongArray(PageIO.MAX_PAYLOAD_SIZE / BUCKET_SIZE + 1);
+
+    /** Max sampled inline size. */
+    private final AtomicInteger maxSize = new AtomicInteger();
+
+    /** Number of comparisons which have read the data rows. */
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * @param size Size required to inline the indexed columns of the sampled row.
+     */
+    public void onRowSampled(int size) {
+        size = Math.min(size, PageIO.MAX_PAYLOAD_SIZE);
+
+        hist.incrementAndGet((size + BUCKET_SIZE - 1) / BUCKET_SIZE);
+
+        int max = maxSize.get();
+
+        while (size > max && !maxSize.compareAndSet(max, size))
+            max = maxSize.get();
+    }
+
+    /**
+     * Callback on the comparison which has read the data row.
+     */
+    public void onInlineFallback() {
+        fallbacks.increment();
+    }
+
+    /**
+     * @return Number of comparisons which have read the data rows.
+     */
+    public long inlineFallbacks() {
+        return fallbacks.sum();
+    }
+
+    /**
+     * @return Number of the sampled rows.
+     */
+    public long sampledRows() {
+        long cnt = 0;
+
+        for (int i = 0; i < hist.length(); i++)
+            cnt += hist.get(i);
+
+        return cnt;
+    }
+
+    /**
+     * Adds the statistics of another segment of the index.
+     *
+     * @param other Statistics to add.
+     */
+    public void add(InlineSizeStatistics other) {
+        for (int i = 0; i < hist.length(); i++)
+            hist.addAndGet(i, other.hist.get(i));
+
+        maxSize.accumulateAndGet(other.maxSize.get(), Math::max);
+
+        fallbacks.add(other.fallbacks.sum());
+    }
+
+    /**
+     * Calculates the inline size which is enough to inline the indexed columns of the most of the sampled rows
+     * completely.
+     *
+     * @param curSize Current inline size, returned if there are no sampled rows.
+     * @return Recommended inline size.
+     */
+    public int recommendedInlineSize(int curSize) {
+        long cnt = sampledRows();
+
+        if (cnt == 0)
+            return curSize;
+
+        long threshold = (long)Math.ceil(cnt * INLINED_ROWS_SHARE);
+
+        long sum = 0;
+
+        for (int i = 0; i < hist.length(); i++) {
+            sum += hist.get(i);
+
+            if (sum >= threshold)
+                return Math.min(i * BUCKET_SIZE, maxSize.get());
+        }
+
+        return maxSize.get();
+    }
+}
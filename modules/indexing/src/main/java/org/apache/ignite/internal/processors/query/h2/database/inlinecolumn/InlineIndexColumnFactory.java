@@ -37,6 +37,10 @@ public class InlineIndexColumnFactory {
     private static final ThreadLocal<GridTuple<List<InlineIndexColumn>>> CUR_HELPER =
         ThreadLocal.withInitial(GridTuple::new);
 
+    /** Included columns for use in IO's. */
+    private static final ThreadLocal<GridTuple<List<InlineIndexColumn>>> CUR_INCL_HELPER =
+        ThreadLocal.withInitial(GridTuple::new);
+
     /** */
     private static final Set<Integer> AVAILABLE_TYPES = new HashSet<>(Arrays.asList(
         Value.BOOLEAN,
@@ -138,6 +142,16 @@ public class InlineIndexColumnFactory {
         return helpers.computeIfAbsent(col.getName(), name -> createHelper(mode, col));
     }
 
+    /**
+     * @param col Column of {@link Value#STRING} type.
+     * @return Inline column storing values relative to the common prefix of the index page.
+     */
+    public InlineIndexColumn createPrefixInlineHelper(Column col) {
+        assert col.getType() == Value.STRING : col.getType();
+
+        return new StringPrefixInlineIndexColumn(col, CompareMode.OFF.equals(mode.getName()));
+    }
+
     /**
      * @param type Type.
      */
@@ -159,11 +173,29 @@ public class InlineIndexColumnFactory {
         return CUR_HELPER.get().get();
     }
 
+    /**
+     * @return Included columns for current thread.
+     */
+    public static List<InlineIndexColumn> getCurrentIncludedIndexes() {
+        return CUR_INCL_HELPER.get().get();
+    }
+
     /**
      * Sets page context for current thread.
      */
     public static void setCurrentInlineIndexes(List<InlineIndexColumn> inlineIdxs) {
+        setCurrentInlineIndexes(inlineIdxs, null);
+    }
+
+    /**
+     * Sets page context for current thread.
+     *
+     * @param inlineIdxs Inlined indexed columns.
+     * @param inclIdxs Included columns.
+     */
+    public static void setCurrentInlineIndexes(List<InlineIndexColumn> inlineIdxs, List<InlineIndexColumn> inclIdxs) {
         CUR_HELPER.get().set(inlineIdxs);
+        CUR_INCL_HELPER.get().set(inclIdxs);
     }
 
     /**
@@ -171,6 +203,7 @@ public class InlineIndexColumnFactory {
      */
     public static void clearCurrentInlineIndexes() {
         CUR_HELPER.get().set(null);
+        CUR_INCL_HELPER.get().set(null);
     }
 
     /**
@@ -36,7 +36,7 @@ public class StringInlineIndexColumn extends AbstractInlineIndexColumn {
     private final boolean compareIgnoreCase;
 
     /** Whether to use optimized comparison or not. */
-    private final boolean useOptimizedCompare;
+    protected final boolean useOptimizedCompare;
 
     /**
      * @param col Column.
@@ -111,24 +111,48 @@ public class StringInlineIndexColumn extends AbstractInlineIndexColumn {
      * @return Compare result ({@code CANT_BE_COMPARE} means we can't compare).
      */
     private int compareAsString(long pageAddr, int off, Value v, boolean ignoreCase) {
-        String s = v.getString();
+        int len = PageUtils.getShort(pageAddr, off + 1) & 0x7FFF;
+
+        // Skip length and type byte.
+        return compareAsString(0L, 0, pageAddr + off + 3, len, isValueFull(pageAddr, off), v.getString(), ignoreCase);
+    }
+
+    /**
+     * Compares UTF-8 encoded string stored as two consecutive parts with the given string.
+     *
+     * @param addr0 Address of the first part.
+     * @param len0 Length of the first part in bytes.
+     * @param addr1 Address of the second part.
+     * @param len1 Length of the second part in bytes.
+     * @param full {@code True} if the stored string is not truncated.
+     * @param s String to compare.
+     * @param ignoreCase {@code True} if a case-insensitive comparison should be used.
+     * @return Compare result ({@code CANT_BE_COMPARE} means we can't compare).
+     */
+    protected static int compareAsString(
+        long addr0,
+        int len0,
+        long addr1,
+        int len1,
+        boolean full,
+        String s,
+        boolean ignoreCase
+    ) {
+        len1 += len0;
 
-        int len1 = PageUtils.getShort(pageAddr, off + 1) & 0x7FFF;
         int len2 = s.length();
 
         int c, c2, c3, c4, cntr1 = 0, cntr2 = 0;
         char v1, v2;
 
-        long addr = pageAddr + off + 3; // Skip length and type byte.
-
         // Try reading ASCII.
         while (cntr1 < len1 && cntr2 < len2) {
-            c = (int) GridUnsafe.getByte(addr) & 0xFF;
+            c = byteAt(addr0, len0, addr1, cntr1);
 
             if (c > 127)
                 break;
 
-            cntr1++; addr++;
+            cntr1++;
 
             v1 = (char)c;
             v2 = s.charAt(cntr2++);
@@ -144,7 +168,9 @@ public class StringInlineIndexColumn extends AbstractInlineIndexColumn {
 
         // read other
         while (cntr1 < len1 && cntr2 < len2) {
-            c = (int) GridUnsafe.getByte(addr++) & 0xFF;
+            int pos = cntr1;
+
+            c = byteAt(addr0, len0, addr1, pos++);
 
             switch (c >> 4) {
                 case 0:
@@ -170,7 +196,7 @@ public class StringInlineIndexColumn extends AbstractInlineIndexColumn {
                     if (cntr1 > len1)
                         throw new IllegalStateException("Malformed input (partial character at the end).");
 
-                    c2 = (int) GridUnsafe.getByte(addr++) & 0xFF;
+                    c2 = byteAt(addr0, len0, addr1, pos);
 
                     if ((c2 & 0xC0) != 0x80)
                         throw new IllegalStateException("Malformed input around byte: " + (cntr1 - 2));
@@ -189,9 +215,9 @@ public class StringInlineIndexColumn extends AbstractInlineIndexColumn {
                     if (cntr1 > len1)
                         throw new IllegalStateException("Malformed input (partial character at the end).");
 
-                    c2 = (int) GridUnsafe.getByte(addr++) & 0xFF;
+                    c2 = byteAt(addr0, len0, addr1, pos++);
 
-                    c3 = (int) GridUnsafe.getByte(addr++) & 0xFF;
+                    c3 = byteAt(addr0, len0, addr1, pos);
 
                     if (((c2 & 0xC0) != 0x80) || ((c3 & 0xC0) != 0x80))
                         throw new IllegalStateException("Malformed input around byte: " + (cntr1 - 3));
@@ -211,11 +237,11 @@ public class StringInlineIndexColumn extends AbstractInlineIndexColumn {
                     if (cntr1 > len1)
                         throw new IllegalStateException("Malformed input (partial character at the end).");
 
-                    c2 = (int) GridUnsafe.getByte(addr++) & 0xFF;
+                    c2 = byteAt(addr0, len0, addr1, pos++);
 
-                    c3 = (int) GridUnsafe.getByte(addr++) & 0xFF;
+                    c3 = byteAt(addr0, len0, addr1, pos++);
 
-                    c4 = (int) GridUnsafe.getByte(addr++) & 0xFF;
+                    c4 = byteAt(addr0, len0, addr1, pos);
 
                     if (((c & 0xF8) != 0xf0) || ((c2 & 0xC0) != 0x80) || ((c3 & 0xC0) != 0x80) || ((c4 & 0xC0) != 0x80))
                         throw new IllegalStateException("Malformed input around byte: " + (cntr1 - 4));
@@ -266,7 +292,7 @@ public class StringInlineIndexColumn extends AbstractInlineIndexColumn {
 
         int res = cntr1 == len1 && cntr2 == len2 ? 0 : cntr1 == len1 ? -1 : 1;
 
-        if (isValueFull(pageAddr, off))
+        if (full)
             return res;
 
         if (res >= 0)
@@ -278,12 +304,23 @@ public class StringInlineIndexColumn extends AbstractInlineIndexColumn {
         return CANT_BE_COMPARE;
     }
 
+    /**
+     * @param addr0 Address of the first part.
+     * @param len0 Length of the first part in bytes.
+     * @param addr1 Address of the second part.
+     * @param pos Position of the byte in the whole string.
+     * @return Unsigned byte value.
+     */
+    private static int byteAt(long addr0, int len0, long addr1, int pos) {
+        return (int)GridUnsafe.getByte(pos < len0 ? addr0 + pos : addr1 + (pos - len0)) & 0xFF;
+    }
+
     /**
      * @param pageAddr Page address.
      * @param off Offset.
      * @return {@code True} if string is not truncated on save.
      */
-    private boolean isValueFull(long pageAddr, int off) {
+    protected boolean isValueFull(long pageAddr, int off) {
         return (PageUtils.getShort(pageAddr, off + 1) & 0x8000) == 0;
     }
 
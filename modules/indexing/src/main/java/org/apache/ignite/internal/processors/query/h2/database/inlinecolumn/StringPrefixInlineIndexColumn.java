@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.database.inlinecolumn;
+
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.query.h2.database.io.H2InlinePrefixUtils;
+import org.h2.table.Column;
+import org.h2.value.Value;
+import org.h2.value.ValueString;
+
+import static org.apache.ignite.internal.processors.query.h2.database.io.H2InlinePrefixUtils.VALUE_HDR_SIZE;
+
+/**
+ * Inline index column for {@link String} values stored relative to the common prefix of the index page,
+ * so that the inlined bytes are the ones distinguishing the values of the page.
+ * <p>
+ * Page address passed to the methods must be the address of the page start.
+ *
+ * @see H2InlinePrefixUtils
+ */
+public class StringPrefixInlineIndexColumn extends StringInlineIndexColumn {
+    /**
+     * @param col Column.
+     * @param useOptimizedCompare Whether to use optimized comparison or not.
+     */
+    public StringPrefixInlineIndexColumn(Column col, boolean useOptimizedCompare) {
+        super(col, useOptimizedCompare);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int compare0(long pageAddr, int off, Value v, int type) {
+        if (type() != type || !useOptimizedCompare)
+            return COMPARE_UNSUPPORTED;
+
+        return compareAsString(
+            H2InlinePrefixUtils.prefixAddress(pageAddr),
+            H2InlinePrefixUtils.valueSharedLength(pageAddr, off),
+            pageAddr + off + VALUE_HDR_SIZE,
+            H2InlinePrefixUtils.valueSuffixLength(pageAddr, off),
+            isValueFull(pageAddr, off),
+            v.getString(),
+            false);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int put0(long pageAddr, int off, Value val, int maxSize) {
+        assert type() == val.getType();
+
+        byte[] s = val.getString().getBytes(CHARSET);
+
+        int shared = H2InlinePrefixUtils.commonPrefixLength(pageAddr, s);
+        int len = s.length - shared;
+
+        boolean truncated = VALUE_HDR_SIZE + len > maxSize;
+
+        if (truncated) {
+            int end = shared + maxSize - VALUE_HDR_SIZE;
+
+            // Cut the value on a character boundary.
+            while (end > 0 && (s[end] & 0xC0) == 0x80)
+                end--;
+
+            shared = Math.min(shared, end);
+            len = end - shared;
+        }
+
+        H2InlinePrefixUtils.putValueHeader(pageAddr, off, shared, len, truncated);
+
+        PageUtils.putBytes(pageAddr, off + VALUE_HDR_SIZE, s, shared, len);
+
+        return VALUE_HDR_SIZE + len;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Value get0(long pageAddr, int off) {
+        if (!isValueFull(pageAddr, off))
+            return null;
+
+        int shared = H2InlinePrefixUtils.valueSharedLength(pageAddr, off);
+        int len = H2InlinePrefixUtils.valueSuffixLength(pageAddr, off);
+
+        byte[] s = new byte[shared + len];
+
+        PageUtils.getBytes(pageAddr, H2InlinePrefixUtils.PREFIX_OFF + 1, s, 0, shared);
+        PageUtils.getBytes(pageAddr, off + VALUE_HDR_SIZE, s, shared, len);
+
+        return ValueString.get(new String(s, CHARSET));
+    }
+
+    /** {@inheritDoc} */
+    @Override public int fullSize(long pageAddr, int off) {
+        if (PageUtils.getByte(pageAddr, off) == Value.NULL)
+            return 1;
+
+        return VALUE_HDR_SIZE + H2InlinePrefixUtils.valueSuffixLength(pageAddr, off);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int inlineSizeOf0(Value val) {
+        return super.inlineSizeOf0(val) + 1;
+    }
+}
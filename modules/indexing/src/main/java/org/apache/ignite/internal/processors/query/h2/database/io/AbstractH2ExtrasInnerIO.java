@@ -64,14 +64,33 @@ public abstract class AbstractH2ExtrasInnerIO extends BPlusInnerIO<H2Row> implem
      * @param mvccEnabled Mvcc flag.
      * @return IOVersions for given payload.
      */
-    @SuppressWarnings("unchecked")
     public static IOVersions<? extends BPlusInnerIO<H2Row>> getVersions(int payload, boolean mvccEnabled) {
+        return getVersions(payload, mvccEnabled, false);
+    }
+
+    /**
+     * @param payload Payload size.
+     * @param mvccEnabled Mvcc flag.
+     * @param prefixCompression Inline prefix compression flag.
+     * @return IOVersions for given payload.
+     */
+    @SuppressWarnings("unchecked")
+    public static IOVersions<? extends BPlusInnerIO<H2Row>> getVersions(
+        int payload,
+        boolean mvccEnabled,
+        boolean prefixCompression
+    ) {
         assert payload >= 0 && payload <= PageIO.MAX_PAYLOAD_SIZE;
+        assert !prefixCompression || payload > 0 && !mvccEnabled;
 
         if (payload == 0)
             return mvccEnabled ? H2MvccInnerIO.VERSIONS : H2InnerIO.VERSIONS;
-        else
-            return (IOVersions<BPlusInnerIO<H2Row>>)PageIO.getInnerVersions((short)(payload - 1), mvccEnabled);
+
+        IOVersions<BPlusInnerIO<H2Row>> vers =
+            (IOVersions<BPlusInnerIO<H2Row>>)PageIO.getInnerVersions((short)(payload - 1), mvccEnabled);
+
+        // Page format with the inline prefix compression is used only by the trees created with it.
+        return prefixCompression || vers.latest().getVersion() == 1 ? vers : new IOVersions<>(vers.forVersion(1));
     }
 
     /**
@@ -81,7 +100,10 @@ public abstract class AbstractH2ExtrasInnerIO extends BPlusInnerIO<H2Row> implem
      * @return Instance of IO versions.
      */
     private static IOVersions<? extends AbstractH2ExtrasInnerIO> getVersions(short type, short payload, boolean mvcc) {
-        return new IOVersions<>(mvcc ? new H2MvccExtrasInnerIO(type, 1, payload) : new H2ExtrasInnerIO(type, 1, payload));
+        if (mvcc)
+            return new IOVersions<>(new H2MvccExtrasInnerIO(type, 1, payload));
+
+        return new IOVersions<>(new H2ExtrasInnerIO(type, 1, payload), new H2ExtrasPrefixInnerIO(type, 2, payload));
     }
 
     /**
@@ -91,14 +113,25 @@ public abstract class AbstractH2ExtrasInnerIO extends BPlusInnerIO<H2Row> implem
      * @param payloadSize Payload size.
      */
     AbstractH2ExtrasInnerIO(short type, int ver, int itemSize, int payloadSize) {
-        super(type, ver, true, itemSize + payloadSize);
+        this(type, ver, itemSize, payloadSize, 0);
+    }
+
+    /**
+     * @param type Page type.
+     * @param ver Page format version.
+     * @param itemSize Item size.
+     * @param payloadSize Payload size.
+     * @param extHdrSize Size of the page header extension.
+     */
+    AbstractH2ExtrasInnerIO(short type, int ver, int itemSize, int payloadSize, int extHdrSize) {
+        super(type, ver, true, itemSize + payloadSize, extHdrSize);
 
         this.payloadSize = payloadSize;
     }
 
     /** {@inheritDoc} */
     @SuppressWarnings("ForLoopReplaceableByForEach")
-    @Override public final void storeByOffset(long pageAddr, int off, H2Row row) {
+    @Override public void storeByOffset(long pageAddr, int off, H2Row row) {
         H2CacheRow row0 = (H2CacheRow)row;
 
         assert row0.link() != 0 : row0;
@@ -142,11 +175,12 @@ public abstract class AbstractH2ExtrasInnerIO extends BPlusInnerIO<H2Row> implem
     }
 
     /** {@inheritDoc} */
-    @Override public final void store(long dstPageAddr, int dstIdx, BPlusIO<H2Row> srcIo, long srcPageAddr, int srcIdx) {
+    @Override public void store(long dstPageAddr, int dstIdx, BPlusIO<H2Row> srcIo, long srcPageAddr, int srcIdx) {
         int srcOff = srcIo.offset(srcIdx);
 
+        // Leaf items may be followed by the included columns, so only the inlined indexed columns are copied.
         byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, payloadSize);
-        long link = PageUtils.getLong(srcPageAddr, srcOff + payloadSize);
+        long link = ((H2RowLinkIO)srcIo).getLink(srcPageAddr, srcIdx);
 
         assert link != 0;
 
@@ -65,12 +65,32 @@ public abstract class AbstractH2ExtrasLeafIO extends BPlusLeafIO<H2Row> implemen
      * @return IOVersions for given payload.
      */
     public static IOVersions<? extends BPlusLeafIO<H2Row>> getVersions(int payload, boolean mvccEnabled) {
+        return getVersions(payload, mvccEnabled, false);
+    }
+
+    /**
+     * @param payload Payload size.
+     * @param mvccEnabled Mvcc flag.
+     * @param prefixCompression Inline prefix compression flag.
+     * @return IOVersions for given payload.
+     */
+    @SuppressWarnings("unchecked")
+    public static IOVersions<? extends BPlusLeafIO<H2Row>> getVersions(
+        int payload,
+        boolean mvccEnabled,
+        boolean prefixCompression
+    ) {
         assert payload >= 0 && payload <= PageIO.MAX_PAYLOAD_SIZE;
+        assert !prefixCompression || payload > 0 && !mvccEnabled;
 
         if (payload == 0)
             return mvccEnabled ? H2MvccLeafIO.VERSIONS : H2LeafIO.VERSIONS;
-        else
-            return (IOVersions<BPlusLeafIO<H2Row>>)PageIO.getLeafVersions((short)(payload - 1), mvccEnabled);
+
+        IOVersions<BPlusLeafIO<H2Row>> vers =
+            (IOVersions<BPlusLeafIO<H2Row>>)PageIO.getLeafVersions((short)(payload - 1), mvccEnabled);
+
+        // Page format with the inline prefix compression is used only by the trees created with it.
+        return prefixCompression || vers.latest().getVersion() == 1 ? vers : new IOVersions<>(vers.forVersion(1));
     }
 
     /**
@@ -80,7 +100,10 @@ public abstract class AbstractH2ExtrasLeafIO extends BPlusLeafIO<H2Row> implemen
      * @return Versions.
      */
     private static IOVersions<? extends AbstractH2ExtrasLeafIO> getVersions(short type, short payload, boolean mvcc) {
-        return new IOVersions<>(mvcc ? new H2MvccExtrasLeafIO(type, 1, payload) : new H2ExtrasLeafIO(type, 1, payload));
+        if (mvcc)
+            return new IOVersions<>(new H2MvccExtrasLeafIO(type, 1, payload));
+
+        return new IOVersions<>(new H2ExtrasLeafIO(type, 1, payload), new H2ExtrasPrefixLeafIO(type, 2, payload));
     }
 
     /**
@@ -90,14 +113,25 @@ public abstract class AbstractH2ExtrasLeafIO extends BPlusLeafIO<H2Row> implemen
      * @param payloadSize Payload size.
      */
     AbstractH2ExtrasLeafIO(short type, int ver, int itemSize, int payloadSize) {
-        super(type, ver, itemSize + payloadSize);
+        this(type, ver, itemSize, payloadSize, 0);
+    }
+
+    /**
+     * @param type Page type.
+     * @param ver Page format version.
+     * @param itemSize Item size.
+     * @param payloadSize Payload size.
+     * @param extHdrSize Size of the page header extension.
+     */
+    AbstractH2ExtrasLeafIO(short type, int ver, int itemSize, int payloadSize, int extHdrSize) {
+        super(type, ver, itemSize + payloadSize, extHdrSize);
 
         this.payloadSize = payloadSize;
     }
 
     /** {@inheritDoc} */
     @SuppressWarnings("ForLoopReplaceableByForEach")
-    @Override public final void storeByOffset(long pageAddr, int off, H2Row row) {
+    @Override public void storeByOffset(long pageAddr, int off, H2Row row) {
         H2CacheRow row0 = (H2CacheRow)row;
 
         assert row0.link() != 0;
@@ -106,12 +140,17 @@ public abstract class AbstractH2ExtrasLeafIO extends BPlusLeafIO<H2Row> implemen
 
         assert inlineIdxs != null : "no inline index helpers";
 
+        List<InlineIndexColumn> inclIdxs = InlineIndexColumnFactory.getCurrentIncludedIndexes();
+
+        // Included columns are stored after the inlined indexed columns.
+        int inlineSize = payloadSize - H2IncludedColumnUtils.size(inclIdxs);
+
         int fieldOff = 0;
 
         for (int i = 0; i < inlineIdxs.size(); i++) {
             InlineIndexColumn idx = inlineIdxs.get(i);
 
-            int size = idx.put(pageAddr, off + fieldOff, row.getValue(idx.columnIndex()), payloadSize - fieldOff);
+            int size = idx.put(pageAddr, off + fieldOff, row.getValue(idx.columnIndex()), inlineSize - fieldOff);
 
             if (size == 0)
                 break;
@@ -119,11 +158,14 @@ public abstract class AbstractH2ExtrasLeafIO extends BPlusLeafIO<H2Row> implemen
             fieldOff += size;
         }
 
+        if (inlineSize < payloadSize)
+            H2IncludedColumnUtils.store(pageAddr, off + inlineSize, row, inclIdxs);
+
         H2IOUtils.storeRow(row0, pageAddr, off + payloadSize, storeMvccInfo());
     }
 
     /** {@inheritDoc} */
-    @Override public final void store(long dstPageAddr, int dstIdx, BPlusIO<H2Row> srcIo, long srcPageAddr, int srcIdx) {
+    @Override public void store(long dstPageAddr, int dstIdx, BPlusIO<H2Row> srcIo, long srcPageAddr, int srcIdx) {
         int srcOff = srcIo.offset(srcIdx);
 
         byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, payloadSize);
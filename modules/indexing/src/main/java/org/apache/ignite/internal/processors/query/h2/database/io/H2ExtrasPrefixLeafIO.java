@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.database.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.query.h2.opt.H2Row;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.h2.value.Value;
+
+/**
+ * Leaf page for H2 row references with the common prefix of the first inlined column stored once per page.
+ *
+ * @see H2InlinePrefixUtils
+ */
+public class H2ExtrasPrefixLeafIO extends AbstractH2ExtrasLeafIO {
+    /** Offset of the page prefix. */
+    static final int PREFIX_OFF = ITEMS_OFF;
+
+    /**
+     * @param type Page type.
+     * @param ver Page format version.
+     * @param payloadSize Payload size.
+     */
+    H2ExtrasPrefixLeafIO(short type, int ver, int payloadSize) {
+        super(type, ver, 8, payloadSize, H2InlinePrefixUtils.headerSize(payloadSize));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initNewPage(long pageAddr, long pageId, int pageSize) {
+        super.initNewPage(pageAddr, pageId, pageSize);
+
+        H2InlinePrefixUtils.clearPrefix(pageAddr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeByOffset(long pageAddr, int off, H2Row row) {
+        // Columns which do not fit are not always marked, mark them to move the payload safely.
+        GridUnsafe.setMemory(pageAddr + off, payloadSize, (byte)Value.UNKNOWN);
+
+        super.storeByOffset(pageAddr, off, row);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void store(long dstPageAddr, int dstIdx, BPlusIO<H2Row> srcIo, long srcPageAddr, int srcIdx) {
+        assert srcIo instanceof H2ExtrasPrefixLeafIO : srcIo;
+
+        super.store(dstPageAddr, dstIdx, srcIo, srcPageAddr, srcIdx);
+
+        H2InlinePrefixUtils.reencode(srcPageAddr, dstPageAddr, offset(dstIdx), payloadSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void splitForwardPage(
+        long pageAddr,
+        long fwdId,
+        long fwdPageAddr,
+        int mid,
+        int cnt,
+        int pageSize
+    ) throws IgniteCheckedException {
+        super.splitForwardPage(pageAddr, fwdId, fwdPageAddr, mid, cnt, pageSize);
+
+        H2InlinePrefixUtils.copyPrefix(pageAddr, fwdPageAddr);
+
+        H2InlinePrefixUtils.compress(this, fwdPageAddr, payloadSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void splitExistingPage(long pageAddr, int mid, long fwdId) {
+        super.splitExistingPage(pageAddr, mid, fwdId);
+
+        H2InlinePrefixUtils.compress(this, pageAddr, payloadSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean merge(
+        BPlusIO<H2Row> prntIo,
+        long prntPageAddr,
+        int prntIdx,
+        long leftPageAddr,
+        long rightPageAddr,
+        boolean emptyBranch,
+        int pageSize
+    ) throws IgniteCheckedException {
+        if (!super.merge(prntIo, prntPageAddr, prntIdx, leftPageAddr, rightPageAddr, emptyBranch, pageSize))
+            return false;
+
+        int cnt = getCount(leftPageAddr);
+
+        H2InlinePrefixUtils.reencode(this, rightPageAddr, leftPageAddr, cnt - getCount(rightPageAddr), cnt,
+            payloadSize);
+
+        return true;
+    }
+}
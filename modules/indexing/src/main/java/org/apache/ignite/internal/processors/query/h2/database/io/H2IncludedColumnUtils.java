@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.database.io;
+
+import java.util.List;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.query.h2.database.InlineIndexColumn;
+import org.apache.ignite.internal.processors.query.h2.database.inlinecolumn.AbstractInlineIndexColumn;
+import org.apache.ignite.internal.processors.query.h2.opt.H2Row;
+import org.h2.value.Value;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utilities for the leaf pages of the indexes with included columns.
+ * <p>
+ * Values of the included columns are stored in the leaf items after the inlined indexed columns, each one in
+ * a slot of a fixed size, so the offsets of the included values do not depend on the stored values. Values of
+ * the variable length types which do not fit the slot are stored truncated and can't be restored from the page.
+ */
+public final class H2IncludedColumnUtils {
+    /** Size of the slot of the included value of a variable length type. */
+    public static final int VAR_SIZE_SLOT = 32;
+
+    /** Flag of the truncated value in the length of a variable length type. */
+    private static final int TRUNCATED_FLAG = 0x8000;
+
+    /** */
+    private H2IncludedColumnUtils() {
+        // No-op.
+    }
+
+    /**
+     * @param col Included column.
+     * @return Size of the slot of the included column.
+     */
+    public static int slotSize(InlineIndexColumn col) {
+        return col.size() > 0 ? col.size() + 1 : VAR_SIZE_SLOT;
+    }
+
+    /**
+     * @param cols Included columns.
+     * @return Total size of the included columns slots.
+     */
+    public static int size(@Nullable List<InlineIndexColumn> cols) {
+        if (cols == null)
+            return 0;
+
+        int size = 0;
+
+        for (int i = 0; i < cols.size(); i++)
+            size += slotSize(cols.get(i));
+
+        return size;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param off Offset of the first slot.
+     * @param row Row.
+     * @param cols Included columns.
+     */
+    static void store(long pageAddr, int off, H2Row row, List<InlineIndexColumn> cols) {
+        for (int i = 0; i < cols.size(); i++) {
+            InlineIndexColumn col = cols.get(i);
+
+            int slot = slotSize(col);
+
+            if (col.put(pageAddr, off, row.getValue(col.columnIndex()), slot) == 0)
+                PageUtils.putByte(pageAddr, off, (byte)Value.UNKNOWN);
+
+            off += slot;
+        }
+    }
+
+    /**
+     * Restores the inlined value if it is stored completely.
+     *
+     * @param col Inlined column.
+     * @param pageAddr Page address.
+     * @param off Offset.
+     * @param maxSize Max size.
+     * @return Value or {@code null} if the value can't be restored.
+     */
+    @Nullable public static Value get(InlineIndexColumn col, long pageAddr, int off, int maxSize) {
+        if (maxSize < 1)
+            return null;
+
+        if (col.size() < 0) {
+            int type = PageUtils.getByte(pageAddr, off);
+
+            if (type != Value.NULL && type != Value.UNKNOWN &&
+                (maxSize < 3 || (PageUtils.getShort(pageAddr, off + 1) & TRUNCATED_FLAG) != 0))
+                return null;
+        }
+
+        return ((AbstractInlineIndexColumn)col).get(pageAddr, off, maxSize);
+    }
+}
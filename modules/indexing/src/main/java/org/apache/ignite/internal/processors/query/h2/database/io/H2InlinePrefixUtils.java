@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.database.io;
+
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.h2.value.Value;
+
+/**
+ * Utilities for the index pages with the inline prefix compression.
+ * <p>
+ * The common prefix of the first inlined column of the page items is stored once in the page header extension:
+ * {@code |prefix length (1 byte)|prefix bytes|}. The first column of an item is stored relative to the prefix
+ * of its page: {@code |type (1 byte)|suffix length (2 bytes)|shared length (1 byte)|suffix bytes|}, so that
+ * the value is the shared number of the leading prefix bytes followed by the suffix. The highest bit of the
+ * suffix length is set if the value is truncated. Other columns are stored as usual.
+ * <p>
+ * The page prefix is recalculated only when the page is split, so that the replay of the page delta records
+ * which modify single items stays deterministic.
+ */
+public final class H2InlinePrefixUtils {
+    /** Offset of the page prefix. */
+    public static final int PREFIX_OFF = H2ExtrasPrefixLeafIO.PREFIX_OFF;
+
+    /** Max length of the page prefix. */
+    public static final int MAX_PREFIX_LEN = 255;
+
+    /** Size of the header of the value stored relative to the page prefix. */
+    public static final int VALUE_HDR_SIZE = 4;
+
+    /** Flag of the truncated value in the suffix length. */
+    private static final int TRUNCATED_FLAG = 0x8000;
+
+    /** Min length of the page prefix, the prefix may be longer than the payload. */
+    private static final int MIN_PREFIX_LEN = 64;
+
+    /** */
+    private H2InlinePrefixUtils() {
+        // No-op.
+    }
+
+    /**
+     * @param payloadSize Payload size.
+     * @return Size of the page header extension.
+     */
+    static int headerSize(int payloadSize) {
+        return 1 + maxPrefixLength(payloadSize);
+    }
+
+    /**
+     * @param payloadSize Payload size.
+     * @return Max length of the page prefix.
+     */
+    static int maxPrefixLength(int payloadSize) {
+        return Math.min(MAX_PREFIX_LEN, Math.max(MIN_PREFIX_LEN, payloadSize));
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Length of the page prefix.
+     */
+    public static int prefixLength(long pageAddr) {
+        return PageUtils.getUnsignedByte(pageAddr, PREFIX_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Address of the page prefix bytes.
+     */
+    public static long prefixAddress(long pageAddr) {
+        return pageAddr + PREFIX_OFF + 1;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     */
+    static void clearPrefix(long pageAddr) {
+        PageUtils.putUnsignedByte(pageAddr, PREFIX_OFF, 0);
+    }
+
+    /**
+     * @param srcPageAddr Source page address.
+     * @param dstPageAddr Destination page address.
+     */
+    static void copyPrefix(long srcPageAddr, long dstPageAddr) {
+        PageHandler.copyMemory(srcPageAddr, PREFIX_OFF, dstPageAddr, PREFIX_OFF, 1 + prefixLength(srcPageAddr));
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param val UTF-8 bytes of the value.
+     * @return Length of the common prefix of the page prefix and the value.
+     */
+    public static int commonPrefixLength(long pageAddr, byte[] val) {
+        long prefixAddr = prefixAddress(pageAddr);
+
+        int len = Math.min(prefixLength(pageAddr), val.length);
+
+        int i = 0;
+
+        while (i < len && GridUnsafe.getByte(prefixAddr + i) == val[i])
+            i++;
+
+        return i;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param off Value offset.
+     * @return Number of the leading page prefix bytes of the value.
+     */
+    public static int valueSharedLength(long pageAddr, int off) {
+        return PageUtils.getUnsignedByte(pageAddr, off + 3);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param off Value offset.
+     * @return Length of the value suffix stored in the item.
+     */
+    public static int valueSuffixLength(long pageAddr, int off) {
+        return PageUtils.getShort(pageAddr, off + 1) & (TRUNCATED_FLAG - 1);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param off Value offset.
+     * @return {@code True} if the value is truncated.
+     */
+    public static boolean valueTruncated(long pageAddr, int off) {
+        return (PageUtils.getShort(pageAddr, off + 1) & TRUNCATED_FLAG) != 0;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param off Value offset.
+     * @param shared Number of the leading page prefix bytes of the value.
+     * @param len Length of the suffix.
+     * @param truncated {@code True} if the value is truncated.
+     */
+    public static void putValueHeader(long pageAddr, int off, int shared, int len, boolean truncated) {
+        assert shared <= prefixLength(pageAddr) : shared;
+
+        PageUtils.putByte(pageAddr, off, (byte)Value.STRING);
+        PageUtils.putShort(pageAddr, off + 1, (short)(truncated ? len | TRUNCATED_FLAG : len));
+        PageUtils.putUnsignedByte(pageAddr, off + 3, shared);
+    }
+
+    /**
+     * Recalculates the page prefix as the longest common prefix of the values in the page if none of the values
+     * has to be truncated for that, and stores the values relative to the new prefix.
+     *
+     * @param io Page IO.
+     * @param pageAddr Page address.
+     * @param payloadSize Payload size.
+     */
+    static void compress(BPlusIO<?> io, long pageAddr, int payloadSize) {
+        long prefixAddr = prefixAddress(pageAddr);
+
+        int cnt = io.getCount(pageAddr);
+
+        int firstOff = -1;
+        int lcp = maxPrefixLength(payloadSize);
+        int minShared = Integer.MAX_VALUE;
+        int maxShared = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            int off = io.offset(i);
+
+            if (PageUtils.getByte(pageAddr, off) != Value.STRING)
+                continue;
+
+            int shared = valueSharedLength(pageAddr, off);
+            int len = Math.min(lcp, shared + valueSuffixLength(pageAddr, off));
+
+            if (firstOff < 0)
+                firstOff = off;
+
+            int firstShared = valueSharedLength(pageAddr, firstOff);
+
+            int j = 0;
+
+            while (j < len && valueByte(prefixAddr, pageAddr, firstOff, firstShared, j) ==
+                valueByte(prefixAddr, pageAddr, off, shared, j))
+                j++;
+
+            lcp = j;
+            minShared = Math.min(minShared, shared);
+            maxShared = Math.max(maxShared, shared);
+
+            // Some of the values would not fit.
+            if (lcp < maxShared)
+                return;
+        }
+
+        if (firstOff < 0 || lcp == minShared)
+            return;
+
+        byte[] prefix = new byte[lcp];
+
+        int firstShared = valueSharedLength(pageAddr, firstOff);
+
+        for (int j = 0; j < lcp; j++)
+            prefix[j] = valueByte(prefixAddr, pageAddr, firstOff, firstShared, j);
+
+        for (int i = 0; i < cnt; i++) {
+            int off = io.offset(i);
+
+            if (PageUtils.getByte(pageAddr, off) == Value.STRING)
+                shiftLeft(pageAddr, off, payloadSize, lcp);
+        }
+
+        PageUtils.putUnsignedByte(pageAddr, PREFIX_OFF, lcp);
+        PageUtils.putBytes(pageAddr, PREFIX_OFF + 1, prefix);
+    }
+
+    /**
+     * Stores the values of the items copied from the source page relative to the prefix of the destination page.
+     *
+     * @param io Page IO.
+     * @param srcPageAddr Source page address.
+     * @param dstPageAddr Destination page address.
+     * @param fromIdx First copied item index in the destination page.
+     * @param toIdx Index after the last copied item in the destination page.
+     * @param payloadSize Payload size.
+     */
+    static void reencode(BPlusIO<?> io, long srcPageAddr, long dstPageAddr, int fromIdx, int toIdx, int payloadSize) {
+        for (int i = fromIdx; i < toIdx; i++)
+            reencode(srcPageAddr, dstPageAddr, io.offset(i), payloadSize);
+    }
+
+    /**
+     * Stores the value of the item copied from the source page relative to the prefix of the destination page.
+     * If the value shares fewer bytes with the destination prefix, it is truncated if needed and the other
+     * columns of the item are dropped.
+     *
+     * @param srcPageAddr Source page address.
+     * @param dstPageAddr Destination page address.
+     * @param off Item offset in the destination page.
+     * @param payloadSize Payload size.
+     */
+    static void reencode(long srcPageAddr, long dstPageAddr, int off, int payloadSize) {
+        if (srcPageAddr == dstPageAddr || PageUtils.getByte(dstPageAddr, off) != Value.STRING)
+            return;
+
+        long srcPrefixAddr = prefixAddress(srcPageAddr);
+        long dstPrefixAddr = prefixAddress(dstPageAddr);
+
+        int shared = valueSharedLength(dstPageAddr, off);
+        int len = valueSuffixLength(dstPageAddr, off);
+
+        int max = Math.min(prefixLength(dstPageAddr), shared + len);
+
+        int newShared = 0;
+
+        while (newShared < max && GridUnsafe.getByte(dstPrefixAddr + newShared) ==
+            valueByte(srcPrefixAddr, dstPageAddr, off, shared, newShared))
+            newShared++;
+
+        if (newShared >= shared) {
+            shiftLeft(dstPageAddr, off, payloadSize, newShared);
+
+            return;
+        }
+
+        // Start the suffix on a character boundary.
+        while (newShared > 0 && isContinuation(valueByte(srcPrefixAddr, dstPageAddr, off, shared, newShared)))
+            newShared--;
+
+        int d = shared - newShared;
+        int newLen = len + d;
+        boolean truncated = valueTruncated(dstPageAddr, off);
+
+        if (VALUE_HDR_SIZE + newLen > payloadSize) {
+            newLen = payloadSize - VALUE_HDR_SIZE;
+
+            // Cut the value on a character boundary.
+            while (newLen > 0 && isContinuation(valueByte(srcPrefixAddr, dstPageAddr, off, shared, newShared + newLen)))
+                newLen--;
+
+            truncated = true;
+        }
+
+        long sufAddr = dstPageAddr + off + VALUE_HDR_SIZE;
+
+        if (newLen > d)
+            PageHandler.copyMemory(sufAddr, 0, sufAddr, d, newLen - d);
+
+        PageHandler.copyMemory(srcPrefixAddr, newShared, sufAddr, 0, Math.min(d, newLen));
+
+        putValueHeader(dstPageAddr, off, newShared, newLen, truncated);
+
+        // Other columns are dropped.
+        if (VALUE_HDR_SIZE + newLen < payloadSize)
+            PageUtils.putByte(dstPageAddr, off + VALUE_HDR_SIZE + newLen, (byte)Value.UNKNOWN);
+    }
+
+    /**
+     * Makes the value share more bytes with the page prefix, the rest of the payload is moved left.
+     *
+     * @param pageAddr Page address.
+     * @param off Value offset.
+     * @param payloadSize Payload size.
+     * @param newShared New number of the leading page prefix bytes of the value.
+     */
+    private static void shiftLeft(long pageAddr, int off, int payloadSize, int newShared) {
+        int shared = valueSharedLength(pageAddr, off);
+        int len = valueSuffixLength(pageAddr, off);
+
+        int d = newShared - shared;
+
+        assert d >= 0 && d <= len : d;
+
+        if (d > 0) {
+            long sufAddr = pageAddr + off + VALUE_HDR_SIZE;
+
+            PageHandler.copyMemory(sufAddr, d, sufAddr, 0, payloadSize - VALUE_HDR_SIZE - d);
+
+            PageUtils.putByte(pageAddr, off + payloadSize - d, (byte)Value.UNKNOWN);
+        }
+
+        PageUtils.putShort(pageAddr, off + 1,
+            (short)(valueTruncated(pageAddr, off) ? (len - d) | TRUNCATED_FLAG : len - d));
+        PageUtils.putUnsignedByte(pageAddr, off + 3, newShared);
+    }
+
+    /**
+     * @param prefixAddr Page prefix address.
+     * @param pageAddr Page address.
+     * @param off Value offset.
+     * @param shared Number of the leading page prefix bytes of the value.
+     * @param pos Position in the value.
+     * @return Byte of the value.
+     */
+    private static byte valueByte(long prefixAddr, long pageAddr, int off, int shared, int pos) {
+        return pos < shared ?
+            GridUnsafe.getByte(prefixAddr + pos) :
+            PageUtils.getByte(pageAddr, off + VALUE_HDR_SIZE + pos - shared);
+    }
+
+    /**
+     * @param b Byte.
+     * @return {@code True} if the byte is not the first byte of a UTF-8 encoded character.
+     */
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+}
@@ -193,17 +193,7 @@ public abstract class H2IndexCostedBase extends BaseIndex {
             boolean foundAllColumnsWeNeed = true;
 
             for (Column c : allColumnsSet) {
-                boolean found = false;
-
-                for (Column c2 : columns) {
-                    if (c == c2) {
-                        found = true;
-
-                        break;
-                    }
-                }
-
-                if (!found) {
+                if (!containsColumn(c)) {
                     foundAllColumnsWeNeed = false;
 
                     break;
@@ -231,4 +221,17 @@ public abstract class H2IndexCostedBase extends BaseIndex {
 
         return rc;
     }
+
+    /**
+     * @param col Column.
+     * @return {@code True} if the value of the column can be read from the index.
+     */
+    protected boolean containsColumn(Column col) {
+        for (Column c : columns) {
+            if (c == col)
+                return true;
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.assertThrows;
+
+/**
+ * Checks the secondary index with the included columns.
+ */
+public class CoveringIndexTest extends AbstractIndexingCommonTest {
+    /** Number of rows. */
+    private static final int ROWS = 3_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIncludedColumns() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        sql(ig, "CREATE TABLE TEST (ID INT PRIMARY KEY, CITY VARCHAR, AGE INT, NAME VARCHAR, SALARY BIGINT)");
+        sql(ig, "CREATE INDEX TEST_CITY_IDX ON TEST (CITY) INCLUDE (NAME, SALARY) INLINE_SIZE 20");
+
+        Map<Integer, T2<String, Long>> rows = new TreeMap<>();
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int i = 0; i < ROWS; i++) {
+            // Some names do not fit the included column slot and are read from the data row.
+            String name = rnd.nextInt(10) == 0 ? null :
+                rnd.nextInt(5) == 0 ? "Long name that does not fit the included column slot " + i : "name" + i;
+
+            Long salary = rnd.nextInt(10) == 0 ? null : (long)rnd.nextInt(100_000);
+
+            sql(ig, "INSERT INTO TEST (ID, CITY, AGE, NAME, SALARY) VALUES (?, ?, ?, ?, ?)",
+                i, city(i), i % 50, name, salary);
+
+            rows.put(i, new T2<>(name, salary));
+        }
+
+        for (int i = 0; i < ROWS; i += 5) {
+            Long salary = (long)i;
+
+            sql(ig, "UPDATE TEST SET SALARY = ? WHERE ID = ?", salary, i);
+
+            rows.get(i).set2(salary);
+        }
+
+        checkQueries(ig, rows);
+
+        stopGrid(0);
+
+        ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        checkQueries(ig, rows);
+
+        for (int i = 0; i < ROWS; i += 3) {
+            sql(ig, "DELETE FROM TEST WHERE ID = ?", i);
+
+            rows.remove(i);
+        }
+
+        checkQueries(ig, rows);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIncludedColumnsValidation() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        sql(ig, "CREATE TABLE TEST (ID INT PRIMARY KEY, CITY VARCHAR, NAME VARCHAR)");
+
+        assertThrows(log, () -> sql(ig, "CREATE INDEX TEST_CITY_IDX ON TEST (CITY) INCLUDE (UNKNOWN)"),
+            Exception.class, "Column doesn't exist: UNKNOWN");
+    }
+
+    /**
+     * @param ig Node.
+     * @param rows Expected rows.
+     */
+    private void checkQueries(IgniteEx ig, Map<Integer, T2<String, Long>> rows) {
+        String plan = (String)sql(ig,
+            "EXPLAIN SELECT NAME, SALARY FROM TEST WHERE CITY = 'city1'").get(0).get(0);
+
+        assertTrue(plan, plan.contains("TEST_CITY_IDX"));
+
+        for (int c = 0; c < 10; c++) {
+            String city = "city" + c;
+
+            List<String> expNames = new ArrayList<>();
+            long expSum = 0;
+
+            for (Map.Entry<Integer, T2<String, Long>> e : rows.entrySet()) {
+                if (!city.equals(city(e.getKey())))
+                    continue;
+
+                expNames.add(String.valueOf(e.getValue().get1()));
+
+                if (e.getValue().get2() != null)
+                    expSum += e.getValue().get2();
+            }
+
+            List<String> actNames = new ArrayList<>();
+
+            List<List<?>> res = sql(ig,
+                "SELECT NAME FROM TEST USE INDEX (TEST_CITY_IDX) WHERE CITY = ? ORDER BY ID", city);
+
+            for (List<?> row : res)
+                actNames.add(String.valueOf(row.get(0)));
+
+            assertEquals(city, expNames, actNames);
+
+            Object sum = sql(ig, "SELECT SUM(SALARY) FROM TEST USE INDEX (TEST_CITY_IDX) WHERE CITY = ?", city)
+                .get(0).get(0);
+
+            assertEquals(city, expSum, sum == null ? 0L : ((Number)sum).longValue());
+
+            // Column which is not included is read from the data row.
+            res = sql(ig,
+                "SELECT COUNT(*) FROM TEST USE INDEX (TEST_CITY_IDX) WHERE CITY = ? AND AGE < 10 AND SALARY >= 0", city);
+
+            long expCnt = rows.entrySet().stream()
+                .filter(e -> city.equals(city(e.getKey())) && e.getKey() % 50 < 10 && e.getValue().get2() != null)
+                .count();
+
+            assertEquals(city, expCnt, res.get(0).get(0));
+        }
+    }
+
+    /**
+     * @param id Row id.
+     * @return City.
+     */
+    private static String city(int id) {
+        return "city" + id % 10;
+    }
+
+    /**
+     * @param ig Node.
+     * @param sql SQL query.
+     * @param args Query arguments.
+     * @return Results.
+     */
+    private List<List<?>> sql(IgniteEx ig, String sql, Object... args) {
+        return ig.context().query().querySqlFields(new SqlFieldsQuery(sql).setArgs(args), false).getAll();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import java.util.List;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.assertThrows;
+
+/**
+ * Checks the inline size statistics of the indexes and the online change of the inline size.
+ */
+public class IndexInlineSizeAdvisorTest extends AbstractIndexingCommonTest {
+    /** Number of rows. */
+    private static final int ROWS = 2_000;
+
+    /** Length of the names. */
+    private static final int NAME_LEN = 40;
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecommendedInlineSize() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        sql(ig, "CREATE TABLE TEST (ID INT PRIMARY KEY, NAME VARCHAR, VAL INT)");
+        sql(ig, "CREATE INDEX TEST_NAME_IDX ON TEST (NAME) INLINE_SIZE 10");
+        sql(ig, "CREATE INDEX TEST_VAL_IDX ON TEST (VAL) INLINE_SIZE 64");
+
+        for (int i = 0; i < ROWS; i++)
+            sql(ig, "INSERT INTO TEST (ID, NAME, VAL) VALUES (?, ?, ?)", i, name(i), i);
+
+        List<?> nameStats = inlineStats(ig, "TEST_NAME_IDX");
+
+        assertEquals(10, nameStats.get(0));
+
+        // String header, the name and the inlined primary key.
+        int nameSize = 3 + NAME_LEN + 5;
+
+        assertEquals(nameSize, nameStats.get(1));
+        assertTrue(nameStats.toString(), (Long)nameStats.get(2) > 0);
+        assertTrue(nameStats.toString(), (Long)nameStats.get(3) > 0);
+
+        List<?> valStats = inlineStats(ig, "TEST_VAL_IDX");
+
+        assertEquals(64, valStats.get(0));
+
+        // The value and the inlined primary key.
+        assertEquals(10, valStats.get(1));
+        assertEquals(0L, valStats.get(3));
+
+        sql(ig, "ALTER INDEX TEST_NAME_IDX INLINE_SIZE " + nameSize);
+
+        nameStats = inlineStats(ig, "TEST_NAME_IDX");
+
+        assertEquals(nameSize, nameStats.get(0));
+        assertEquals(nameSize, nameStats.get(1));
+        assertEquals(0L, nameStats.get(3));
+
+        for (int i = 0; i < ROWS; i += 10) {
+            List<List<?>> res = sql(ig, "SELECT ID FROM TEST USE INDEX (TEST_NAME_IDX) WHERE NAME = ?", name(i));
+
+            assertEquals(1, res.size());
+            assertEquals(i, res.get(0).get(0));
+        }
+
+        assertEquals(0L, inlineStats(ig, "TEST_NAME_IDX").get(3));
+
+        // Index is not changed if the inline size is the same.
+        sql(ig, "ALTER INDEX TEST_NAME_IDX INLINE_SIZE " + nameSize);
+        sql(ig, "ALTER INDEX IF EXISTS UNKNOWN_IDX INLINE_SIZE 10");
+
+        assertThrows(log, () -> sql(ig, "ALTER INDEX UNKNOWN_IDX INLINE_SIZE 10"), IgniteSQLException.class,
+            "Index doesn't exist: UNKNOWN_IDX");
+
+        assertThrows(log, () -> sql(ig, "ALTER INDEX \"_key_PK\" INLINE_SIZE 10"), IgniteSQLException.class,
+            "Inline size can be changed for the sorted secondary indexes only");
+    }
+
+    /**
+     * @param i Row id.
+     * @return Name.
+     */
+    private static String name(int i) {
+        return String.format("%0" + NAME_LEN + "d", i);
+    }
+
+    /**
+     * @param ig Node.
+     * @param idxName Index name.
+     * @return Inline size, recommended inline size, number of the sampled rows and number of the inline fallbacks.
+     */
+    private List<?> inlineStats(IgniteEx ig, String idxName) {
+        List<List<?>> res = sql(ig, "SELECT INLINE_SIZE, RECOMMENDED_INLINE_SIZE, SAMPLED_ROWS, INLINE_FALLBACKS " +
+            "FROM SYS.INDEX_INLINE_SIZES WHERE INDEX_NAME = ?", idxName);
+
+        assertEquals(1, res.size());
+
+        return res.get(0);
+    }
+
+    /**
+     * @param ig Node.
+     * @param sql SQL query.
+     * @param args Query arguments.
+     * @return Results.
+     */
+    private List<List<?>> sql(IgniteEx ig, String sql, Object... args) {
+        return ig.context().query().querySqlFields(new SqlFieldsQuery(sql).setArgs(args), false).getAll();
+    }
+}
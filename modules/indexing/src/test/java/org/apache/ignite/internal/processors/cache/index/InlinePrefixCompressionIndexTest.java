@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.query.h2.database.H2Tree.IGNITE_INDEX_INLINE_PREFIX_COMPRESSION;
+
+/**
+ * Checks the index with the inline prefix compression of the string column.
+ */
+@WithSystemProperty(key = IGNITE_INDEX_INLINE_PREFIX_COMPRESSION, value = "true")
+public class InlinePrefixCompressionIndexTest extends AbstractIndexingCommonTest {
+    /** Number of rows. */
+    private static final int ROWS = 5_000;
+
+    /** Common prefixes of the values. */
+    private static final String[] PREFIXES = {
+        "http://example.com/catalog/item/",
+        "http://example.com/catalog/image/",
+        "http://example.org/",
+        "\u20ac\u00a1 prefix with multibyte characters ",
+        ""
+    };
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIndexLookups() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        sql(ig, "CREATE TABLE TEST (ID INT PRIMARY KEY, NAME VARCHAR, VAL INT)");
+        sql(ig, "CREATE INDEX TEST_NAME_IDX ON TEST (NAME, VAL) INLINE_SIZE 12");
+
+        Map<Integer, String> names = new TreeMap<>();
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int i = 0; i < ROWS; i++) {
+            String name = rnd.nextInt(50) == 0 ? null :
+                PREFIXES[rnd.nextInt(PREFIXES.length)] + rnd.nextInt(ROWS * 10);
+
+            sql(ig, "INSERT INTO TEST (ID, NAME, VAL) VALUES (?, ?, ?)", i, name, i % 7);
+
+            names.put(i, name);
+        }
+
+        // Merge the pages.
+        for (int i = 0; i < ROWS; i += 3) {
+            sql(ig, "DELETE FROM TEST WHERE ID = ?", i);
+
+            names.remove(i);
+        }
+
+        checkLookups(ig, names);
+
+        stopGrid(0);
+
+        ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        checkLookups(ig, names);
+
+        for (int i = 0; i < ROWS; i += 3) {
+            String name = PREFIXES[rnd.nextInt(PREFIXES.length)] + "re-inserted " + i;
+
+            sql(ig, "INSERT INTO TEST (ID, NAME, VAL) VALUES (?, ?, ?)", i, name, i % 7);
+
+            names.put(i, name);
+        }
+
+        checkLookups(ig, names);
+    }
+
+    /**
+     * @param ig Node.
+     * @param names Expected names.
+     */
+    private void checkLookups(IgniteEx ig, Map<Integer, String> names) {
+        TreeMap<String, List<Integer>> idx = new TreeMap<>();
+
+        for (Map.Entry<Integer, String> e : names.entrySet()) {
+            if (e.getValue() != null)
+                idx.computeIfAbsent(e.getValue(), k -> new ArrayList<>()).add(e.getKey());
+        }
+
+        List<String> exp = new ArrayList<>();
+
+        for (Map.Entry<String, List<Integer>> e : idx.entrySet()) {
+            for (int i = 0; i < e.getValue().size(); i++)
+                exp.add(e.getKey());
+        }
+
+        List<String> act = new ArrayList<>();
+
+        for (List<?> row : sql(ig, "SELECT NAME FROM TEST USE INDEX (TEST_NAME_IDX) WHERE NAME >= '' ORDER BY NAME"))
+            act.add((String)row.get(0));
+
+        assertEquals(exp, act);
+
+        for (String prefix : PREFIXES) {
+            String from = prefix + "2";
+
+            List<List<?>> res = sql(ig,
+                "SELECT COUNT(*) FROM TEST USE INDEX (TEST_NAME_IDX) WHERE NAME >= ? AND NAME < ?", from, prefix + "5");
+
+            int cnt = 0;
+
+            for (List<Integer> ids : idx.subMap(from, prefix + "5").values())
+                cnt += ids.size();
+
+            assertEquals(prefix, (long)cnt, res.get(0).get(0));
+        }
+
+        for (Map.Entry<Integer, String> e : names.entrySet()) {
+            if (e.getKey() % 10 != 1 || e.getValue() == null)
+                continue;
+
+            List<List<?>> res = sql(ig, "SELECT ID FROM TEST USE INDEX (TEST_NAME_IDX) WHERE NAME = ? AND VAL = ?",
+                e.getValue(), e.getKey() % 7);
+
+            List<Integer> ids = new ArrayList<>();
+
+            for (List<?> row : res)
+                ids.add((Integer)row.get(0));
+
+            assertTrue(ids.contains(e.getKey()));
+        }
+    }
+
+    /**
+     * @param ig Node.
+     * @param sql SQL query.
+     * @param args Query arguments.
+     * @return Results.
+     */
+    private List<List<?>> sql(IgniteEx ig, String sql, Object... args) {
+        return ig.context().query().querySqlFields(new SqlFieldsQuery(sql).setArgs(args), false).getAll();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import java.util.List;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.internal.IgniteEx;
+import org.junit.Test;
+
+/**
+ * Checks the lookups by the primary key served by the hash PK index.
+ */
+public class PkHashIndexLookupTest extends AbstractIndexingCommonTest {
+    /** Number of rows. */
+    private static final int ROWS = 1_000;
+
+    /** Hash PK index name. */
+    private static final String PK_HASH_IDX_NAME = "\"_key_PK_hash\"";
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPointLookups() throws Exception {
+        IgniteEx ig = startGrids(2);
+
+        sql(ig, "CREATE TABLE TEST (ID INT PRIMARY KEY, NAME VARCHAR) WITH \"backups=1\"");
+
+        for (int i = 0; i < ROWS; i++)
+            sql(ig, "INSERT INTO TEST (ID, NAME) VALUES (?, ?)", i, "name" + i);
+
+        assertTrue(plan(ig, "SELECT NAME FROM TEST WHERE ID = 1").contains(PK_HASH_IDX_NAME));
+        assertTrue(plan(ig, "SELECT NAME FROM TEST WHERE ID IN (1, 2)").contains(PK_HASH_IDX_NAME));
+        assertFalse(plan(ig, "SELECT NAME FROM TEST WHERE ID > 1").contains(PK_HASH_IDX_NAME));
+
+        for (int i = 0; i < ROWS; i += 7) {
+            List<List<?>> res = sql(ig, "SELECT NAME FROM TEST WHERE ID = ?", i);
+
+            assertEquals(1, res.size());
+            assertEquals("name" + i, res.get(0).get(0));
+        }
+
+        assertTrue(sql(ig, "SELECT NAME FROM TEST WHERE ID = ?", ROWS).isEmpty());
+
+        List<List<?>> res = sql(ig, "SELECT ID FROM TEST WHERE ID IN (3, 5, 8, ?) ORDER BY ID", ROWS);
+
+        assertEquals(3, res.size());
+        assertEquals(3, res.get(0).get(0));
+        assertEquals(5, res.get(1).get(0));
+        assertEquals(8, res.get(2).get(0));
+
+        assertEquals(ROWS - 10, sql(ig, "SELECT ID FROM TEST WHERE ID >= 10").size());
+
+        sql(ig, "DELETE FROM TEST WHERE ID = 3");
+
+        assertTrue(sql(ig, "SELECT NAME FROM TEST WHERE ID = 3").isEmpty());
+        assertEquals(2, sql(ig, "SELECT ID FROM TEST WHERE ID IN (3, 5, 8)").size());
+    }
+
+    /**
+     * @param ig Node.
+     * @param sql SQL query.
+     * @return Query plan.
+     */
+    private String plan(IgniteEx ig, String sql) {
+        return (String)sql(ig, "EXPLAIN " + sql).get(0).get(0);
+    }
+
+    /**
+     * @param ig Node.
+     * @param sql SQL query.
+     * @param args Query arguments.
+     * @return Results.
+     */
+    private List<List<?>> sql(IgniteEx ig, String sql, Object... args) {
+        return ig.context().query().querySqlFields(new SqlFieldsQuery(sql).setArgs(args), false).getAll();
+    }
+}
@@ -411,6 +411,7 @@ public class SqlViewExporterSpiTest extends AbstractExporterSpiTest {
             "NODE_METRICS",
             "BASELINE_NODES",
             "INDEXES",
+            "INDEX_INLINE_SIZES",
             "LOCAL_CACHE_GROUPS_IO",
             "SQL_QUERIES",
             "SCAN_QUERIES",
@@ -723,6 +723,7 @@ public class LongDestroyDurableBackgroundTaskTest extends GridCommonAbstractTest
          * @param initNew Initialize new index.
          * @param unwrappedCols Unwrapped columns.
          * @param wrappedCols Wrapped columns.
+         * @param inclCols Included columns.
          * @param maxCalculatedInlineSize
          * @param pk {@code true} for primary key.
          * @param affinityKey {@code true} for affinity key.
@@ -750,6 +751,7 @@ public class LongDestroyDurableBackgroundTaskTest extends GridCommonAbstractTest
             boolean initNew,
             List<IndexColumn> unwrappedCols,
             List<IndexColumn> wrappedCols,
+            List<IndexColumn> inclCols,
             AtomicInteger maxCalculatedInlineSize,
             boolean pk,
             boolean affinityKey,
@@ -779,6 +781,7 @@ public class LongDestroyDurableBackgroundTaskTest extends GridCommonAbstractTest
                 initNew,
                 unwrappedCols,
                 wrappedCols,
+                inclCols,
                 maxCalculatedInlineSize,
                 pk,
                 affinityKey,
@@ -231,6 +231,7 @@ public class MultipleParallelCacheDeleteDeadlockTest extends GridCommonAbstractT
          * @param initNew Initialize new index.
          * @param unwrappedCols Unwrapped columns.
          * @param wrappedCols Wrapped columns.
+         * @param inclCols Included columns.
          * @param maxCalculatedInlineSize
          * @param pk {@code true} for primary key.
          * @param affinityKey {@code true} for affinity key.
@@ -258,6 +259,7 @@ public class MultipleParallelCacheDeleteDeadlockTest extends GridCommonAbstractT
             boolean initNew,
             List<IndexColumn> unwrappedCols,
             List<IndexColumn> wrappedCols,
+            List<IndexColumn> inclCols,
             AtomicInteger maxCalculatedInlineSize,
             boolean pk,
             boolean affinityKey,
@@ -287,6 +289,7 @@ public class MultipleParallelCacheDeleteDeadlockTest extends GridCommonAbstractT
                 initNew,
                 unwrappedCols,
                 wrappedCols,
+                inclCols,
                 maxCalculatedInlineSize,
                 pk,
                 affinityKey,
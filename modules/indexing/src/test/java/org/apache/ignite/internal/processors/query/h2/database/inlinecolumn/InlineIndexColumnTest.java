@@ -32,10 +32,12 @@ import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagemem.PageIdAllocator;
 import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.impl.PageMemoryNoStoreImpl;
 import org.apache.ignite.internal.processors.cache.index.AbstractIndexingCommonTest;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.query.h2.database.InlineIndexColumn;
+import org.apache.ignite.internal.processors.query.h2.database.io.H2InlinePrefixUtils;
 import org.apache.ignite.testframework.junits.GridTestBinaryMarshaller;
 import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.h2.table.Column;
@@ -314,6 +316,89 @@ public class InlineIndexColumnTest extends AbstractIndexingCommonTest {
         }
     }
 
+    /** */
+    @Test
+    public void testStringPrefix() throws Exception {
+        DataRegionConfiguration plcCfg = new DataRegionConfiguration().setInitialSize(1024 * MB)
+            .setMaxSize(1024 * MB);
+
+        PageMemory pageMem = new PageMemoryNoStoreImpl(log(),
+            new UnsafeMemoryProvider(log()),
+            null,
+            PAGE_SIZE,
+            plcCfg,
+            new LongAdderMetric("NO_OP", null),
+            false);
+
+        pageMem.start();
+
+        long pageId = 0L;
+        long page = 0L;
+
+        try {
+            pageId = pageMem.allocatePage(CACHE_ID, 1, PageIdAllocator.FLAG_DATA);
+            page = pageMem.acquirePage(CACHE_ID, pageId);
+            long pageAddr = pageMem.readLock(CACHE_ID, pageId, page);
+
+            byte[] prefix = "http://example.com/\u20ac".getBytes(Charsets.UTF_8);
+
+            PageUtils.putUnsignedByte(pageAddr, H2InlinePrefixUtils.PREFIX_OFF, prefix.length);
+            PageUtils.putBytes(pageAddr, H2InlinePrefixUtils.PREFIX_OFF + 1, prefix);
+
+            int off = PAGE_SIZE / 2;
+
+            InlineIndexColumnFactory factory = new InlineIndexColumnFactory(CompareMode.getInstance(CompareMode.OFF, 1));
+
+            AbstractInlineIndexColumn ih =
+                (AbstractInlineIndexColumn)factory.createPrefixInlineHelper(new Column("", Value.STRING));
+
+            int maxSize = H2InlinePrefixUtils.VALUE_HDR_SIZE + 3;
+
+            assertEquals(maxSize, ih.put(pageAddr, off, ValueString.get("http://example.com/abc"), maxSize));
+            assertEquals(maxSize, ih.fullSize(pageAddr, off));
+            assertEquals(19, H2InlinePrefixUtils.valueSharedLength(pageAddr, off));
+            assertEquals("http://example.com/abc", ih.get(pageAddr, off, maxSize).getString());
+
+            assertEquals(0, ih.compare(pageAddr, off, maxSize, ValueString.get("http://example.com/abc"),
+                ALWAYS_FAILS_COMPARATOR));
+            assertEquals(-1, ih.compare(pageAddr, off, maxSize, ValueString.get("http://example.com/abd"),
+                ALWAYS_FAILS_COMPARATOR));
+            assertEquals(1, ih.compare(pageAddr, off, maxSize, ValueString.get("http://example.co"),
+                ALWAYS_FAILS_COMPARATOR));
+            assertEquals(-1, ih.compare(pageAddr, off, maxSize, ValueString.get("http://example.org"),
+                ALWAYS_FAILS_COMPARATOR));
+
+            // The multibyte character of the prefix is split between the prefix and the suffix.
+            ih.put(pageAddr, off, ValueString.get("http://example.com/\u20ad"), maxSize);
+
+            assertEquals("http://example.com/\u20ad", ih.get(pageAddr, off, maxSize).getString());
+            assertEquals(1, ih.compare(pageAddr, off, maxSize, ValueString.get("http://example.com/\u20ac"),
+                ALWAYS_FAILS_COMPARATOR));
+
+            // Truncated value.
+            ih.put(pageAddr, off, ValueString.get("http://example.com/\u20acaaaa"), maxSize);
+
+            assertNull(ih.get(pageAddr, off, maxSize));
+            assertEquals(CANT_BE_COMPARE, ih.compare(pageAddr, off, maxSize,
+                ValueString.get("http://example.com/\u20acaaaa"), ALWAYS_FAILS_COMPARATOR));
+            assertEquals(1, ih.compare(pageAddr, off, maxSize, ValueString.get("http://example.com/\u20acaa"),
+                ALWAYS_FAILS_COMPARATOR));
+
+            // No characters fit.
+            ih.put(pageAddr, off, ValueString.get("\u20ac\u20ac"), maxSize - 1);
+
+            assertEquals(0, H2InlinePrefixUtils.valueSharedLength(pageAddr, off));
+            assertEquals(H2InlinePrefixUtils.VALUE_HDR_SIZE, ih.fullSize(pageAddr, off));
+            assertEquals(CANT_BE_COMPARE, ih.compare(pageAddr, off, maxSize - 1, ValueString.get("\u20ac\u20ac"),
+                ALWAYS_FAILS_COMPARATOR));
+        }
+        finally {
+            if (page != 0L)
+                pageMem.releasePage(CACHE_ID, pageId, page);
+            pageMem.stop(true);
+        }
+    }
+
     /** */
     @Test
     public void testBytes() throws Exception {
@@ -42,7 +42,11 @@ import org.apache.ignite.internal.processors.cache.IgniteCacheGroupsSqlTest;
 import org.apache.ignite.internal.processors.cache.IgniteCacheStarvationOnRebalanceTest;
 import org.apache.ignite.internal.processors.cache.IgniteClientReconnectQueriesTest;
 import org.apache.ignite.internal.processors.cache.WrongIndexedTypesTest;
+import org.apache.ignite.internal.processors.cache.index.CoveringIndexTest;
 import org.apache.ignite.internal.processors.cache.index.H2TreeCorruptedTreeExceptionTest;
+import org.apache.ignite.internal.processors.cache.index.IndexInlineSizeAdvisorTest;
+import org.apache.ignite.internal.processors.cache.index.InlinePrefixCompressionIndexTest;
+import org.apache.ignite.internal.processors.cache.index.PkHashIndexLookupTest;
 import org.apache.ignite.internal.processors.cache.persistence.RebuildIndexLogMessageTest;
 import org.apache.ignite.internal.processors.cache.ttl.CacheSizeTtlTest;
 import org.apache.ignite.internal.processors.cache.ttl.CacheTtlAtomicLocalSelfTest;
@@ -112,6 +116,14 @@ import org.junit.runners.Suite;
 
     H2TreeCorruptedTreeExceptionTest.class,
 
+    InlinePrefixCompressionIndexTest.class,
+
+    CoveringIndexTest.class,
+
+    IndexInlineSizeAdvisorTest.class,
+
+    PkHashIndexLookupTest.class,
+
     WrongIndexedTypesTest.class
 })
 public class IgniteCacheWithIndexingTestSuite {